@@ -22,14 +22,20 @@ import com.google.cloud.bigquery.BigQueryOptions;
 import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
 import com.google.cloud.bigquery.storage.v1.BigQueryWriteSettings;
 import com.google.cloud.spring.autoconfigure.core.GcpContextAutoConfiguration;
+import com.google.cloud.spring.bigquery.core.BigQueryJobListener;
+import com.google.cloud.spring.bigquery.core.BigQueryJobMetrics;
+import com.google.cloud.spring.bigquery.core.BigQueryJobPoller;
+import com.google.cloud.spring.bigquery.core.BigQueryStreamWriterPool;
 import com.google.cloud.spring.bigquery.core.BigQueryTemplate;
 import com.google.cloud.spring.core.DefaultCredentialsProvider;
 import com.google.cloud.spring.core.GcpProjectIdProvider;
 import com.google.cloud.spring.core.UserAgentHeaderProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.HashMap;
 import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
@@ -38,6 +44,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /** Provides client objects for interfacing with BigQuery. */
@@ -61,6 +68,14 @@ public class GcpBigQueryAutoConfiguration {
   private String universeDomain;
   private String endpoint;
 
+  private boolean connectionPoolEnabled;
+
+  private Long maxInflightRequests;
+
+  private Long maxInflightBytes;
+
+  private int jsonParserParallelism;
+
   GcpBigQueryAutoConfiguration(
       GcpBigQueryProperties gcpBigQueryProperties,
       GcpProjectIdProvider projectIdProvider,
@@ -86,6 +101,14 @@ public class GcpBigQueryAutoConfiguration {
     this.universeDomain = gcpBigQueryProperties.getUniverseDomain();
 
     this.endpoint = gcpBigQueryProperties.getEndpoint();
+
+    this.connectionPoolEnabled = gcpBigQueryProperties.isConnectionPoolEnabled();
+
+    this.maxInflightRequests = gcpBigQueryProperties.getMaxInflightRequests();
+
+    this.maxInflightBytes = gcpBigQueryProperties.getMaxInflightBytes();
+
+    this.jsonParserParallelism = gcpBigQueryProperties.getJsonParserParallelism();
   }
 
   /**
@@ -146,18 +169,66 @@ public class GcpBigQueryAutoConfiguration {
     return scheduler;
   }
 
+  @Bean
+  @ConditionalOnMissingBean
+  public BigQueryJobPoller bigQueryJobPoller(
+      @Qualifier("bigQueryThreadPoolTaskScheduler")
+      ThreadPoolTaskScheduler bigQueryThreadPoolTaskScheduler,
+      ObjectProvider<BigQueryJobListener> jobListener) {
+    BigQueryJobPoller jobPoller = new BigQueryJobPoller(bigQueryThreadPoolTaskScheduler);
+    jobListener.ifUnique(jobPoller::setJobListener);
+    return jobPoller;
+  }
+
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty("spring.cloud.gcp.bigquery.default-stream-enabled")
+  public BigQueryStreamWriterPool bigQueryStreamWriterPool(
+      BigQueryWriteClient bigQueryWriteClient) {
+    BigQueryStreamWriterPool streamWriterPool = new BigQueryStreamWriterPool(bigQueryWriteClient);
+    streamWriterPool.setConnectionPoolEnabled(this.connectionPoolEnabled);
+    return streamWriterPool;
+  }
+
   @Bean
   @ConditionalOnMissingBean
   public BigQueryTemplate bigQueryTemplate(
       BigQuery bigQuery,
       BigQueryWriteClient bigQueryWriteClient,
       @Qualifier("bigQueryThreadPoolTaskScheduler")
-      ThreadPoolTaskScheduler bigQueryThreadPoolTaskScheduler) {
+      ThreadPoolTaskScheduler bigQueryThreadPoolTaskScheduler,
+      ObjectProvider<BigQueryStreamWriterPool> streamWriterPool,
+      ObjectProvider<BigQueryJobPoller> jobPoller) {
     Map<String, Object> bqInitSettings = new HashMap<>();
     bqInitSettings.put("DATASET_NAME", this.datasetName);
     bqInitSettings.put("JSON_WRITER_BATCH_SIZE", this.jsonWriterBatchSize);
-    return new BigQueryTemplate(
-        bigQuery, bigQueryWriteClient, bqInitSettings, bigQueryThreadPoolTaskScheduler);
+    BigQueryTemplate bigQueryTemplate =
+        new BigQueryTemplate(
+            bigQuery, bigQueryWriteClient, bqInitSettings, bigQueryThreadPoolTaskScheduler);
+    streamWriterPool.ifAvailable(bigQueryTemplate::setStreamWriterPool);
+    jobPoller.ifAvailable(bigQueryTemplate::setJobPoller);
+    if (this.maxInflightRequests != null) {
+      bigQueryTemplate.setMaxInflightRequests(this.maxInflightRequests);
+    }
+    if (this.maxInflightBytes != null) {
+      bigQueryTemplate.setMaxInflightBytes(this.maxInflightBytes);
+    }
+    bigQueryTemplate.setJsonParserParallelism(this.jsonParserParallelism);
+    return bigQueryTemplate;
+  }
+
+  /** Records the queue time and run time of BigQuery jobs when Micrometer is present. */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(MeterRegistry.class)
+  static class BigQueryJobMetricsConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(BigQueryJobListener.class)
+    public BigQueryJobMetrics bigQueryJobMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+      BigQueryJobMetrics jobMetrics = new BigQueryJobMetrics();
+      meterRegistry.ifUnique(jobMetrics::setMeterRegistry);
+      return jobMetrics;
+    }
   }
 
   private String resolveToHost(String endpoint) {
@@ -59,6 +59,27 @@ public class GcpBigQueryProperties implements CredentialsSupplier {
    */
   private String endpoint;
 
+  /**
+   * Whether BigQueryTemplate writes JSON streams to the default stream of each table through
+   * long-lived writers, instead of through a pending stream created for every write.
+   */
+  private boolean defaultStreamEnabled;
+
+  /** Whether the long-lived writers of different tables share their connections. */
+  private boolean connectionPoolEnabled;
+
+  /**
+   * The maximum number of appends that a JSON stream write keeps in flight. Reading the input
+   * blocks while the limit is reached.
+   */
+  private Long maxInflightRequests;
+
+  /** The maximum size in bytes of the appends that a JSON stream write keeps in flight. */
+  private Long maxInflightBytes;
+
+  /** The number of batches of a JSON stream that are parsed concurrently. */
+  private int jsonParserParallelism = 1;
+
   public int getJsonWriterBatchSize() {
     return jsonWriterBatchSize;
   }
@@ -111,4 +132,43 @@ public class GcpBigQueryProperties implements CredentialsSupplier {
     this.endpoint = endpoint;
   }
 
+  public boolean isDefaultStreamEnabled() {
+    return defaultStreamEnabled;
+  }
+
+  public void setDefaultStreamEnabled(boolean defaultStreamEnabled) {
+    this.defaultStreamEnabled = defaultStreamEnabled;
+  }
+
+  public boolean isConnectionPoolEnabled() {
+    return connectionPoolEnabled;
+  }
+
+  public void setConnectionPoolEnabled(boolean connectionPoolEnabled) {
+    this.connectionPoolEnabled = connectionPoolEnabled;
+  }
+
+  public Long getMaxInflightRequests() {
+    return maxInflightRequests;
+  }
+
+  public void setMaxInflightRequests(Long maxInflightRequests) {
+    this.maxInflightRequests = maxInflightRequests;
+  }
+
+  public Long getMaxInflightBytes() {
+    return maxInflightBytes;
+  }
+
+  public void setMaxInflightBytes(Long maxInflightBytes) {
+    this.maxInflightBytes = maxInflightBytes;
+  }
+
+  public int getJsonParserParallelism() {
+    return jsonParserParallelism;
+  }
+
+  public void setJsonParserParallelism(int jsonParserParallelism) {
+    this.jsonParserParallelism = jsonParserParallelism;
+  }
 }
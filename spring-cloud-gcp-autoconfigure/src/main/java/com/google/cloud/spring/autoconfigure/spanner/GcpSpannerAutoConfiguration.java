@@ -18,6 +18,7 @@ package com.google.cloud.spring.autoconfigure.spanner;
 
 import com.google.api.gax.core.CredentialsProvider;
 import com.google.auth.Credentials;
+import com.google.cloud.spanner.BatchClient;
 import com.google.cloud.spanner.DatabaseAdminClient;
 import com.google.cloud.spanner.DatabaseClient;
 import com.google.cloud.spanner.DatabaseId;
@@ -25,12 +26,16 @@ import com.google.cloud.spanner.SessionPoolOptions;
 import com.google.cloud.spanner.Spanner;
 import com.google.cloud.spanner.SpannerOptions;
 import com.google.cloud.spanner.SpannerOptions.Builder;
+import com.google.cloud.spanner.TimestampBound;
 import com.google.cloud.spring.autoconfigure.core.GcpContextAutoConfiguration;
 import com.google.cloud.spring.core.DefaultCredentialsProvider;
 import com.google.cloud.spring.core.GcpProjectIdProvider;
 import com.google.cloud.spring.core.UserAgentHeaderProvider;
+import com.google.cloud.spring.data.spanner.core.SpannerEntityCache;
 import com.google.cloud.spring.data.spanner.core.SpannerMutationFactory;
 import com.google.cloud.spring.data.spanner.core.SpannerMutationFactoryImpl;
+import com.google.cloud.spring.data.spanner.core.SpannerOperationMetrics;
+import com.google.cloud.spring.data.spanner.core.SpannerOperationObserver;
 import com.google.cloud.spring.data.spanner.core.SpannerOperations;
 import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
 import com.google.cloud.spring.data.spanner.core.admin.CachingComposingSupplier;
@@ -39,11 +44,17 @@ import com.google.cloud.spring.data.spanner.core.admin.SpannerDatabaseAdminTempl
 import com.google.cloud.spring.data.spanner.core.admin.SpannerSchemaUtils;
 import com.google.cloud.spring.data.spanner.core.convert.ConverterAwareMappingSpannerEntityProcessor;
 import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerJsonCodec;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.gson.Gson;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -51,8 +62,10 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter;
+import org.springframework.util.Assert;
 
 /** Provides Spring Data classes to use with Cloud Spanner. */
 @AutoConfiguration
@@ -67,6 +80,28 @@ import org.springframework.data.rest.webmvc.spi.BackendIdConverter;
 @EnableConfigurationProperties(GcpSpannerProperties.class)
 public class GcpSpannerAutoConfiguration {
 
+  /**
+   * Returns the timestamp bound of the reads outside of transactions and of read-only transactions.
+   *
+   * @param gcpSpannerProperties the Cloud Spanner properties
+   * @return the timestamp bound, or {@code null} for strong reads
+   */
+  static TimestampBound getDefaultTimestampBound(GcpSpannerProperties gcpSpannerProperties) {
+    Duration maxStaleness = gcpSpannerProperties.getMaxReadStaleness();
+    Duration exactStaleness = gcpSpannerProperties.getExactReadStaleness();
+    Assert.isTrue(
+        maxStaleness == null || exactStaleness == null,
+        "Only one of spring.cloud.gcp.spanner.max-read-staleness and "
+            + "spring.cloud.gcp.spanner.exact-read-staleness can be set.");
+    if (maxStaleness != null) {
+      return TimestampBound.ofMaxStaleness(maxStaleness.toNanos(), TimeUnit.NANOSECONDS);
+    }
+    if (exactStaleness != null) {
+      return TimestampBound.ofExactStaleness(exactStaleness.toNanos(), TimeUnit.NANOSECONDS);
+    }
+    return null;
+  }
+
   /** Core settings. */
   static class CoreSpannerAutoConfiguration {
 
@@ -96,6 +131,8 @@ public class GcpSpannerAutoConfiguration {
 
     private final boolean failIfPoolExhausted;
 
+    private final TimestampBound defaultTimestampBound;
+
     CoreSpannerAutoConfiguration(
         GcpSpannerProperties gcpSpannerProperties,
         GcpProjectIdProvider projectIdProvider,
@@ -122,6 +159,7 @@ public class GcpSpannerAutoConfiguration {
       this.createInterleavedTableDdlOnDeleteCascade =
           gcpSpannerProperties.isCreateInterleavedTableDdlOnDeleteCascade();
       this.failIfPoolExhausted = gcpSpannerProperties.isFailIfPoolExhausted();
+      this.defaultTimestampBound = getDefaultTimestampBound(gcpSpannerProperties);
     }
 
     @Bean
@@ -203,6 +241,13 @@ public class GcpSpannerAutoConfiguration {
       return new CachingComposingSupplier<>(databaseIdProvider, spanner::getDatabaseClient);
     }
 
+    @Bean
+    @ConditionalOnMissingBean(value = BatchClient.class, parameterizedContainer = Supplier.class)
+    public Supplier<BatchClient> batchClientProvider(
+        Spanner spanner, Supplier<DatabaseId> databaseIdProvider) {
+      return new CachingComposingSupplier<>(databaseIdProvider, spanner::getBatchClient);
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public DatabaseAdminClient spannerDatabaseAdminClient(Spanner spanner) {
@@ -211,24 +256,36 @@ public class GcpSpannerAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public SpannerMappingContext spannerMappingContext(Gson gson) {
-      return new SpannerMappingContext(gson);
+    public SpannerMappingContext spannerMappingContext(
+        Gson gson, ObjectProvider<SpannerJsonCodec> jsonCodec) {
+      SpannerMappingContext spannerMappingContext = new SpannerMappingContext(gson);
+      jsonCodec.ifAvailable(spannerMappingContext::setJsonCodec);
+      return spannerMappingContext;
     }
 
     @Bean
     @ConditionalOnMissingBean
     public SpannerTemplate spannerTemplate(
         Supplier<DatabaseClient> databaseClientProvider,
+        Supplier<BatchClient> batchClientProvider,
         SpannerMappingContext mappingContext,
         SpannerEntityProcessor spannerEntityProcessor,
         SpannerMutationFactory spannerMutationFactory,
-        SpannerSchemaUtils spannerSchemaUtils) {
-      return new SpannerTemplate(
-          databaseClientProvider,
-          mappingContext,
-          spannerEntityProcessor,
-          spannerMutationFactory,
-          spannerSchemaUtils);
+        SpannerSchemaUtils spannerSchemaUtils,
+        ObjectProvider<SpannerEntityCache> entityCache,
+        ObjectProvider<SpannerOperationObserver> operationObserver) {
+      SpannerTemplate spannerTemplate =
+          new SpannerTemplate(
+              databaseClientProvider,
+              mappingContext,
+              spannerEntityProcessor,
+              spannerMutationFactory,
+              spannerSchemaUtils);
+      spannerTemplate.setBatchClientProvider(batchClientProvider);
+      spannerTemplate.setDefaultTimestampBound(this.defaultTimestampBound);
+      entityCache.ifAvailable(spannerTemplate::setEntityCache);
+      operationObserver.ifUnique(spannerTemplate::setOperationObserver);
+      return spannerTemplate;
     }
 
     @Bean
@@ -269,6 +326,32 @@ public class GcpSpannerAutoConfiguration {
     }
   }
 
+  /**
+   * Observes the operations of the Spanner Template and records their metrics when Micrometer is
+   * present.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(MeterRegistry.class)
+  static class SpannerOperationMetricsConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(SpannerOperationObserver.class)
+    public SpannerOperationMetrics spannerOperationMetrics(
+        GcpSpannerProperties gcpSpannerProperties,
+        ObjectProvider<MeterRegistry> meterRegistry,
+        ObjectProvider<ObservationRegistry> observationRegistry) {
+      SpannerOperationMetrics operationMetrics = new SpannerOperationMetrics();
+      observationRegistry.ifUnique(operationMetrics::setObservationRegistry);
+      meterRegistry.ifUnique(operationMetrics::setMeterRegistry);
+      if (gcpSpannerProperties.getQueryProfilingSampleRate() > 0) {
+        operationMetrics.setQueryProfiling(
+            gcpSpannerProperties.getQueryProfilingSampleRate(),
+            gcpSpannerProperties.getSlowQueryThreshold());
+      }
+      return operationMetrics;
+    }
+  }
+
   /** REST settings. */
   @ConditionalOnClass({BackendIdConverter.class, SpannerMappingContext.class})
   static class SpannerKeyRestSupportAutoConfiguration {
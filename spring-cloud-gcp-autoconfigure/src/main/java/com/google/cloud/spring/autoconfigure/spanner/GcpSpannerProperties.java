@@ -19,6 +19,7 @@ package com.google.cloud.spring.autoconfigure.spanner;
 import com.google.cloud.spring.core.Credentials;
 import com.google.cloud.spring.core.CredentialsSupplier;
 import com.google.cloud.spring.core.GcpScope;
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
@@ -69,6 +70,18 @@ public class GcpSpannerProperties implements CredentialsSupplier {
   // Host:port used to connect to the emulator, when the emulator is enabled.
   private String emulatorHost = "localhost:9010";
 
+  // Fraction of the queries to run in the profile mode, to record the statistics of slow ones.
+  private double queryProfilingSampleRate = 0;
+
+  // Minimum time for a profiled query to have its statistics recorded.
+  private Duration slowQueryThreshold = Duration.ofSeconds(1);
+
+  // Maximum staleness of the reads outside of transactions and of read-only transactions.
+  private Duration maxReadStaleness;
+
+  // Exact staleness of the reads outside of transactions and of read-only transactions.
+  private Duration exactReadStaleness;
+
   public Credentials getCredentials() {
     return this.credentials;
   }
@@ -177,4 +190,36 @@ public class GcpSpannerProperties implements CredentialsSupplier {
   public void setEmulatorHost(String emulatorHost) {
     this.emulatorHost = emulatorHost;
   }
+
+  public double getQueryProfilingSampleRate() {
+    return this.queryProfilingSampleRate;
+  }
+
+  public void setQueryProfilingSampleRate(double queryProfilingSampleRate) {
+    this.queryProfilingSampleRate = queryProfilingSampleRate;
+  }
+
+  public Duration getSlowQueryThreshold() {
+    return this.slowQueryThreshold;
+  }
+
+  public void setSlowQueryThreshold(Duration slowQueryThreshold) {
+    this.slowQueryThreshold = slowQueryThreshold;
+  }
+
+  public Duration getMaxReadStaleness() {
+    return this.maxReadStaleness;
+  }
+
+  public void setMaxReadStaleness(Duration maxReadStaleness) {
+    this.maxReadStaleness = maxReadStaleness;
+  }
+
+  public Duration getExactReadStaleness() {
+    return this.exactReadStaleness;
+  }
+
+  public void setExactReadStaleness(Duration exactReadStaleness) {
+    this.exactReadStaleness = exactReadStaleness;
+  }
 }
@@ -52,11 +52,15 @@ public class SpannerTransactionManagerAutoConfiguration {
 
     private final TransactionManagerCustomizers transactionManagerCustomizers;
 
+    private final GcpSpannerProperties gcpSpannerProperties;
+
     DatabaseClientTransactionManagerConfiguration(
         Supplier<DatabaseClient> databaseClientProvider,
-        ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers,
+        ObjectProvider<GcpSpannerProperties> gcpSpannerProperties) {
       this.databaseClientProvider = databaseClientProvider;
       this.transactionManagerCustomizers = transactionManagerCustomizers.getIfAvailable();
+      this.gcpSpannerProperties = gcpSpannerProperties.getIfAvailable();
     }
 
     @Bean
@@ -64,6 +68,10 @@ public class SpannerTransactionManagerAutoConfiguration {
     public SpannerTransactionManager spannerTransactionManager() {
       SpannerTransactionManager transactionManager =
           new SpannerTransactionManager(this.databaseClientProvider);
+      if (this.gcpSpannerProperties != null) {
+        transactionManager.setReadOnlyTimestampBound(
+            GcpSpannerAutoConfiguration.getDefaultTimestampBound(this.gcpSpannerProperties));
+      }
       if (this.transactionManagerCustomizers != null) {
         this.transactionManagerCustomizers.customize(transactionManager);
       }
@@ -24,10 +24,17 @@ import com.google.cloud.bigquery.BigQueryOptions;
 import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
 import com.google.cloud.spring.autoconfigure.TestUtils;
 import com.google.cloud.spring.autoconfigure.core.GcpContextAutoConfiguration;
+import com.google.cloud.spring.bigquery.core.BigQueryJobListener;
+import com.google.cloud.spring.bigquery.core.BigQueryJobMetrics;
+import com.google.cloud.spring.bigquery.core.BigQueryJobPoller;
+import com.google.cloud.spring.bigquery.core.BigQueryStreamWriterPool;
 import com.google.cloud.spring.bigquery.core.BigQueryTemplate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 
@@ -159,6 +166,48 @@ class GcpBigQueryAutoConfigurationTests {
         });
   }
 
+  @Test
+  void testStreamWriterPool_notCreatedByDefault() {
+    this.contextRunner.run(
+        ctx -> assertThat(ctx).doesNotHaveBean(BigQueryStreamWriterPool.class));
+  }
+
+  @Test
+  void testStreamWriterPool_defaultStreamEnabled() {
+    this.contextRunner
+        .withPropertyValues("spring.cloud.gcp.bigquery.default-stream-enabled=true")
+        .run(ctx -> assertThat(ctx).hasSingleBean(BigQueryStreamWriterPool.class));
+  }
+
+  @Test
+  void testJobPoller_singlePollerWithMetrics() {
+    this.contextRunner
+        .withBean(SimpleMeterRegistry.class)
+        .run(
+            ctx -> {
+              assertThat(ctx).hasSingleBean(BigQueryJobPoller.class);
+              assertThat(ctx.getBean(BigQueryJobPoller.class))
+                  .extracting("jobListener")
+                  .isSameAs(ctx.getBean(BigQueryJobMetrics.class))
+                  .extracting("meterRegistry")
+                  .isSameAs(ctx.getBean(SimpleMeterRegistry.class));
+            });
+  }
+
+  @Test
+  void testJobPoller_withoutMicrometer() {
+    this.contextRunner
+        .withClassLoader(new FilteredClassLoader(MeterRegistry.class))
+        .run(
+            ctx -> {
+              assertThat(ctx).hasSingleBean(BigQueryJobPoller.class);
+              assertThat(ctx).doesNotHaveBean(BigQueryJobListener.class);
+              assertThat(ctx.getBean(BigQueryJobPoller.class))
+                  .extracting("jobListener")
+                  .isNull();
+            });
+  }
+
   /** Spring Boot config for tests. */
   @AutoConfigurationPackage
   static class TestConfiguration {
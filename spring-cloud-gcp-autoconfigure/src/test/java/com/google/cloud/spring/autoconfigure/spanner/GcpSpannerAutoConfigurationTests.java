@@ -27,15 +27,23 @@ import com.google.auth.CredentialTypeForMetrics;
 import com.google.auth.Credentials;
 import com.google.cloud.NoCredentials;
 import com.google.cloud.spanner.SpannerOptions;
+import com.google.cloud.spanner.TimestampBound;
 import com.google.cloud.spring.autoconfigure.TestUtils;
 import com.google.cloud.spring.autoconfigure.core.GcpContextAutoConfiguration;
+import com.google.cloud.spring.data.spanner.core.SpannerEntityCache;
+import com.google.cloud.spring.data.spanner.core.SpannerOperationObserver;
 import com.google.cloud.spring.data.spanner.core.SpannerOperations;
+import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
 import com.google.cloud.spring.data.spanner.core.SpannerTransactionManager;
 import com.google.cloud.spring.data.spanner.core.admin.SpannerDatabaseAdminTemplate;
 import com.google.cloud.spring.data.spanner.core.admin.SpannerSchemaUtils;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerJsonCodec;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
@@ -82,6 +90,72 @@ class GcpSpannerAutoConfigurationTests {
         });
   }
 
+  @Test
+  void testBatchClientProviderCreated() {
+    this.contextRunner.run(
+        context -> {
+          assertThat(context.getBean("batchClientProvider")).isNotNull();
+        });
+  }
+
+  @Test
+  void testUserEntityCacheBean() {
+    this.contextRunner
+        .withBean(
+            SpannerEntityCache.class,
+            () -> new SpannerEntityCache(new SpannerMappingContext()))
+        .run(
+            context -> {
+              assertThat(context.getBean(SpannerTemplate.class))
+                  .extracting("entityCache")
+                  .isSameAs(context.getBean(SpannerEntityCache.class));
+            });
+  }
+
+  @Test
+  void testSpannerTemplateMetrics() {
+    this.contextRunner
+        .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+        .withPropertyValues("spring.cloud.gcp.spanner.query-profiling-sample-rate=0.5")
+        .run(
+            context -> {
+              assertThat(context.getBean(SpannerTemplate.class))
+                  .extracting("operationObserver.meterRegistry")
+                  .isSameAs(context.getBean(MeterRegistry.class));
+              assertThat(context.getBean(SpannerTemplate.class))
+                  .extracting("operationObserver.profileSampleRate")
+                  .isEqualTo(0.5);
+            });
+  }
+
+  @Test
+  void testSpannerTemplateMetricsWithoutMicrometer() {
+    this.contextRunner
+        .withClassLoader(new FilteredClassLoader(MeterRegistry.class))
+        .run(
+            context -> {
+              assertThat(context).doesNotHaveBean(SpannerOperationObserver.class);
+              assertThat(context.getBean(SpannerTemplate.class))
+                  .extracting("operationObserver")
+                  .isNull();
+            });
+  }
+
+  @Test
+  void testDefaultReadStaleness() {
+    this.contextRunner
+        .withPropertyValues("spring.cloud.gcp.spanner.max-read-staleness=10s")
+        .run(
+            context -> {
+              TimestampBound tenSeconds = TimestampBound.ofMaxStaleness(10, TimeUnit.SECONDS);
+              assertThat(context.getBean(SpannerTemplate.class).getDefaultTimestampBound())
+                  .isEqualTo(tenSeconds);
+              assertThat(
+                      context.getBean(SpannerTransactionManager.class).getReadOnlyTimestampBound())
+                  .isEqualTo(tenSeconds);
+            });
+  }
+
   @Test
   void testTestRepositoryCreated() {
     this.contextRunner.run(
@@ -100,6 +174,17 @@ class GcpSpannerAutoConfigurationTests {
         });
   }
 
+  @Test
+  void testUserJsonCodecBean() {
+    SpannerJsonCodec jsonCodec = mock(SpannerJsonCodec.class);
+    this.contextRunner
+        .withBean(SpannerJsonCodec.class, () -> jsonCodec)
+        .run(
+            context ->
+                assertThat(context.getBean(SpannerMappingContext.class).getJsonCodec())
+                    .isSameAs(jsonCodec));
+  }
+
   @Test
   void testDatabaseAdminClientCreated() {
     this.contextRunner.run(
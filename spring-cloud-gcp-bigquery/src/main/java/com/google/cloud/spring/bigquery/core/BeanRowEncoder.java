@@ -0,0 +1,282 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import com.google.cloud.bigquery.storage.v1.BQTableSchemaToProtoDescriptor;
+import com.google.cloud.bigquery.storage.v1.BigDecimalByteStringEncoder;
+import com.google.cloud.bigquery.storage.v1.CivilTimeEncoder;
+import com.google.cloud.bigquery.storage.v1.ProtoSchema;
+import com.google.cloud.bigquery.storage.v1.ProtoSchemaConverter;
+import com.google.cloud.bigquery.storage.v1.TableFieldSchema;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Encodes Java beans and records by writing their properties straight to the protocol buffer wire
+ * format of the table schema, without building intermediate messages.
+ */
+final class BeanRowEncoder<T> implements BigQueryRowEncoder<T> {
+
+  private final ProtoSchema protoSchema;
+
+  private final MessageEncoder messageEncoder;
+
+  BeanRowEncoder(Class<T> type, TableSchema tableSchema) throws DescriptorValidationException {
+    Descriptor descriptor =
+        BQTableSchemaToProtoDescriptor.convertBQTableSchemaToProtoDescriptor(tableSchema);
+    this.protoSchema = ProtoSchemaConverter.convert(descriptor);
+    this.messageEncoder = new MessageEncoder(type, descriptor, tableSchema.getFieldsList());
+  }
+
+  @Override
+  public ProtoSchema getProtoSchema() {
+    return this.protoSchema;
+  }
+
+  @Override
+  public ByteString encode(T row) {
+    return this.messageEncoder.encode(row);
+  }
+
+  /** Encodes the properties of one type as the fields of one message. */
+  private static final class MessageEncoder {
+
+    private final List<FieldEncoder> fieldEncoders = new ArrayList<>();
+
+    MessageEncoder(Class<?> type, Descriptor descriptor, List<TableFieldSchema> tableFields) {
+      Map<String, Method> getters = getters(type);
+      for (int i = 0; i < tableFields.size(); i++) {
+        TableFieldSchema tableField = tableFields.get(i);
+        Method getter = getters.get(normalize(tableField.getName()));
+        if (getter == null) {
+          continue;
+        }
+        // The descriptor has the fields of the table schema, in the same order.
+        FieldDescriptor field = descriptor.getFields().get(i);
+        boolean repeated = tableField.getMode() == TableFieldSchema.Mode.REPEATED;
+        MessageEncoder nested = null;
+        if (tableField.getType() == TableFieldSchema.Type.STRUCT) {
+          ResolvableType valueType = ResolvableType.forMethodReturnType(getter);
+          Class<?> nestedType =
+              repeated
+                  ? (valueType.isArray()
+                      ? valueType.getComponentType().toClass()
+                      : valueType.asCollection().resolveGeneric(0))
+                  : valueType.toClass();
+          nested =
+              new MessageEncoder(nestedType, field.getMessageType(), tableField.getFieldsList());
+        }
+        this.fieldEncoders.add(new FieldEncoder(tableField, field, repeated, getter, nested));
+      }
+    }
+
+    ByteString encode(Object value) {
+      ByteString.Output bytes = ByteString.newOutput();
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      try {
+        for (FieldEncoder fieldEncoder : this.fieldEncoders) {
+          fieldEncoder.write(output, value);
+        }
+        output.flush();
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+      return bytes.toByteString();
+    }
+
+    private static Map<String, Method> getters(Class<?> type) {
+      Map<String, Method> getters = new HashMap<>();
+      if (type.isRecord()) {
+        for (RecordComponent component : type.getRecordComponents()) {
+          getters.put(normalize(component.getName()), component.getAccessor());
+        }
+      } else {
+        for (PropertyDescriptor property : BeanUtils.getPropertyDescriptors(type)) {
+          if (property.getReadMethod() != null && !"class".equals(property.getName())) {
+            getters.put(normalize(property.getName()), property.getReadMethod());
+          }
+        }
+      }
+      getters.values().forEach(ReflectionUtils::makeAccessible);
+      return getters;
+    }
+
+    private static String normalize(String name) {
+      return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+  }
+
+  /** Writes one property as a field, converting its value to the column type. */
+  private record FieldEncoder(
+      TableFieldSchema tableField,
+      FieldDescriptor field,
+      boolean repeated,
+      Method getter,
+      MessageEncoder nested) {
+
+    void write(CodedOutputStream output, Object row) throws IOException {
+      Object value = ReflectionUtils.invokeMethod(this.getter, row);
+      if (value == null) {
+        return;
+      }
+      if (!this.repeated) {
+        writeValue(output, value);
+      } else if (value instanceof Iterable<?> values) {
+        for (Object element : values) {
+          writeValue(output, element);
+        }
+      } else {
+        for (Object element : ObjectUtils.toObjectArray(value)) {
+          writeValue(output, element);
+        }
+      }
+    }
+
+    private void writeValue(CodedOutputStream output, Object value) throws IOException {
+      int number = this.field.getNumber();
+      Object converted = convert(value);
+      switch (this.field.getType()) {
+        case INT64 -> output.writeInt64(number, (Long) converted);
+        case INT32 -> output.writeInt32(number, (Integer) converted);
+        case DOUBLE -> output.writeDouble(number, (Double) converted);
+        case BOOL -> output.writeBool(number, (Boolean) converted);
+        case STRING -> output.writeString(number, (String) converted);
+        // Embedded messages have the same wire format as bytes.
+        case BYTES, MESSAGE -> output.writeBytes(number, (ByteString) converted);
+        default ->
+            throw new IllegalArgumentException(
+                "Unsupported type of column " + this.tableField.getName());
+      }
+    }
+
+    private Object convert(Object value) {
+      switch (this.tableField.getType()) {
+        case INT64:
+          if (value instanceof Number number) {
+            return number.longValue();
+          }
+          break;
+        case DOUBLE:
+          if (value instanceof Number number) {
+            return number.doubleValue();
+          }
+          break;
+        case BOOL:
+          if (value instanceof Boolean) {
+            return value;
+          }
+          break;
+        case BYTES:
+          if (value instanceof byte[] bytes) {
+            return ByteString.copyFrom(bytes);
+          }
+          if (value instanceof ByteString) {
+            return value;
+          }
+          break;
+        case NUMERIC:
+          return BigDecimalByteStringEncoder.encodeToNumericByteString(toBigDecimal(value));
+        case BIGNUMERIC:
+          return BigDecimalByteStringEncoder.encodeToBigNumericByteString(toBigDecimal(value));
+        case TIMESTAMP:
+          Instant instant = toInstant(value);
+          if (instant != null) {
+            return instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+          }
+          if (value instanceof Long) {
+            return value;
+          }
+          break;
+        case DATE:
+          if (value instanceof LocalDate date) {
+            return (int) date.toEpochDay();
+          }
+          break;
+        case TIME:
+          if (value instanceof LocalTime time) {
+            return CivilTimeEncoder.encodePacked64TimeMicrosLocalTime(time);
+          }
+          break;
+        case DATETIME:
+          if (value instanceof LocalDateTime dateTime) {
+            return CivilTimeEncoder.encodePacked64DatetimeMicrosLocalDateTime(dateTime);
+          }
+          break;
+        case STRUCT:
+          return this.nested.encode(value);
+        case STRING, GEOGRAPHY, JSON, INTERVAL:
+          return value.toString();
+        default:
+          break;
+      }
+      throw new IllegalArgumentException(
+          "Cannot write a "
+              + value.getClass().getName()
+              + " to column "
+              + this.tableField.getName()
+              + " of type "
+              + this.tableField.getType());
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+      return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+
+    private static Instant toInstant(Object value) {
+      if (value instanceof Instant instant) {
+        return instant;
+      }
+      if (value instanceof OffsetDateTime dateTime) {
+        return dateTime.toInstant();
+      }
+      if (value instanceof ZonedDateTime dateTime) {
+        return dateTime.toInstant();
+      }
+      if (value instanceof Date date) {
+        // java.sql.Date does not support toInstant().
+        return Instant.ofEpochMilli(date.getTime());
+      }
+      return null;
+    }
+  }
+}
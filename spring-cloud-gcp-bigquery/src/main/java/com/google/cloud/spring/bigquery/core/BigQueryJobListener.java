@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import com.google.cloud.bigquery.Job;
+
+/**
+ * Notified by a {@link BigQueryJobPoller} of the jobs that it saw complete.
+ *
+ * @see BigQueryJobMetrics
+ */
+public interface BigQueryJobListener {
+
+  /**
+   * Called once for each completed job, whether it succeeded or failed.
+   *
+   * @param job the completed job
+   */
+  void jobCompleted(Job job);
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import com.google.cloud.bigquery.Job;
+import com.google.cloud.bigquery.JobStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+
+/**
+ * Records how long completed jobs were queued and running on BigQuery in the {@code
+ * spring.cloud.gcp.bigquery.job.queue} and {@code spring.cloud.gcp.bigquery.job.run} timers, tagged
+ * with the job type and outcome.
+ *
+ * <p>Set it on a {@link BigQueryJobPoller} with {@link
+ * BigQueryJobPoller#setJobListener(BigQueryJobListener)}. The poller only knows it as a listener,
+ * so that Micrometer is only needed when metrics are enabled.
+ */
+public class BigQueryJobMetrics implements BigQueryJobListener {
+
+  static final String QUEUE_TIME = "spring.cloud.gcp.bigquery.job.queue";
+
+  static final String RUN_TIME = "spring.cloud.gcp.bigquery.job.run";
+
+  private MeterRegistry meterRegistry;
+
+  /**
+   * Sets the registry that the queue time and run time of completed jobs are recorded in. Nothing
+   * is recorded until it is set.
+   *
+   * @param meterRegistry the registry
+   */
+  public void setMeterRegistry(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void jobCompleted(Job job) {
+    if (this.meterRegistry == null) {
+      return;
+    }
+    JobStatistics statistics = job.getStatistics();
+    if (statistics == null || statistics.getCreationTime() == null) {
+      return;
+    }
+    String type =
+        job.getConfiguration() != null ? job.getConfiguration().getType().toString() : "UNKNOWN";
+    String outcome = job.getStatus().getError() == null ? "success" : "failure";
+    Long startTime = statistics.getStartTime();
+    Long endTime = statistics.getEndTime();
+    if (startTime != null) {
+      timer(QUEUE_TIME, "The time BigQuery jobs waited before they started.", type, outcome)
+          .record(Duration.ofMillis(startTime - statistics.getCreationTime()));
+      if (endTime != null) {
+        timer(RUN_TIME, "The time BigQuery jobs ran.", type, outcome)
+            .record(Duration.ofMillis(endTime - startTime));
+      }
+    }
+  }
+
+  private Timer timer(String name, String description, String type, String outcome) {
+    return Timer.builder(name)
+        .description(description)
+        .tag("type", type)
+        .tag("outcome", outcome)
+        .register(this.meterRegistry);
+  }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.Job;
+import com.google.cloud.bigquery.JobStatus.State;
+import com.google.cloud.bigquery.QueryJobConfiguration;
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.Assert;
+
+/**
+ * Tracks pending BigQuery jobs and completes a future for each of them once the job is done.
+ *
+ * <p>All jobs are kept in a single queue ordered by the time of their next check, and a single
+ * task on the {@link TaskScheduler} wakes up when the next check is due. Each job is checked with
+ * exponential backoff: the interval between checks starts at the initial interval and grows by the
+ * multiplier up to the maximum interval, with random jitter so that jobs submitted together are not
+ * checked together. Query jobs are long-polled, so that their completion is noticed without
+ * waiting for the next check.
+ *
+ * <p>With {@link #setJobListener(BigQueryJobListener)}, the listener is notified of each completed
+ * job; a {@link BigQueryJobMetrics} listener records how long the jobs were queued and running.
+ */
+public class BigQueryJobPoller {
+
+  private static final double JITTER = 0.2;
+
+  private static final Duration MAX_LONG_POLL = Duration.ofSeconds(10);
+
+  private final Logger logger = LoggerFactory.getLogger(BigQueryJobPoller.class);
+
+  private final TaskScheduler taskScheduler;
+
+  /** The pending jobs in the order of their next check; also guards the wake-up task. */
+  private final PriorityQueue<PendingJob> pendingJobs =
+      new PriorityQueue<>(Comparator.comparing(PendingJob::getNextCheck));
+
+  private ScheduledFuture<?> wakeUp;
+
+  private Instant wakeUpTime;
+
+  private Duration initialInterval = Duration.ofSeconds(2);
+
+  private Duration maxInterval = Duration.ofSeconds(30);
+
+  private double multiplier = 1.5;
+
+  private BigQueryJobListener jobListener;
+
+  /**
+   * Creates a poller.
+   *
+   * @param taskScheduler the scheduler that checks the jobs
+   */
+  public BigQueryJobPoller(TaskScheduler taskScheduler) {
+    Assert.notNull(taskScheduler, "TaskScheduler must not be null");
+    this.taskScheduler = taskScheduler;
+  }
+
+  /**
+   * Sets the time between submitting a job and its first check, which is also the first interval
+   * between checks.
+   *
+   * @param initialInterval the initial interval. Default is 2 seconds.
+   */
+  public void setInitialInterval(Duration initialInterval) {
+    Assert.notNull(initialInterval, "BigQuery job polling interval must not be null");
+    this.initialInterval = initialInterval;
+  }
+
+  /**
+   * Sets the maximum time between two checks of a job.
+   *
+   * @param maxInterval the maximum interval. Default is 30 seconds.
+   */
+  public void setMaxInterval(Duration maxInterval) {
+    Assert.notNull(maxInterval, "The maximum polling interval must not be null");
+    this.maxInterval = maxInterval;
+  }
+
+  /**
+   * Sets the factor by which the interval between the checks of a job grows.
+   *
+   * @param multiplier the multiplier. Default is 1.5.
+   */
+  public void setMultiplier(double multiplier) {
+    Assert.isTrue(multiplier >= 1, "The multiplier must not be less than 1");
+    this.multiplier = multiplier;
+  }
+
+  /**
+   * Sets the listener that is notified of the completed jobs.
+   *
+   * @param jobListener the listener, such as a {@link BigQueryJobMetrics}, or {@code null} for none
+   */
+  public void setJobListener(BigQueryJobListener jobListener) {
+    this.jobListener = jobListener;
+  }
+
+  /**
+   * Starts tracking a job, first checking it after the initial interval of this poller.
+   *
+   * @param pendingJob the job
+   * @return a future that completes with the job once it is done, or exceptionally if it failed.
+   *     Cancelling the future, or any other exceptional completion, cancels the job.
+   */
+  public CompletableFuture<Job> poll(Job pendingJob) {
+    return poll(pendingJob, this.initialInterval);
+  }
+
+  /**
+   * Starts tracking a job, first checking it after the given interval, so that templates sharing
+   * this poller can each use their own.
+   *
+   * @param pendingJob the job
+   * @param initialInterval the time before the first check, which is also the first interval
+   *     between checks
+   * @return a future that completes with the job once it is done, or exceptionally if it failed.
+   *     Cancelling the future, or any other exceptional completion, cancels the job.
+   */
+  public CompletableFuture<Job> poll(Job pendingJob, Duration initialInterval) {
+    Assert.notNull(initialInterval, "BigQuery job polling interval must not be null");
+    PendingJob pending = new PendingJob(pendingJob, initialInterval);
+    pending.result.whenComplete(
+        (job, exception) -> {
+          synchronized (this.pendingJobs) {
+            this.pendingJobs.remove(pending);
+          }
+          if (exception != null) {
+            pendingJob.cancel();
+          }
+        });
+    schedule(pending);
+    return pending.result;
+  }
+
+  /**
+   * Returns the number of jobs that are waiting for their next check.
+   *
+   * @return the number of jobs
+   */
+  public int getPendingJobCount() {
+    synchronized (this.pendingJobs) {
+      return this.pendingJobs.size();
+    }
+  }
+
+  private void schedule(PendingJob pending) {
+    Instant nextCheck = Instant.now().plus(jitter(pending.interval));
+    synchronized (this.pendingJobs) {
+      if (pending.result.isDone()) {
+        return;
+      }
+      pending.nextCheck = nextCheck;
+      this.pendingJobs.add(pending);
+      if (this.wakeUp == null || nextCheck.isBefore(this.wakeUpTime)) {
+        if (this.wakeUp != null) {
+          this.wakeUp.cancel(false);
+        }
+        this.wakeUp = this.taskScheduler.schedule(this::checkDueJobs, nextCheck);
+        this.wakeUpTime = nextCheck;
+      }
+    }
+  }
+
+  private void checkDueJobs() {
+    List<PendingJob> dueJobs = new ArrayList<>();
+    synchronized (this.pendingJobs) {
+      Instant now = Instant.now();
+      while (!this.pendingJobs.isEmpty() && !this.pendingJobs.peek().nextCheck.isAfter(now)) {
+        dueJobs.add(this.pendingJobs.remove());
+      }
+      PendingJob next = this.pendingJobs.peek();
+      this.wakeUp = null;
+      this.wakeUpTime = null;
+      if (next != null) {
+        this.wakeUp = this.taskScheduler.schedule(this::checkDueJobs, next.nextCheck);
+        this.wakeUpTime = next.nextCheck;
+      }
+    }
+    // Checks call BigQuery, so they run concurrently on the scheduler rather than one by one here.
+    for (PendingJob pending : dueJobs) {
+      this.taskScheduler.schedule(() -> check(pending), Instant.now());
+    }
+  }
+
+  private void check(PendingJob pending) {
+    if (pending.result.isDone()) {
+      return;
+    }
+    try {
+      Job job = reload(pending);
+      if (job == null) {
+        pending.result.completeExceptionally(
+            new BigQueryException("Job " + pending.job.getJobId() + " no longer exists."));
+      } else if (State.DONE.equals(job.getStatus().getState())) {
+        if (this.jobListener != null) {
+          this.jobListener.jobCompleted(job);
+        }
+        if (job.getStatus().getError() != null) {
+          pending.result.completeExceptionally(
+              new BigQueryException(job.getStatus().getError().getMessage()));
+        } else {
+          pending.result.complete(job);
+        }
+      } else {
+        pending.interval = nextInterval(pending.interval);
+        schedule(pending);
+      }
+    } catch (Exception e) {
+      this.logger.debug("Failed to check job {}", pending.job.getJobId(), e);
+      pending.result.completeExceptionally(new BigQueryException(e.getMessage(), e));
+    }
+  }
+
+  private Job reload(PendingJob pending) {
+    if (pending.job.getConfiguration() instanceof QueryJobConfiguration) {
+      // Returns as soon as the query is done, or after the wait time.
+      long maxWaitMillis = min(pending.interval, MAX_LONG_POLL).toMillis();
+      pending
+          .job
+          .getBigQuery()
+          .getQueryResults(
+              pending.job.getJobId(), BigQuery.QueryResultsOption.maxWaitTime(maxWaitMillis));
+    }
+    return pending.job.reload();
+  }
+
+  @VisibleForTesting
+  Duration nextInterval(Duration interval) {
+    return min(
+        Duration.ofNanos((long) (interval.toNanos() * this.multiplier)), this.maxInterval);
+  }
+
+  private static Duration jitter(Duration interval) {
+    double factor = 1 + JITTER * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+    return Duration.ofNanos((long) (interval.toNanos() * factor));
+  }
+
+  private static Duration min(Duration a, Duration b) {
+    return a.compareTo(b) <= 0 ? a : b;
+  }
+
+  private static final class PendingJob {
+
+    private final Job job;
+
+    private final CompletableFuture<Job> result = new CompletableFuture<>();
+
+    private Duration interval;
+
+    private Instant nextCheck;
+
+    PendingJob(Job job, Duration interval) {
+      this.job = job;
+      this.interval = interval;
+    }
+
+    Instant getNextCheck() {
+      return this.nextCheck;
+    }
+  }
+}
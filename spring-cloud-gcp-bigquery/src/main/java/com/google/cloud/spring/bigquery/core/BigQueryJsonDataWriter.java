@@ -19,19 +19,31 @@ package com.google.cloud.spring.bigquery.core;
 import com.google.api.core.ApiFuture;
 import com.google.api.core.ApiFutureCallback;
 import com.google.api.core.ApiFutures;
+import com.google.api.gax.batching.FlowControlSettings;
 import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
 import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
 import com.google.cloud.bigquery.storage.v1.CreateWriteStreamRequest;
 import com.google.cloud.bigquery.storage.v1.Exceptions;
+import com.google.cloud.bigquery.storage.v1.Exceptions.OffsetAlreadyExists;
 import com.google.cloud.bigquery.storage.v1.Exceptions.StorageException;
 import com.google.cloud.bigquery.storage.v1.FinalizeWriteStreamResponse;
 import com.google.cloud.bigquery.storage.v1.JsonStreamWriter;
 import com.google.cloud.bigquery.storage.v1.TableName;
 import com.google.cloud.bigquery.storage.v1.WriteStream;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.protobuf.Descriptors.DescriptorValidationException;
+import io.grpc.Status;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.concurrent.GuardedBy;
 import org.json.JSONArray;
 import org.slf4j.Logger;
@@ -40,6 +52,15 @@ import org.slf4j.LoggerFactory;
 /** Helper class for using BigQuery storage write API in exactly once delivery mode. */
 public class BigQueryJsonDataWriter implements AutoCloseable {
 
+  private static final int MAX_APPEND_ATTEMPTS = 3;
+
+  private static final Set<Status.Code> RETRYABLE_CODES =
+      Set.of(
+          Status.Code.UNAVAILABLE,
+          Status.Code.INTERNAL,
+          Status.Code.ABORTED,
+          Status.Code.DEADLINE_EXCEEDED);
+
   private final JsonStreamWriter streamWriter;
   // Track the number of in-flight requests to wait for all responses before shutting down.
   private final Phaser inflightRequestCount = new Phaser(1);
@@ -50,9 +71,23 @@ public class BigQueryJsonDataWriter implements AutoCloseable {
 
   private final BigQueryWriteClient bigQueryWriteClient;
 
+  private final Executor resumeExecutor;
+
   @GuardedBy("lock")
   private RuntimeException error = null;
 
+  /** The appends that were not acknowledged yet, in the order of their offsets. */
+  @GuardedBy("lock")
+  private final NavigableMap<Long, PendingAppend> pendingAppends = new TreeMap<>();
+
+  /** Incremented on each transient failure; failures of appends issued before are ignored. */
+  @GuardedBy("lock")
+  private long generation;
+
+  /** Whether the unacknowledged appends are being appended again. */
+  @GuardedBy("lock")
+  private boolean resuming;
+
   /**
    * Package-Private constructor for initializing BigQueryJsonDataWriter
    *
@@ -62,6 +97,55 @@ public class BigQueryJsonDataWriter implements AutoCloseable {
    */
   BigQueryJsonDataWriter(TableName parentTable, BigQueryWriteClient bigQueryWriteClient)
       throws DescriptorValidationException, IOException, InterruptedException {
+    this(parentTable, bigQueryWriteClient, null, null);
+  }
+
+  /**
+   * Package-Private constructor for initializing BigQueryJsonDataWriter with bounded in-flight
+   * appends
+   *
+   * @param parentTable against which the writer has to be initialized
+   * @param bigQueryWriteClient BigQueryWriteClient reference which has to be used for writing to
+   *     the database
+   * @param flowControlSettings the limits of in-flight appends and whether {@link #append} blocks
+   *     or fails when they are reached, or null for the defaults of the client library
+   * @param resumeExecutor the executor that appends the unacknowledged appends again after a
+   *     transient failure, or null to resume on a new thread
+   */
+  BigQueryJsonDataWriter(
+      TableName parentTable,
+      BigQueryWriteClient bigQueryWriteClient,
+      FlowControlSettings flowControlSettings,
+      Executor resumeExecutor)
+      throws DescriptorValidationException, IOException, InterruptedException {
+    this(
+        createStreamWriter(parentTable, bigQueryWriteClient, flowControlSettings),
+        bigQueryWriteClient,
+        resumeExecutor);
+  }
+
+  @VisibleForTesting
+  BigQueryJsonDataWriter(
+      JsonStreamWriter streamWriter,
+      BigQueryWriteClient bigQueryWriteClient,
+      Executor resumeExecutor) {
+    this.streamWriter = streamWriter;
+    this.bigQueryWriteClient = bigQueryWriteClient;
+    this.resumeExecutor =
+        (resumeExecutor != null) ? resumeExecutor : BigQueryJsonDataWriter::startResumeThread;
+  }
+
+  private static void startResumeThread(Runnable resume) {
+    Thread thread = new Thread(resume, "bigquery-json-writer-resume");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private static JsonStreamWriter createStreamWriter(
+      TableName parentTable,
+      BigQueryWriteClient bigQueryWriteClient,
+      FlowControlSettings flowControlSettings)
+      throws DescriptorValidationException, IOException, InterruptedException {
     // Initialize a write stream for the specified table.
     // For more information on WriteStream.Type, see:
     // https://googleapis.dev/java/google-cloud-bigquerystorage/latest/com/google/cloud/bigquery/storage/v1/WriteStream.Type.html
@@ -77,9 +161,13 @@ public class BigQueryJsonDataWriter implements AutoCloseable {
     // Use the JSON stream writer to send records in JSON format.
     // For more information about JsonStreamWriter, see:
     // https://googleapis.dev/java/google-cloud-bigquerystorage/latest/com/google/cloud/bigquery/storage/v1beta2/JsonStreamWriter.html
-    streamWriter =
-        JsonStreamWriter.newBuilder(writeStream.getName(), writeStream.getTableSchema(), bigQueryWriteClient).build();
-    this.bigQueryWriteClient = bigQueryWriteClient;
+    JsonStreamWriter.Builder streamWriterBuilder =
+        JsonStreamWriter.newBuilder(
+            writeStream.getName(), writeStream.getTableSchema(), bigQueryWriteClient);
+    if (flowControlSettings != null) {
+      streamWriterBuilder.setFlowControlSettings(flowControlSettings);
+    }
+    return streamWriterBuilder.build();
   }
 
   /**
@@ -88,17 +176,119 @@ public class BigQueryJsonDataWriter implements AutoCloseable {
    */
   public void append(JSONArray data, long offset)
       throws DescriptorValidationException, IOException {
+    PendingAppend pending = new PendingAppend(data, offset);
+    long appendGeneration;
     synchronized (this.lock) {
+      // No appends are issued while the unacknowledged ones are appended again.
+      while (this.resuming && this.error == null) {
+        try {
+          this.lock.wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while waiting for appends to resume");
+        }
+      }
       // If earlier appends have failed, we need to reset before continuing.
       if (this.error != null) {
         throw this.error;
       }
+      this.pendingAppends.put(offset, pending);
+      // Increase the count of in-flight requests.
+      inflightRequestCount.register();
+      appendGeneration = this.generation;
+    }
+    try {
+      // Append asynchronously for increased throughput. Blocks while the in-flight limits are
+      // reached.
+      send(pending, appendGeneration);
+    } catch (DescriptorValidationException | IOException | RuntimeException e) {
+      acknowledge(pending);
+      throw e;
     }
-    // Append asynchronously for increased throughput.
-    ApiFuture<AppendRowsResponse> future = streamWriter.append(data, offset);
-    ApiFutures.addCallback(future, new AppendCompleteCallback(), MoreExecutors.directExecutor());
-    // Increase the count of in-flight requests.
-    inflightRequestCount.register();
+  }
+
+  private void send(PendingAppend pending, long appendGeneration)
+      throws DescriptorValidationException, IOException {
+    pending.attempts.incrementAndGet();
+    ApiFuture<AppendRowsResponse> future = streamWriter.append(pending.data, pending.offset);
+    ApiFutures.addCallback(
+        future,
+        new AppendCompleteCallback(pending, appendGeneration),
+        MoreExecutors.directExecutor());
+  }
+
+  /**
+   * Appends the unacknowledged appends again, in the order of their offsets, until a pass is not
+   * interrupted by another failure. The appends behind a failed one fail with OFFSET_OUT_OF_RANGE,
+   * so they cannot be retried one by one.
+   */
+  private void resume() {
+    while (true) {
+      List<PendingAppend> unacknowledged;
+      long resumedGeneration;
+      synchronized (this.lock) {
+        if (this.error != null) {
+          return;
+        }
+        unacknowledged = new ArrayList<>(this.pendingAppends.values());
+        resumedGeneration = this.generation;
+      }
+      try {
+        for (PendingAppend pending : unacknowledged) {
+          if (isSuperseded(resumedGeneration)) {
+            break;
+          }
+          send(pending, resumedGeneration);
+        }
+      } catch (DescriptorValidationException | IOException | RuntimeException e) {
+        fail(e);
+        return;
+      }
+      synchronized (this.lock) {
+        if (this.generation == resumedGeneration) {
+          this.resuming = false;
+          this.lock.notifyAll();
+          return;
+        }
+      }
+    }
+  }
+
+  private boolean isSuperseded(long appendGeneration) {
+    synchronized (this.lock) {
+      return this.generation != appendGeneration || this.error != null;
+    }
+  }
+
+  private void acknowledge(PendingAppend pending) {
+    synchronized (this.lock) {
+      if (!this.pendingAppends.remove(pending.offset, pending)) {
+        return;
+      }
+    }
+    // Reduce the count of in-flight requests.
+    inflightRequestCount.arriveAndDeregister();
+  }
+
+  private void fail(Throwable throwable) {
+    List<PendingAppend> unacknowledged;
+    String errMsg = null;
+    synchronized (this.lock) {
+      if (this.error == null) {
+        StorageException storageException = Exceptions.toStorageException(throwable);
+        this.error =
+            (storageException != null) ? storageException : new RuntimeException(throwable);
+        errMsg = this.error.getMessage();
+      }
+      unacknowledged = new ArrayList<>(this.pendingAppends.values());
+      this.resuming = false;
+      this.lock.notifyAll();
+    }
+    if (errMsg != null) {
+      logger.warn("Error: {}", errMsg);
+    }
+    // None of the other appends are appended again, so they are no longer waited for.
+    unacknowledged.forEach(this::acknowledge);
   }
 
   /** Call this method before committing the stream */
@@ -132,27 +322,66 @@ public class BigQueryJsonDataWriter implements AutoCloseable {
   class AppendCompleteCallback implements ApiFutureCallback<AppendRowsResponse> {
     private final Logger logger = LoggerFactory.getLogger(AppendCompleteCallback.class);
 
+    private final PendingAppend pending;
+
+    private final long generation;
+
+    AppendCompleteCallback(PendingAppend pending, long generation) {
+      this.pending = pending;
+      this.generation = generation;
+    }
+
     public void onSuccess(AppendRowsResponse response) {
       logger.info("Append {} success", response.getAppendResult().getOffset().getValue());
-      done();
+      acknowledge(pending);
     }
 
     public void onFailure(Throwable throwable) {
-      String errMsg = null;
+      if (throwable instanceof OffsetAlreadyExists) {
+        // An earlier attempt of this append was written, although its response was lost.
+        logger.info("Append {} already written", pending.offset);
+        acknowledge(pending);
+        return;
+      }
       synchronized (lock) {
-        if (error == null) {
-          StorageException storageException = Exceptions.toStorageException(throwable);
-          error = (storageException != null) ? storageException : new RuntimeException(throwable);
-          errMsg = error.getMessage();
+        if (isSuperseded(generation) || pendingAppends.get(pending.offset) != pending) {
+          // The append was issued before an earlier failure, and is appended again on resume.
+          return;
+        }
+        if (pending.attempts.get() < MAX_APPEND_ATTEMPTS && isRetryable(throwable)) {
+          // Appending at the same offsets again cannot write the rows twice. The appends may
+          // block on the in-flight limits, so they do not run on the thread that delivers
+          // responses.
+          BigQueryJsonDataWriter.this.generation++;
+          logger.info(
+              "Resuming from append {} after a transient failure", pending.offset, throwable);
+          if (!resuming) {
+            resuming = true;
+            resumeExecutor.execute(BigQueryJsonDataWriter.this::resume);
+          }
+          return;
         }
       }
-      logger.warn("Error: {}", errMsg);
-      done();
+      fail(throwable);
     }
 
-    private void done() {
-      // Reduce the count of in-flight requests.
-      inflightRequestCount.arriveAndDeregister();
+    private boolean isRetryable(Throwable throwable) {
+      return RETRYABLE_CODES.contains(Status.fromThrowable(throwable).getCode());
+    }
+  }
+
+  /** An append that was not acknowledged yet. */
+  private static final class PendingAppend {
+
+    private final JSONArray data;
+
+    private final long offset;
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    PendingAppend(JSONArray data, long offset) {
+      this.data = data;
+      this.offset = offset;
     }
   }
 }
@@ -21,6 +21,7 @@ import com.google.cloud.bigquery.Job;
 import com.google.cloud.bigquery.Schema;
 import java.io.InputStream;
 import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Publisher;
 
 /**
  * Defines operations for use with BigQuery.
@@ -91,4 +92,36 @@ public interface BigQueryOperations {
    */
   CompletableFuture<WriteApiResponse> writeJsonStream(
       String tableName, InputStream jsonInputStream, Schema schema);
+
+  /**
+   * This method uses BigQuery Storage Write API to append Java objects to the default stream of the
+   * specified table. Protocol buffer messages are written as they are; other objects are written
+   * by mapping the table columns to their properties of the same name, ignoring case and
+   * underscores. Rows are appended in batches of a bounded serialized size and committed as each
+   * batch is appended.
+   *
+   * @param tableName name of the table to write to
+   * @param rowType the type of the rows
+   * @param rows the rows to write
+   * @param <T> the type of the rows
+   * @return {@link CompletableFuture} containing the WriteApiResponse indicating completion of
+   *     operation
+   */
+  <T> CompletableFuture<WriteApiResponse> writeRows(
+      String tableName, Class<T> rowType, Iterable<? extends T> rows);
+
+  /**
+   * This method uses BigQuery Storage Write API to append the Java objects emitted by a publisher
+   * to the default stream of the specified table, as {@link #writeRows(String, Class, Iterable)}
+   * does.
+   *
+   * @param tableName name of the table to write to
+   * @param rowType the type of the rows
+   * @param rows the publisher of the rows to write
+   * @param <T> the type of the rows
+   * @return {@link CompletableFuture} containing the WriteApiResponse indicating completion of
+   *     operation
+   */
+  <T> CompletableFuture<WriteApiResponse> writeRows(
+      String tableName, Class<T> rowType, Publisher<? extends T> rows);
 }
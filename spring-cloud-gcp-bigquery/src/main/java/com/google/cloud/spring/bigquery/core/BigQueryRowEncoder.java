@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import com.google.cloud.bigquery.storage.v1.ProtoSchema;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Message;
+
+/**
+ * Encodes Java objects of one type into the serialized protocol buffer rows that the BigQuery
+ * Storage Write API appends.
+ *
+ * @param <T> the type of the rows
+ */
+public interface BigQueryRowEncoder<T> {
+
+  /**
+   * Returns the schema of the encoded rows.
+   *
+   * @return the protocol buffer schema
+   */
+  ProtoSchema getProtoSchema();
+
+  /**
+   * Encodes a row.
+   *
+   * @param row the row
+   * @return the serialized row
+   */
+  ByteString encode(T row);
+
+  /**
+   * Returns an encoder for protocol buffer messages, whose fields must match the columns of the
+   * table they are written to.
+   *
+   * @param messageType the type of the messages
+   * @param <M> the type of the messages
+   * @return the encoder
+   */
+  static <M extends Message> BigQueryRowEncoder<M> forMessageType(Class<M> messageType) {
+    return new ProtoMessageRowEncoder<>(messageType);
+  }
+
+  /**
+   * Returns an encoder for Java beans or records, which maps each column of the table to the
+   * property of the same name, ignoring case and underscores. Columns without a property are left
+   * empty.
+   *
+   * @param type the type of the rows
+   * @param tableSchema the schema of the table the rows are written to
+   * @param <T> the type of the rows
+   * @return the encoder
+   * @throws DescriptorValidationException if the table schema cannot be converted into a protocol
+   *     buffer descriptor
+   */
+  static <T> BigQueryRowEncoder<T> forBeanType(Class<T> type, TableSchema tableSchema)
+      throws DescriptorValidationException {
+    return new BeanRowEncoder<>(type, tableSchema);
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.Exceptions.SchemaMismatchedException;
+import com.google.cloud.bigquery.storage.v1.Exceptions.StreamWriterClosedException;
+import com.google.cloud.bigquery.storage.v1.JsonStreamWriter;
+import com.google.cloud.bigquery.storage.v1.ProtoSchema;
+import com.google.cloud.bigquery.storage.v1.StreamWriter;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Keeps one long-lived {@link JsonStreamWriter} per table that appends to the table's {@code
+ * _default} stream, so that writes do not create, finalize and commit a stream of their own. Rows
+ * that are already encoded as protocol buffers are appended through a {@link StreamWriter} per
+ * table and row schema.
+ *
+ * <p>Rows appended to the default stream are committed as soon as the append succeeds, with
+ * at-least-once semantics. The writers fetch the table schema once, and pick up added columns by
+ * themselves. Writers that are closed by the client library, or whose schema no longer matches the
+ * table, are replaced on the next write.
+ */
+public class BigQueryStreamWriterPool implements AutoCloseable {
+
+  private final Logger logger = LoggerFactory.getLogger(BigQueryStreamWriterPool.class);
+
+  private final BigQueryWriteClient bigQueryWriteClient;
+
+  private final Map<TableName, JsonStreamWriter> writers = new ConcurrentHashMap<>();
+
+  private final Map<ProtoWriterKey, StreamWriter> protoWriters = new ConcurrentHashMap<>();
+
+  private boolean connectionPoolEnabled;
+
+  private volatile boolean closed;
+
+  /**
+   * Creates a pool of writers.
+   *
+   * @param bigQueryWriteClient the client used to fetch table schemas and append rows
+   */
+  public BigQueryStreamWriterPool(BigQueryWriteClient bigQueryWriteClient) {
+    Assert.notNull(bigQueryWriteClient, "BigQueryWriteClient must not be null");
+    this.bigQueryWriteClient = bigQueryWriteClient;
+  }
+
+  /**
+   * Sets whether the writers of different tables share, or multiplex, their connections, which
+   * reduces the number of connections when many tables are written. Only applies to writers created
+   * afterwards.
+   *
+   * @param connectionPoolEnabled whether connections are shared. Default is false.
+   */
+  public void setConnectionPoolEnabled(boolean connectionPoolEnabled) {
+    this.connectionPoolEnabled = connectionPoolEnabled;
+  }
+
+  /**
+   * Returns the writer of the default stream of a table, creating it on first use.
+   *
+   * @param parentTable the table to write to
+   * @return the writer
+   * @throws IllegalStateException if the pool was closed
+   */
+  public JsonStreamWriter getWriter(TableName parentTable)
+      throws DescriptorValidationException, IOException, InterruptedException {
+    JsonStreamWriter writer = this.writers.get(parentTable);
+    if (writer != null && !writer.isClosed()) {
+      return writer;
+    }
+    synchronized (this.writers) {
+      Assert.state(!this.closed, "The stream writer pool is closed.");
+      writer = this.writers.get(parentTable);
+      if (writer == null || writer.isClosed()) {
+        writer = createWriter(parentTable);
+        this.writers.put(parentTable, writer);
+      }
+      return writer;
+    }
+  }
+
+  /**
+   * Returns the writer of protocol buffer rows with the given schema to the default stream of a
+   * table, creating it on first use.
+   *
+   * @param parentTable the table to write to
+   * @param protoSchema the schema of the rows
+   * @return the writer
+   * @throws IllegalStateException if the pool was closed
+   */
+  public StreamWriter getWriter(TableName parentTable, ProtoSchema protoSchema) throws IOException {
+    ProtoWriterKey key = new ProtoWriterKey(parentTable, protoSchema);
+    StreamWriter writer = this.protoWriters.get(key);
+    if (writer != null && !writer.isClosed()) {
+      return writer;
+    }
+    synchronized (this.writers) {
+      Assert.state(!this.closed, "The stream writer pool is closed.");
+      writer = this.protoWriters.get(key);
+      if (writer == null || writer.isClosed()) {
+        writer = createWriter(parentTable, protoSchema);
+        this.protoWriters.put(key, writer);
+      }
+      return writer;
+    }
+  }
+
+  /**
+   * Replaces the writer of a table on the next write if an append failed because the writer is no
+   * longer usable.
+   *
+   * @param parentTable the table that was written to
+   * @param writer the writer that failed
+   * @param failure the cause of the failure
+   */
+  void onAppendFailure(TableName parentTable, JsonStreamWriter writer, Throwable failure) {
+    if ((writer.isClosed() || isWriterFailure(failure))
+        && this.writers.remove(parentTable, writer)) {
+      this.logger.info("Replacing the stream writer of {}", parentTable, failure);
+      writer.close();
+    }
+  }
+
+  /**
+   * Replaces the protocol buffer writer of a table on the next write if an append failed because
+   * the writer is no longer usable.
+   *
+   * @param parentTable the table that was written to
+   * @param writer the writer that failed
+   * @param failure the cause of the failure
+   * @return whether the writer was replaced
+   */
+  boolean onAppendFailure(TableName parentTable, StreamWriter writer, Throwable failure) {
+    ProtoWriterKey key = new ProtoWriterKey(parentTable, writer.getProtoSchema());
+    if ((writer.isClosed() || isWriterFailure(failure)) && this.protoWriters.remove(key, writer)) {
+      this.logger.info("Replacing the stream writer of {}", parentTable, failure);
+      writer.close();
+      return true;
+    }
+    return false;
+  }
+
+  /** Closes all writers. Closing a writer waits for the responses of its in-flight appends. */
+  @Override
+  public void close() {
+    List<AutoCloseable> closing;
+    synchronized (this.writers) {
+      this.closed = true;
+      closing = new ArrayList<>(this.writers.values());
+      closing.addAll(this.protoWriters.values());
+      this.writers.clear();
+      this.protoWriters.clear();
+    }
+    for (AutoCloseable writer : closing) {
+      try {
+        writer.close();
+      } catch (Exception e) {
+        this.logger.warn("Failed to close a stream writer", e);
+      }
+    }
+  }
+
+  @VisibleForTesting
+  public JsonStreamWriter createWriter(TableName parentTable)
+      throws DescriptorValidationException, IOException, InterruptedException {
+    return JsonStreamWriter.newBuilder(
+            StreamWriter.getDefaultStreamName(parentTable), this.bigQueryWriteClient)
+        .setEnableConnectionPool(this.connectionPoolEnabled)
+        .build();
+  }
+
+  @VisibleForTesting
+  public StreamWriter createWriter(TableName parentTable, ProtoSchema protoSchema)
+      throws IOException {
+    return StreamWriter.newBuilder(
+            StreamWriter.getDefaultStreamName(parentTable), this.bigQueryWriteClient)
+        .setWriterSchema(protoSchema)
+        .setEnableConnectionPool(this.connectionPoolEnabled)
+        .build();
+  }
+
+  private static boolean isWriterFailure(Throwable failure) {
+    return failure instanceof SchemaMismatchedException
+        || failure instanceof StreamWriterClosedException;
+  }
+
+  private record ProtoWriterKey(TableName parentTable, ProtoSchema protoSchema) {}
+}
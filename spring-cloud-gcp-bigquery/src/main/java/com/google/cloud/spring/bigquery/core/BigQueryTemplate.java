@@ -16,12 +16,16 @@
 
 package com.google.cloud.spring.bigquery.core;
 
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.batching.FlowControlSettings;
+import com.google.api.gax.batching.FlowController.LimitExceededBehavior;
 import com.google.cloud.bigquery.BigQuery;
 import com.google.cloud.bigquery.FormatOptions;
 import com.google.cloud.bigquery.Job;
 import com.google.cloud.bigquery.JobInfo.CreateDisposition;
 import com.google.cloud.bigquery.JobInfo.WriteDisposition;
-import com.google.cloud.bigquery.JobStatus.State;
 import com.google.cloud.bigquery.Schema;
 import com.google.cloud.bigquery.StandardTableDefinition;
 import com.google.cloud.bigquery.Table;
@@ -30,13 +34,24 @@ import com.google.cloud.bigquery.TableDefinition;
 import com.google.cloud.bigquery.TableId;
 import com.google.cloud.bigquery.TableInfo;
 import com.google.cloud.bigquery.WriteChannelConfiguration;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
 import com.google.cloud.bigquery.storage.v1.BatchCommitWriteStreamsRequest;
 import com.google.cloud.bigquery.storage.v1.BatchCommitWriteStreamsResponse;
 import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.Exceptions.SchemaMismatchedException;
+import com.google.cloud.bigquery.storage.v1.GetWriteStreamRequest;
+import com.google.cloud.bigquery.storage.v1.JsonStreamWriter;
+import com.google.cloud.bigquery.storage.v1.ProtoRows;
 import com.google.cloud.bigquery.storage.v1.StorageError;
+import com.google.cloud.bigquery.storage.v1.StreamWriter;
 import com.google.cloud.bigquery.storage.v1.TableName;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
+import com.google.cloud.bigquery.storage.v1.WriteStreamView;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.ByteString;
 import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Message;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
@@ -45,24 +60,44 @@ import java.io.OutputStream;
 import java.nio.channels.Channels;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Phaser;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.Assert;
 import org.springframework.util.StreamUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Helper class which simplifies common operations done in BigQuery.
  *
  * @since 1.2
  */
-public class BigQueryTemplate implements BigQueryOperations {
+public class BigQueryTemplate implements BigQueryOperations, DisposableBean {
 
   private final BigQuery bigQuery;
 
@@ -78,13 +113,40 @@ public class BigQueryTemplate implements BigQueryOperations {
 
   private CreateDisposition createDisposition;
 
+  private BigQueryJobPoller jobPoller;
+
   private Duration jobPollInterval = Duration.ofSeconds(2);
 
+  private BigQueryStreamWriterPool streamWriterPool;
+
+  /** The pool that rows are written with when no pool was set. */
+  private BigQueryStreamWriterPool rowWriterPool;
+
+  private long maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+
+  private Long maxInflightRequests;
+
+  private Long maxInflightBytes;
+
+  private int jsonParserParallelism = 1;
+
+  private Executor writerExecutor;
+
+  private final Map<RowEncoderKey, BigQueryRowEncoder<?>> rowEncoders = new ConcurrentHashMap<>();
+
   private static final int DEFAULT_JSON_STREAM_WRITER_BATCH_SIZE =
       1000; // write records in batches of 1000
 
   private static final int MIN_JSON_STREAM_WRITER_BATCH_SIZE = 10; // minimum batch size
 
+  // well below the 10 MB limit of an append request
+  private static final long DEFAULT_MAX_BATCH_BYTES = 4L * 1024 * 1024;
+
+  // the default of the BigQuery Storage client library
+  private static final long DEFAULT_MAX_INFLIGHT_APPENDS = 1000;
+
+  private static final AtomicInteger WRITER_THREAD_COUNTER = new AtomicInteger();
+
   private final Logger logger = LoggerFactory.getLogger(BigQueryTemplate.class);
 
   private final int jsonWriterBatchSize;
@@ -117,6 +179,7 @@ public class BigQueryTemplate implements BigQueryOperations {
     this.datasetName = bqDatasetName;
     this.taskScheduler = taskScheduler;
     this.bigQueryWriteClient = bigQueryWriteClient;
+    this.jobPoller = new BigQueryJobPoller(taskScheduler);
   }
 
   /**
@@ -156,16 +219,128 @@ public class BigQueryTemplate implements BigQueryOperations {
   }
 
   /**
-   * Sets the {@link Duration} amount of time to wait between successive polls on the status of a
-   * BigQuery job.
+   * Sets the {@link Duration} amount of time to wait before the first poll on the status of a
+   * BigQuery job. Successive polls back off from this interval; see {@link BigQueryJobPoller}. The
+   * interval only applies to the jobs of this template, even when its poller is shared.
    *
-   * @param jobPollInterval the {@link Duration} poll interval for BigQuery job status polling
+   * @param jobPollInterval the {@link Duration} poll interval for BigQuery job status polling.
+   *     Default is 2 seconds.
    */
   public void setJobPollInterval(Duration jobPollInterval) {
     Assert.notNull(jobPollInterval, "BigQuery job polling interval must not be null");
     this.jobPollInterval = jobPollInterval;
   }
 
+  /**
+   * Sets the poller that tracks the load jobs started by this template, e.g. to share it between
+   * templates.
+   *
+   * @param jobPoller the poller. Default is a poller on the {@link TaskScheduler} of this template.
+   */
+  public void setJobPoller(BigQueryJobPoller jobPoller) {
+    Assert.notNull(jobPoller, "BigQueryJobPoller must not be null");
+    this.jobPoller = jobPoller;
+  }
+
+  /**
+   * Sets the pool of long-lived writers that {@link #writeJsonStream(String, InputStream)} appends
+   * to the default stream of a table with. Rows are then committed as each batch is appended, with
+   * at-least-once semantics, instead of being committed together through a pending stream that is
+   * created for every call.
+   *
+   * @param streamWriterPool the pool of writers, or null to write through pending streams. The pool
+   *     is not closed by this template.
+   */
+  public void setStreamWriterPool(BigQueryStreamWriterPool streamWriterPool) {
+    this.streamWriterPool = streamWriterPool;
+  }
+
+  /**
+   * Sets the maximum size of the serialized rows that {@code writeRows} appends per request.
+   *
+   * @param maxBatchBytes the maximum batch size in bytes. Default is 4 MiB.
+   */
+  public void setMaxBatchBytes(long maxBatchBytes) {
+    Assert.isTrue(
+        maxBatchBytes > 0 && maxBatchBytes < StreamWriter.getApiMaxRequestBytes(),
+        "The maximum batch size must be positive and below the request size limit.");
+    this.maxBatchBytes = maxBatchBytes;
+  }
+
+  /**
+   * Sets the maximum number of appends that {@link #writeJsonStream(String, InputStream)} keeps in
+   * flight for an input, through a pending stream or the default stream. Reading the input blocks
+   * while the limit is reached, which bounds the memory used by large inputs.
+   *
+   * @param maxInflightRequests the maximum number of in-flight appends. Default is the default of
+   *     the BigQuery Storage client library, 1000.
+   */
+  public void setMaxInflightRequests(long maxInflightRequests) {
+    Assert.isTrue(
+        maxInflightRequests > 0, "The maximum number of in-flight appends must be positive.");
+    this.maxInflightRequests = maxInflightRequests;
+  }
+
+  /**
+   * Sets the maximum size of the appends that {@link #writeJsonStream(String, InputStream)} keeps
+   * in flight through a pending stream. Reading the input blocks while the limit is reached.
+   *
+   * @param maxInflightBytes the maximum size of in-flight appends in bytes. Default is the default
+   *     of the BigQuery Storage client library.
+   */
+  public void setMaxInflightBytes(long maxInflightBytes) {
+    Assert.isTrue(maxInflightBytes > 0, "The maximum size of in-flight appends must be positive.");
+    this.maxInflightBytes = maxInflightBytes;
+  }
+
+  /**
+   * Sets how many batches of JSON records {@link #writeJsonStream(String, InputStream)} parses
+   * concurrently, ahead of appending them. Batches are still appended in the order of the input.
+   *
+   * @param jsonParserParallelism the number of batches parsed concurrently. Default is 1, which
+   *     parses each batch on the writing thread right before it is appended.
+   */
+  public void setJsonParserParallelism(int jsonParserParallelism) {
+    Assert.isTrue(jsonParserParallelism > 0, "The JSON parser parallelism must be positive.");
+    this.jsonParserParallelism = jsonParserParallelism;
+  }
+
+  /**
+   * Sets the executor that {@link #writeJsonStream(String, InputStream)} parses batches of JSON
+   * records on ahead of appending them, and that appends the unacknowledged records again after a
+   * transient failure. Appending may block on the limits of in-flight appends.
+   *
+   * @param writerExecutor the executor. By default, the writes of the template share a pool of
+   *     daemon threads, one per available processor and at least two.
+   */
+  public void setWriterExecutor(Executor writerExecutor) {
+    Assert.notNull(writerExecutor, "A non-null executor is required.");
+    this.writerExecutor = writerExecutor;
+  }
+
+  private synchronized Executor getWriterExecutor() {
+    if (this.writerExecutor == null) {
+      int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+      ThreadPoolExecutor executor =
+          new ThreadPoolExecutor(
+              threads,
+              threads,
+              60L,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              runnable -> {
+                Thread thread =
+                    new Thread(
+                        runnable, "bigquery-writer-" + WRITER_THREAD_COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              });
+      executor.allowCoreThreadTimeOut(true);
+      this.writerExecutor = executor;
+    }
+    return this.writerExecutor;
+  }
+
   @Override
   public CompletableFuture<Job> writeDataToTable(
       String tableName, InputStream inputStream, FormatOptions dataFormatOptions) {
@@ -282,45 +457,133 @@ public class BigQueryTemplate implements BigQueryOperations {
     return writeApiFutureResponse;
   }
 
+  @Override
+  public <T> CompletableFuture<WriteApiResponse> writeRows(
+      String tableName, Class<T> rowType, Iterable<? extends T> rows) {
+    CompletableFuture<WriteApiResponse> writeApiFutureResponse = new CompletableFuture<>();
+    taskScheduler.schedule(
+        () -> {
+          try {
+            RowAppender<T> appender = newRowAppender(tableName, rowType);
+            rows.forEach(appender::add);
+            appender
+                .finish()
+                .whenComplete(
+                    (apiResponse, exception) -> {
+                      if (exception != null) {
+                        writeApiFutureResponse.completeExceptionally(exception);
+                      } else {
+                        writeApiFutureResponse.complete(apiResponse);
+                      }
+                    });
+          } catch (Exception e) {
+            writeApiFutureResponse.completeExceptionally(e);
+          }
+        },
+        Instant.now());
+    return writeApiFutureResponse;
+  }
+
+  @Override
+  public <T> CompletableFuture<WriteApiResponse> writeRows(
+      String tableName, Class<T> rowType, Publisher<? extends T> rows) {
+    // Looking up the table schema blocks.
+    return Mono.fromCallable(() -> newRowAppender(tableName, rowType))
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMap(
+            appender ->
+                Flux.from(rows).doOnNext(appender::add).then(Mono.fromFuture(appender::finish)))
+        .toFuture();
+  }
+
+  /**
+   * Fetches the schema of a table, which {@code writeRows} derives the encoding of Java objects
+   * from.
+   *
+   * @param parentTable the table
+   * @return the table schema
+   */
+  @VisibleForTesting
+  public TableSchema getTableSchema(TableName parentTable) {
+    GetWriteStreamRequest request =
+        GetWriteStreamRequest.newBuilder()
+            .setName(StreamWriter.getDefaultStreamName(parentTable))
+            .setView(WriteStreamView.FULL)
+            .build();
+    return bigQueryWriteClient.getWriteStream(request).getTableSchema();
+  }
+
+  /** Closes the writers that rows were written with, unless a pool of writers was set. */
+  @Override
+  public void destroy() {
+    synchronized (this.rowEncoders) {
+      if (this.rowWriterPool != null) {
+        this.rowWriterPool.close();
+        this.rowWriterPool = null;
+      }
+    }
+  }
+
+  private <T> RowAppender<T> newRowAppender(String tableName, Class<T> rowType)
+      throws DescriptorValidationException, IOException {
+    TableName parentTable =
+        TableName.of(bigQuery.getOptions().getProjectId(), datasetName, tableName);
+    BigQueryRowEncoder<T> encoder = getRowEncoder(parentTable, rowType);
+    BigQueryStreamWriterPool pool = getRowWriterPool();
+    return new RowAppender<>(
+        parentTable, rowType, encoder, pool, pool.getWriter(parentTable, encoder.getProtoSchema()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> BigQueryRowEncoder<T> getRowEncoder(TableName parentTable, Class<T> rowType)
+      throws DescriptorValidationException {
+    RowEncoderKey key = new RowEncoderKey(parentTable, rowType);
+    BigQueryRowEncoder<?> encoder = this.rowEncoders.get(key);
+    if (encoder == null) {
+      encoder =
+          Message.class.isAssignableFrom(rowType)
+              ? BigQueryRowEncoder.forMessageType(rowType.asSubclass(Message.class))
+              : BigQueryRowEncoder.forBeanType(rowType, getTableSchema(parentTable));
+      this.rowEncoders.put(key, encoder);
+    }
+    return (BigQueryRowEncoder<T>) encoder;
+  }
+
+  private BigQueryStreamWriterPool getRowWriterPool() {
+    if (this.streamWriterPool != null) {
+      return this.streamWriterPool;
+    }
+    synchronized (this.rowEncoders) {
+      if (this.rowWriterPool == null) {
+        this.rowWriterPool = new BigQueryStreamWriterPool(bigQueryWriteClient);
+      }
+      return this.rowWriterPool;
+    }
+  }
+
   @VisibleForTesting
   public BigQueryJsonDataWriter getBigQueryJsonDataWriter(TableName parentTable)
       throws DescriptorValidationException, IOException, InterruptedException {
-    return new BigQueryJsonDataWriter(parentTable, bigQueryWriteClient);
+    return new BigQueryJsonDataWriter(
+        parentTable, bigQueryWriteClient, getFlowControlSettings(), getWriterExecutor());
   }
 
   public WriteApiResponse getWriteApiResponse(String tableName, InputStream jsonInputStream)
       throws DescriptorValidationException, IOException, InterruptedException {
-    WriteApiResponse apiResponse = new WriteApiResponse();
     TableName parentTable =
         TableName.of(bigQuery.getOptions().getProjectId(), datasetName, tableName);
+    if (this.streamWriterPool != null) {
+      return getDefaultStreamWriteApiResponse(parentTable, jsonInputStream);
+    }
+    WriteApiResponse apiResponse = new WriteApiResponse();
 
     try (BigQueryJsonDataWriter writer = getBigQueryJsonDataWriter(parentTable)) {
       try {
         // Write data in batches. Ref: https://cloud.google.com/bigquery/quotas#write-api-limits
-        long offset = 0;
-        int currentBatchSize = 0;
-
-        BufferedReader jsonReader = new BufferedReader(new InputStreamReader(jsonInputStream));
-        String jsonLine = null;
-        JSONArray jsonBatch = new JSONArray();
-        while ((jsonLine = jsonReader.readLine()) != null) { // read the inputstream line by line
-          JSONObject jsonObj = new JSONObject(jsonLine); // cast the JSON string into JSON Object
-          jsonBatch.put(jsonObj);
-          currentBatchSize++;
-          if (currentBatchSize == getBatchSize()) {
-            // append the batch, increment the offset and reset the batch
-            writer.append(jsonBatch, offset);
-            offset += jsonBatch.length();
-            jsonBatch = new JSONArray();
-            currentBatchSize = 0;
-          }
-        }
-
-        if (jsonBatch.length() != 0) {
-          // there might be records less than JSON_STREAM_WRITER_BATCH_SIZE, append those as well
-          writer.append(jsonBatch, offset);
-        }
-
+        AtomicLong offset = new AtomicLong();
+        readJsonBatches(
+            jsonInputStream,
+            jsonBatch -> writer.append(jsonBatch, offset.getAndAdd(jsonBatch.length())));
       } catch (Exception e) {
         throw new BigQueryException("Failed to append records.", e);
       }
@@ -345,6 +608,151 @@ public class BigQueryTemplate implements BigQueryOperations {
     }
   }
 
+  private WriteApiResponse getDefaultStreamWriteApiResponse(
+      TableName parentTable, InputStream jsonInputStream)
+      throws DescriptorValidationException, IOException, InterruptedException {
+    JsonStreamWriter writer = this.streamWriterPool.getWriter(parentTable);
+    // The writer is shared, so the appends of this input are bounded and awaited here instead of
+    // through the flow control of the writer.
+    long maxInflightAppends =
+        this.maxInflightRequests != null ? this.maxInflightRequests : DEFAULT_MAX_INFLIGHT_APPENDS;
+    Semaphore inflightAppends =
+        new Semaphore((int) Math.min(maxInflightAppends, Integer.MAX_VALUE));
+    Phaser pendingAppends = new Phaser(1);
+    AtomicReference<Throwable> appendFailure = new AtomicReference<>();
+    Throwable failure;
+    try {
+      // The default stream does not support offsets; appends are ordered by the writer.
+      readJsonBatches(
+          jsonInputStream,
+          jsonBatch -> {
+            inflightAppends.acquire();
+            if (appendFailure.get() != null) {
+              // Stops reading the input after the first failed append.
+              throw new BigQueryException("Failed to append records.", appendFailure.get());
+            }
+            pendingAppends.register();
+            ApiFuture<AppendRowsResponse> append;
+            try {
+              append = writer.append(jsonBatch);
+            } catch (Exception e) {
+              inflightAppends.release();
+              pendingAppends.arriveAndDeregister();
+              throw e;
+            }
+            ApiFutures.addCallback(
+                append,
+                new ApiFutureCallback<>() {
+                  @Override
+                  public void onSuccess(AppendRowsResponse response) {
+                    done();
+                  }
+
+                  @Override
+                  public void onFailure(Throwable throwable) {
+                    appendFailure.compareAndSet(null, throwable);
+                    done();
+                  }
+
+                  private void done() {
+                    inflightAppends.release();
+                    pendingAppends.arriveAndDeregister();
+                  }
+                },
+                MoreExecutors.directExecutor());
+          });
+      pendingAppends.awaitAdvanceInterruptibly(pendingAppends.arrive());
+      failure = appendFailure.get();
+    } catch (InterruptedException e) {
+      throw e;
+    } catch (Exception e) {
+      failure = appendFailure.get() != null ? appendFailure.get() : e;
+    }
+    if (failure != null) {
+      this.streamWriterPool.onAppendFailure(parentTable, writer, failure);
+      throw new BigQueryException("Failed to append records.", failure);
+    }
+    WriteApiResponse apiResponse = new WriteApiResponse();
+    apiResponse.setSuccessful(true);
+    return apiResponse;
+  }
+
+  /**
+   * Reads batches of newline-delimited JSON records and passes them on in the order of the input.
+   * Up to {@code jsonParserParallelism} batches are parsed concurrently while earlier ones are
+   * appended.
+   */
+  private void readJsonBatches(InputStream jsonInputStream, JsonBatchConsumer consumer)
+      throws Exception {
+    BufferedReader jsonReader = new BufferedReader(new InputStreamReader(jsonInputStream));
+    Deque<CompletableFuture<JSONArray>> parsedBatches = new ArrayDeque<>();
+    List<String> jsonLines = new ArrayList<>();
+    String jsonLine;
+    while ((jsonLine = jsonReader.readLine()) != null) { // read the inputstream line by line
+      jsonLines.add(jsonLine);
+      if (jsonLines.size() == getBatchSize()) {
+        parsedBatches.add(parseJsonBatch(jsonLines));
+        jsonLines = new ArrayList<>();
+        while (parsedBatches.size() >= this.jsonParserParallelism) {
+          consumer.accept(awaitJsonBatch(parsedBatches.remove()));
+        }
+      }
+    }
+    if (!jsonLines.isEmpty()) {
+      // there might be records less than JSON_STREAM_WRITER_BATCH_SIZE, append those as well
+      parsedBatches.add(parseJsonBatch(jsonLines));
+    }
+    while (!parsedBatches.isEmpty()) {
+      consumer.accept(awaitJsonBatch(parsedBatches.remove()));
+    }
+  }
+
+  private CompletableFuture<JSONArray> parseJsonBatch(List<String> jsonLines) {
+    if (this.jsonParserParallelism == 1) {
+      return CompletableFuture.completedFuture(toJsonArray(jsonLines));
+    }
+    return CompletableFuture.supplyAsync(() -> toJsonArray(jsonLines), getWriterExecutor());
+  }
+
+  private static JSONArray toJsonArray(List<String> jsonLines) {
+    JSONArray jsonBatch = new JSONArray();
+    for (String jsonLine : jsonLines) {
+      jsonBatch.put(new JSONObject(jsonLine)); // cast the JSON string into JSON Object
+    }
+    return jsonBatch;
+  }
+
+  private static JSONArray awaitJsonBatch(CompletableFuture<JSONArray> parsedBatch)
+      throws InterruptedException, ExecutionException {
+    try {
+      return parsedBatch.get();
+    } catch (InterruptedException e) {
+      parsedBatch.cancel(true);
+      throw e;
+    }
+  }
+
+  private FlowControlSettings getFlowControlSettings() {
+    if (this.maxInflightRequests == null && this.maxInflightBytes == null) {
+      return null;
+    }
+    FlowControlSettings.Builder flowControlSettings =
+        FlowControlSettings.newBuilder().setLimitExceededBehavior(LimitExceededBehavior.Block);
+    if (this.maxInflightRequests != null) {
+      flowControlSettings.setMaxOutstandingElementCount(this.maxInflightRequests);
+    }
+    if (this.maxInflightBytes != null) {
+      flowControlSettings.setMaxOutstandingRequestBytes(this.maxInflightBytes);
+    }
+    return flowControlSettings.build();
+  }
+
+  /** Receives the parsed batches of a JSON input. */
+  @FunctionalInterface
+  private interface JsonBatchConsumer {
+    void accept(JSONArray jsonBatch) throws Exception;
+  }
+
   @VisibleForTesting
   public BatchCommitWriteStreamsResponse getCommitResponse(
       TableName parentTable, BigQueryJsonDataWriter writer) {
@@ -379,38 +787,88 @@ public class BigQueryTemplate implements BigQueryOperations {
     return this.jsonWriterBatchSize;
   }
 
-  private CompletableFuture<Job> createJobFuture(Job pendingJob) {
-    // Prepare the polling task for the CompletableFuture result returned to end-user
-    CompletableFuture<Job> result = new CompletableFuture<>();
-    ScheduledFuture<?> scheduledFuture =
-        taskScheduler.scheduleAtFixedRate(
-            () -> {
-              try {
-                Job job = pendingJob.reload();
-                if (State.DONE.equals(job.getStatus().getState())) {
-                  if (job.getStatus().getError() != null) {
-                    result.completeExceptionally(
-                        new BigQueryException(job.getStatus().getError().getMessage()));
-                  } else {
-                    result.complete(job);
-                  }
-                }
-              } catch (Exception e) {
-                result.completeExceptionally(new BigQueryException(e.getMessage()));
+  /** Batches encoded rows by size and appends them to the default stream of a table. */
+  private final class RowAppender<T> {
+
+    private final TableName parentTable;
+
+    private final Class<T> rowType;
+
+    private final BigQueryRowEncoder<T> encoder;
+
+    private final BigQueryStreamWriterPool pool;
+
+    private final StreamWriter writer;
+
+    private final List<ApiFuture<AppendRowsResponse>> appends = new ArrayList<>();
+
+    private ProtoRows.Builder batch = ProtoRows.newBuilder();
+
+    private long batchBytes;
+
+    RowAppender(
+        TableName parentTable,
+        Class<T> rowType,
+        BigQueryRowEncoder<T> encoder,
+        BigQueryStreamWriterPool pool,
+        StreamWriter writer) {
+      this.parentTable = parentTable;
+      this.rowType = rowType;
+      this.encoder = encoder;
+      this.pool = pool;
+      this.writer = writer;
+    }
+
+    void add(T row) {
+      ByteString serializedRow = this.encoder.encode(row);
+      if (this.batch.getSerializedRowsCount() > 0
+          && this.batchBytes + serializedRow.size() > maxBatchBytes) {
+        appendBatch();
+      }
+      this.batch.addSerializedRows(serializedRow);
+      this.batchBytes += serializedRow.size();
+    }
+
+    CompletableFuture<WriteApiResponse> finish() {
+      if (this.batch.getSerializedRowsCount() > 0) {
+        appendBatch();
+      }
+      CompletableFuture<WriteApiResponse> result = new CompletableFuture<>();
+      ApiFutures.addCallback(
+          ApiFutures.allAsList(this.appends),
+          new ApiFutureCallback<List<AppendRowsResponse>>() {
+            @Override
+            public void onSuccess(List<AppendRowsResponse> responses) {
+              WriteApiResponse apiResponse = new WriteApiResponse();
+              apiResponse.setSuccessful(true);
+              result.complete(apiResponse);
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+              pool.onAppendFailure(parentTable, writer, throwable);
+              if (throwable instanceof SchemaMismatchedException) {
+                // The table schema changed; derive the encoding again on the next write.
+                rowEncoders.remove(new RowEncoderKey(parentTable, rowType));
               }
-            },
-            this.jobPollInterval);
+              result.completeExceptionally(
+                  new BigQueryException("Failed to append records.", throwable));
+            }
+          },
+          MoreExecutors.directExecutor());
+      return result;
+    }
 
-    result.whenComplete(
-        (response, exception) -> {
-          if (exception != null) {
-            pendingJob.cancel();
-            scheduledFuture.cancel(true);
-            return;
-          }
-          scheduledFuture.cancel(true);
-        });
+    private void appendBatch() {
+      this.appends.add(this.writer.append(this.batch.build()));
+      this.batch = ProtoRows.newBuilder();
+      this.batchBytes = 0;
+    }
+  }
 
-    return result;
+  private record RowEncoderKey(TableName parentTable, Class<?> rowType) {}
+
+  private CompletableFuture<Job> createJobFuture(Job pendingJob) {
+    return this.jobPoller.poll(pendingJob, this.jobPollInterval);
   }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import com.google.cloud.bigquery.storage.v1.ProtoSchema;
+import com.google.cloud.bigquery.storage.v1.ProtoSchemaConverter;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Internal;
+import com.google.protobuf.Message;
+
+/** Encodes protocol buffer messages as they are. */
+final class ProtoMessageRowEncoder<M extends Message> implements BigQueryRowEncoder<M> {
+
+  private final ProtoSchema protoSchema;
+
+  ProtoMessageRowEncoder(Class<M> messageType) {
+    M defaultInstance = Internal.getDefaultInstance(messageType);
+    this.protoSchema = ProtoSchemaConverter.convert(defaultInstance.getDescriptorForType());
+  }
+
+  @Override
+  public ProtoSchema getProtoSchema() {
+    return this.protoSchema;
+  }
+
+  @Override
+  public ByteString encode(M row) {
+    return row.toByteString();
+  }
+}
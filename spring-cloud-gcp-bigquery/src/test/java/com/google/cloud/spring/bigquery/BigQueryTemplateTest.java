@@ -23,30 +23,53 @@ import static com.google.cloud.bigquery.JobInfo.WriteDisposition.WRITE_EMPTY;
 import static com.google.cloud.bigquery.JobInfo.WriteDisposition.WRITE_TRUNCATE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
 import com.google.cloud.ServiceOptions;
 import com.google.cloud.bigquery.BigQuery;
 import com.google.cloud.bigquery.BigQueryOptions;
 import com.google.cloud.bigquery.Field;
+import com.google.cloud.bigquery.FormatOptions;
+import com.google.cloud.bigquery.Job;
 import com.google.cloud.bigquery.Schema;
 import com.google.cloud.bigquery.StandardSQLTypeName;
 import com.google.cloud.bigquery.Table;
+import com.google.cloud.bigquery.TableDataWriteChannel;
+import com.google.cloud.bigquery.WriteChannelConfiguration;
 import com.google.cloud.bigquery.spi.BigQueryRpcFactory;
 import com.google.cloud.bigquery.spi.v2.HttpBigQueryRpc;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
 import com.google.cloud.bigquery.storage.v1.BatchCommitWriteStreamsResponse;
 import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.JsonStreamWriter;
+import com.google.cloud.bigquery.storage.v1.ProtoRows;
+import com.google.cloud.bigquery.storage.v1.ProtoSchema;
 import com.google.cloud.bigquery.storage.v1.StorageError;
+import com.google.cloud.bigquery.storage.v1.StreamWriter;
+import com.google.cloud.bigquery.storage.v1.TableFieldSchema;
 import com.google.cloud.bigquery.storage.v1.TableName;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
+import com.google.cloud.spring.bigquery.core.BigQueryException;
+import com.google.cloud.spring.bigquery.core.BigQueryJobPoller;
 import com.google.cloud.spring.bigquery.core.BigQueryJsonDataWriter;
+import com.google.cloud.spring.bigquery.core.BigQueryStreamWriterPool;
 import com.google.cloud.spring.bigquery.core.BigQueryTemplate;
 import com.google.cloud.spring.bigquery.core.WriteApiResponse;
 import com.google.protobuf.Descriptors.DescriptorValidationException;
@@ -55,15 +78,21 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.json.JSONArray;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import reactor.core.publisher.Flux;
 
 @ExtendWith(MockitoExtension.class)
 class BigQueryTemplateTest {
@@ -187,6 +216,33 @@ class BigQueryTemplateTest {
         .doesNotThrowAnyException();
   }
 
+  @Test
+  void jobPollIntervalIsKeptPerTemplateTest() {
+    BigQuery bigQueryMock = mock(BigQuery.class);
+    TableDataWriteChannel writer = mock(TableDataWriteChannel.class);
+    Job job = mock(Job.class);
+    when(bigQueryMock.writer(any(WriteChannelConfiguration.class))).thenReturn(writer);
+    when(writer.getJob()).thenReturn(job);
+    BigQueryJobPoller jobPoller = mock(BigQueryJobPoller.class);
+    BigQueryTemplate template =
+        new BigQueryTemplate(
+            bigQueryMock, bigQueryWriteClientMock, bqInitSettings, getThreadPoolTaskScheduler());
+    BigQueryTemplate otherTemplate =
+        new BigQueryTemplate(
+            bigQueryMock, bigQueryWriteClientMock, bqInitSettings, getThreadPoolTaskScheduler());
+    template.setJobPollInterval(Duration.ofSeconds(5));
+    template.setJobPoller(jobPoller);
+    otherTemplate.setJobPoller(jobPoller);
+
+    CompletableFuture<Job> ignored =
+        template.writeDataToTable(TABLE, InputStream.nullInputStream(), FormatOptions.csv());
+    CompletableFuture<Job> otherIgnored =
+        otherTemplate.writeDataToTable(TABLE, InputStream.nullInputStream(), FormatOptions.csv());
+
+    verify(jobPoller).poll(job, Duration.ofSeconds(5));
+    verify(jobPoller).poll(job, Duration.ofSeconds(2));
+  }
+
   @Test
   void setJobPollIntervalThrowsExceptionTest() {
     assertThatCode(() -> bqTemplateSpy.setJobPollInterval(null))
@@ -217,6 +273,82 @@ class BigQueryTemplateTest {
     assertEquals(0, apiRes.getErrors().size());
   }
 
+  @Test
+  void getWriteApiResponseParsesInParallelInOrderTest() throws Exception {
+    Map<String, Object> settings = new HashMap<>(bqInitSettings);
+    settings.put("JSON_WRITER_BATCH_SIZE", 20);
+    BigQueryTemplate bqTemplate =
+        Mockito.spy(
+            new BigQueryTemplate(
+                bigquery, bigQueryWriteClientMock, settings, getThreadPoolTaskScheduler()));
+    bqTemplate.setJsonParserParallelism(4);
+    BigQueryJsonDataWriter writer = mock(BigQueryJsonDataWriter.class);
+    doReturn(writer).when(bqTemplate).getBigQueryJsonDataWriter(any(TableName.class));
+    doReturn(BatchCommitWriteStreamsResponse.getDefaultInstance())
+        .when(bqTemplate)
+        .getCommitResponse(any(TableName.class), any(BigQueryJsonDataWriter.class));
+    StringBuilder json = new StringBuilder();
+    for (int i = 0; i < 90; i++) {
+      json.append("{\"SerialNumber\":").append(i).append("}\n");
+    }
+
+    WriteApiResponse apiRes =
+        bqTemplate.getWriteApiResponse(
+            TABLE, new ByteArrayInputStream(json.toString().getBytes()));
+
+    assertTrue(apiRes.isSuccessful());
+    ArgumentCaptor<JSONArray> batches = ArgumentCaptor.forClass(JSONArray.class);
+    ArgumentCaptor<Long> offsets = ArgumentCaptor.forClass(Long.class);
+    verify(writer, times(5)).append(batches.capture(), offsets.capture());
+    assertThat(offsets.getAllValues()).containsExactly(0L, 20L, 40L, 60L, 80L);
+    for (int i = 0; i < 5; i++) {
+      JSONArray batch = batches.getAllValues().get(i);
+      assertThat(batch.getJSONObject(0).getInt("SerialNumber")).isEqualTo(20 * i);
+    }
+    assertThat(batches.getAllValues().get(4).length()).isEqualTo(10);
+  }
+
+  @Test
+  void getWriteApiResponseParsesOnWriterExecutorTest() throws Exception {
+    Map<String, Object> settings = new HashMap<>(bqInitSettings);
+    settings.put("JSON_WRITER_BATCH_SIZE", 20);
+    BigQueryTemplate bqTemplate =
+        Mockito.spy(
+            new BigQueryTemplate(
+                bigquery, bigQueryWriteClientMock, settings, getThreadPoolTaskScheduler()));
+    bqTemplate.setJsonParserParallelism(2);
+    AtomicInteger parsedBatches = new AtomicInteger();
+    bqTemplate.setWriterExecutor(
+        runnable -> {
+          parsedBatches.incrementAndGet();
+          new Thread(runnable).start();
+        });
+    BigQueryJsonDataWriter writer = mock(BigQueryJsonDataWriter.class);
+    doReturn(writer).when(bqTemplate).getBigQueryJsonDataWriter(any(TableName.class));
+    doReturn(BatchCommitWriteStreamsResponse.getDefaultInstance())
+        .when(bqTemplate)
+        .getCommitResponse(any(TableName.class), any(BigQueryJsonDataWriter.class));
+    StringBuilder json = new StringBuilder();
+    for (int i = 0; i < 50; i++) {
+      json.append("{\"SerialNumber\":").append(i).append("}\n");
+    }
+
+    WriteApiResponse apiRes =
+        bqTemplate.getWriteApiResponse(
+            TABLE, new ByteArrayInputStream(json.toString().getBytes()));
+
+    assertTrue(apiRes.isSuccessful());
+    verify(writer, times(3)).append(any(JSONArray.class), anyLong());
+    assertThat(parsedBatches).hasValue(3);
+  }
+
+  @Test
+  void setMaxInflightRequestsThrowsExceptionTest() {
+    assertThatThrownBy(() -> bqTemplateSpy.setMaxInflightRequests(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The maximum number of in-flight appends must be positive.");
+  }
+
   @Test
   void writeJsonStreamTest()
       throws DescriptorValidationException, IOException, InterruptedException, ExecutionException {
@@ -374,4 +506,140 @@ class BigQueryTemplateTest {
 
     verify(writer).close();
   }
+
+  @Test
+  void writeJsonStreamToDefaultStream() throws Exception {
+    JsonStreamWriter writer = mock(JsonStreamWriter.class);
+    when(writer.append(any(JSONArray.class)))
+        .thenReturn(ApiFutures.immediateFuture(AppendRowsResponse.getDefaultInstance()));
+    BigQueryStreamWriterPool pool =
+        Mockito.spy(new BigQueryStreamWriterPool(bigQueryWriteClientMock));
+    doReturn(writer).when(pool).getWriter(any(TableName.class));
+    bqTemplateSpy.setStreamWriterPool(pool);
+
+    WriteApiResponse apiRes =
+        bqTemplateSpy.getWriteApiResponse(
+            TABLE, new ByteArrayInputStream(newLineSeperatedJson.getBytes()));
+
+    assertThat(apiRes.isSuccessful()).isTrue();
+    verify(pool).getWriter(TableName.of(PROJECT, DATASET, TABLE));
+    verify(writer).append(any(JSONArray.class));
+    verify(writer, never()).close();
+    verify(bqTemplateSpy, never()).getBigQueryJsonDataWriter(any(TableName.class));
+  }
+
+  @Test
+  void writeJsonStreamToDefaultStreamBoundsInflightAppends() throws Exception {
+    JsonStreamWriter writer = mock(JsonStreamWriter.class);
+    SettableApiFuture<AppendRowsResponse> firstAppend = SettableApiFuture.create();
+    SettableApiFuture<AppendRowsResponse> secondAppend = SettableApiFuture.create();
+    when(writer.append(any(JSONArray.class))).thenReturn(firstAppend, secondAppend);
+    BigQueryStreamWriterPool pool =
+        Mockito.spy(new BigQueryStreamWriterPool(bigQueryWriteClientMock));
+    doReturn(writer).when(pool).getWriter(any(TableName.class));
+    Map<String, Object> settings = new HashMap<>(bqInitSettings);
+    settings.put("JSON_WRITER_BATCH_SIZE", 20);
+    BigQueryTemplate template =
+        new BigQueryTemplate(
+            bigquery, bigQueryWriteClientMock, settings, getThreadPoolTaskScheduler());
+    template.setStreamWriterPool(pool);
+    template.setMaxInflightRequests(1);
+    String json = "{\"EmpName\":\"Mark\"}\n".repeat(40);
+
+    CompletableFuture<WriteApiResponse> response =
+        template.writeJsonStream(TABLE, new ByteArrayInputStream(json.getBytes()));
+
+    verify(writer, after(200).times(1)).append(any(JSONArray.class));
+    firstAppend.set(AppendRowsResponse.getDefaultInstance());
+    verify(writer, timeout(5000).times(2)).append(any(JSONArray.class));
+    assertThat(response).isNotDone();
+    secondAppend.set(AppendRowsResponse.getDefaultInstance());
+    assertThat(response.get(5, TimeUnit.SECONDS).isSuccessful()).isTrue();
+  }
+
+  @Test
+  void writeJsonStreamToDefaultStreamReplacesClosedWriter() throws Exception {
+    JsonStreamWriter writer = mock(JsonStreamWriter.class);
+    when(writer.append(any(JSONArray.class)))
+        .thenReturn(ApiFutures.immediateFailedFuture(new IllegalStateException("closed")));
+    when(writer.isClosed()).thenReturn(true);
+    BigQueryStreamWriterPool pool =
+        Mockito.spy(new BigQueryStreamWriterPool(bigQueryWriteClientMock));
+    doReturn(writer).when(pool).createWriter(any(TableName.class));
+    bqTemplateSpy.setStreamWriterPool(pool);
+    InputStream jsonInputStream = new ByteArrayInputStream(newLineSeperatedJson.getBytes());
+
+    assertThatThrownBy(() -> bqTemplateSpy.getWriteApiResponse(TABLE, jsonInputStream))
+        .isInstanceOf(BigQueryException.class)
+        .hasRootCauseMessage("closed");
+    verify(writer).close();
+  }
+
+  @Test
+  void writeRowsAppendsBatchesOfBoundedSize() throws Exception {
+    StreamWriter writer =
+        mockRowWriter(ApiFutures.immediateFuture(AppendRowsResponse.getDefaultInstance()));
+    bqTemplateSpy.setMaxBatchBytes(10);
+    List<Employee> rows = List.of(new Employee("row-1"), new Employee("row-2"));
+
+    assertThat(bqTemplateSpy.writeRows(TABLE, Employee.class, rows).get().isSuccessful()).isTrue();
+    assertThat(bqTemplateSpy.writeRows(TABLE, Employee.class, rows).get().isSuccessful()).isTrue();
+
+    ArgumentCaptor<ProtoRows> batches = ArgumentCaptor.forClass(ProtoRows.class);
+    verify(writer, times(4)).append(batches.capture());
+    assertThat(batches.getAllValues()).allMatch(batch -> batch.getSerializedRowsCount() == 1);
+    // The encoding of a type is derived from the table schema once.
+    verify(bqTemplateSpy).getTableSchema(TableName.of(PROJECT, DATASET, TABLE));
+  }
+
+  @Test
+  void writeRowsFromPublisher() throws Exception {
+    StreamWriter writer =
+        mockRowWriter(ApiFutures.immediateFuture(AppendRowsResponse.getDefaultInstance()));
+
+    WriteApiResponse apiRes =
+        bqTemplateSpy
+            .writeRows(
+                TABLE, Employee.class, Flux.just(new Employee("row-1"), new Employee("row-2")))
+            .get();
+
+    assertThat(apiRes.isSuccessful()).isTrue();
+    ArgumentCaptor<ProtoRows> batches = ArgumentCaptor.forClass(ProtoRows.class);
+    verify(writer).append(batches.capture());
+    assertThat(batches.getValue().getSerializedRowsCount()).isEqualTo(2);
+  }
+
+  @Test
+  void writeRowsFailsOnAppendFailure() throws Exception {
+    mockRowWriter(ApiFutures.immediateFailedFuture(new IllegalStateException("boom!")));
+
+    CompletableFuture<WriteApiResponse> futRes =
+        bqTemplateSpy.writeRows(TABLE, Employee.class, List.of(new Employee("row-1")));
+
+    assertThatThrownBy(futRes::get)
+        .hasCauseInstanceOf(BigQueryException.class)
+        .hasRootCauseMessage("boom!");
+  }
+
+  private StreamWriter mockRowWriter(ApiFuture<AppendRowsResponse> appendResult)
+      throws Exception {
+    TableSchema tableSchema =
+        TableSchema.newBuilder()
+            .addFields(
+                TableFieldSchema.newBuilder()
+                    .setName("EmpName")
+                    .setType(TableFieldSchema.Type.STRING)
+                    .setMode(TableFieldSchema.Mode.NULLABLE))
+            .build();
+    doReturn(tableSchema).when(bqTemplateSpy).getTableSchema(any(TableName.class));
+    StreamWriter writer = mock(StreamWriter.class);
+    when(writer.append(any(ProtoRows.class))).thenReturn(appendResult);
+    BigQueryStreamWriterPool pool =
+        Mockito.spy(new BigQueryStreamWriterPool(bigQueryWriteClientMock));
+    doReturn(writer).when(pool).createWriter(any(TableName.class), any(ProtoSchema.class));
+    bqTemplateSpy.setStreamWriterPool(pool);
+    return writer;
+  }
+
+  record Employee(String empName) {}
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.cloud.bigquery.storage.v1.BQTableSchemaToProtoDescriptor;
+import com.google.cloud.bigquery.storage.v1.BigDecimalByteStringEncoder;
+import com.google.cloud.bigquery.storage.v1.TableFieldSchema;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.DynamicMessage;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BeanRowEncoderTests {
+
+  private static final TableSchema SCHEMA =
+      TableSchema.newBuilder()
+          .addFields(field("name", TableFieldSchema.Type.STRING))
+          .addFields(field("serial_number", TableFieldSchema.Type.INT64))
+          .addFields(field("price", TableFieldSchema.Type.NUMERIC))
+          .addFields(field("created", TableFieldSchema.Type.TIMESTAMP))
+          .addFields(field("day", TableFieldSchema.Type.DATE))
+          .addFields(
+              field("tags", TableFieldSchema.Type.STRING).setMode(TableFieldSchema.Mode.REPEATED))
+          .addFields(
+              field("address", TableFieldSchema.Type.STRUCT)
+                  .addFields(field("city", TableFieldSchema.Type.STRING)))
+          .addFields(field("unmapped", TableFieldSchema.Type.STRING))
+          .build();
+
+  @Test
+  void encodesPropertiesAsTableColumns() throws Exception {
+    Instant created = Instant.parse("2024-05-01T10:15:30.123456Z");
+    Row row =
+        new Row(
+            "widget",
+            97,
+            new BigDecimal("12.50"),
+            created,
+            LocalDate.of(2024, 5, 1),
+            List.of("a", "b"),
+            new Address("Paris"));
+
+    DynamicMessage message = decode(new BeanRowEncoder<>(Row.class, SCHEMA).encode(row));
+
+    Descriptor descriptor = message.getDescriptorForType();
+    assertThat(message.getField(descriptor.findFieldByName("name"))).isEqualTo("widget");
+    assertThat(message.getField(descriptor.findFieldByName("serial_number"))).isEqualTo(97L);
+    assertThat(message.getField(descriptor.findFieldByName("price")))
+        .isEqualTo(BigDecimalByteStringEncoder.encodeToNumericByteString(new BigDecimal("12.50")));
+    assertThat(message.getField(descriptor.findFieldByName("created")))
+        .isEqualTo(created.getEpochSecond() * 1_000_000 + 123_456);
+    assertThat(message.getField(descriptor.findFieldByName("day")))
+        .isEqualTo((int) LocalDate.of(2024, 5, 1).toEpochDay());
+    assertThat(message.getField(descriptor.findFieldByName("tags"))).isEqualTo(List.of("a", "b"));
+    DynamicMessage address =
+        (DynamicMessage) message.getField(descriptor.findFieldByName("address"));
+    assertThat(address.getField(address.getDescriptorForType().findFieldByName("city")))
+        .isEqualTo("Paris");
+    assertThat(message.hasField(descriptor.findFieldByName("unmapped"))).isFalse();
+  }
+
+  @Test
+  void skipsNullProperties() throws Exception {
+    Row row = new Row("widget", 1, null, null, null, null, null);
+
+    ByteString encoded = new BeanRowEncoder<>(Row.class, SCHEMA).encode(row);
+
+    DynamicMessage message = decode(encoded);
+    assertThat(message.getAllFields()).hasSize(2);
+  }
+
+  @Test
+  void rejectsValuesOfWrongType() throws Exception {
+    TableSchema schema =
+        TableSchema.newBuilder().addFields(field("city", TableFieldSchema.Type.INT64)).build();
+    BeanRowEncoder<Address> encoder = new BeanRowEncoder<>(Address.class, schema);
+
+    assertThatThrownBy(() -> encoder.encode(new Address("Paris")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("column city");
+  }
+
+  @Test
+  void encodesJavaBeans() throws Exception {
+    TableSchema schema =
+        TableSchema.newBuilder().addFields(field("city", TableFieldSchema.Type.STRING)).build();
+    City city = new City();
+    city.setCity("Lyon");
+
+    DynamicMessage message =
+        DynamicMessage.parseFrom(
+            BQTableSchemaToProtoDescriptor.convertBQTableSchemaToProtoDescriptor(schema),
+            new BeanRowEncoder<>(City.class, schema).encode(city));
+
+    assertThat(message.getAllFields()).containsValue("Lyon");
+  }
+
+  private static DynamicMessage decode(ByteString encoded) throws Exception {
+    return DynamicMessage.parseFrom(
+        BQTableSchemaToProtoDescriptor.convertBQTableSchemaToProtoDescriptor(SCHEMA), encoded);
+  }
+
+  private static TableFieldSchema.Builder field(String name, TableFieldSchema.Type type) {
+    return TableFieldSchema.newBuilder()
+        .setName(name)
+        .setType(type)
+        .setMode(TableFieldSchema.Mode.NULLABLE);
+  }
+
+  record Row(
+      String name,
+      long serialNumber,
+      BigDecimal price,
+      Instant created,
+      LocalDate day,
+      List<String> tags,
+      Address address) {}
+
+  record Address(String city) {}
+
+  /** A Java bean. */
+  public static class City {
+
+    private String city;
+
+    public String getCity() {
+      return city;
+    }
+
+    public void setCity(String city) {
+      this.city = city;
+    }
+  }
+}
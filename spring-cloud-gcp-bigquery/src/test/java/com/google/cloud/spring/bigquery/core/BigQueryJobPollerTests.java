@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.bigquery.BigQueryError;
+import com.google.cloud.bigquery.Job;
+import com.google.cloud.bigquery.JobConfiguration;
+import com.google.cloud.bigquery.JobStatistics;
+import com.google.cloud.bigquery.JobStatus;
+import com.google.cloud.bigquery.JobStatus.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/** Tests for {@link BigQueryJobPoller}. */
+class BigQueryJobPollerTests {
+
+  private ThreadPoolTaskScheduler scheduler;
+
+  private BigQueryJobPoller poller;
+
+  @BeforeEach
+  void setUp() {
+    this.scheduler = new ThreadPoolTaskScheduler();
+    this.scheduler.setPoolSize(4);
+    this.scheduler.initialize();
+    this.poller = new BigQueryJobPoller(this.scheduler);
+    this.poller.setInitialInterval(Duration.ofMillis(10));
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.scheduler.shutdown();
+  }
+
+  @Test
+  void completesOnceTheJobIsDone() throws Exception {
+    Job pendingJob = mock(Job.class);
+    Job runningJob = job(State.RUNNING, null);
+    Job doneJob = job(State.DONE, null);
+    when(pendingJob.reload()).thenReturn(runningJob, runningJob, doneJob);
+
+    Job result = this.poller.poll(pendingJob).get(5, TimeUnit.SECONDS);
+
+    assertThat(result).isSameAs(doneJob);
+    verify(pendingJob, times(3)).reload();
+    verify(pendingJob, never()).cancel();
+    assertThat(this.poller.getPendingJobCount()).isZero();
+  }
+
+  @Test
+  void failsAndCancelsWhenTheJobFailed() {
+    Job pendingJob = mock(Job.class);
+    Job failedJob = job(State.DONE, new BigQueryError("invalid", "here", "Bad data"));
+    when(pendingJob.reload()).thenReturn(failedJob);
+
+    CompletableFuture<Job> result = this.poller.poll(pendingJob);
+
+    assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(BigQueryException.class)
+        .hasMessageContaining("Bad data");
+    verify(pendingJob).cancel();
+  }
+
+  @Test
+  void tracksManyJobs() throws Exception {
+    List<CompletableFuture<Job>> results = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      Job pendingJob = mock(Job.class);
+      Job runningJob = job(State.RUNNING, null);
+      Job doneJob = job(State.DONE, null);
+      when(pendingJob.reload()).thenReturn(runningJob, doneJob);
+      results.add(this.poller.poll(pendingJob));
+    }
+
+    CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+
+    assertThat(this.poller.getPendingJobCount()).isZero();
+  }
+
+  @Test
+  void backsOffUpToTheMaximumInterval() {
+    this.poller.setMultiplier(2);
+    this.poller.setMaxInterval(Duration.ofSeconds(3));
+
+    assertThat(this.poller.nextInterval(Duration.ofSeconds(1))).isEqualTo(Duration.ofSeconds(2));
+    assertThat(this.poller.nextInterval(Duration.ofSeconds(2))).isEqualTo(Duration.ofSeconds(3));
+  }
+
+  @Test
+  void recordsQueueAndRunTime() throws Exception {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    BigQueryJobMetrics metrics = new BigQueryJobMetrics();
+    metrics.setMeterRegistry(meterRegistry);
+    this.poller.setJobListener(metrics);
+    Job pendingJob = mock(Job.class);
+    Job doneJob = job(State.DONE, null);
+    JobStatistics statistics = mock(JobStatistics.class);
+    when(statistics.getCreationTime()).thenReturn(1000L);
+    when(statistics.getStartTime()).thenReturn(1500L);
+    when(statistics.getEndTime()).thenReturn(4500L);
+    when(doneJob.getStatistics()).thenReturn(statistics);
+    JobConfiguration configuration = mock(JobConfiguration.class);
+    when(configuration.getType()).thenReturn(JobConfiguration.Type.LOAD);
+    when(doneJob.getConfiguration()).thenReturn(configuration);
+    when(pendingJob.reload()).thenReturn(doneJob);
+
+    this.poller.poll(pendingJob).get(5, TimeUnit.SECONDS);
+
+    assertThat(
+            meterRegistry
+                .get(BigQueryJobMetrics.QUEUE_TIME)
+                .tag("type", "LOAD")
+                .tag("outcome", "success")
+                .timer()
+                .totalTime(TimeUnit.MILLISECONDS))
+        .isEqualTo(500);
+    assertThat(meterRegistry.get(BigQueryJobMetrics.RUN_TIME).timer().totalTime(TimeUnit.SECONDS))
+        .isEqualTo(3);
+  }
+
+  @Test
+  void loadsWithoutMicrometer() throws Exception {
+    URL[] classpath =
+        Stream.of(System.getProperty("java.class.path").split(File.pathSeparator))
+            .filter(entry -> !entry.contains("micrometer-core"))
+            .map(BigQueryJobPollerTests::toUrl)
+            .toArray(URL[]::new);
+    try (URLClassLoader classLoader =
+        new URLClassLoader(classpath, ClassLoader.getPlatformClassLoader())) {
+      assertThatThrownBy(
+              () -> classLoader.loadClass("io.micrometer.core.instrument.MeterRegistry"))
+          .isInstanceOf(ClassNotFoundException.class);
+
+      Class<?> pollerClass = classLoader.loadClass(BigQueryJobPoller.class.getName());
+      assertThat(pollerClass.getDeclaredMethods()).isNotEmpty();
+      assertThat(classLoader.loadClass(BigQueryTemplate.class.getName()).getDeclaredMethods())
+          .isNotEmpty();
+
+      Class<?> taskSchedulerClass =
+          classLoader.loadClass(ThreadPoolTaskScheduler.class.getName());
+      Object poller =
+          pollerClass
+              .getConstructor(classLoader.loadClass(TaskScheduler.class.getName()))
+              .newInstance(taskSchedulerClass.getConstructor().newInstance());
+      pollerClass
+          .getMethod(
+              "setJobListener", classLoader.loadClass(BigQueryJobListener.class.getName()))
+          .invoke(poller, (Object) null);
+    }
+  }
+
+  private static URL toUrl(String classpathEntry) {
+    try {
+      return Path.of(classpathEntry).toUri().toURL();
+    } catch (MalformedURLException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static Job job(State state, BigQueryError error) {
+    Job job = mock(Job.class);
+    JobStatus status = mock(JobStatus.class);
+    when(status.getState()).thenReturn(state);
+    when(status.getError()).thenReturn(error);
+    when(job.getStatus()).thenReturn(status);
+    return job;
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.rpc.UnaryCallable;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.FinalizeWriteStreamRequest;
+import com.google.cloud.bigquery.storage.v1.FinalizeWriteStreamResponse;
+import com.google.cloud.bigquery.storage.v1.JsonStreamWriter;
+import com.google.cloud.bigquery.storage.v1.stub.BigQueryWriteStub;
+import io.grpc.Status;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.json.JSONArray;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+/** Tests for {@link BigQueryJsonDataWriter}. */
+class BigQueryJsonDataWriterTests {
+
+  private final JSONArray firstRows = new JSONArray("[{\"name\":\"first\"}]");
+
+  private final JSONArray secondRows = new JSONArray("[{\"name\":\"second\"}]");
+
+  private final List<SettableApiFuture<AppendRowsResponse>> appends =
+      new CopyOnWriteArrayList<>();
+
+  private final AtomicInteger resumes = new AtomicInteger();
+
+  private JsonStreamWriter streamWriter;
+
+  private UnaryCallable<FinalizeWriteStreamRequest, FinalizeWriteStreamResponse> finalizeCallable;
+
+  private BigQueryJsonDataWriter writer;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() throws Exception {
+    this.streamWriter = mock(JsonStreamWriter.class);
+    BigQueryWriteStub stub = mock(BigQueryWriteStub.class);
+    this.finalizeCallable = mock(UnaryCallable.class);
+    when(stub.finalizeWriteStreamCallable()).thenReturn(this.finalizeCallable);
+    when(this.streamWriter.getStreamName()).thenReturn("stream");
+    when(this.streamWriter.append(any(JSONArray.class), anyLong()))
+        .thenAnswer(
+            invocation -> {
+              SettableApiFuture<AppendRowsResponse> append = SettableApiFuture.create();
+              this.appends.add(append);
+              return append;
+            });
+    when(this.finalizeCallable.call(any(FinalizeWriteStreamRequest.class)))
+        .thenReturn(FinalizeWriteStreamResponse.newBuilder().setRowCount(2).build());
+    this.writer =
+        new BigQueryJsonDataWriter(
+            this.streamWriter,
+            BigQueryWriteClient.create(stub),
+            runnable -> {
+              this.resumes.incrementAndGet();
+              new Thread(runnable).start();
+            });
+  }
+
+  @Test
+  void resumesInOrderFromTheFirstFailedAppend() throws Exception {
+    this.writer.append(this.firstRows, 0);
+    this.writer.append(this.secondRows, 1);
+
+    // The append behind the failed one is rejected because of the gap in the offsets.
+    this.appends.get(0).setException(Status.UNAVAILABLE.asRuntimeException());
+    this.appends.get(1).setException(Status.OUT_OF_RANGE.asRuntimeException());
+
+    verify(this.streamWriter, timeout(5000).times(2)).append(this.secondRows, 1);
+    InOrder inOrder = inOrder(this.streamWriter);
+    inOrder.verify(this.streamWriter).append(this.firstRows, 0);
+    inOrder.verify(this.streamWriter).append(this.secondRows, 1);
+    inOrder.verify(this.streamWriter).append(this.firstRows, 0);
+    inOrder.verify(this.streamWriter).append(this.secondRows, 1);
+    // The appends are resumed once, on the executor of the writer.
+    assertThat(this.resumes).hasValue(1);
+
+    this.appends.get(2).set(AppendRowsResponse.getDefaultInstance());
+    this.appends.get(3).set(AppendRowsResponse.getDefaultInstance());
+
+    assertThatCode(this.writer::finalizeWriteStream).doesNotThrowAnyException();
+    verify(this.finalizeCallable, times(1))
+        .call(FinalizeWriteStreamRequest.newBuilder().setName("stream").build());
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.JsonStreamWriter;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BigQueryStreamWriterPoolTests {
+
+  private static final TableName TABLE = TableName.of("project", "dataset", "table");
+
+  private BigQueryStreamWriterPool pool;
+
+  private JsonStreamWriter firstWriter;
+
+  private JsonStreamWriter secondWriter;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    this.pool = spy(new BigQueryStreamWriterPool(mock(BigQueryWriteClient.class)));
+    this.firstWriter = mock(JsonStreamWriter.class);
+    this.secondWriter = mock(JsonStreamWriter.class);
+    doReturn(this.firstWriter, this.secondWriter).when(this.pool).createWriter(TABLE);
+  }
+
+  @Test
+  void reusesWriterOfTable() throws Exception {
+    assertThat(this.pool.getWriter(TABLE)).isSameAs(this.firstWriter);
+    assertThat(this.pool.getWriter(TABLE)).isSameAs(this.firstWriter);
+
+    verify(this.pool, times(1)).createWriter(TABLE);
+  }
+
+  @Test
+  void replacesClosedWriter() throws Exception {
+    this.pool.getWriter(TABLE);
+    when(this.firstWriter.isClosed()).thenReturn(true);
+
+    assertThat(this.pool.getWriter(TABLE)).isSameAs(this.secondWriter);
+  }
+
+  @Test
+  void keepsWriterAfterRowFailure() throws Exception {
+    this.pool.getWriter(TABLE);
+
+    this.pool.onAppendFailure(TABLE, this.firstWriter, new IllegalArgumentException("bad row"));
+
+    assertThat(this.pool.getWriter(TABLE)).isSameAs(this.firstWriter);
+    verify(this.firstWriter, never()).close();
+  }
+
+  @Test
+  void closesWritersOnClose() throws Exception {
+    this.pool.getWriter(TABLE);
+
+    this.pool.close();
+
+    verify(this.firstWriter).close();
+    assertThatThrownBy(() -> this.pool.getWriter(TABLE))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("The stream writer pool is closed.");
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.firestore;
+
+/**
+ * A token-bucket rate limiter that follows Firestore's "500/50/5" ramp-up rule: start at 500
+ * operations per second and increase the rate by 50% every 5 minutes.
+ *
+ * <p>Callers reserve permits for a whole batch and are told how long to wait before sending it.
+ * Reservations may drive the bucket negative, which queues subsequent callers behind the current
+ * one instead of letting them race for the same tokens.
+ */
+final class BulkWriteRateLimiter {
+
+  static final int DEFAULT_INITIAL_OPS_PER_SECOND = 500;
+
+  static final double DEFAULT_MULTIPLIER = 1.5;
+
+  static final long DEFAULT_MULTIPLIER_MILLIS = 5 * 60 * 1000L;
+
+  static final int DEFAULT_MAXIMUM_OPS_PER_SECOND = 10_000;
+
+  private final int initialCapacity;
+
+  private final double multiplier;
+
+  private final long multiplierMillis;
+
+  private final int maximumCapacity;
+
+  private long startTimeMillis = -1;
+
+  private long lastRefillTimeMillis;
+
+  private double availableTokens;
+
+  BulkWriteRateLimiter() {
+    this(
+        DEFAULT_INITIAL_OPS_PER_SECOND,
+        DEFAULT_MULTIPLIER,
+        DEFAULT_MULTIPLIER_MILLIS,
+        DEFAULT_MAXIMUM_OPS_PER_SECOND);
+  }
+
+  BulkWriteRateLimiter(
+      int initialCapacity, double multiplier, long multiplierMillis, int maximumCapacity) {
+    this.initialCapacity = initialCapacity;
+    this.multiplier = multiplier;
+    this.multiplierMillis = multiplierMillis;
+    this.maximumCapacity = maximumCapacity;
+  }
+
+  /**
+   * Reserves permits for the given number of operations.
+   *
+   * @param operations the number of writes about to be sent
+   * @param nowMillis the current time in milliseconds
+   * @return how many milliseconds the caller has to wait before sending the operations
+   */
+  synchronized long reserve(int operations, long nowMillis) {
+    if (this.startTimeMillis < 0) {
+      this.startTimeMillis = nowMillis;
+      this.lastRefillTimeMillis = nowMillis;
+      this.availableTokens = this.initialCapacity;
+    }
+
+    int capacity = getCapacity(nowMillis);
+    long elapsed = Math.max(0, nowMillis - this.lastRefillTimeMillis);
+    this.availableTokens =
+        Math.min(capacity, this.availableTokens + elapsed * capacity / 1000.0);
+    this.lastRefillTimeMillis = nowMillis;
+
+    this.availableTokens -= operations;
+    if (this.availableTokens >= 0) {
+      return 0;
+    }
+    return (long) Math.ceil(-this.availableTokens * 1000.0 / capacity);
+  }
+
+  /**
+   * Returns the number of operations per second allowed at the given time.
+   *
+   * @param nowMillis the current time in milliseconds
+   * @return the allowed operations per second
+   */
+  synchronized int getCapacity(long nowMillis) {
+    if (this.startTimeMillis < 0) {
+      return this.initialCapacity;
+    }
+    long periods = Math.max(0, nowMillis - this.startTimeMillis) / this.multiplierMillis;
+    double capacity = this.initialCapacity * Math.pow(this.multiplier, periods);
+    return (int) Math.min(this.maximumCapacity, capacity);
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.firestore;
+
+import com.google.rpc.Status;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Signals that some writes of a non-transactional bulk write could not be applied, even after
+ * retrying. Writes that are not listed in {@link #getFailedWrites()} were applied successfully.
+ */
+public class FirestoreBulkWriteException extends FirestoreDataException {
+
+  private final transient Map<String, Status> failedWrites;
+
+  public FirestoreBulkWriteException(Map<String, Status> failedWrites) {
+    super(failedWrites.size() + " write(s) failed in bulk write");
+    this.failedWrites = Collections.unmodifiableMap(new LinkedHashMap<>(failedWrites));
+  }
+
+  /**
+   * Returns the status of every write that failed, keyed by document resource name.
+   *
+   * @return the failed writes and their final status
+   */
+  public Map<String, Status> getFailedWrites() {
+    return this.failedWrites;
+  }
+}
@@ -27,6 +27,8 @@ import com.google.cloud.spring.data.firestore.mapping.UpdateTime;
 import com.google.cloud.spring.data.firestore.transaction.ReactiveFirestoreResourceHolder;
 import com.google.cloud.spring.data.firestore.util.ObservableReactiveUtil;
 import com.google.cloud.spring.data.firestore.util.Util;
+import com.google.firestore.v1.BatchWriteRequest;
+import com.google.firestore.v1.BatchWriteResponse;
 import com.google.firestore.v1.CommitRequest;
 import com.google.firestore.v1.CommitResponse;
 import com.google.firestore.v1.Document;
@@ -39,10 +41,18 @@ import com.google.firestore.v1.RunQueryResponse;
 import com.google.firestore.v1.StructuredQuery;
 import com.google.firestore.v1.Write;
 import com.google.firestore.v1.Write.Builder;
+import com.google.rpc.Code;
+import com.google.rpc.Status;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.reactivestreams.Publisher;
@@ -50,6 +60,7 @@ import org.springframework.transaction.reactive.TransactionContext;
 import org.springframework.util.Assert;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
 import reactor.util.context.ContextView;
 
 /**
@@ -75,6 +86,18 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
 
   private static final String NOT_FOUND_DOCUMENT_MESSAGE = "NOT_FOUND: Document";
 
+  private static final Set<Code> RETRYABLE_BULK_WRITE_CODES =
+      EnumSet.of(
+          Code.ABORTED,
+          Code.UNAVAILABLE,
+          Code.RESOURCE_EXHAUSTED,
+          Code.DEADLINE_EXCEEDED,
+          Code.INTERNAL);
+
+  private static final double BULK_WRITE_BACKOFF_MULTIPLIER = 1.5;
+
+  private static final Duration BULK_WRITE_MAX_BACKOFF = Duration.ofSeconds(60);
+
   private final FirestoreStub firestoreStub;
 
   private final String parent;
@@ -87,6 +110,17 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
 
   private int writeBufferSize = FIRESTORE_WRITE_MAX_SIZE;
 
+  private int maxInFlightWriteBatches = Queues.SMALL_BUFFER_SIZE;
+
+  private boolean bulkWriteEnabled = false;
+
+  private int bulkWriteMaxAttempts = 10;
+
+  private Duration bulkWriteInitialBackoff = Duration.ofSeconds(1);
+
+  private BulkWriteRateLimiter bulkWriteRateLimiter = new BulkWriteRateLimiter();
+
+  private boolean bulkWriteThrottlingEnabled = true;
 
   private String collectionNameSuffix = "";
 
@@ -158,6 +192,85 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
     return this.writeBufferSize;
   }
 
+  /**
+   * Sets how many buffered write batches may be in flight to Firestore at the same time.
+   *
+   * @param maxInFlightWriteBatches the maximum number of concurrent write requests (default = 256)
+   */
+  public void setMaxInFlightWriteBatches(int maxInFlightWriteBatches) {
+    Assert.isTrue(maxInFlightWriteBatches > 0, "The maximum in-flight write batches must be > 0");
+    this.maxInFlightWriteBatches = maxInFlightWriteBatches;
+  }
+
+  public int getMaxInFlightWriteBatches() {
+    return this.maxInFlightWriteBatches;
+  }
+
+  /**
+   * Enables the bulk write mode for non-transactional insert/update/delete operations.
+   *
+   * <p>In bulk write mode, buffered writes are sent with the non-atomic {@code BatchWrite} RPC
+   * instead of {@code Commit}: a failing document does not fail the rest of its batch, writes that
+   * failed with a transient error are retried with exponential backoff, and the write rate follows
+   * Firestore's 500/50/5 ramp-up rule. Writes that still fail after all attempts are reported
+   * through a {@link FirestoreBulkWriteException} once all other writes have completed.
+   *
+   * <p>Bulk writes are not atomic and provide no ordering guarantees between writes to the same
+   * document. Writes inside a transaction are always sent in the commit request.
+   *
+   * @param bulkWriteEnabled whether to use bulk writes (default = false)
+   */
+  public void setBulkWriteEnabled(boolean bulkWriteEnabled) {
+    this.bulkWriteEnabled = bulkWriteEnabled;
+  }
+
+  public boolean isBulkWriteEnabled() {
+    return this.bulkWriteEnabled;
+  }
+
+  /**
+   * Sets how many times a single write is attempted in bulk write mode before it is reported as
+   * failed.
+   *
+   * @param bulkWriteMaxAttempts the maximum number of attempts per write (default = 10)
+   */
+  public void setBulkWriteMaxAttempts(int bulkWriteMaxAttempts) {
+    Assert.isTrue(bulkWriteMaxAttempts > 0, "The bulk write max attempts must be > 0");
+    this.bulkWriteMaxAttempts = bulkWriteMaxAttempts;
+  }
+
+  public int getBulkWriteMaxAttempts() {
+    return this.bulkWriteMaxAttempts;
+  }
+
+  /**
+   * Sets the delay before the first retry of failed writes in bulk write mode. Subsequent retries
+   * back off exponentially, up to one minute.
+   *
+   * @param bulkWriteInitialBackoff the initial retry delay (default = 1s)
+   */
+  public void setBulkWriteInitialBackoff(Duration bulkWriteInitialBackoff) {
+    this.bulkWriteInitialBackoff = bulkWriteInitialBackoff;
+  }
+
+  public Duration getBulkWriteInitialBackoff() {
+    return this.bulkWriteInitialBackoff;
+  }
+
+  /**
+   * Sets whether bulk writes are throttled according to Firestore's 500/50/5 ramp-up rule: start
+   * at 500 operations per second and increase by 50% every 5 minutes.
+   *
+   * @param bulkWriteThrottlingEnabled whether to throttle bulk writes (default = true)
+   */
+  public void setBulkWriteThrottlingEnabled(boolean bulkWriteThrottlingEnabled) {
+    this.bulkWriteThrottlingEnabled = bulkWriteThrottlingEnabled;
+  }
+
+  public boolean isBulkWriteThrottlingEnabled() {
+    return this.bulkWriteThrottlingEnabled;
+  }
+
   @Override
   public <T> Mono<Boolean> existsById(Publisher<String> idPublisher, Class<T> entityClass) {
     return Flux.from(idPublisher)
@@ -193,7 +306,8 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
    * {@inheritDoc}
    *
    * <p>The buffer size and buffer timeout settings for {@link #saveAll} can be modified by calling
-   * {@link #setWriteBufferSize} and {@link #setWriteBufferTimeout}.
+   * {@link #setWriteBufferSize} and {@link #setWriteBufferTimeout}. Non-transactional writes can
+   * be sent as non-atomic bulk writes by calling {@link #setBulkWriteEnabled}.
    */
   @Override
   public <T> Flux<T> saveAll(Publisher<T> instances) {
@@ -306,6 +420,13 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
             this.firestoreStub, resourceName, this.classMapper, this.mappingContext);
     firestoreTemplate.setWriteBufferSize(this.writeBufferSize);
     firestoreTemplate.setWriteBufferTimeout(this.writeBufferTimeout);
+    firestoreTemplate.setMaxInFlightWriteBatches(this.maxInFlightWriteBatches);
+    firestoreTemplate.setBulkWriteEnabled(this.bulkWriteEnabled);
+    firestoreTemplate.setBulkWriteMaxAttempts(this.bulkWriteMaxAttempts);
+    firestoreTemplate.setBulkWriteInitialBackoff(this.bulkWriteInitialBackoff);
+    firestoreTemplate.setBulkWriteThrottlingEnabled(this.bulkWriteThrottlingEnabled);
+    // Child templates write to the same database, so they share the ramp-up budget.
+    firestoreTemplate.bulkWriteRateLimiter = this.bulkWriteRateLimiter;
 
     return firestoreTemplate;
   }
@@ -334,6 +455,9 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
 
   private <T> Flux<T> commitWrites(
       Publisher<T> instances, Function<T, Write> converterToWrite, boolean setUpdateTime) {
+    if (this.bulkWriteEnabled) {
+      return bulkWrites(instances, converterToWrite, setUpdateTime);
+    }
     return Flux.from(instances)
         .bufferTimeout(this.writeBufferSize, this.writeBufferTimeout)
         .flatMap(
@@ -357,7 +481,160 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
                         }
                         return Flux.fromIterable(batch);
                       });
-            });
+            },
+            this.maxInFlightWriteBatches);
+  }
+
+  private <T> Flux<T> bulkWrites(
+      Publisher<T> instances, Function<T, Write> converterToWrite, boolean setUpdateTime) {
+    return Flux.defer(
+        () -> {
+          Map<String, Status> failedWrites = new ConcurrentHashMap<>();
+          return Flux.from(instances)
+              .bufferTimeout(this.writeBufferSize, this.writeBufferTimeout)
+              .flatMap(
+                  batch -> bulkWriteBatch(batch, converterToWrite, setUpdateTime, failedWrites),
+                  this.maxInFlightWriteBatches)
+              .concatWith(
+                  Mono.defer(
+                      () ->
+                          failedWrites.isEmpty()
+                              ? Mono.empty()
+                              : Mono.error(new FirestoreBulkWriteException(failedWrites))));
+        });
+  }
+
+  /**
+   * Writes a buffered batch. {@code BatchWrite} rejects requests that write the same document more
+   * than once, so the repeated writes to a document are sent in successive requests, in order.
+   */
+  private <T> Flux<T> bulkWriteBatch(
+      List<T> batch,
+      Function<T, Write> converterToWrite,
+      boolean setUpdateTime,
+      Map<String, Status> failedWrites) {
+    List<List<T>> requestBatches = new ArrayList<>();
+    List<List<Write>> requestWrites = new ArrayList<>();
+    Map<String, Integer> documentWriteCounts = new HashMap<>();
+    for (T entity : batch) {
+      Write write = converterToWrite.apply(entity);
+      int request = documentWriteCounts.merge(getDocumentName(write), 1, Integer::sum) - 1;
+      if (request == requestBatches.size()) {
+        requestBatches.add(new ArrayList<>());
+        requestWrites.add(new ArrayList<>());
+      }
+      requestBatches.get(request).add(entity);
+      requestWrites.get(request).add(write);
+    }
+    return Flux.range(0, requestBatches.size())
+        .concatMap(
+            i ->
+                batchWrite(
+                    requestBatches.get(i), requestWrites.get(i), 1, setUpdateTime, failedWrites));
+  }
+
+  /**
+   * Sends one {@code BatchWrite} request and emits the entities whose writes were applied. Writes
+   * that failed with a retryable status, or whose whole request did, are resent after a backoff;
+   * the others are recorded in {@code failedWrites}.
+   */
+  private <T> Flux<T> batchWrite(
+      List<T> batch,
+      List<Write> writes,
+      int attempt,
+      boolean setUpdateTime,
+      Map<String, Status> failedWrites) {
+    BatchWriteRequest request =
+        BatchWriteRequest.newBuilder().setDatabase(this.databasePath).addAllWrites(writes).build();
+
+    return Mono.defer(() -> throttleBulkWrite(writes.size()))
+        .then(
+            ObservableReactiveUtil.<BatchWriteResponse>unaryCall(
+                obs -> this.firestoreStub.batchWrite(request, obs)))
+        .flatMapMany(
+            response ->
+                handleBatchWriteResponse(
+                    response, batch, writes, attempt, setUpdateTime, failedWrites),
+            error ->
+                handleBatchWriteError(error, batch, writes, attempt, setUpdateTime, failedWrites),
+            Flux::empty);
+  }
+
+  private <T> Flux<T> handleBatchWriteResponse(
+      BatchWriteResponse response,
+      List<T> batch,
+      List<Write> writes,
+      int attempt,
+      boolean setUpdateTime,
+      Map<String, Status> failedWrites) {
+    List<T> written = new ArrayList<>();
+    List<T> retryBatch = new ArrayList<>();
+    List<Write> retryWrites = new ArrayList<>();
+    for (int i = 0; i < batch.size(); i++) {
+      Status status = response.getStatus(i);
+      if (status.getCode() == Code.OK_VALUE) {
+        if (setUpdateTime) {
+          getClassMapper()
+              .setUpdateTime(
+                  batch.get(i), Timestamp.fromProto(response.getWriteResults(i).getUpdateTime()));
+        }
+        written.add(batch.get(i));
+      } else if (attempt < this.bulkWriteMaxAttempts
+          && RETRYABLE_BULK_WRITE_CODES.contains(Code.forNumber(status.getCode()))) {
+        retryBatch.add(batch.get(i));
+        retryWrites.add(writes.get(i));
+      } else {
+        failedWrites.put(getDocumentName(writes.get(i)), status);
+      }
+    }
+    if (retryBatch.isEmpty()) {
+      return Flux.fromIterable(written);
+    }
+    return Flux.fromIterable(written)
+        .concatWith(
+            Mono.delay(getBulkWriteBackoff(attempt))
+                .thenMany(
+                    batchWrite(retryBatch, retryWrites, attempt + 1, setUpdateTime, failedWrites)));
+  }
+
+  private <T> Flux<T> handleBatchWriteError(
+      Throwable error,
+      List<T> batch,
+      List<Write> writes,
+      int attempt,
+      boolean setUpdateTime,
+      Map<String, Status> failedWrites) {
+    io.grpc.Status grpcStatus = io.grpc.Status.fromThrowable(error);
+    Code code = Code.forNumber(grpcStatus.getCode().value());
+    if (attempt < this.bulkWriteMaxAttempts && RETRYABLE_BULK_WRITE_CODES.contains(code)) {
+      return Mono.delay(getBulkWriteBackoff(attempt))
+          .thenMany(batchWrite(batch, writes, attempt + 1, setUpdateTime, failedWrites));
+    }
+    Status.Builder status = Status.newBuilder().setCode(code.getNumber());
+    if (grpcStatus.getDescription() != null) {
+      status.setMessage(grpcStatus.getDescription());
+    }
+    writes.forEach(write -> failedWrites.put(getDocumentName(write), status.build()));
+    return Flux.empty();
+  }
+
+  private Mono<Void> throttleBulkWrite(int operations) {
+    if (!this.bulkWriteThrottlingEnabled) {
+      return Mono.empty();
+    }
+    long delay = this.bulkWriteRateLimiter.reserve(operations, System.currentTimeMillis());
+    return delay > 0 ? Mono.delay(Duration.ofMillis(delay)).then() : Mono.empty();
+  }
+
+  private Duration getBulkWriteBackoff(int attempt) {
+    double backoff =
+        this.bulkWriteInitialBackoff.toMillis()
+            * Math.pow(BULK_WRITE_BACKOFF_MULTIPLIER, attempt - 1.0);
+    return Duration.ofMillis((long) Math.min(backoff, BULK_WRITE_MAX_BACKOFF.toMillis()));
+  }
+
+  private static String getDocumentName(Write write) {
+    return write.hasUpdate() ? write.getUpdate().getName() : write.getDelete();
   }
 
   private Write createDeleteWrite(String documentId) {
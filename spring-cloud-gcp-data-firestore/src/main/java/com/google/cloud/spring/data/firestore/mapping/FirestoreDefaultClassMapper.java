@@ -25,10 +25,16 @@ import com.google.firestore.v1.Document;
 import com.google.firestore.v1.Value;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Uses Firestore client library to provide object mapping functionality.
  *
+ * <p>Entities whose properties all have a direct Firestore representation are mapped to and from
+ * {@link Document} fields through a per-class codec that is built once and cached, without
+ * creating intermediate {@link DocumentSnapshot} objects.
+ *
  * @since 1.2.2
  */
 public final class FirestoreDefaultClassMapper implements FirestoreClassMapper {
@@ -42,11 +48,18 @@ public final class FirestoreDefaultClassMapper implements FirestoreClassMapper {
 
   private FirestoreMappingContext mappingContext;
 
+  private final Map<Class<?>, Optional<FirestoreEntityCodec<?>>> codecs =
+      new ConcurrentHashMap<>();
+
   public FirestoreDefaultClassMapper(FirestoreMappingContext mappingContext) {
     this.mappingContext = mappingContext;
   }
 
   public <T> Value toFirestoreValue(T sourceValue) {
+    Value value = sourceValue != null ? FirestoreEntityCodec.encodeValue(sourceValue) : null;
+    if (value != null) {
+      return value;
+    }
     DocumentSnapshot documentSnapshot =
         INTERNAL.snapshotFromMap(
             NOT_USED_PATH,
@@ -55,6 +68,11 @@ public final class FirestoreDefaultClassMapper implements FirestoreClassMapper {
   }
 
   public <T> Document entityToDocument(T entity, String documentResourceName) {
+    FirestoreEntityCodec<T> codec = getCodec((Class<T>) entity.getClass());
+    Map<String, Value> fields = codec != null ? codec.encode(entity) : null;
+    if (fields != null) {
+      return Document.newBuilder().putAllFields(fields).setName(documentResourceName).build();
+    }
     DocumentSnapshot documentSnapshot = INTERNAL.snapshotFromObject(NOT_USED_PATH, entity);
     return Document.newBuilder()
         .putAllFields(removeUpdateTimestamp(INTERNAL.protoFromSnapshot(documentSnapshot), entity))
@@ -63,6 +81,11 @@ public final class FirestoreDefaultClassMapper implements FirestoreClassMapper {
   }
 
   public <T> T documentToEntity(Document document, Class<T> clazz) {
+    FirestoreEntityCodec<T> codec = getCodec(clazz);
+    T decoded = codec != null ? codec.decode(document) : null;
+    if (decoded != null) {
+      return setUpdateTime(decoded, Timestamp.fromProto(document.getUpdateTime()));
+    }
     DocumentSnapshot documentSnapshot = INTERNAL.snapshotFromProto(Timestamp.now(), document);
     T entity = documentSnapshot.toObject(clazz);
     return setUpdateTime(entity, documentSnapshot.getUpdateTime());
@@ -81,6 +104,22 @@ public final class FirestoreDefaultClassMapper implements FirestoreClassMapper {
     return entity;
   }
 
+  private <T> FirestoreEntityCodec<T> getCodec(Class<T> clazz) {
+    return (FirestoreEntityCodec<T>)
+        this.codecs
+            .computeIfAbsent(
+                clazz,
+                type -> {
+                  FirestorePersistentEntity<?> persistentEntity =
+                      this.mappingContext.getPersistentEntity(type);
+                  return Optional.ofNullable(
+                      persistentEntity != null
+                          ? FirestoreEntityCodec.create(persistentEntity)
+                          : null);
+                })
+            .orElse(null);
+  }
+
   private Map<String, Value> removeUpdateTimestamp(Map<String, Value> valuesMap, Object entity) {
     FirestorePersistentEntity<?> persistentEntity =
         this.mappingContext.getPersistentEntity(entity.getClass());
@@ -0,0 +1,476 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.firestore.mapping;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.Blob;
+import com.google.cloud.firestore.GeoPoint;
+import com.google.cloud.firestore.annotation.DocumentId;
+import com.google.cloud.firestore.annotation.Exclude;
+import com.google.cloud.firestore.annotation.PropertyName;
+import com.google.cloud.firestore.annotation.ServerTimestamp;
+import com.google.cloud.firestore.annotation.ThrowOnExtraProperties;
+import com.google.firestore.v1.ArrayValue;
+import com.google.firestore.v1.Document;
+import com.google.firestore.v1.Value;
+import com.google.protobuf.NullValue;
+import com.google.type.LatLng;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+
+/**
+ * Maps {@link Document} fields directly to the properties of an entity and back, through the
+ * {@link FirestoreMappingContext} property accessors.
+ *
+ * <p>A codec is only created for entity classes whose properties are all of types with an
+ * unambiguous Firestore representation, and whose properties are seen identically by the Spring
+ * Data mapping metadata and by the Firestore client library's class mapper. This keeps the
+ * documents produced and consumed by the codec identical to the ones of the client library. Other
+ * entity classes, and individual values that the codec cannot decode (for example, a number stored
+ * in a different type than the property's), go through the client library.
+ *
+ * @param <T> the entity type
+ */
+final class FirestoreEntityCodec<T> {
+
+  private static final Value NULL_VALUE =
+      Value.newBuilder().setNullValue(NullValue.NULL_VALUE).build();
+
+  /** Returned by the decoding methods when a value cannot be decoded without the client library. */
+  private static final Object UNDECODABLE = new Object();
+
+  private final FirestorePersistentEntity<T> persistentEntity;
+
+  private final Constructor<T> constructor;
+
+  private final FirestorePersistentProperty idProperty;
+
+  private final List<PropertyCodec> propertyCodecs;
+
+  private FirestoreEntityCodec(
+      FirestorePersistentEntity<T> persistentEntity,
+      Constructor<T> constructor,
+      List<PropertyCodec> propertyCodecs) {
+    this.persistentEntity = persistentEntity;
+    this.constructor = constructor;
+    this.idProperty = persistentEntity.getIdProperty();
+    this.propertyCodecs = propertyCodecs;
+  }
+
+  /**
+   * Creates a codec for the given entity, if its properties allow it.
+   *
+   * @param persistentEntity the entity metadata
+   * @param <T> the entity type
+   * @return the codec, or {@code null} if the entity must be mapped by the client library
+   */
+  static <T> FirestoreEntityCodec<T> create(FirestorePersistentEntity<T> persistentEntity) {
+    Class<T> type = persistentEntity.getType();
+    if (Modifier.isAbstract(type.getModifiers())
+        || type.isAnnotationPresent(ThrowOnExtraProperties.class)) {
+      return null;
+    }
+    Constructor<T> constructor;
+    try {
+      constructor = type.getDeclaredConstructor();
+    } catch (NoSuchMethodException ex) {
+      return null;
+    }
+
+    FirestorePersistentProperty idProperty = persistentEntity.getIdProperty();
+    if (idProperty != null && (idProperty.getType() != String.class || !isSettable(idProperty))) {
+      return null;
+    }
+    FirestorePersistentProperty updateTimeProperty = persistentEntity.getUpdateTimeProperty();
+
+    List<PropertyCodec> propertyCodecs = new ArrayList<>();
+    Set<String> fieldNames = new HashSet<>();
+    boolean[] supported = {true};
+    persistentEntity.doWithProperties(
+        (FirestorePersistentProperty property) -> {
+          if (property.isIdProperty()) {
+            return;
+          }
+          fieldNames.add(property.getFieldName());
+          if (property == updateTimeProperty) {
+            return;
+          }
+          PropertyCodec propertyCodec = PropertyCodec.of(property);
+          if (propertyCodec == null
+              || !isSettable(property)
+              || property.isAnnotationPresent(ServerTimestamp.class)) {
+            supported[0] = false;
+            return;
+          }
+          propertyCodecs.add(propertyCodec);
+        });
+
+    if (!supported[0] || !fieldNames.equals(clientLibraryPropertyNames(type, idProperty))) {
+      return null;
+    }
+    constructor.setAccessible(true);
+    return new FirestoreEntityCodec<>(persistentEntity, constructor, propertyCodecs);
+  }
+
+  /**
+   * Converts an entity to document fields. The ID and update time properties are not included.
+   *
+   * @param entity the entity to convert
+   * @return the document fields, or {@code null} if some property value must be converted by the
+   *     client library
+   */
+  Map<String, Value> encode(T entity) {
+    PersistentPropertyAccessor<T> accessor = this.persistentEntity.getPropertyAccessor(entity);
+    Map<String, Value> fields = new HashMap<>(this.propertyCodecs.size() * 2);
+    for (PropertyCodec propertyCodec : this.propertyCodecs) {
+      Value value = encodeValue(accessor.getProperty(propertyCodec.property));
+      if (value == null) {
+        return null;
+      }
+      fields.put(propertyCodec.fieldName, value);
+    }
+    return fields;
+  }
+
+  /**
+   * Converts a document to an entity. The update time property is not set.
+   *
+   * @param document the document to convert
+   * @return the entity, or {@code null} if some field must be converted by the client library
+   */
+  T decode(Document document) {
+    T entity = BeanUtils.instantiateClass(this.constructor);
+    PersistentPropertyAccessor<T> accessor = this.persistentEntity.getPropertyAccessor(entity);
+    for (PropertyCodec propertyCodec : this.propertyCodecs) {
+      Value value = document.getFieldsMap().get(propertyCodec.fieldName);
+      if (value == null) {
+        continue;
+      }
+      Object decoded = propertyCodec.decode(value);
+      if (decoded == UNDECODABLE) {
+        return null;
+      }
+      accessor.setProperty(propertyCodec.property, decoded);
+    }
+    if (this.idProperty != null) {
+      String name = document.getName();
+      accessor.setProperty(this.idProperty, name.substring(name.lastIndexOf('/') + 1));
+    }
+    return accessor.getBean();
+  }
+
+  /**
+   * Converts a value to its Firestore representation, the same way the client library does.
+   *
+   * @param value the value to convert
+   * @return the Firestore value, or {@code null} if the value has to be converted by the client
+   *     library
+   */
+  static Value encodeValue(Object value) {
+    if (value == null) {
+      return NULL_VALUE;
+    }
+    if (value instanceof String stringValue) {
+      return Value.newBuilder().setStringValue(stringValue).build();
+    }
+    if (value instanceof Long || value instanceof Integer) {
+      return Value.newBuilder().setIntegerValue(((Number) value).longValue()).build();
+    }
+    if (value instanceof Double || value instanceof Float) {
+      return Value.newBuilder().setDoubleValue(((Number) value).doubleValue()).build();
+    }
+    if (value instanceof Boolean booleanValue) {
+      return Value.newBuilder().setBooleanValue(booleanValue).build();
+    }
+    if (value instanceof Timestamp timestamp) {
+      return Value.newBuilder().setTimestampValue(timestamp.toProto()).build();
+    }
+    if (value instanceof Date date) {
+      return Value.newBuilder().setTimestampValue(Timestamp.of(date).toProto()).build();
+    }
+    if (value instanceof Blob blob) {
+      return Value.newBuilder().setBytesValue(blob.toByteString()).build();
+    }
+    if (value instanceof GeoPoint geoPoint) {
+      return Value.newBuilder()
+          .setGeoPointValue(
+              LatLng.newBuilder()
+                  .setLatitude(geoPoint.getLatitude())
+                  .setLongitude(geoPoint.getLongitude()))
+          .build();
+    }
+    if (value instanceof List<?> list) {
+      ArrayValue.Builder arrayValue = ArrayValue.newBuilder();
+      for (Object element : list) {
+        Value encoded = encodeValue(element);
+        if (encoded == null) {
+          return null;
+        }
+        arrayValue.addValues(encoded);
+      }
+      return Value.newBuilder().setArrayValue(arrayValue).build();
+    }
+    return null;
+  }
+
+  private static boolean isSettable(FirestorePersistentProperty property) {
+    Field field = property.getField();
+    return field != null && !Modifier.isFinal(field.getModifiers());
+  }
+
+  /**
+   * Collects the names of the properties that the client library's class mapper reads and writes
+   * for the given type: public getters and fields, and setters of any visibility.
+   */
+  private static Set<String> clientLibraryPropertyNames(
+      Class<?> type, FirestorePersistentProperty idProperty) {
+    Set<String> names = new HashSet<>();
+    Set<String> documentIdNames = new HashSet<>();
+    if (idProperty != null) {
+      documentIdNames.add(idProperty.getName());
+    }
+    for (Method method : type.getMethods()) {
+      String name = method.getName();
+      if (method.getDeclaringClass() != Object.class
+          && !Modifier.isStatic(method.getModifiers())
+          && method.getParameterCount() == 0
+          && method.getReturnType() != Void.TYPE
+          && (name.startsWith("get") || name.startsWith("is"))
+          && !method.isAnnotationPresent(Exclude.class)) {
+        addName(method, propertyName(method), names, documentIdNames);
+      }
+    }
+    for (Field field : type.getFields()) {
+      if (field.getDeclaringClass() != Object.class
+          && !Modifier.isStatic(field.getModifiers())
+          && !Modifier.isTransient(field.getModifiers())
+          && !field.isAnnotationPresent(Exclude.class)) {
+        addName(field, annotatedName(field, field.getName()), names, documentIdNames);
+      }
+    }
+    for (Class<?> current = type;
+        current != null && current != Object.class;
+        current = current.getSuperclass()) {
+      for (Method method : current.getDeclaredMethods()) {
+        if (method.getName().startsWith("set")
+            && !Modifier.isStatic(method.getModifiers())
+            && method.getParameterCount() == 1
+            && method.getReturnType() == Void.TYPE
+            && !method.isAnnotationPresent(Exclude.class)) {
+          addName(method, propertyName(method), names, documentIdNames);
+        }
+      }
+      for (Field field : current.getDeclaredFields()) {
+        if (field.isAnnotationPresent(DocumentId.class)) {
+          documentIdNames.add(annotatedName(field, field.getName()));
+        }
+      }
+    }
+    names.removeAll(documentIdNames);
+    return names;
+  }
+
+  private static void addName(
+      AccessibleObject member, String name, Set<String> names, Set<String> documentIdNames) {
+    names.add(name);
+    if (member.isAnnotationPresent(DocumentId.class)) {
+      documentIdNames.add(name);
+    }
+  }
+
+  private static String propertyName(Method method) {
+    String methodName = method.getName();
+    int prefixLength = methodName.startsWith("is") ? 2 : 3;
+    char[] chars = methodName.substring(prefixLength).toCharArray();
+    for (int i = 0; i < chars.length && Character.isUpperCase(chars[i]); i++) {
+      chars[i] = Character.toLowerCase(chars[i]);
+    }
+    return annotatedName(method, new String(chars));
+  }
+
+  private static String annotatedName(AccessibleObject member, String defaultName) {
+    PropertyName propertyName = member.getAnnotation(PropertyName.class);
+    return propertyName != null ? propertyName.value() : defaultName;
+  }
+
+  /** The scalar property types that the codec maps without the client library. */
+  private enum ScalarType {
+    STRING(String.class) {
+      @Override
+      Object decode(Value value) {
+        return value.getValueTypeCase() == Value.ValueTypeCase.STRING_VALUE
+            ? value.getStringValue()
+            : UNDECODABLE;
+      }
+    },
+    LONG(Long.class, long.class) {
+      @Override
+      Object decode(Value value) {
+        return value.getValueTypeCase() == Value.ValueTypeCase.INTEGER_VALUE
+            ? (Object) value.getIntegerValue()
+            : UNDECODABLE;
+      }
+    },
+    INTEGER(Integer.class, int.class) {
+      @Override
+      Object decode(Value value) {
+        if (value.getValueTypeCase() != Value.ValueTypeCase.INTEGER_VALUE) {
+          return UNDECODABLE;
+        }
+        long longValue = value.getIntegerValue();
+        return longValue == (int) longValue ? (Object) (int) longValue : UNDECODABLE;
+      }
+    },
+    DOUBLE(Double.class, double.class) {
+      @Override
+      Object decode(Value value) {
+        return value.getValueTypeCase() == Value.ValueTypeCase.DOUBLE_VALUE
+            ? (Object) value.getDoubleValue()
+            : UNDECODABLE;
+      }
+    },
+    BOOLEAN(Boolean.class, boolean.class) {
+      @Override
+      Object decode(Value value) {
+        return value.getValueTypeCase() == Value.ValueTypeCase.BOOLEAN_VALUE
+            ? (Object) value.getBooleanValue()
+            : UNDECODABLE;
+      }
+    },
+    TIMESTAMP(Timestamp.class) {
+      @Override
+      Object decode(Value value) {
+        return value.getValueTypeCase() == Value.ValueTypeCase.TIMESTAMP_VALUE
+            ? Timestamp.fromProto(value.getTimestampValue())
+            : UNDECODABLE;
+      }
+    },
+    DATE(Date.class) {
+      @Override
+      Object decode(Value value) {
+        return value.getValueTypeCase() == Value.ValueTypeCase.TIMESTAMP_VALUE
+            ? Timestamp.fromProto(value.getTimestampValue()).toDate()
+            : UNDECODABLE;
+      }
+    },
+    BLOB(Blob.class) {
+      @Override
+      Object decode(Value value) {
+        return value.getValueTypeCase() == Value.ValueTypeCase.BYTES_VALUE
+            ? Blob.fromByteString(value.getBytesValue())
+            : UNDECODABLE;
+      }
+    },
+    GEO_POINT(GeoPoint.class) {
+      @Override
+      Object decode(Value value) {
+        return value.getValueTypeCase() == Value.ValueTypeCase.GEO_POINT_VALUE
+            ? new GeoPoint(
+                value.getGeoPointValue().getLatitude(), value.getGeoPointValue().getLongitude())
+            : UNDECODABLE;
+      }
+    };
+
+    private final Class<?>[] javaTypes;
+
+    ScalarType(Class<?>... javaTypes) {
+      this.javaTypes = javaTypes;
+    }
+
+    /** Decodes a non-null value, or returns {@link #UNDECODABLE}. */
+    abstract Object decode(Value value);
+
+    static ScalarType of(Class<?> javaType) {
+      for (ScalarType scalarType : values()) {
+        for (Class<?> candidate : scalarType.javaTypes) {
+          if (candidate == javaType) {
+            return scalarType;
+          }
+        }
+      }
+      return null;
+    }
+  }
+
+  private static final class PropertyCodec {
+
+    private final FirestorePersistentProperty property;
+
+    private final String fieldName;
+
+    private final ScalarType scalarType;
+
+    private final boolean list;
+
+    private final boolean primitive;
+
+    private PropertyCodec(
+        FirestorePersistentProperty property, ScalarType scalarType, boolean list) {
+      this.property = property;
+      this.fieldName = property.getFieldName();
+      this.scalarType = scalarType;
+      this.list = list;
+      this.primitive = property.getType().isPrimitive();
+    }
+
+    static PropertyCodec of(FirestorePersistentProperty property) {
+      if (property.getType() == List.class) {
+        ScalarType elementType = ScalarType.of(property.getActualType());
+        return elementType != null ? new PropertyCodec(property, elementType, true) : null;
+      }
+      ScalarType scalarType = ScalarType.of(property.getType());
+      return scalarType != null ? new PropertyCodec(property, scalarType, false) : null;
+    }
+
+    Object decode(Value value) {
+      if (value.getValueTypeCase() == Value.ValueTypeCase.NULL_VALUE) {
+        return this.primitive ? UNDECODABLE : null;
+      }
+      if (!this.list) {
+        return this.scalarType.decode(value);
+      }
+      if (value.getValueTypeCase() != Value.ValueTypeCase.ARRAY_VALUE) {
+        return UNDECODABLE;
+      }
+      List<Value> values = value.getArrayValue().getValuesList();
+      List<Object> decoded = new ArrayList<>(values.size());
+      for (Value element : values) {
+        Object decodedElement =
+            element.getValueTypeCase() == Value.ValueTypeCase.NULL_VALUE
+                ? null
+                : this.scalarType.decode(element);
+        if (decodedElement == UNDECODABLE) {
+          return UNDECODABLE;
+        }
+        decoded.add(decodedElement);
+      }
+      return decoded;
+    }
+  }
+}
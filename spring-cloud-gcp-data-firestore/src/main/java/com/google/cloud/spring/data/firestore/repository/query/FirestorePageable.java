@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.firestore.repository.query;
+
+import com.google.cloud.spring.data.firestore.FirestoreDataException;
+import com.google.firestore.v1.Cursor;
+import com.google.protobuf.InvalidProtocolBufferException;
+import java.util.Base64;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * A pageable implementation for Cloud Firestore that carries a query cursor, so the next page
+ * starts right after the last document of the previous one instead of skipping an offset.
+ *
+ * <p>The cursor is exposed as a URL-safe string that can be handed to clients and turned back into
+ * a pageable with {@link #from(Pageable, String)}. A cursor is only valid for the query method and
+ * sort order that produced it.
+ */
+public class FirestorePageable extends PageRequest {
+
+  private final String urlSafeCursor;
+
+  private FirestorePageable(Pageable pageable, String urlSafeCursor) {
+    super(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+    this.urlSafeCursor = urlSafeCursor;
+  }
+
+  /**
+   * Creates a {@link FirestorePageable} wrapper for a paged request, but passes unpaged requests
+   * back unchanged.
+   *
+   * @param pageable the source {@link Pageable} that can be paged or unpaged
+   * @param urlSafeCursor the cursor of the page to read, as returned by {@link
+   *     #getUrlSafeCursor()}; null to read from the start of the query
+   * @return an instance of {@link FirestorePageable} or the original unpaged {@link Pageable}.
+   */
+  public static Pageable from(Pageable pageable, String urlSafeCursor) {
+    if (pageable.isUnpaged()) {
+      return pageable;
+    }
+    return new FirestorePageable(pageable, urlSafeCursor);
+  }
+
+  static Pageable from(Pageable pageable, Cursor cursor) {
+    return from(
+        pageable,
+        cursor == null ? null : Base64.getUrlEncoder().encodeToString(cursor.toByteArray()));
+  }
+
+  public String getUrlSafeCursor() {
+    return this.urlSafeCursor;
+  }
+
+  @Override
+  public PageRequest next() {
+    Pageable nextPage = PageRequest.of(getPageNumber() + 1, getPageSize(), getSort());
+    // Cast is safe because from() either returns the original PageRequest or a FirestorePageable.
+    return (PageRequest) from(nextPage, this.urlSafeCursor);
+  }
+
+  /**
+   * Decodes the cursor.
+   *
+   * @return the cursor, or null if this pageable reads from the start of the query
+   */
+  public Cursor toCursor() {
+    if (this.urlSafeCursor == null) {
+      return null;
+    }
+    try {
+      return Cursor.parseFrom(Base64.getUrlDecoder().decode(this.urlSafeCursor));
+    } catch (InvalidProtocolBufferException | IllegalArgumentException ex) {
+      throw new FirestoreDataException("Invalid Firestore cursor: " + this.urlSafeCursor, ex);
+    }
+  }
+}
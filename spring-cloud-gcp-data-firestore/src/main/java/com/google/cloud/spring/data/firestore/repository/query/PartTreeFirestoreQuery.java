@@ -34,21 +34,34 @@ import com.google.cloud.spring.data.firestore.mapping.FirestoreClassMapper;
 import com.google.cloud.spring.data.firestore.mapping.FirestoreMappingContext;
 import com.google.cloud.spring.data.firestore.mapping.FirestorePersistentEntity;
 import com.google.cloud.spring.data.firestore.mapping.FirestorePersistentProperty;
+import com.google.firestore.v1.Cursor;
 import com.google.firestore.v1.StructuredQuery;
 import com.google.firestore.v1.StructuredQuery.FieldReference;
 import com.google.firestore.v1.Value;
 import com.google.protobuf.Int32Value;
+import com.google.protobuf.NullValue;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
@@ -57,8 +70,17 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
+import reactor.core.publisher.Mono;
 
 /**
+ * Executes query methods derived from their names.
+ *
+ * <p>Besides {@code Flux} results, query methods can return a {@code Mono<Slice<T>>} (with a
+ * {@link Pageable} parameter) or a {@code Mono<Window<T>>} (with a {@link ScrollPosition}
+ * parameter). Slices carry a {@link FirestorePageable} cursor to the next page and keyset windows
+ * carry the order-by values of their documents, so that the next page is read with a {@code
+ * startAfter} cursor rather than an offset that Firestore has to scan and bill.
+ *
  * @since 1.2
  */
 public class PartTreeFirestoreQuery implements RepositoryQuery {
@@ -98,6 +120,18 @@ public class PartTreeFirestoreQuery implements RepositoryQuery {
           .put(NOT_IN, new OperatorSelector(StructuredQuery.FieldFilter.Operator.NOT_IN))
           .build();
 
+  private static final Set<Part.Type> INEQUALITY_PARTS =
+      EnumSet.of(
+          GREATER_THAN,
+          GREATER_THAN_EQUAL,
+          LESS_THAN,
+          LESS_THAN_EQUAL,
+          NEGATING_SIMPLE_PROPERTY,
+          NOT_IN);
+
+  private static final Value NULL_VALUE =
+      Value.newBuilder().setNullValue(NullValue.NULL_VALUE).build();
+
   public PartTreeFirestoreQuery(
       FirestoreQueryMethod queryMethod,
       FirestoreReactiveOperations reactiveOperations,
@@ -143,24 +177,19 @@ public class PartTreeFirestoreQuery implements RepositoryQuery {
   public Object execute(Object[] parameters) {
     StructuredQuery.Builder builder = createBuilderWithFilter(parameters);
     Sort sort = null;
+    Pageable pageable = Pageable.unpaged();
+    ScrollPosition scrollPosition = null;
+    Limit limit = Limit.unlimited();
 
-    // Handle Pageable parameters.
     if (!getQueryMethod().getParameters().isEmpty()) {
       ParameterAccessor paramAccessor =
           new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
-      Pageable pageable = paramAccessor.getPageable();
-      if (pageable.isPaged()) {
-        builder.setOffset((int) Math.min(Integer.MAX_VALUE, pageable.getOffset()));
-        builder.setLimit(Int32Value.newBuilder().setValue(pageable.getPageSize()));
-      }
+      pageable = paramAccessor.getPageable();
+      scrollPosition = paramAccessor.getScrollPosition();
+      limit = paramAccessor.getLimit();
       sort = paramAccessor.getSort();
     }
 
-    if (getQueryMethod().getName().startsWith("findFirst")
-        || getQueryMethod().getName().startsWith("findTop")) {
-      builder.setLimit(Int32Value.newBuilder().setValue(1));
-    }
-
     if (sort == null || sort.isUnsorted()) {
       sort = this.tree.getSort();
     }
@@ -168,13 +197,231 @@ public class PartTreeFirestoreQuery implements RepositoryQuery {
       builder.addAllOrderBy(createFirestoreSortOrders(sort));
     }
 
+    if (getQueryMethod().isScrollQuery()) {
+      return executeScrollQuery(builder, scrollPosition, limit);
+    }
+
+    Cursor cursor =
+        pageable instanceof FirestorePageable firestorePageable
+            ? firestorePageable.toCursor()
+            : null;
+    if (getQueryMethod().isSliceQuery() || cursor != null) {
+      addImplicitOrderBy(builder);
+    }
+
+    // Handle Pageable parameters.
+    if (pageable.isPaged()) {
+      if (cursor != null) {
+        builder.setStartAt(cursor);
+      } else {
+        builder.setOffset((int) Math.min(Integer.MAX_VALUE, pageable.getOffset()));
+      }
+      builder.setLimit(Int32Value.newBuilder().setValue(pageable.getPageSize()));
+    }
+
+    if (getQueryMethod().getName().startsWith("findFirst")
+        || getQueryMethod().getName().startsWith("findTop")) {
+      builder.setLimit(Int32Value.newBuilder().setValue(1));
+    }
+
     if (this.tree.isCountProjection()) {
       return this.reactiveOperations.count(this.persistentEntity.getType(), builder);
+    } else if (getQueryMethod().isSliceQuery()) {
+      return executeSliceQuery(builder, pageable);
     } else {
       return this.reactiveOperations.execute(builder, this.persistentEntity.getType());
     }
   }
 
+  /**
+   * Reads one more document than the page size to find out whether there is a next slice, whose
+   * pageable then carries a cursor to the last document of this one.
+   */
+  private Mono<Slice<?>> executeSliceQuery(StructuredQuery.Builder builder, Pageable pageable) {
+    if (pageable.isPaged()) {
+      builder.setLimit(Int32Value.newBuilder().setValue(pageable.getPageSize() + 1));
+    }
+    List<String> orderFields = getOrderFields(builder);
+    return this.reactiveOperations
+        .execute(builder, this.persistentEntity.getType())
+        .collectList()
+        .map(
+            results -> {
+              boolean hasNext = pageable.isPaged() && results.size() > pageable.getPageSize();
+              List<?> content = hasNext ? results.subList(0, pageable.getPageSize()) : results;
+              Cursor cursor =
+                  content.isEmpty()
+                      ? null
+                      : createCursor(getKeys(content.get(content.size() - 1), orderFields));
+              return new SliceImpl<>(content, FirestorePageable.from(pageable, cursor), hasNext);
+            });
+  }
+
+  private Mono<Window<?>> executeScrollQuery(
+      StructuredQuery.Builder builder, ScrollPosition scrollPosition, Limit limit) {
+    addImplicitOrderBy(builder);
+    List<String> orderFields = getOrderFields(builder);
+
+    Integer maxResults =
+        limit.isLimited() ? Integer.valueOf(limit.max()) : this.tree.getMaxResults();
+    if (maxResults != null) {
+      // Read one more document to find out whether there is a next window.
+      builder.setLimit(Int32Value.newBuilder().setValue(maxResults + 1));
+    }
+
+    IntFunction<ScrollPosition> positionFunction;
+    if (scrollPosition instanceof OffsetScrollPosition offsetPosition) {
+      long offset = offsetPosition.isInitial() ? 0 : offsetPosition.getOffset() + 1;
+      builder.setOffset((int) Math.min(Integer.MAX_VALUE, offset));
+      IntFunction<OffsetScrollPosition> offsetPositions = offsetPosition.positionFunction();
+      positionFunction = offsetPositions::apply;
+    } else if (scrollPosition == null || scrollPosition instanceof KeysetScrollPosition) {
+      KeysetScrollPosition keysetPosition = (KeysetScrollPosition) scrollPosition;
+      if (keysetPosition != null && keysetPosition.scrollsBackward()) {
+        throw new FirestoreDataException(
+            "Cloud Firestore repositories only support forward keyset scrolling (method name: "
+                + getQueryMethod().getName()
+                + ")");
+      }
+      if (keysetPosition != null && !keysetPosition.isInitial()) {
+        builder.setStartAt(createCursor(getCursorValues(keysetPosition.getKeys(), orderFields)));
+      }
+      positionFunction = null;
+    } else {
+      throw new FirestoreDataException("Unsupported scroll position: " + scrollPosition);
+    }
+
+    return this.reactiveOperations
+        .execute(builder, this.persistentEntity.getType())
+        .collectList()
+        .map(
+            results -> {
+              boolean hasNext = maxResults != null && results.size() > maxResults;
+              List<?> content = hasNext ? results.subList(0, maxResults) : results;
+              IntFunction<ScrollPosition> positions =
+                  positionFunction != null
+                      ? positionFunction
+                      : index -> ScrollPosition.forward(getKeys(content.get(index), orderFields));
+              return Window.from(content, positions, hasNext);
+            });
+  }
+
+  /**
+   * Makes the sort order total, which cursors require: like Firestore does implicitly, orders by
+   * the fields of inequality filters that are not sorted on yet, then by document name.
+   */
+  private void addImplicitOrderBy(StructuredQuery.Builder builder) {
+    List<String> orderFields = getOrderFields(builder);
+    if (orderFields.contains(NAME_FIELD)) {
+      return;
+    }
+    for (Part part : this.tree.getParts()) {
+      String fieldName = buildName(part);
+      if (INEQUALITY_PARTS.contains(part.getType()) && !orderFields.contains(fieldName)) {
+        builder.addOrderBy(createOrder(fieldName, StructuredQuery.Direction.ASCENDING));
+        orderFields.add(fieldName);
+      }
+    }
+    StructuredQuery.Direction nameDirection =
+        builder.getOrderByCount() == 0
+            ? StructuredQuery.Direction.ASCENDING
+            : builder.getOrderBy(builder.getOrderByCount() - 1).getDirection();
+    builder.addOrderBy(createOrder(NAME_FIELD, nameDirection));
+  }
+
+  private static List<String> getOrderFields(StructuredQuery.Builder builder) {
+    return builder.getOrderByList().stream()
+        .map(order -> order.getField().getFieldPath())
+        .collect(Collectors.toList());
+  }
+
+  private static StructuredQuery.Order createOrder(
+      String fieldName, StructuredQuery.Direction direction) {
+    return StructuredQuery.Order.newBuilder()
+        .setField(FieldReference.newBuilder().setFieldPath(fieldName))
+        .setDirection(direction)
+        .build();
+  }
+
+  /**
+   * Collects the values of the order-by fields of an entity, keyed by field path. The document
+   * name is represented by the entity's ID.
+   */
+  private Map<String, Object> getKeys(Object entity, List<String> orderFields) {
+    Map<String, Object> keys = new LinkedHashMap<>();
+    for (String fieldPath : orderFields) {
+      if (fieldPath.equals(NAME_FIELD)) {
+        keys.put(NAME_FIELD, getPropertyValue(entity, this.persistentEntity.getIdPropertyOrFail()));
+        continue;
+      }
+      Object value = entity;
+      for (String segment : fieldPath.split("\\.")) {
+        if (value == null) {
+          break;
+        }
+        FirestorePersistentEntity<?> entityOfValue =
+            this.mappingContext.getPersistentEntity(value.getClass());
+        FirestorePersistentProperty property =
+            entityOfValue == null ? null : findPropertyByFieldName(entityOfValue, segment);
+        if (property == null) {
+          throw new FirestoreDataException(
+              "Unable to build a cursor for field path " + fieldPath + " of " + entity.getClass());
+        }
+        value = getPropertyValue(value, property);
+      }
+      keys.put(fieldPath, value);
+    }
+    return keys;
+  }
+
+  private List<Value> getCursorValues(Map<String, Object> keys, List<String> orderFields) {
+    List<Value> values = new ArrayList<>();
+    for (String fieldPath : orderFields) {
+      if (!keys.containsKey(fieldPath)) {
+        throw new FirestoreDataException(
+            "Keyset scroll position must contain a value for " + fieldPath);
+      }
+      values.add(toCursorValue(fieldPath, keys.get(fieldPath)));
+    }
+    return values;
+  }
+
+  private Cursor createCursor(Map<String, Object> keys) {
+    return createCursor(getCursorValues(keys, new ArrayList<>(keys.keySet())));
+  }
+
+  private static Cursor createCursor(List<Value> values) {
+    // A cursor that is not "before" its values starts right after them.
+    return Cursor.newBuilder().addAllValues(values).setBefore(false).build();
+  }
+
+  private Value toCursorValue(String fieldPath, Object value) {
+    if (fieldPath.equals(NAME_FIELD)) {
+      return Value.newBuilder()
+          .setReferenceValue(
+              this.reactiveOperations.buildResourceName(this.persistentEntity, (String) value))
+          .build();
+    }
+    return value == null ? NULL_VALUE : this.classMapper.toFirestoreValue(value);
+  }
+
+  private static FirestorePersistentProperty findPropertyByFieldName(
+      FirestorePersistentEntity<?> entity, String fieldName) {
+    for (FirestorePersistentProperty property : entity) {
+      if (property.getFieldName().equals(fieldName)) {
+        return property;
+      }
+    }
+    return null;
+  }
+
+  private Object getPropertyValue(Object bean, FirestorePersistentProperty property) {
+    return this.mappingContext
+        .getRequiredPersistentEntity(bean.getClass())
+        .getPropertyAccessor(bean)
+        .getProperty(property);
+  }
+
   /**
    * This method converts {@link org.springframework.data.domain.Sort.Order} to {@link
    * StructuredQuery.Order} for Firestore.
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.firestore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link BulkWriteRateLimiter}. */
+class BulkWriteRateLimiterTests {
+
+  @Test
+  void delaysOperationsAboveCapacity() {
+    BulkWriteRateLimiter rateLimiter = new BulkWriteRateLimiter(500, 1.5, 300_000L, 10_000);
+
+    assertThat(rateLimiter.reserve(500, 0L)).isZero();
+    assertThat(rateLimiter.reserve(250, 0L)).isEqualTo(500L);
+    // The second reservation queued behind the first one, so the bucket refills from negative.
+    assertThat(rateLimiter.reserve(250, 500L)).isEqualTo(500L);
+    assertThat(rateLimiter.reserve(100, 2000L)).isZero();
+  }
+
+  @Test
+  void increasesCapacityEveryPeriod() {
+    BulkWriteRateLimiter rateLimiter = new BulkWriteRateLimiter(500, 1.5, 300_000L, 1000);
+
+    rateLimiter.reserve(1, 0L);
+
+    assertThat(rateLimiter.getCapacity(299_999L)).isEqualTo(500);
+    assertThat(rateLimiter.getCapacity(300_000L)).isEqualTo(750);
+    assertThat(rateLimiter.getCapacity(600_000L)).isEqualTo(1000);
+  }
+}
@@ -17,6 +17,7 @@
 package com.google.cloud.spring.data.firestore;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,6 +33,8 @@ import com.google.cloud.spring.data.firestore.mapping.FirestoreDefaultClassMappe
 import com.google.cloud.spring.data.firestore.mapping.FirestoreMappingContext;
 import com.google.cloud.spring.data.firestore.mapping.FirestorePersistentEntityImpl;
 import com.google.cloud.spring.data.firestore.mapping.UpdateTime;
+import com.google.firestore.v1.BatchWriteRequest;
+import com.google.firestore.v1.BatchWriteResponse;
 import com.google.firestore.v1.CommitRequest;
 import com.google.firestore.v1.CommitResponse;
 import com.google.firestore.v1.Document.Builder;
@@ -45,12 +48,17 @@ import com.google.firestore.v1.StructuredQuery;
 import com.google.firestore.v1.Value;
 import com.google.firestore.v1.Write;
 import com.google.firestore.v1.WriteResult;
+import com.google.rpc.Code;
+import com.google.rpc.Status;
 import io.grpc.stub.StreamObserver;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.data.util.TypeInformation;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -297,6 +305,212 @@ public class FirestoreTemplateTests {
     verify(this.firestoreStub).commit(eq(builder.build()), any());
   }
 
+  @Test
+  void bulkSaveAllRetriesOnlyFailedWritesTest() {
+    this.firestoreTemplate.setBulkWriteEnabled(true);
+    this.firestoreTemplate.setBulkWriteInitialBackoff(Duration.ofMillis(1));
+
+    com.google.protobuf.Timestamp ts = Timestamp.ofTimeMicroseconds(123456789).toProto();
+    doAnswer(
+            invocation -> {
+              BatchWriteRequest request = invocation.getArgument(0);
+              StreamObserver<BatchWriteResponse> streamObserver = invocation.getArgument(1);
+              BatchWriteResponse.Builder response = BatchWriteResponse.newBuilder();
+              for (Write write : request.getWritesList()) {
+                // e2 is contended on the first attempt only; e3 is rejected permanently.
+                boolean contended =
+                    write.getUpdate().getName().endsWith("/e2") && request.getWritesCount() > 1;
+                boolean rejected = write.getUpdate().getName().endsWith("/e3");
+                Code code =
+                    contended ? Code.ABORTED : rejected ? Code.FAILED_PRECONDITION : Code.OK;
+                response
+                    .addStatus(Status.newBuilder().setCode(code.getNumber()).build())
+                    .addWriteResults(
+                        code == Code.OK
+                            ? WriteResult.newBuilder().setUpdateTime(ts).build()
+                            : WriteResult.getDefaultInstance());
+              }
+              streamObserver.onNext(response.build());
+              streamObserver.onCompleted();
+              return null;
+            })
+        .when(this.firestoreStub)
+        .batchWrite(any(), any());
+
+    StepVerifier.create(
+            this.firestoreTemplate.saveAll(
+                Flux.just(
+                    new TestEntity("e1", 100L),
+                    new TestEntity("e2", 200L),
+                    new TestEntity("e3", 300L))))
+        .expectNext(new TestEntity("e1", 100L), new TestEntity("e2", 200L))
+        .expectErrorSatisfies(
+            e ->
+                assertThat(((FirestoreBulkWriteException) e).getFailedWrites())
+                    .containsOnly(
+                        entry(
+                            parent + "/testEntities/e3",
+                            Status.newBuilder()
+                                .setCode(Code.FAILED_PRECONDITION.getNumber())
+                                .build())))
+        .verify();
+
+    ArgumentCaptor<BatchWriteRequest> requests = ArgumentCaptor.forClass(BatchWriteRequest.class);
+    verify(this.firestoreStub, times(2)).batchWrite(requests.capture(), any());
+    assertThat(requests.getAllValues().get(0).getWritesCount()).isEqualTo(3);
+    assertThat(requests.getAllValues().get(1).getWritesList())
+        .containsExactly(Write.newBuilder().setUpdate(buildDocument("e2", 200L)).build());
+    verify(this.firestoreStub, times(0)).commit(any(), any());
+  }
+
+  @Test
+  void bulkDeleteTest() {
+    this.firestoreTemplate.setBulkWriteEnabled(true);
+    doAnswer(
+            invocation -> {
+              StreamObserver<BatchWriteResponse> streamObserver = invocation.getArgument(1);
+              Status ok = Status.newBuilder().setCode(Code.OK.getNumber()).build();
+              streamObserver.onNext(
+                  BatchWriteResponse.newBuilder()
+                      .addStatus(ok)
+                      .addStatus(ok)
+                      .addWriteResults(WriteResult.getDefaultInstance())
+                      .addWriteResults(WriteResult.getDefaultInstance())
+                      .build());
+              streamObserver.onCompleted();
+              return null;
+            })
+        .when(this.firestoreStub)
+        .batchWrite(any(), any());
+
+    StepVerifier.create(
+            this.firestoreTemplate.delete(
+                Flux.just(new TestEntity("e1", 100L), new TestEntity("e2", 200L))))
+        .verifyComplete();
+
+    BatchWriteRequest request =
+        BatchWriteRequest.newBuilder()
+            .setDatabase("projects/my-project/databases/(default)")
+            .addWrites(Write.newBuilder().setDelete(parent + "/testEntities/e1").build())
+            .addWrites(Write.newBuilder().setDelete(parent + "/testEntities/e2").build())
+            .build();
+
+    verify(this.firestoreStub).batchWrite(eq(request), any());
+  }
+
+  @Test
+  void bulkSaveAllSplitsRepeatedDocumentsTest() {
+    this.firestoreTemplate.setBulkWriteEnabled(true);
+    doAnswer(
+            invocation -> {
+              BatchWriteRequest request = invocation.getArgument(0);
+              StreamObserver<BatchWriteResponse> streamObserver = invocation.getArgument(1);
+              if (request.getWritesList().stream()
+                      .map(write -> write.getUpdate().getName())
+                      .distinct()
+                      .count()
+                  < request.getWritesCount()) {
+                streamObserver.onError(io.grpc.Status.INVALID_ARGUMENT.asRuntimeException());
+                return null;
+              }
+              streamObserver.onNext(okBatchWriteResponse(request.getWritesCount()));
+              streamObserver.onCompleted();
+              return null;
+            })
+        .when(this.firestoreStub)
+        .batchWrite(any(), any());
+
+    StepVerifier.create(
+            this.firestoreTemplate.saveAll(
+                Flux.just(
+                    new TestEntity("e1", 100L),
+                    new TestEntity("e2", 200L),
+                    new TestEntity("e1", 300L))))
+        .expectNext(
+            new TestEntity("e1", 100L), new TestEntity("e2", 200L), new TestEntity("e1", 300L))
+        .verifyComplete();
+
+    ArgumentCaptor<BatchWriteRequest> requests = ArgumentCaptor.forClass(BatchWriteRequest.class);
+    verify(this.firestoreStub, times(2)).batchWrite(requests.capture(), any());
+    assertThat(requests.getAllValues().get(0).getWritesList())
+        .containsExactly(
+            Write.newBuilder().setUpdate(buildDocument("e1", 100L)).build(),
+            Write.newBuilder().setUpdate(buildDocument("e2", 200L)).build());
+    assertThat(requests.getAllValues().get(1).getWritesList())
+        .containsExactly(Write.newBuilder().setUpdate(buildDocument("e1", 300L)).build());
+  }
+
+  @Test
+  void bulkSaveAllRetriesRequestErrorsTest() {
+    this.firestoreTemplate.setBulkWriteEnabled(true);
+    this.firestoreTemplate.setBulkWriteInitialBackoff(Duration.ofMillis(1));
+    AtomicInteger calls = new AtomicInteger();
+    doAnswer(
+            invocation -> {
+              BatchWriteRequest request = invocation.getArgument(0);
+              StreamObserver<BatchWriteResponse> streamObserver = invocation.getArgument(1);
+              if (calls.incrementAndGet() == 1) {
+                streamObserver.onError(io.grpc.Status.UNAVAILABLE.asRuntimeException());
+                return null;
+              }
+              streamObserver.onNext(okBatchWriteResponse(request.getWritesCount()));
+              streamObserver.onCompleted();
+              return null;
+            })
+        .when(this.firestoreStub)
+        .batchWrite(any(), any());
+
+    StepVerifier.create(
+            this.firestoreTemplate.saveAll(
+                Flux.just(new TestEntity("e1", 100L), new TestEntity("e2", 200L))))
+        .expectNext(new TestEntity("e1", 100L), new TestEntity("e2", 200L))
+        .verifyComplete();
+
+    verify(this.firestoreStub, times(2)).batchWrite(any(), any());
+  }
+
+  @Test
+  void bulkSaveAllReportsRequestErrorsTest() {
+    this.firestoreTemplate.setBulkWriteEnabled(true);
+    doAnswer(
+            invocation -> {
+              StreamObserver<BatchWriteResponse> streamObserver = invocation.getArgument(1);
+              streamObserver.onError(
+                  io.grpc.Status.PERMISSION_DENIED.withDescription("denied").asRuntimeException());
+              return null;
+            })
+        .when(this.firestoreStub)
+        .batchWrite(any(), any());
+
+    Status denied =
+        Status.newBuilder()
+            .setCode(Code.PERMISSION_DENIED.getNumber())
+            .setMessage("denied")
+            .build();
+    StepVerifier.create(
+            this.firestoreTemplate.saveAll(
+                Flux.just(new TestEntity("e1", 100L), new TestEntity("e2", 200L))))
+        .expectErrorSatisfies(
+            e ->
+                assertThat(((FirestoreBulkWriteException) e).getFailedWrites())
+                    .containsOnly(
+                        entry(parent + "/testEntities/e1", denied),
+                        entry(parent + "/testEntities/e2", denied)))
+        .verify();
+
+    verify(this.firestoreStub, times(1)).batchWrite(any(), any());
+  }
+
+  private static BatchWriteResponse okBatchWriteResponse(int writes) {
+    BatchWriteResponse.Builder response = BatchWriteResponse.newBuilder();
+    for (int i = 0; i < writes; i++) {
+      response
+          .addStatus(Status.newBuilder().setCode(Code.OK.getNumber()).build())
+          .addWriteResults(WriteResult.getDefaultInstance());
+    }
+    return response.build();
+  }
+
   private void mockCommitMethod() {
     doAnswer(
             invocation -> {
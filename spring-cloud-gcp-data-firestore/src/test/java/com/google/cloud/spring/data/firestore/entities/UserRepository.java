@@ -19,7 +19,10 @@ package com.google.cloud.spring.data.firestore.entities;
 import com.google.cloud.spring.data.firestore.FirestoreReactiveRepository;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -56,6 +59,10 @@ public interface UserRepository extends FirestoreReactiveRepository<User> {
 
   Flux<User> findByAgeGreaterThan(Integer age, Pageable pageable);
 
+  Mono<Slice<User>> findSliceByAgeGreaterThan(Integer age, Pageable pageable);
+
+  Mono<Window<User>> findFirst2ByAgeGreaterThan(Integer age, ScrollPosition position);
+
   Flux<User> findByAgeIn(List<Integer> ages);
 
   Flux<User> findByAgeNotIn(List<Integer> ages);
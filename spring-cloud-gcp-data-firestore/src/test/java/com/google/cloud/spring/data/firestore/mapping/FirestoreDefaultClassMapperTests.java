@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.firestore.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.Blob;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FirestoreOptions;
+import com.google.cloud.firestore.GeoPoint;
+import com.google.cloud.firestore.Internal;
+import com.google.cloud.firestore.annotation.DocumentId;
+import com.google.cloud.firestore.annotation.Exclude;
+import com.google.cloud.firestore.annotation.PropertyName;
+import com.google.cloud.spring.core.util.MapBuilder;
+import com.google.firestore.v1.Document;
+import com.google.firestore.v1.Value;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link FirestoreDefaultClassMapper}, checking that the direct codec produces the same
+ * results as the Firestore client library mapping.
+ */
+class FirestoreDefaultClassMapperTests {
+
+  private static final Internal INTERNAL =
+      new Internal(FirestoreOptions.newBuilder().setProjectId("dummy-project-id").build(), null);
+
+  private static final String NOT_USED_PATH = "/not/used/path";
+
+  private static final String DOCUMENT_NAME =
+      "projects/p/databases/(default)/documents/simpleEntities/e1";
+
+  private final FirestoreMappingContext mappingContext = new FirestoreMappingContext();
+
+  private final FirestoreDefaultClassMapper classMapper =
+      new FirestoreDefaultClassMapper(this.mappingContext);
+
+  @Test
+  void codecIsUsedOnlyForSupportedEntities() {
+    assertThat(
+            FirestoreEntityCodec.create(
+                this.mappingContext.getPersistentEntity(SimpleEntity.class)))
+        .isNotNull();
+    assertThat(
+            FirestoreEntityCodec.create(
+                this.mappingContext.getPersistentEntity(NestedEntity.class)))
+        .isNull();
+    assertThat(
+            FirestoreEntityCodec.create(
+                this.mappingContext.getPersistentEntity(PrivateFieldEntity.class)))
+        .isNull();
+    assertThat(
+            FirestoreEntityCodec.create(
+                this.mappingContext.getPersistentEntity(ExcludedPropertyEntity.class)))
+        .isNull();
+  }
+
+  @Test
+  void entityToDocumentMatchesClientLibrary() {
+    SimpleEntity entity = fullEntity();
+
+    Document document = this.classMapper.entityToDocument(entity, DOCUMENT_NAME);
+
+    Document expected =
+        Document.newBuilder()
+            .putAllFields(
+                INTERNAL.protoFromSnapshot(INTERNAL.snapshotFromObject(NOT_USED_PATH, entity)))
+            .removeFields("updateTime")
+            .setName(DOCUMENT_NAME)
+            .build();
+    assertThat(document).isEqualTo(expected);
+    assertThat(document.getFieldsMap()).containsKey("renamed").doesNotContainKey("id");
+  }
+
+  @Test
+  void nullPropertiesMatchClientLibrary() {
+    SimpleEntity entity = new SimpleEntity();
+
+    Document document = this.classMapper.entityToDocument(entity, DOCUMENT_NAME);
+
+    assertThat(document.getFieldsMap())
+        .isEqualTo(
+            Document.newBuilder()
+                .putAllFields(
+                    INTERNAL.protoFromSnapshot(INTERNAL.snapshotFromObject(NOT_USED_PATH, entity)))
+                .removeFields("updateTime")
+                .build()
+                .getFieldsMap());
+  }
+
+  @Test
+  void documentToEntityMatchesClientLibrary() {
+    Timestamp updateTime = Timestamp.ofTimeSecondsAndNanos(1000, 5000);
+    Document document =
+        this.classMapper.entityToDocument(fullEntity(), DOCUMENT_NAME).toBuilder()
+            .setUpdateTime(updateTime.toProto())
+            .putFields("unknownField", Value.newBuilder().setStringValue("ignored").build())
+            .build();
+
+    SimpleEntity entity = this.classMapper.documentToEntity(document, SimpleEntity.class);
+
+    DocumentSnapshot snapshot = INTERNAL.snapshotFromProto(Timestamp.now(), document);
+    SimpleEntity expected = snapshot.toObject(SimpleEntity.class);
+    expected.updateTime = snapshot.getUpdateTime();
+    assertThat(entity).isEqualTo(expected);
+    assertThat(entity.id).isEqualTo("e1");
+    assertThat(entity.updateTime).isEqualTo(updateTime);
+  }
+
+  @Test
+  void mismatchedValueTypeFallsBackToClientLibrary() {
+    Document document =
+        Document.newBuilder()
+            .setName(DOCUMENT_NAME)
+            .putFields("doubleValue", Value.newBuilder().setIntegerValue(3).build())
+            .build();
+
+    SimpleEntity entity = this.classMapper.documentToEntity(document, SimpleEntity.class);
+
+    assertThat(entity.doubleValue).isEqualTo(3.0);
+  }
+
+  @Test
+  void toFirestoreValueMatchesClientLibrary() {
+    for (Object value :
+        Arrays.asList(
+            "str",
+            42,
+            42L,
+            1.5,
+            1.5f,
+            true,
+            Timestamp.ofTimeSecondsAndNanos(10, 123456789),
+            new Date(1234567L),
+            Blob.fromBytes(new byte[] {1, 2}),
+            new GeoPoint(1, 2),
+            Arrays.asList("a", null, 3L))) {
+      Value expected =
+          INTERNAL
+              .protoFromSnapshot(
+                  INTERNAL.snapshotFromMap(
+                      NOT_USED_PATH, new MapBuilder<String, Object>().put("value", value).build()))
+              .get("value");
+      assertThat(this.classMapper.toFirestoreValue(value)).as("%s", value).isEqualTo(expected);
+    }
+  }
+
+  /** Unlike the client library's map encoding, pre-epoch dates must not get negative nanos. */
+  @Test
+  void preEpochDateRoundTrip() {
+    SimpleEntity entity = fullEntity();
+    entity.date = new Date(-1234567L);
+
+    Document document = this.classMapper.entityToDocument(entity, DOCUMENT_NAME);
+
+    com.google.protobuf.Timestamp timestamp = document.getFieldsOrThrow("date").getTimestampValue();
+    assertThat(timestamp.getSeconds()).isEqualTo(-1235L);
+    assertThat(timestamp.getNanos()).isEqualTo(433000000);
+    assertThat(this.classMapper.documentToEntity(document, SimpleEntity.class).date)
+        .isEqualTo(entity.date);
+  }
+
+  private static SimpleEntity fullEntity() {
+    SimpleEntity entity = new SimpleEntity();
+    entity.id = "e1";
+    entity.stringValue = "str";
+    entity.longValue = 42L;
+    entity.intValue = 7;
+    entity.doubleValue = 1.5;
+    entity.booleanValue = true;
+    entity.timestamp = Timestamp.ofTimeSecondsAndNanos(10, 123456789);
+    entity.date = new Date(1234567L);
+    entity.blob = Blob.fromBytes(new byte[] {1, 2, 3});
+    entity.geoPoint = new GeoPoint(1.5, -2.5);
+    entity.tags = Arrays.asList("a", "b");
+    entity.renamedValue = "renamed";
+    entity.updateTime = Timestamp.ofTimeSecondsAndNanos(20, 0);
+    return entity;
+  }
+
+  @com.google.cloud.spring.data.firestore.Document
+  public static class SimpleEntity {
+    @DocumentId public String id;
+
+    public String stringValue;
+
+    public Long longValue;
+
+    public int intValue;
+
+    public Double doubleValue;
+
+    public boolean booleanValue;
+
+    public Timestamp timestamp;
+
+    public Date date;
+
+    public Blob blob;
+
+    public GeoPoint geoPoint;
+
+    public List<String> tags;
+
+    @PropertyName("renamed")
+    public String renamedValue;
+
+    @UpdateTime public Timestamp updateTime;
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof SimpleEntity that)) {
+        return false;
+      }
+      return intValue == that.intValue
+          && booleanValue == that.booleanValue
+          && Objects.equals(id, that.id)
+          && Objects.equals(stringValue, that.stringValue)
+          && Objects.equals(longValue, that.longValue)
+          && Objects.equals(doubleValue, that.doubleValue)
+          && Objects.equals(timestamp, that.timestamp)
+          && Objects.equals(date, that.date)
+          && Objects.equals(blob, that.blob)
+          && Objects.equals(geoPoint, that.geoPoint)
+          && Objects.equals(tags, that.tags)
+          && Objects.equals(renamedValue, that.renamedValue)
+          && Objects.equals(updateTime, that.updateTime);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, stringValue, longValue, timestamp);
+    }
+  }
+
+  public static class NestedEntity {
+    @DocumentId public String id;
+
+    public SimpleEntity nested;
+  }
+
+  /** The client library does not see a private field without accessors. */
+  public static class PrivateFieldEntity {
+    @DocumentId public String id;
+
+    private String hidden;
+  }
+
+  public static class ExcludedPropertyEntity {
+    @DocumentId public String id;
+
+    @Exclude public String excluded;
+  }
+}
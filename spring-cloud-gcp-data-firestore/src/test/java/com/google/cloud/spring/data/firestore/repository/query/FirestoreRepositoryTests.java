@@ -16,10 +16,12 @@
 
 package com.google.cloud.spring.data.firestore.repository.query;
 
+import static com.google.cloud.spring.data.firestore.FirestoreTemplate.NAME_FIELD;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.google.cloud.firestore.FieldPath;
 import com.google.cloud.spring.data.firestore.FirestoreTemplate;
@@ -30,10 +32,13 @@ import com.google.cloud.spring.data.firestore.mapping.FirestoreDefaultClassMappe
 import com.google.cloud.spring.data.firestore.mapping.FirestoreMappingContext;
 import com.google.cloud.spring.data.firestore.repository.config.EnableReactiveFirestoreRepositories;
 import com.google.cloud.spring.data.firestore.repository.query.FirestoreRepositoryTests.FirestoreRepositoryTestsConfiguration;
+import com.google.firestore.v1.Cursor;
 import com.google.firestore.v1.StructuredQuery;
 import com.google.firestore.v1.StructuredQuery.Direction;
 import com.google.firestore.v1.StructuredQuery.FieldReference;
 import com.google.firestore.v1.StructuredQuery.Order;
+import com.google.firestore.v1.Value;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -42,7 +47,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -110,6 +121,93 @@ class FirestoreRepositoryTests {
                 .build());
   }
 
+  @Test
+  void testSliceQuery() {
+    when(this.template.execute(any(), eq(User.class)))
+        .thenReturn(Flux.just(new User("a", 21), new User("b", 22), new User("c", 23)));
+
+    Slice<User> slice =
+        userRepository.findSliceByAgeGreaterThan(20, PageRequest.of(0, 2)).block();
+
+    ArgumentCaptor<StructuredQuery.Builder> captor =
+        ArgumentCaptor.forClass(StructuredQuery.Builder.class);
+    verify(this.template).execute(captor.capture(), eq(User.class));
+
+    StructuredQuery.Builder result = captor.getValue();
+    assertThat(result.getLimit().getValue()).isEqualTo(3);
+    assertThat(result.getOrderByList()).containsExactly(order("age"), order(NAME_FIELD));
+
+    assertThat(slice.getContent()).extracting(User::getName).containsExactly("a", "b");
+    assertThat(slice.hasNext()).isTrue();
+    assertThat(slice.nextPageable()).isInstanceOf(FirestorePageable.class);
+
+    Cursor cursor = ((FirestorePageable) slice.nextPageable()).toCursor();
+    assertThat(cursor.getBefore()).isFalse();
+    assertThat(cursor.getValuesList())
+        .containsExactly(
+            Value.newBuilder().setIntegerValue(22).build(),
+            Value.newBuilder().setReferenceValue("usersCollection/b").build());
+  }
+
+  @Test
+  void testSliceQuery_nextSliceStartsAtCursor() {
+    Cursor cursor =
+        Cursor.newBuilder().addValues(Value.newBuilder().setIntegerValue(22)).build();
+    Pageable pageable =
+        FirestorePageable.from(
+            PageRequest.of(1, 2),
+            ((FirestorePageable) FirestorePageable.from(PageRequest.of(1, 2), cursor))
+                .getUrlSafeCursor());
+
+    Slice<User> slice = userRepository.findSliceByAgeGreaterThan(20, pageable).block();
+
+    ArgumentCaptor<StructuredQuery.Builder> captor =
+        ArgumentCaptor.forClass(StructuredQuery.Builder.class);
+    verify(this.template).execute(captor.capture(), eq(User.class));
+
+    StructuredQuery.Builder result = captor.getValue();
+    assertThat(result.getStartAt()).isEqualTo(cursor);
+    assertThat(result.getOffset()).isZero();
+    assertThat(result.getLimit().getValue()).isEqualTo(3);
+    assertThat(slice.getContent()).isEmpty();
+    assertThat(slice.hasNext()).isFalse();
+  }
+
+  @Test
+  void testScrollQuery_keyset() {
+    when(this.template.execute(any(), eq(User.class)))
+        .thenReturn(Flux.just(new User("a", 21), new User("b", 22), new User("c", 23)));
+
+    Window<User> window =
+        userRepository
+            .findFirst2ByAgeGreaterThan(
+                20, ScrollPosition.forward(Map.of("age", 20, NAME_FIELD, "z")))
+            .block();
+
+    ArgumentCaptor<StructuredQuery.Builder> captor =
+        ArgumentCaptor.forClass(StructuredQuery.Builder.class);
+    verify(this.template).execute(captor.capture(), eq(User.class));
+
+    StructuredQuery.Builder result = captor.getValue();
+    assertThat(result.getLimit().getValue()).isEqualTo(3);
+    assertThat(result.getStartAt().getValuesList())
+        .containsExactly(
+            Value.newBuilder().setIntegerValue(20).build(),
+            Value.newBuilder().setReferenceValue("usersCollection/z").build());
+
+    assertThat(window.getContent()).extracting(User::getName).containsExactly("a", "b");
+    assertThat(window.hasNext()).isTrue();
+    assertThat(((KeysetScrollPosition) window.positionAt(1)).getKeys())
+        .containsExactly(Map.entry("age", 22), Map.entry(NAME_FIELD, "b"));
+  }
+
+  private static Order order(String fieldPath) {
+    return Order.newBuilder()
+        .setDirection(Direction.ASCENDING)
+        .setField(FieldReference.newBuilder().setFieldPath(fieldPath))
+        .build();
+  }
+
   @Configuration
   @EnableReactiveFirestoreRepositories(basePackageClasses = UserRepository.class)
   static class FirestoreRepositoryTestsConfiguration {
@@ -126,6 +224,8 @@ class FirestoreRepositoryTests {
       Mockito.when(template.getClassMapper()).thenReturn(classMapper);
       Mockito.when(template.getMappingContext()).thenReturn(firestoreMappingContext);
       Mockito.when(template.execute(any(), any())).thenReturn(Flux.empty());
+      Mockito.when(template.buildResourceName(any(), any()))
+          .thenAnswer(invocation -> "usersCollection/" + invocation.getArgument(1));
       return template;
     }
 
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.spanner.AsyncResultSet;
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Defines non-blocking read operations available to use with Spanner. The reads are streamed with
+ * an {@link AsyncResultSet}, so no thread waits for their results, and independent reads can run
+ * concurrently. Rows are mapped as they arrive, and the stream is paused while the buffered rows
+ * are not consumed.
+ *
+ * <p>Reads that are started in a transaction, including a read-only transaction of {@link
+ * SpannerTransactionManager}, are performed in that transaction, so their results must be awaited
+ * before the transaction ends.
+ */
+public interface AsyncSpannerOperations {
+
+  /**
+   * Finds a single stored object using a key.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param key the key of the object.
+   * @param <T> the type of the object to retrieve.
+   * @return a future of the object, which is null if no object could be found stored with the
+   *     given key.
+   */
+  <T> CompletableFuture<T> readAsync(Class<T> entityClass, Key key);
+
+  /**
+   * Finds objects stored from their keys.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param keys the keys of the objects to retrieve.
+   * @param options the Cloud Spanner read options with which to conduct the read operation.
+   * @param <T> the type of the object to retrieve.
+   * @return a future of the objects that could be found using the given keys.
+   * @see SpannerOperations#read(Class, KeySet, SpannerReadOptions)
+   */
+  <T> CompletableFuture<List<T>> readAsync(
+      Class<T> entityClass, KeySet keys, SpannerReadOptions options);
+
+  /**
+   * Finds objects by using an SQL statement.
+   *
+   * @param entityClass the type of object to retrieve.
+   * @param statement the SQL statement used to select the objects.
+   * @param options the Cloud Spanner query options with which to conduct the query operation.
+   * @param <T> the type of object to retrieve.
+   * @return a future of the objects found.
+   */
+  <T> CompletableFuture<List<T>> queryAsync(
+      Class<T> entityClass, Statement statement, SpannerQueryOptions options);
+
+  /**
+   * Executes a query and maps its rows with a function.
+   *
+   * @param rowFunc the function to map each row, which must not block.
+   * @param statement the SQL statement used to select the objects.
+   * @param options the Cloud Spanner query options with which to conduct the query operation.
+   * @param <A> the type of object to retrieve.
+   * @return a future of the mapped rows.
+   */
+  <A> CompletableFuture<List<A>> queryAsync(
+      Function<Struct, A> rowFunc, Statement statement, SpannerQueryOptions options);
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.api.core.ApiFuture;
+import com.google.cloud.spanner.AsyncResultSet;
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.Options.QueryOption;
+import com.google.cloud.spanner.Options.ReadOption;
+import com.google.cloud.spanner.Options.UpdateOption;
+import com.google.cloud.spanner.ResultSet;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.TransactionContext;
+import com.google.spanner.v1.ResultSetStats;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link TransactionContext} that buffers the DML statements executed without options and sends
+ * them to Cloud Spanner in a single batch update. The buffered statements are flushed before any
+ * other operation of the transaction, so they are visible to its reads, and before the transaction
+ * is committed.
+ *
+ * <p>The update count of a buffered statement is not known when it is executed, so {@link
+ * SpannerOperations#SUCCESS_NO_INFO} is returned instead. Statements whose update count is needed
+ * are executed with {@link #executeUpdateNow(Statement)}.
+ */
+class DmlBatchingTransactionContext implements TransactionContext {
+
+  private final TransactionContext transactionContext;
+
+  private final List<Statement> bufferedStatements = new ArrayList<>();
+
+  DmlBatchingTransactionContext(TransactionContext transactionContext) {
+    this.transactionContext = transactionContext;
+  }
+
+  /** Sends the buffered DML statements to Cloud Spanner, if there are any. */
+  void flush() {
+    if (!this.bufferedStatements.isEmpty()) {
+      List<Statement> statements = new ArrayList<>(this.bufferedStatements);
+      this.bufferedStatements.clear();
+      this.transactionContext.batchUpdate(statements);
+    }
+  }
+
+  /**
+   * Executes a DML statement right away, after the buffered ones, to return its update count.
+   *
+   * @param statement the DML statement
+   * @return the number of rows affected
+   */
+  long executeUpdateNow(Statement statement) {
+    flush();
+    return this.transactionContext.executeUpdate(statement);
+  }
+
+  @Override
+  public long executeUpdate(Statement statement, UpdateOption... updateOptions) {
+    if (updateOptions.length > 0) {
+      flush();
+      return this.transactionContext.executeUpdate(statement, updateOptions);
+    }
+    this.bufferedStatements.add(statement);
+    return SpannerOperations.SUCCESS_NO_INFO;
+  }
+
+  @Override
+  public ApiFuture<Long> executeUpdateAsync(Statement statement, UpdateOption... updateOptions) {
+    flush();
+    return this.transactionContext.executeUpdateAsync(statement, updateOptions);
+  }
+
+  @Override
+  public long[] batchUpdate(Iterable<Statement> statements, UpdateOption... updateOptions) {
+    flush();
+    return this.transactionContext.batchUpdate(statements, updateOptions);
+  }
+
+  @Override
+  public ApiFuture<long[]> batchUpdateAsync(
+      Iterable<Statement> statements, UpdateOption... updateOptions) {
+    flush();
+    return this.transactionContext.batchUpdateAsync(statements, updateOptions);
+  }
+
+  @Override
+  public ResultSetStats analyzeUpdate(
+      Statement statement, QueryAnalyzeMode analyzeMode, UpdateOption... updateOptions) {
+    flush();
+    return this.transactionContext.analyzeUpdate(statement, analyzeMode, updateOptions);
+  }
+
+  @Override
+  public ResultSet analyzeUpdateStatement(
+      Statement statement, QueryAnalyzeMode analyzeMode, UpdateOption... updateOptions) {
+    flush();
+    return this.transactionContext.analyzeUpdateStatement(statement, analyzeMode, updateOptions);
+  }
+
+  @Override
+  public void buffer(Mutation mutation) {
+    this.transactionContext.buffer(mutation);
+  }
+
+  @Override
+  public ApiFuture<Void> bufferAsync(Mutation mutation) {
+    return this.transactionContext.bufferAsync(mutation);
+  }
+
+  @Override
+  public void buffer(Iterable<Mutation> mutations) {
+    this.transactionContext.buffer(mutations);
+  }
+
+  @Override
+  public ApiFuture<Void> bufferAsync(Iterable<Mutation> mutations) {
+    return this.transactionContext.bufferAsync(mutations);
+  }
+
+  @Override
+  public ResultSet read(
+      String table, KeySet keys, Iterable<String> columns, ReadOption... options) {
+    flush();
+    return this.transactionContext.read(table, keys, columns, options);
+  }
+
+  @Override
+  public AsyncResultSet readAsync(
+      String table, KeySet keys, Iterable<String> columns, ReadOption... options) {
+    flush();
+    return this.transactionContext.readAsync(table, keys, columns, options);
+  }
+
+  @Override
+  public ResultSet readUsingIndex(
+      String table, String index, KeySet keys, Iterable<String> columns, ReadOption... options) {
+    flush();
+    return this.transactionContext.readUsingIndex(table, index, keys, columns, options);
+  }
+
+  @Override
+  public AsyncResultSet readUsingIndexAsync(
+      String table, String index, KeySet keys, Iterable<String> columns, ReadOption... options) {
+    flush();
+    return this.transactionContext.readUsingIndexAsync(table, index, keys, columns, options);
+  }
+
+  @Nullable
+  @Override
+  public Struct readRow(String table, Key key, Iterable<String> columns) {
+    flush();
+    return this.transactionContext.readRow(table, key, columns);
+  }
+
+  @Override
+  public ApiFuture<Struct> readRowAsync(String table, Key key, Iterable<String> columns) {
+    flush();
+    return this.transactionContext.readRowAsync(table, key, columns);
+  }
+
+  @Nullable
+  @Override
+  public Struct readRowUsingIndex(String table, String index, Key key, Iterable<String> columns) {
+    flush();
+    return this.transactionContext.readRowUsingIndex(table, index, key, columns);
+  }
+
+  @Override
+  public ApiFuture<Struct> readRowUsingIndexAsync(
+      String table, String index, Key key, Iterable<String> columns) {
+    flush();
+    return this.transactionContext.readRowUsingIndexAsync(table, index, key, columns);
+  }
+
+  @Override
+  public ResultSet executeQuery(Statement statement, QueryOption... options) {
+    flush();
+    return this.transactionContext.executeQuery(statement, options);
+  }
+
+  @Override
+  public AsyncResultSet executeQueryAsync(Statement statement, QueryOption... options) {
+    flush();
+    return this.transactionContext.executeQueryAsync(statement, options);
+  }
+
+  @Override
+  public ResultSet analyzeQuery(Statement statement, QueryAnalyzeMode queryMode) {
+    flush();
+    return this.transactionContext.analyzeQuery(statement, queryMode);
+  }
+
+  @Override
+  public void close() {
+    this.transactionContext.close();
+  }
+}
@@ -28,8 +28,12 @@ import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 
 /**
  * A {@link SpannerTemplate} that performs all operations in a single transaction. This template is
@@ -41,6 +45,10 @@ class ReadWriteTransactionSpannerTemplate extends SpannerTemplate {
 
   private TransactionContext transactionContext;
 
+  private final Set<String> writtenTables = new HashSet<>();
+
+  private boolean executedDml;
+
   ReadWriteTransactionSpannerTemplate(
       Supplier<DatabaseClient> databaseClient,
       SpannerMappingContext mappingContext,
@@ -60,6 +68,7 @@ class ReadWriteTransactionSpannerTemplate extends SpannerTemplate {
   @Override
   protected void applyMutations(Collection<Mutation> mutations) {
     this.transactionContext.buffer(mutations);
+    mutations.forEach(mutation -> this.writtenTables.add(mutation.getTable()));
   }
 
   @Override
@@ -69,9 +78,30 @@ class ReadWriteTransactionSpannerTemplate extends SpannerTemplate {
 
   @Override
   public long executeDmlStatement(Statement statement) {
+    this.executedDml = true;
     return this.transactionContext.executeUpdate(statement);
   }
 
+  @Override
+  public long[] executeDmlStatements(List<Statement> statements) {
+    this.executedDml = !statements.isEmpty() || this.executedDml;
+    return statements.isEmpty() ? new long[0] : this.transactionContext.batchUpdate(statements);
+  }
+
+  boolean hasWritten() {
+    return this.executedDml || !this.writtenTables.isEmpty();
+  }
+
+  /**
+   * Returns the tables written by the mutations of the transaction.
+   *
+   * @return the written tables, or {@code null} if any table may have been written by DML.
+   */
+  @Nullable
+  Set<String> getWrittenTables() {
+    return this.executedDml ? null : this.writtenTables;
+  }
+
   @Override
   public long executePartitionedDmlStatement(Statement statement) {
     throw new SpannerDataException(
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A second-level cache of entities by key, used by {@link SpannerTemplate} for the key-based reads
+ * of the entity types that are registered in it. Each entity type has its own bounded cache, whose
+ * entries expire a fixed time after they were read.
+ *
+ * <p>The entities are cached as they were read by strong reads, with their eagerly interleaved
+ * children. Each reader gets its own copy of a cached entity, made by the copy function of its
+ * type, unless the type was registered with {@link #registerShared}, in which case the same
+ * instances are returned to all the readers and must not be modified. Writes made through the
+ * {@link SpannerTemplate} evict the entities of the tables they modify, and of the tables that
+ * these are interleaved in. Writes made by other clients are only seen after the entries expire.
+ */
+public class SpannerEntityCache {
+
+  private final SpannerMappingContext mappingContext;
+
+  private final Ticker ticker;
+
+  private final Map<Class<?>, EntityTypeCache> entityTypeCaches = new ConcurrentHashMap<>();
+
+  public SpannerEntityCache(SpannerMappingContext mappingContext) {
+    this(mappingContext, Ticker.systemTicker());
+  }
+
+  SpannerEntityCache(SpannerMappingContext mappingContext, Ticker ticker) {
+    Assert.notNull(mappingContext, "A valid mapping context for Spanner is required.");
+    this.mappingContext = mappingContext;
+    this.ticker = ticker;
+  }
+
+  /**
+   * Caches the entities of a type, and returns a copy of a cached entity to each reader.
+   *
+   * @param entityType the type of the entities to cache.
+   * @param maximumSize the maximum number of entities of the type to cache.
+   * @param timeToLive how long the entities are cached after they are read.
+   * @param copier makes a copy of an entity, including its interleaved children, that can be
+   *     modified without affecting the cached entity.
+   * @param <T> the type of the entities.
+   * @return this cache.
+   */
+  public <T> SpannerEntityCache register(
+      Class<T> entityType, long maximumSize, Duration timeToLive, UnaryOperator<T> copier) {
+    Assert.notNull(copier, "A valid copy function is required.");
+    return registerEntityType(
+        entityType, maximumSize, timeToLive, entity -> copier.apply(entityType.cast(entity)));
+  }
+
+  /**
+   * Caches the entities of a type, and returns the same cached instances to all readers. This is
+   * only safe for types whose instances are not modified once read, such as immutable types.
+   *
+   * @param entityType the type of the entities to cache.
+   * @param maximumSize the maximum number of entities of the type to cache.
+   * @param timeToLive how long the entities are cached after they are read.
+   * @return this cache.
+   */
+  public SpannerEntityCache registerShared(
+      Class<?> entityType, long maximumSize, Duration timeToLive) {
+    return registerEntityType(entityType, maximumSize, timeToLive, UnaryOperator.identity());
+  }
+
+  private SpannerEntityCache registerEntityType(
+      Class<?> entityType, long maximumSize, Duration timeToLive, UnaryOperator<Object> copier) {
+    Assert.isTrue(maximumSize > 0, "The maximum size must be positive.");
+    Assert.isTrue(
+        timeToLive != null && !timeToLive.isNegative() && !timeToLive.isZero(),
+        "The time to live must be positive.");
+    Set<String> tables = new HashSet<>();
+    collectTables(this.mappingContext.getPersistentEntityOrFail(entityType), tables);
+    this.entityTypeCaches.put(
+        entityType, new EntityTypeCache(maximumSize, timeToLive, tables, copier, this.ticker));
+    return this;
+  }
+
+  /**
+   * Returns whether the entities of a type are cached.
+   *
+   * @param entityType the type of the entities.
+   * @return {@code true} if the type was registered.
+   */
+  public boolean isCached(Class<?> entityType) {
+    return this.entityTypeCaches.containsKey(entityType);
+  }
+
+  /**
+   * Returns the hit and miss counts of the cache of a type. A cached entity that is older than the
+   * staleness accepted by a read is counted as a miss.
+   *
+   * @param entityType the type of the entities.
+   * @return the statistics of the cache of the type.
+   */
+  public CacheStats getStats(Class<?> entityType) {
+    EntityTypeCache entityTypeCache = getEntityTypeCache(entityType);
+    return new CacheStats(
+        entityTypeCache.hitCount.sum(),
+        entityTypeCache.missCount.sum(),
+        0,
+        0,
+        0,
+        entityTypeCache.cache.stats().evictionCount());
+  }
+
+  /** Evicts all the cached entities. */
+  public void invalidateAll() {
+    this.entityTypeCaches.values().forEach(EntityTypeCache::invalidateAll);
+  }
+
+  /**
+   * Evicts the cached entities that were read from the given tables or from their interleaved
+   * child tables.
+   *
+   * @param tables the names of the modified tables.
+   */
+  public void invalidateTables(Collection<String> tables) {
+    for (EntityTypeCache entityTypeCache : this.entityTypeCaches.values()) {
+      if (tables.stream().anyMatch(entityTypeCache.tables::contains)) {
+        entityTypeCache.invalidateAll();
+      }
+    }
+  }
+
+  /**
+   * Returns a cached entity.
+   *
+   * @param entityType the type of the entity.
+   * @param key the key of the entity.
+   * @param maxStaleness the maximum age of the entity, or {@code null} for the time to live.
+   * @return a copy of the entity, or the shared entity, or {@code null} if it is not cached or is
+   *     too old.
+   */
+  @Nullable
+  <T> T get(Class<T> entityType, Key key, @Nullable Duration maxStaleness) {
+    EntityTypeCache entityTypeCache = getEntityTypeCache(entityType);
+    CachedEntity cachedEntity = entityTypeCache.cache.getIfPresent(key);
+    if (cachedEntity == null
+        || (maxStaleness != null
+            && this.ticker.read() - cachedEntity.readNanos() > maxStaleness.toNanos())) {
+      entityTypeCache.missCount.increment();
+      return null;
+    }
+    entityTypeCache.hitCount.increment();
+    return entityType.cast(entityTypeCache.copier.apply(cachedEntity.entity()));
+  }
+
+  /**
+   * Returns the generation of the cache of a type, which changes every time the cache is
+   * invalidated. It is read before entities are read from Cloud Spanner, so that they are not
+   * cached if they were modified in the meantime.
+   */
+  long getGeneration(Class<?> entityType) {
+    return getEntityTypeCache(entityType).generation.get();
+  }
+
+  /**
+   * Caches a copy of an entity that was read by a strong read, unless the cache was invalidated
+   * since the read started.
+   *
+   * @param entityType the type of the entity.
+   * @param key the key of the entity.
+   * @param entity the entity.
+   * @param generation the generation of the cache before the entity was read.
+   * @param readNanos the time of the ticker before the entity was read.
+   */
+  void put(Class<?> entityType, Key key, Object entity, long generation, long readNanos) {
+    EntityTypeCache entityTypeCache = getEntityTypeCache(entityType);
+    synchronized (entityTypeCache) {
+      if (entityTypeCache.generation.get() == generation) {
+        entityTypeCache.cache.put(
+            key, new CachedEntity(entityTypeCache.copier.apply(entity), readNanos));
+      }
+    }
+  }
+
+  long readTicker() {
+    return this.ticker.read();
+  }
+
+  private EntityTypeCache getEntityTypeCache(Class<?> entityType) {
+    EntityTypeCache entityTypeCache = this.entityTypeCaches.get(entityType);
+    Assert.notNull(entityTypeCache, () -> "The entity type is not cached: " + entityType);
+    return entityTypeCache;
+  }
+
+  private void collectTables(SpannerPersistentEntity<?> persistentEntity, Set<String> tables) {
+    if (!tables.add(persistentEntity.tableName())) {
+      return;
+    }
+    persistentEntity.doWithInterleavedProperties(
+        property ->
+            collectTables(
+                this.mappingContext.getPersistentEntityOrFail(property.getColumnInnerType()),
+                tables));
+  }
+
+  private record CachedEntity(Object entity, long readNanos) {}
+
+  private static final class EntityTypeCache {
+
+    private final Cache<Key, CachedEntity> cache;
+
+    private final Set<String> tables;
+
+    private final UnaryOperator<Object> copier;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    EntityTypeCache(
+        long maximumSize,
+        Duration timeToLive,
+        Set<String> tables,
+        UnaryOperator<Object> copier,
+        Ticker ticker) {
+      this.cache =
+          CacheBuilder.newBuilder()
+              .maximumSize(maximumSize)
+              .expireAfterWrite(timeToLive.toNanos(), TimeUnit.NANOSECONDS)
+              .ticker(ticker)
+              .recordStats()
+              .build();
+      this.tables = tables;
+      this.copier = copier;
+    }
+
+    synchronized void invalidateAll() {
+      this.generation.incrementAndGet();
+      this.cache.invalidateAll();
+    }
+  }
+}
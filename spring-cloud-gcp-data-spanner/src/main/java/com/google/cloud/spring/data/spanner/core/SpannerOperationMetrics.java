@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.spanner.Statement;
+import com.google.protobuf.Value;
+import com.google.spanner.v1.ResultSetStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Observes the operations of {@link SpannerTemplate} with Micrometer, and records their metrics.
+ * Each operation is observed as {@code spring.cloud.gcp.spanner.operation}, with the kind of
+ * operation, the table of its entities and the repository method that performed it as
+ * low-cardinality keys. The number of rows returned or affected by operations, and the number of
+ * mutations that writes apply, are recorded as the {@code spring.cloud.gcp.spanner.rows} and {@code
+ * spring.cloud.gcp.spanner.mutations} distributions, with the same tags as the observations.
+ */
+public class SpannerOperationMetrics implements SpannerOperationObserver {
+
+  static final String OPERATION = "spring.cloud.gcp.spanner.operation";
+
+  static final String QUERY_CPU = "spring.cloud.gcp.spanner.query.cpu";
+
+  static final String QUERY_ROWS_SCANNED = "spring.cloud.gcp.spanner.query.rows.scanned";
+
+  private static final Log LOGGER = LogFactory.getLog(SpannerOperationMetrics.class);
+
+  private static final String NONE = "none";
+
+  private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+  private MeterRegistry meterRegistry;
+
+  private double profileSampleRate;
+
+  private Duration slowQueryThreshold = Duration.ZERO;
+
+  /**
+   * Sets the registry of the observations of the operations.
+   *
+   * @param observationRegistry the registry, or {@code null} to not observe the operations
+   */
+  public void setObservationRegistry(ObservationRegistry observationRegistry) {
+    this.observationRegistry =
+        observationRegistry != null ? observationRegistry : ObservationRegistry.NOOP;
+  }
+
+  /**
+   * Sets the registry that the counts of rows and mutations, and the statistics of profiled
+   * queries, are recorded in.
+   *
+   * @param meterRegistry the registry, or {@code null} to not record them
+   */
+  public void setMeterRegistry(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Runs a sample of the queries without query options in the profile mode, and records the
+   * server-side CPU time and the scanned rows of the ones that are slow in the {@code
+   * spring.cloud.gcp.spanner.query.cpu} and {@code spring.cloud.gcp.spanner.query.rows.scanned}
+   * meters. It requires a meter registry.
+   *
+   * @param sampleRate the fraction of the queries to profile, between 0 and 1. Default is 0.
+   * @param slowQueryThreshold the minimum time for a profiled query to be recorded
+   */
+  public void setQueryProfiling(double sampleRate, Duration slowQueryThreshold) {
+    Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "The sample rate must be between 0 and 1.");
+    Assert.notNull(slowQueryThreshold, "A non-null slow query threshold is required.");
+    this.profileSampleRate = sampleRate;
+    this.slowQueryThreshold = slowQueryThreshold;
+  }
+
+  @Override
+  public <A> A observe(
+      String operation,
+      String table,
+      Statement statement,
+      Supplier<A> action,
+      String countName,
+      ToLongFunction<A> count) {
+    Tags tags = tags(operation, table);
+    Observation observation =
+        Observation.createNotStarted(OPERATION, this.observationRegistry)
+            .contextualName("spanner " + operation);
+    for (Tag tag : tags) {
+      observation.lowCardinalityKeyValue(tag.getKey(), tag.getValue());
+    }
+    if (statement != null) {
+      observation.highCardinalityKeyValue("db.statement", statement.getSql());
+    }
+    observation.start();
+    try (Observation.Scope scope = observation.openScope()) {
+      A result = action.get();
+      if (countName != null) {
+        long value = count.applyAsLong(result);
+        observation.highCardinalityKeyValue(countName, String.valueOf(value));
+        if (this.meterRegistry != null) {
+          DistributionSummary.builder(countName)
+              .tags(tags)
+              .register(this.meterRegistry)
+              .record((double) value);
+        }
+      }
+      return result;
+    } catch (RuntimeException ex) {
+      observation.error(ex);
+      throw ex;
+    } finally {
+      observation.stop();
+    }
+  }
+
+  /** Profiles a sample of the queries, as queries with query options cannot be profiled. */
+  @Override
+  public boolean shouldProfile(SpannerQueryOptions options) {
+    return this.meterRegistry != null
+        && this.profileSampleRate > 0
+        && (options == null || options.getOptions().length == 0)
+        && ThreadLocalRandom.current().nextDouble() < this.profileSampleRate;
+  }
+
+  /** Records the CPU time and the scanned rows of a profiled query, if it was slow. */
+  @Override
+  public void recordProfile(
+      ResultSetStats stats, Duration elapsed, Statement statement, String table) {
+    if (stats == null
+        || !stats.hasQueryStats()
+        || elapsed.compareTo(this.slowQueryThreshold) < 0) {
+      return;
+    }
+    Tags tags = tags("query", table);
+    Value cpuTime = stats.getQueryStats().getFieldsMap().get("cpu_time");
+    if (cpuTime != null) {
+      Timer.builder(QUERY_CPU)
+          .description("The server-side CPU time of slow Cloud Spanner queries.")
+          .tags(tags)
+          .register(this.meterRegistry)
+          .record(parseDuration(cpuTime.getStringValue()));
+    }
+    Value rowsScanned = stats.getQueryStats().getFieldsMap().get("rows_scanned");
+    if (rowsScanned != null) {
+      DistributionSummary.builder(QUERY_ROWS_SCANNED)
+          .description("The rows scanned by slow Cloud Spanner queries.")
+          .tags(tags)
+          .register(this.meterRegistry)
+          .record(Double.parseDouble(rowsScanned.getStringValue()));
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Slow query in "
+              + elapsed.toMillis()
+              + " ms: "
+              + statement
+              + " with statistics "
+              + stats.getQueryStats().getFieldsMap());
+    }
+  }
+
+  private static Tags tags(String operation, String table) {
+    String method = SpannerRepositoryMethodContext.getCurrentMethod();
+    return Tags.of(
+        "operation", operation,
+        "table", table != null ? table : NONE,
+        "method", method != null ? method : NONE);
+  }
+
+  /** Parses the durations of query statistics, such as {@code 1.25 msecs}. */
+  static Duration parseDuration(String value) {
+    String trimmed = value.trim();
+    int separator = trimmed.indexOf(' ');
+    double amount =
+        Double.parseDouble((separator < 0) ? trimmed : trimmed.substring(0, separator));
+    String unit = (separator < 0) ? "secs" : trimmed.substring(separator + 1).trim();
+    double nanosPerUnit;
+    switch (unit) {
+      case "usecs":
+        nanosPerUnit = 1e3;
+        break;
+      case "msecs":
+        nanosPerUnit = 1e6;
+        break;
+      case "mins":
+        nanosPerUnit = 60e9;
+        break;
+      default:
+        nanosPerUnit = 1e9;
+    }
+    return Duration.ofNanos((long) (amount * nanosPerUnit));
+  }
+}
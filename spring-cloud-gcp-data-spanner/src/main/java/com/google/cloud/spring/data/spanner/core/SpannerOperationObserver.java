@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.spanner.Statement;
+import com.google.spanner.v1.ResultSetStats;
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.springframework.lang.Nullable;
+
+/**
+ * Observes the operations of {@link SpannerTemplate}: queries, reads, DML statements, writes and
+ * read-write transactions. The template only refers to this interface, so that the libraries that
+ * an implementation uses, such as Micrometer for {@link SpannerOperationMetrics}, are only needed
+ * when it is set.
+ *
+ * @see SpannerTemplate#setOperationObserver(SpannerOperationObserver)
+ */
+public interface SpannerOperationObserver {
+
+  /** The name of the counts of the rows that operations returned or affected. */
+  String ROWS = "spring.cloud.gcp.spanner.rows";
+
+  /** The name of the counts of the mutations that writes applied. */
+  String MUTATIONS = "spring.cloud.gcp.spanner.mutations";
+
+  /**
+   * Observes an operation, and records the number of rows or mutations that it returned, affected
+   * or applied.
+   *
+   * @param operation the kind of operation, such as {@code query} or {@code read}
+   * @param table the table of the entities of the operation, or {@code null} if there is none
+   * @param statement the SQL statement of the operation, or {@code null} if there is none
+   * @param action the operation
+   * @param countName the name of the counts, {@link #ROWS} or {@link #MUTATIONS}, or {@code null}
+   *     to not record them
+   * @param count returns the count of the result of the operation
+   * @param <A> the type of the result of the operation
+   * @return the result of the operation
+   */
+  <A> A observe(
+      String operation,
+      @Nullable String table,
+      @Nullable Statement statement,
+      Supplier<A> action,
+      @Nullable String countName,
+      @Nullable ToLongFunction<A> count);
+
+  /**
+   * Returns whether a query is run in the profile mode, which returns its server-side statistics.
+   *
+   * @param options the options of the query, or {@code null} if it has none
+   * @return {@code true} to profile the query. Default is {@code false}.
+   */
+  default boolean shouldProfile(@Nullable SpannerQueryOptions options) {
+    return false;
+  }
+
+  /**
+   * Records the statistics of a profiled query.
+   *
+   * @param stats the statistics of the query, available once its rows were all consumed
+   * @param elapsed the time to run the query and consume its rows
+   * @param statement the statement of the query
+   * @param table the table of the entities of the query, or {@code null} if there is none
+   */
+  default void recordProfile(
+      @Nullable ResultSetStats stats,
+      Duration elapsed,
+      Statement statement,
+      @Nullable String table) {}
+}
@@ -33,16 +33,39 @@ import java.util.function.Function;
  */
 public interface SpannerOperations {
 
+  /**
+   * The number of rows affected that is returned for a DML statement that was buffered, because it
+   * is only executed later.
+   *
+   * @see SpannerTransactionManager#setDmlBatchingEnabled(boolean)
+   */
+  long SUCCESS_NO_INFO = -2;
+
   /**
    * Execute a DML statement on Cloud Spanner. This must always be done in a transaction and one
    * will be started if needed. See {@link #executePartitionedDmlStatement(Statement)} for executing
    * partitioned DML without a transaction.
    *
+   * <p>In a transaction of a {@link SpannerTransactionManager} with DML batching enabled, the
+   * statement is buffered and executed with the next read of the transaction or its commit, and
+   * {@link #SUCCESS_NO_INFO} is returned instead of the number of rows affected.
+   *
    * @param statement the DML statement to execute.
-   * @return the number of rows affected.
+   * @return the number of rows affected, or {@link #SUCCESS_NO_INFO} if the statement was
+   *     buffered.
    */
   long executeDmlStatement(Statement statement);
 
+  /**
+   * Execute DML statements on Cloud Spanner in a single round trip. The statements are run in
+   * order in a transaction, and one will be started if needed. The execution stops at the first
+   * statement that fails.
+   *
+   * @param statements the DML statements to execute.
+   * @return the number of rows affected by each statement.
+   */
+  long[] executeDmlStatements(List<Statement> statements);
+
   /**
    * Execute a DML statement in partitioned mode. This is not available inside of transactions.
    *
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.spanner.TimestampBound;
+
+/**
+ * Holds the repository method that the current thread is executing, so that the operations that
+ * {@link SpannerTemplate} performs for it are tagged with it in metrics and observations, and its
+ * reads use the staleness that it was declared with.
+ */
+public final class SpannerRepositoryMethodContext {
+
+  private static final ThreadLocal<String> CURRENT_METHOD = new ThreadLocal<>();
+
+  private static final ThreadLocal<TimestampBound> CURRENT_TIMESTAMP_BOUND = new ThreadLocal<>();
+
+  private SpannerRepositoryMethodContext() {}
+
+  /**
+   * Returns the repository method of the current thread.
+   *
+   * @return the name of the method, or {@code null} outside of repository methods.
+   */
+  public static String getCurrentMethod() {
+    return CURRENT_METHOD.get();
+  }
+
+  /**
+   * Sets the repository method of the current thread.
+   *
+   * @param method the name of the method, or {@code null} to clear it.
+   * @return the method that was previously set, to restore once the method returns.
+   */
+  public static String setCurrentMethod(String method) {
+    String previous = CURRENT_METHOD.get();
+    if (method != null) {
+      CURRENT_METHOD.set(method);
+    } else {
+      CURRENT_METHOD.remove();
+    }
+    return previous;
+  }
+
+  /**
+   * Returns the timestamp bound of the reads of the repository method of the current thread.
+   *
+   * @return the timestamp bound, or {@code null} if the method did not declare one.
+   */
+  public static TimestampBound getTimestampBound() {
+    return CURRENT_TIMESTAMP_BOUND.get();
+  }
+
+  /**
+   * Sets the timestamp bound of the reads of the repository method of the current thread.
+   *
+   * @param timestampBound the timestamp bound, or {@code null} to clear it.
+   * @return the timestamp bound that was previously set, to restore once the method returns.
+   */
+  public static TimestampBound setTimestampBound(TimestampBound timestampBound) {
+    TimestampBound previous = CURRENT_TIMESTAMP_BOUND.get();
+    if (timestampBound != null) {
+      CURRENT_TIMESTAMP_BOUND.set(timestampBound);
+    } else {
+      CURRENT_TIMESTAMP_BOUND.remove();
+    }
+    return previous;
+  }
+}
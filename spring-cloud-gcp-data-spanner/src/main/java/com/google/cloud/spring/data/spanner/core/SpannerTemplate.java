@@ -16,14 +16,26 @@
 
 package com.google.cloud.spring.data.spanner.core;
 
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.spanner.AsyncResultSet;
+import com.google.cloud.spanner.AsyncResultSet.CallbackResponse;
+import com.google.cloud.spanner.AsyncResultSet.CursorState;
+import com.google.cloud.spanner.BatchClient;
+import com.google.cloud.spanner.BatchReadOnlyTransaction;
 import com.google.cloud.spanner.DatabaseClient;
 import com.google.cloud.spanner.Key;
 import com.google.cloud.spanner.KeySet;
 import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.Options;
 import com.google.cloud.spanner.Options.QueryOption;
 import com.google.cloud.spanner.Options.ReadOption;
 import com.google.cloud.spanner.Options.UpdateOption;
+import com.google.cloud.spanner.Partition;
+import com.google.cloud.spanner.PartitionOptions;
 import com.google.cloud.spanner.ReadContext;
+import com.google.cloud.spanner.ReadContext.QueryAnalyzeMode;
 import com.google.cloud.spanner.ReadOnlyTransaction;
 import com.google.cloud.spanner.ResultSet;
 import com.google.cloud.spanner.Statement;
@@ -46,16 +58,31 @@ import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeDeleteEvent
 import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeExecuteDmlEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeSaveEvent;
 import com.google.cloud.spring.data.spanner.repository.query.SpannerStatementQueryExecutor;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import javax.annotation.Nullable;
@@ -65,6 +92,7 @@ import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
@@ -73,10 +101,17 @@ import org.springframework.util.Assert;
  *
  * @since 1.1
  */
-public class SpannerTemplate implements SpannerOperations, ApplicationEventPublisherAware {
+public class SpannerTemplate
+    implements SpannerOperations, AsyncSpannerOperations, ApplicationEventPublisherAware {
 
   private static final Log LOGGER = LogFactory.getLog(SpannerTemplate.class);
 
+  /** The number of threads of the executors that templates create when none is set. */
+  private static final int DEFAULT_EXECUTOR_THREADS =
+      Math.max(2, Runtime.getRuntime().availableProcessors());
+
+  private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
   private final Supplier<DatabaseClient> databaseClientProvider;
 
   private final SpannerMappingContext mappingContext;
@@ -89,6 +124,20 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
   private @Nullable ApplicationEventPublisher eventPublisher;
 
+  private @Nullable Executor asyncExecutor;
+
+  private @Nullable Supplier<BatchClient> batchClientProvider;
+
+  private @Nullable Executor partitionedReadExecutor;
+
+  private @Nullable Executor defaultPartitionedReadExecutor;
+
+  private @Nullable SpannerEntityCache entityCache;
+
+  private @Nullable SpannerOperationObserver operationObserver;
+
+  private @Nullable TimestampBound defaultTimestampBound;
+
   public SpannerTemplate(
       Supplier<DatabaseClient> databaseClientProvider,
       SpannerMappingContext mappingContext,
@@ -112,8 +161,123 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
     this.eventPublisher = applicationEventPublisher;
   }
 
+  /**
+   * Sets the executor that maps the rows of asynchronous reads and completes their futures. Child
+   * entities that are neither eagerly nor lazily interleaved are read on it with blocking reads, so
+   * it should not be the common fork-join pool unless the read types have no such children.
+   *
+   * @param asyncExecutor the executor. By default, the asynchronous reads of the template share a
+   *     pool of daemon threads, one per available processor.
+   */
+  public void setAsyncExecutor(Executor asyncExecutor) {
+    Assert.notNull(asyncExecutor, "A non-null executor is required.");
+    this.asyncExecutor = asyncExecutor;
+  }
+
+  /**
+   * Sets the provider of the batch client that {@link #readAllPartitioned(Class, int, boolean,
+   * Consumer)} reads with. It must return a batch client of the same database as the database
+   * client provider.
+   *
+   * @param batchClientProvider the provider of the batch client
+   */
+  public void setBatchClientProvider(Supplier<BatchClient> batchClientProvider) {
+    this.batchClientProvider = batchClientProvider;
+  }
+
+  /**
+   * Sets the executor that the partitions of partitioned reads are read on with blocking reads.
+   *
+   * @param partitionedReadExecutor the executor. By default, the partitioned reads of the
+   *     template share a pool of daemon threads, one per available processor.
+   */
+  public void setPartitionedReadExecutor(Executor partitionedReadExecutor) {
+    this.partitionedReadExecutor = partitionedReadExecutor;
+  }
+
+  /**
+   * Sets the cache of entities that key-based reads of the registered entity types are served
+   * from. It is not used by reads that run in transactions, or that set read options other than a
+   * maximum staleness, which limits the age of the cached entities that can be returned. Only the
+   * entities read by strong reads are cached, as stale reads could return data older than the
+   * writes that evicted them.
+   *
+   * @param entityCache the cache of entities
+   */
+  public void setEntityCache(SpannerEntityCache entityCache) {
+    this.entityCache = entityCache;
+  }
+
+  /**
+   * Sets the observer of the operations of this template: queries, reads, DML statements, writes
+   * and read-write transactions, such as a {@link SpannerOperationMetrics} that observes them with
+   * Micrometer.
+   *
+   * @param operationObserver the observer, or {@code null} to not observe the operations
+   */
+  public void setOperationObserver(@Nullable SpannerOperationObserver operationObserver) {
+    this.operationObserver = operationObserver;
+  }
+
+  /**
+   * Sets the timestamp bound of the reads and queries that run outside of transactions without a
+   * timestamp bound of their own, and of the read-only transactions without one. A stale bound lets
+   * the nearest replica serve them instead of the leader. Read-only transactions cannot have a
+   * maximum staleness or a minimum read timestamp, so they read at an exact staleness of the same
+   * duration, or at that timestamp, instead. Repository query methods can override it with {@link
+   * com.google.cloud.spring.data.spanner.repository.query.StaleRead}.
+   *
+   * @param defaultTimestampBound the timestamp bound, or {@code null} for strong reads. Default is
+   *     {@code null}.
+   */
+  public void setDefaultTimestampBound(@Nullable TimestampBound defaultTimestampBound) {
+    this.defaultTimestampBound = defaultTimestampBound;
+  }
+
+  @Nullable
+  public TimestampBound getDefaultTimestampBound() {
+    return this.defaultTimestampBound;
+  }
+
+  /**
+   * Returns the timestamp bound of the current repository method, if it has one, or else the
+   * default timestamp bound of this template.
+   */
+  @Nullable
+  private TimestampBound resolveDefaultTimestampBound() {
+    TimestampBound methodTimestampBound = SpannerRepositoryMethodContext.getTimestampBound();
+    return (methodTimestampBound != null) ? methodTimestampBound : this.defaultTimestampBound;
+  }
+
+  /**
+   * Converts a timestamp bound to one that read-only transactions accept, which excludes the
+   * bounded staleness modes of single reads.
+   */
+  @Nullable
+  static TimestampBound toReadOnlyTransactionBound(@Nullable TimestampBound timestampBound) {
+    if (timestampBound == null) {
+      return null;
+    }
+    switch (timestampBound.getMode()) {
+      case MAX_STALENESS:
+        return TimestampBound.ofExactStaleness(
+            timestampBound.getMaxStaleness(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+      case MIN_READ_TIMESTAMP:
+        return TimestampBound.ofReadTimestamp(timestampBound.getMinReadTimestamp());
+      default:
+        return timestampBound;
+    }
+  }
+
   protected ReadContext getReadContext() {
-    return doWithOrWithoutTransactionContext(x -> x, this.databaseClientProvider.get()::singleUse);
+    return doWithOrWithoutTransactionContext(
+        x -> x,
+        () -> {
+          TimestampBound timestampBound = resolveDefaultTimestampBound();
+          return (timestampBound != null)
+              ? this.databaseClientProvider.get().singleUse(timestampBound)
+              : this.databaseClientProvider.get().singleUse();
+        });
   }
 
   protected ReadContext getReadContext(TimestampBound timestampBound) {
@@ -131,20 +295,77 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
   @Override
   public long executeDmlStatement(Statement statement) {
+    return executeDmlStatement(statement, false);
+  }
+
+  /**
+   * Executes a DML statement like {@link #executeDmlStatement(Statement)}, optionally without
+   * buffering it in a transaction with DML batching enabled, so that the number of rows affected is
+   * known. The statements buffered before are executed first.
+   *
+   * @param statement the DML statement to execute.
+   * @param rowCountRequired whether the statement is executed right away to return the number of
+   *     rows affected, rather than buffered.
+   * @return the number of rows affected, or {@link #SUCCESS_NO_INFO} if the statement was
+   *     buffered.
+   */
+  public long executeDmlStatement(Statement statement, boolean rowCountRequired) {
     Assert.notNull(statement, "A non-null statement is required.");
     maybeEmitEvent(new BeforeExecuteDmlEvent(statement));
     long rowsAffected =
-        doWithOrWithoutTransactionContext(
-            x -> x.executeUpdate(statement),
+        observe(
+            "dml",
+            null,
+            statement,
             () ->
-                this.databaseClientProvider
-                    .get()
-                    .readWriteTransaction()
-                    .run(transactionContext -> transactionContext.executeUpdate(statement)));
+                doWithOrWithoutTransactionContext(
+                    x ->
+                        (rowCountRequired && x instanceof DmlBatchingTransactionContext batching)
+                            ? batching.executeUpdateNow(statement)
+                            : x.executeUpdate(statement),
+                    () ->
+                        this.databaseClientProvider
+                            .get()
+                            .readWriteTransaction()
+                            .run(
+                                transactionContext ->
+                                    transactionContext.executeUpdate(statement))),
+            SpannerOperationObserver.ROWS,
+            rows -> Math.max(rows, 0));
+    invalidateEntityCache(null);
     maybeEmitEvent(new AfterExecuteDmlEvent(statement, rowsAffected));
     return rowsAffected;
   }
 
+  @Override
+  public long[] executeDmlStatements(List<Statement> statements) {
+    Assert.notNull(statements, "A non-null list of statements is required.");
+    if (statements.isEmpty()) {
+      return new long[0];
+    }
+    statements.forEach(statement -> maybeEmitEvent(new BeforeExecuteDmlEvent(statement)));
+    long[] rowsAffected =
+        observe(
+            "batch_dml",
+            null,
+            null,
+            () ->
+                doWithOrWithoutTransactionContext(
+                    x -> x.batchUpdate(statements),
+                    () ->
+                        this.databaseClientProvider
+                            .get()
+                            .readWriteTransaction()
+                            .run(transactionContext -> transactionContext.batchUpdate(statements))),
+            SpannerOperationObserver.ROWS,
+            counts -> Arrays.stream(counts).sum());
+    invalidateEntityCache(null);
+    for (int i = 0; i < statements.size(); i++) {
+      maybeEmitEvent(new AfterExecuteDmlEvent(statements.get(i), rowsAffected[i]));
+    }
+    return rowsAffected;
+  }
+
   @Override
   public long executePartitionedDmlStatement(Statement statement) {
     return executePartitionedDmlStatement(statement, new UpdateOption[] {});
@@ -156,11 +377,23 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
     Assert.notNull(options, "A non-null UpdateOption is required.");
     maybeEmitEvent(new BeforeExecuteDmlEvent(statement));
     long rowsAffected =
-        doWithOrWithoutTransactionContext(
-            x -> {
-              throw new SpannerDataException("Cannot execute partitioned DML in a transaction.");
-            },
-            () -> this.databaseClientProvider.get().executePartitionedUpdate(statement, options));
+        observe(
+            "partitioned_dml",
+            null,
+            statement,
+            () ->
+                doWithOrWithoutTransactionContext(
+                    x -> {
+                      throw new SpannerDataException(
+                          "Cannot execute partitioned DML in a transaction.");
+                    },
+                    () ->
+                        this.databaseClientProvider
+                            .get()
+                            .executePartitionedUpdate(statement, options)),
+            SpannerOperationObserver.ROWS,
+            Long::longValue);
+    invalidateEntityCache(null);
     maybeEmitEvent(new AfterExecuteDmlEvent(statement, rowsAffected));
     return rowsAffected;
   }
@@ -178,6 +411,11 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         this.mappingContext.getPersistentEntityOrFail(entityClass);
 
     KeySet keys = KeySet.singleKey(key);
+    if (isEntityCacheReadable(entityClass, keys, null)
+        && this.entityCache.get(entityClass, key, null) != null) {
+      maybeEmitEvent(new AfterReadEvent(Collections.emptyList(), keys, null));
+      return true;
+    }
 
     try (ResultSet resultSet =
         executeRead(
@@ -203,27 +441,99 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
   @Override
   public <T> List<T> read(Class<T> entityClass, KeySet keys, SpannerReadOptions options) {
+    List<T> entities =
+        observe(
+            "read",
+            this.mappingContext.getPersistentEntityOrFail(entityClass).tableName(),
+            null,
+            () ->
+                isEntityCacheReadable(entityClass, keys, options)
+                    ? readWithEntityCache(entityClass, keys, options)
+                    : readEntities(entityClass, keys, options),
+            SpannerOperationObserver.ROWS,
+            List::size);
+    maybeEmitEvent(new AfterReadEvent(entities, keys, options));
+    return entities;
+  }
+
+  private <T> List<T> readEntities(Class<T> entityClass, KeySet keys, SpannerReadOptions options) {
     SpannerPersistentEntity<T> persistentEntity =
         (SpannerPersistentEntity<T>) this.mappingContext.getPersistentEntityOrFail(entityClass);
 
-    List<T> entities;
     if (persistentEntity.hasEagerlyLoadedProperties() || persistentEntity.hasWhere()) {
-      entities =
-          executeReadQueryAndResolveChildren(
-              keys,
-              persistentEntity,
-              toQueryOption(keys, options),
-              options != null ? options.getIndex() : null);
-    } else {
-      entities =
-          mapToListAndResolveChildren(
-              executeRead(persistentEntity.tableName(), keys, persistentEntity.columns(), options),
-              entityClass,
-              (options != null) ? options.getIncludeProperties() : null,
-              options != null && options.isAllowPartialRead());
+      return executeReadQueryAndResolveChildren(
+          keys,
+          persistentEntity,
+          toQueryOption(keys, options),
+          options != null ? options.getIndex() : null);
     }
-    maybeEmitEvent(new AfterReadEvent(entities, keys, options));
-    return entities;
+    return mapToListAndResolveChildren(
+        executeRead(persistentEntity.tableName(), keys, persistentEntity.columns(), options),
+        entityClass,
+        (options != null) ? options.getIncludeProperties() : null,
+        options != null && options.isAllowPartialRead());
+  }
+
+  /**
+   * Returns whether a read can be served from the entity cache: the entity type is cached, the
+   * read is outside of a transaction, it only has single keys, and its only option is a maximum
+   * staleness.
+   */
+  private boolean isEntityCacheReadable(
+      Class<?> entityClass, KeySet keys, @Nullable SpannerReadOptions options) {
+    if (this.entityCache == null
+        || !this.entityCache.isCached(entityClass)
+        || getTransactionContext() != null
+        || keys.isAll()
+        || keys.getRanges().iterator().hasNext()) {
+      return false;
+    }
+    return options == null
+        || (options.getIndex() == null
+            && options.getIncludeProperties() == null
+            && !options.isAllowPartialRead()
+            && options.getOptions().length == 0
+            && (options.getTimestampBound() == null
+                || options.getTimestampBound().getMode() == TimestampBound.Mode.MAX_STALENESS));
+  }
+
+  /**
+   * Returns the cached entities of the keys, in the order of the keys, after reading the entities
+   * that are not cached, and caching them if the read was strong.
+   */
+  private <T> List<T> readWithEntityCache(
+      Class<T> entityClass, KeySet keys, @Nullable SpannerReadOptions options) {
+    Duration maxStaleness = null;
+    if (options != null && options.getTimestampBound() != null) {
+      maxStaleness =
+          Duration.ofNanos(options.getTimestampBound().getMaxStaleness(TimeUnit.NANOSECONDS));
+    }
+    Map<Key, T> entitiesByKey = new LinkedHashMap<>();
+    KeySet.Builder missingKeys = KeySet.newBuilder();
+    boolean hasMissingKeys = false;
+    for (Key key : keys.getKeys()) {
+      if (!entitiesByKey.containsKey(key)) {
+        T entity = this.entityCache.get(entityClass, key, maxStaleness);
+        entitiesByKey.put(key, entity);
+        if (entity == null) {
+          missingKeys.addKey(key);
+          hasMissingKeys = true;
+        }
+      }
+    }
+    if (hasMissingKeys) {
+      boolean strongRead = maxStaleness == null && resolveDefaultTimestampBound() == null;
+      long generation = this.entityCache.getGeneration(entityClass);
+      long readNanos = this.entityCache.readTicker();
+      for (T entity : readEntities(entityClass, missingKeys.build(), options)) {
+        Key key = this.spannerSchemaUtils.getKey(entity);
+        entitiesByKey.put(key, entity);
+        if (strongRead) {
+          this.entityCache.put(entityClass, key, entity, generation, readNanos);
+        }
+      }
+    }
+    return entitiesByKey.values().stream().filter(Objects::nonNull).collect(Collectors.toList());
   }
 
   /**
@@ -250,23 +560,147 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
   @Override
   public <A> List<A> query(
       Function<Struct, A> rowFunc, Statement statement, SpannerQueryOptions options) {
-    ArrayList<A> result = new ArrayList<>();
-    try (ResultSet resultSet = executeQuery(statement, options)) {
-      while (resultSet.next()) {
-        result.add(rowFunc.apply(resultSet.getCurrentRowAsStruct()));
-      }
-    }
+    List<A> result =
+        observe(
+            "query",
+            null,
+            statement,
+            () ->
+                consumeQuery(
+                    statement,
+                    options,
+                    null,
+                    resultSet -> {
+                      List<A> rows = new ArrayList<>();
+                      try (resultSet) {
+                        while (resultSet.next()) {
+                          rows.add(rowFunc.apply(resultSet.getCurrentRowAsStruct()));
+                        }
+                      }
+                      return rows;
+                    }),
+            SpannerOperationObserver.ROWS,
+            List::size);
     maybeEmitEvent(new AfterQueryEvent(result, statement, options));
     return result;
   }
 
   @Override
   public <T> List<T> query(Class<T> entityClass, Statement statement, SpannerQueryOptions options) {
-    List<T> entities = queryAndResolveChildren(entityClass, statement, options);
+    String table = this.mappingContext.getPersistentEntityOrFail(entityClass).tableName();
+    List<T> entities =
+        observe(
+            "query",
+            table,
+            statement,
+            () ->
+                consumeQuery(
+                    statement,
+                    options,
+                    table,
+                    resultSet ->
+                        mapToListAndResolveChildren(
+                            resultSet,
+                            entityClass,
+                            (options != null) ? options.getIncludeProperties() : null,
+                            options != null && options.isAllowPartialRead())),
+            SpannerOperationObserver.ROWS,
+            List::size);
     maybeEmitEvent(new AfterQueryEvent(entities, statement, options));
     return entities;
   }
 
+  /**
+   * Runs a query and maps its rows. A sample of the queries are run in the profile mode when query
+   * profiling is enabled, so that the server-side statistics of the slow ones are recorded.
+   */
+  private <A> List<A> consumeQuery(
+      Statement statement,
+      SpannerQueryOptions options,
+      @Nullable String table,
+      Function<ResultSet, List<A>> mapper) {
+    SpannerOperationObserver observer = this.operationObserver;
+    if (observer == null || !observer.shouldProfile(options)) {
+      return mapper.apply(executeQuery(statement, options));
+    }
+    long startNanos = System.nanoTime();
+    ResultSet resultSet =
+        ((options != null && options.getTimestampBound() != null)
+                ? getReadContext(options.getTimestampBound())
+                : getReadContext())
+            .analyzeQuery(statement, QueryAnalyzeMode.PROFILE);
+    List<A> result = mapper.apply(resultSet);
+    observer.recordProfile(
+        resultSet.getStats(), Duration.ofNanos(System.nanoTime() - startNanos), statement, table);
+    return result;
+  }
+
+  @Override
+  public <T> CompletableFuture<T> readAsync(Class<T> entityClass, Key key) {
+    return readAsync(entityClass, KeySet.singleKey(key), null)
+        .thenApply(items -> items.isEmpty() ? null : items.get(0));
+  }
+
+  @Override
+  public <T> CompletableFuture<List<T>> readAsync(
+      Class<T> entityClass, KeySet keys, SpannerReadOptions options) {
+    SpannerPersistentEntity<T> persistentEntity =
+        (SpannerPersistentEntity<T>) this.mappingContext.getPersistentEntityOrFail(entityClass);
+
+    CompletableFuture<List<T>> entities;
+    if (persistentEntity.hasEagerlyLoadedProperties() || persistentEntity.hasWhere()) {
+      entities =
+          queryAsync(
+              entityClass,
+              SpannerStatementQueryExecutor.buildQuery(
+                  keys,
+                  persistentEntity,
+                  this.spannerEntityProcessor.getWriteConverter(),
+                  this.mappingContext,
+                  options != null ? options.getIndex() : null),
+              toQueryOption(keys, options));
+    } else {
+      entities =
+          mapToListAndResolveChildrenAsync(
+              executeReadAsync(
+                  persistentEntity.tableName(), keys, persistentEntity.columns(), options),
+              entityClass,
+              (options != null) ? options.getIncludeProperties() : null,
+              options != null && options.isAllowPartialRead());
+    }
+    return entities.thenApply(
+        result -> {
+          maybeEmitEvent(new AfterReadEvent(result, keys, options));
+          return result;
+        });
+  }
+
+  @Override
+  public <T> CompletableFuture<List<T>> queryAsync(
+      Class<T> entityClass, Statement statement, SpannerQueryOptions options) {
+    return mapToListAndResolveChildrenAsync(
+            executeQueryAsync(statement, options),
+            entityClass,
+            (options != null) ? options.getIncludeProperties() : null,
+            options != null && options.isAllowPartialRead())
+        .thenApply(
+            entities -> {
+              maybeEmitEvent(new AfterQueryEvent(entities, statement, options));
+              return entities;
+            });
+  }
+
+  @Override
+  public <A> CompletableFuture<List<A>> queryAsync(
+      Function<Struct, A> rowFunc, Statement statement, SpannerQueryOptions options) {
+    return toListAsync(executeQueryAsync(statement, options), rowFunc)
+        .thenApply(
+            result -> {
+              maybeEmitEvent(new AfterQueryEvent(result, statement, options));
+              return result;
+            });
+  }
+
   @Override
   public <T> List<T> readAll(Class<T> entityClass, SpannerReadOptions options) {
     return read(entityClass, KeySet.all(), options);
@@ -277,6 +711,131 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
     return readAll(entityClass, null);
   }
 
+  /**
+   * Reads all stored objects of a type in parallel. The table is split into partitions with a batch
+   * read-only transaction, and the partitions are read concurrently at the same timestamp, so that
+   * the scan scales horizontally. The objects are passed to the consumer as they are read, from
+   * several threads at once, in no particular order.
+   *
+   * <p>The {@link com.google.cloud.spring.data.spanner.core.mapping.Where} clause of the type is
+   * applied. Interleaved children are not read with the table, so children that are not lazily
+   * interleaved are read separately for each object.
+   *
+   * <p>The partitions are read on the executor set with {@link
+   * #setPartitionedReadExecutor(Executor)}. By default, they are read on a pool of daemon threads
+   * that all partitioned reads of the template share, with one thread per available processor and
+   * at least two, regardless of the number of partitions.
+   *
+   * @param entityClass the type of the objects to read.
+   * @param maxPartitions the desired maximum number of partitions.
+   * @param dataBoost whether to read with Data Boost, which uses independent compute resources
+   *     that do not compete with the other traffic of the instance.
+   * @param consumer the consumer of the objects, which must be thread-safe.
+   * @param <T> the type of the objects to read.
+   * @throws IllegalStateException if no batch client provider was set.
+   * @see #setBatchClientProvider(Supplier)
+   */
+  public <T> void readAllPartitioned(
+      Class<T> entityClass, int maxPartitions, boolean dataBoost, Consumer<? super T> consumer) {
+    Assert.state(
+        this.batchClientProvider != null, "A batch client is required for partitioned reads.");
+    Assert.isTrue(maxPartitions > 0, "The maximum number of partitions must be positive.");
+    Assert.notNull(consumer, "A non-null consumer is required.");
+    SpannerPersistentEntity<?> entity = this.mappingContext.getPersistentEntityOrFail(entityClass);
+    Statement statement =
+        Statement.of(
+            "SELECT "
+                + SpannerStatementQueryExecutor.getColumnsStringForSelect(
+                    entity, this.mappingContext, false)
+                + " FROM "
+                + entity.tableName()
+                + SpannerStatementQueryExecutor.buildWhere(entity));
+
+    try (BatchReadOnlyTransaction transaction =
+        this.batchClientProvider.get().batchReadOnlyTransaction(TimestampBound.strong())) {
+      List<Partition> partitions =
+          transaction.partitionQuery(
+              PartitionOptions.newBuilder().setMaxPartitions(maxPartitions).build(),
+              statement,
+              Options.dataBoostEnabled(dataBoost));
+      LOGGER.debug("Reading " + partitions.size() + " partitions of: " + statement);
+
+      Executor executor =
+          (this.partitionedReadExecutor != null)
+              ? this.partitionedReadExecutor
+              : getDefaultPartitionedReadExecutor();
+      try {
+        CompletableFuture.allOf(
+                partitions.stream()
+                    .map(
+                        partition ->
+                            CompletableFuture.runAsync(
+                                () ->
+                                    readPartition(transaction, partition, entityClass, consumer),
+                                executor))
+                    .toArray(CompletableFuture[]::new))
+            .join();
+      } catch (CompletionException ex) {
+        if (ex.getCause() instanceof RuntimeException runtimeException) {
+          throw runtimeException;
+        }
+        throw ex;
+      }
+    }
+  }
+
+  private synchronized Executor getAsyncExecutor() {
+    if (this.asyncExecutor == null) {
+      this.asyncExecutor = newDaemonExecutor("spanner-async-");
+    }
+    return this.asyncExecutor;
+  }
+
+  private synchronized Executor getDefaultPartitionedReadExecutor() {
+    if (this.defaultPartitionedReadExecutor == null) {
+      this.defaultPartitionedReadExecutor = newDaemonExecutor("spanner-partitioned-read-");
+    }
+    return this.defaultPartitionedReadExecutor;
+  }
+
+  /**
+   * Creates a bounded pool of daemon threads that stop when they are idle, so that the template
+   * does not need to be shut down.
+   */
+  private static Executor newDaemonExecutor(String threadNamePrefix) {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            DEFAULT_EXECUTOR_THREADS,
+            DEFAULT_EXECUTOR_THREADS,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, threadNamePrefix + THREAD_COUNTER.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private <T> void readPartition(
+      BatchReadOnlyTransaction transaction,
+      Partition partition,
+      Class<T> entityClass,
+      Consumer<? super T> consumer) {
+    try (ResultSet resultSet = transaction.execute(partition)) {
+      while (resultSet.next()) {
+        T entity =
+            this.spannerEntityProcessor.read(
+                entityClass, resultSet.getCurrentRowAsStruct(), null, false);
+        resolveChildEntity(entity, null);
+        consumer.accept(entity);
+      }
+    }
+  }
+
   @Override
   public <T> List<T> queryAll(Class<T> entityClass, SpannerPageableQueryOptions options) {
     SpannerPersistentEntity<?> entity = this.mappingContext.getPersistentEntityOrFail(entityClass);
@@ -448,27 +1007,42 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
               "There is already declarative transaction open. "
                   + "Spanner does not support nested transactions");
         },
-        () ->
-            this.databaseClientProvider
-                .get()
-                .readWriteTransaction()
-                .run(
-                    new TransactionCallable<T>() {
-                      @Nullable
-                      @Override
-                      public T run(TransactionContext transaction) { // @formatter:off
-                        ReadWriteTransactionSpannerTemplate transactionSpannerTemplate =
-                            new ReadWriteTransactionSpannerTemplate(
-                                // @formatter:on
-                                SpannerTemplate.this.databaseClientProvider,
-                                SpannerTemplate.this.mappingContext,
-                                SpannerTemplate.this.spannerEntityProcessor,
-                                SpannerTemplate.this.mutationFactory,
-                                SpannerTemplate.this.spannerSchemaUtils,
-                                transaction);
-                        return operations.apply(transactionSpannerTemplate);
-                      }
-                    }));
+        () -> {
+          AtomicReference<ReadWriteTransactionSpannerTemplate> lastAttempt =
+              new AtomicReference<>();
+          TransactionCallable<T> callable =
+              new TransactionCallable<T>() {
+                @Nullable
+                @Override
+                public T run(TransactionContext transaction) { // @formatter:off
+                  ReadWriteTransactionSpannerTemplate transactionSpannerTemplate =
+                      new ReadWriteTransactionSpannerTemplate(
+                          // @formatter:on
+                          SpannerTemplate.this.databaseClientProvider,
+                          SpannerTemplate.this.mappingContext,
+                          SpannerTemplate.this.spannerEntityProcessor,
+                          SpannerTemplate.this.mutationFactory,
+                          SpannerTemplate.this.spannerSchemaUtils,
+                          transaction);
+                  shareOperationObserver(transactionSpannerTemplate);
+                  lastAttempt.set(transactionSpannerTemplate);
+                  return operations.apply(transactionSpannerTemplate);
+                }
+              };
+          try {
+            return observe(
+                "transaction",
+                null,
+                null,
+                () -> this.databaseClientProvider.get().readWriteTransaction().run(callable),
+                null,
+                null);
+          } finally {
+            if (lastAttempt.get() != null && lastAttempt.get().hasWritten()) {
+              invalidateEntityCache(lastAttempt.get().getWrittenTables());
+            }
+          }
+        });
   }
 
   @Override
@@ -483,20 +1057,24 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         () -> {
           SpannerReadOptions options =
               (readOptions != null) ? readOptions : new SpannerReadOptions();
-          try (ReadOnlyTransaction readOnlyTransaction =
+          TimestampBound timestampBound =
               (options.getTimestampBound() != null)
-                  ? this.databaseClientProvider
-                      .get()
-                      .readOnlyTransaction(options.getTimestampBound())
+                  ? options.getTimestampBound()
+                  : toReadOnlyTransactionBound(resolveDefaultTimestampBound());
+          try (ReadOnlyTransaction readOnlyTransaction =
+              (timestampBound != null)
+                  ? this.databaseClientProvider.get().readOnlyTransaction(timestampBound)
                   : this.databaseClientProvider.get().readOnlyTransaction()) {
-            return operations.apply(
+            ReadOnlyTransactionSpannerTemplate transactionSpannerTemplate =
                 new ReadOnlyTransactionSpannerTemplate(
                     SpannerTemplate.this.databaseClientProvider,
                     SpannerTemplate.this.mappingContext,
                     SpannerTemplate.this.spannerEntityProcessor,
                     SpannerTemplate.this.mutationFactory,
                     SpannerTemplate.this.spannerSchemaUtils,
-                    readOnlyTransaction));
+                    readOnlyTransaction);
+            shareOperationObserver(transactionSpannerTemplate);
+            return operations.apply(transactionSpannerTemplate);
           }
         });
   }
@@ -543,6 +1121,22 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
     return resultSet;
   }
 
+  private AsyncResultSet executeQueryAsync(Statement statement, SpannerQueryOptions options) {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          (options == null)
+              ? "Executing asynchronous query without additional options: " + statement
+              : getQueryLogMessageWithOptions(statement, options));
+    }
+    if (options == null) {
+      return getReadContext().executeQueryAsync(statement);
+    }
+    return ((options.getTimestampBound() != null)
+            ? getReadContext(options.getTimestampBound())
+            : getReadContext())
+        .executeQueryAsync(statement, options.getOptions());
+  }
+
   private <T> List<T> executeReadQueryAndResolveChildren(
       KeySet keys,
       SpannerPersistentEntity<T> persistentEntity,
@@ -592,6 +1186,28 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
     return resultSet;
   }
 
+  private AsyncResultSet executeReadAsync(
+      String tableName, KeySet keys, Iterable<String> columns, SpannerReadOptions options) {
+    if (LOGGER.isDebugEnabled()) {
+      StringBuilder logs = logColumns(tableName, keys, columns);
+      logReadOptions(options, logs);
+      LOGGER.debug(logs.toString());
+    }
+
+    ReadContext readContext =
+        (options != null && options.getTimestampBound() != null)
+            ? getReadContext(options.getTimestampBound())
+            : getReadContext();
+
+    if (options == null) {
+      return readContext.readAsync(tableName, keys, columns);
+    } else if (options.getIndex() == null) {
+      return readContext.readAsync(tableName, keys, columns, options.getOptions());
+    }
+    return readContext.readUsingIndexAsync(
+        tableName, options.getIndex(), keys, columns, options.getOptions());
+  }
+
   private void logReadOptions(SpannerReadOptions options, StringBuilder logs) {
     if (options == null) {
       return;
@@ -623,15 +1239,55 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
   protected void applyMutations(Collection<Mutation> mutations) {
     LOGGER.debug("Applying Mutation: " + mutations);
-    doWithOrWithoutTransactionContext(
-        x -> {
-          x.buffer(mutations);
-          return null;
-        },
+    observe(
+        "write",
+        mutations.isEmpty() ? null : mutations.iterator().next().getTable(),
+        null,
+        () ->
+            doWithOrWithoutTransactionContext(
+                x -> {
+                  x.buffer(mutations);
+                  return null;
+                },
+                () -> {
+                  this.databaseClientProvider.get().write(mutations);
+                  return null;
+                }),
+        SpannerOperationObserver.MUTATIONS,
+        result -> mutations.size());
+    invalidateEntityCache(mutations.stream().map(Mutation::getTable).collect(Collectors.toSet()));
+  }
+
+  /**
+   * Evicts the cached entities of the written tables, or all of them after DML statements. In a
+   * declarative transaction they are evicted again after it completes, as they could have been read
+   * and cached again by other threads before its commit.
+   *
+   * @param tables the written tables, or {@code null} after DML statements
+   */
+  private void invalidateEntityCache(@Nullable Set<String> tables) {
+    SpannerEntityCache cache = this.entityCache;
+    if (cache == null) {
+      return;
+    }
+    Runnable invalidation =
         () -> {
-          this.databaseClientProvider.get().write(mutations);
-          return null;
-        });
+          if (tables != null) {
+            cache.invalidateTables(tables);
+          } else {
+            cache.invalidateAll();
+          }
+        };
+    invalidation.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              invalidation.run();
+            }
+          });
+    }
   }
 
   private <T> List<T> queryAndResolveChildren(
@@ -654,6 +1310,59 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         includeProperties);
   }
 
+  private <T> CompletableFuture<List<T>> mapToListAndResolveChildrenAsync(
+      AsyncResultSet resultSet,
+      Class<T> entityClass,
+      Set<String> includeProperties,
+      boolean allowMissingColumns) {
+    return toListAsync(
+            resultSet,
+            row ->
+                this.spannerEntityProcessor.read(
+                    entityClass, row, includeProperties, allowMissingColumns))
+        .thenApply(entities -> resolveChildEntities(entities, includeProperties));
+  }
+
+  /**
+   * Maps the rows of a result set as they arrive. The result set only buffers a limited number of
+   * rows and pauses the stream while they are not consumed, so slow mapping slows the stream down
+   * rather than exhausting memory.
+   */
+  private <A> CompletableFuture<List<A>> toListAsync(
+      AsyncResultSet resultSet, Function<Struct, A> rowFunc) {
+    CompletableFuture<List<A>> result = new CompletableFuture<>();
+    List<A> rows = new ArrayList<>();
+    try (resultSet) {
+      ApiFuture<Void> done =
+          resultSet.setCallback(
+              getAsyncExecutor(),
+              readyResultSet -> {
+                CursorState state;
+                while ((state = readyResultSet.tryNext()) == CursorState.OK) {
+                  rows.add(rowFunc.apply(readyResultSet.getCurrentRowAsStruct()));
+                }
+                return (state == CursorState.DONE)
+                    ? CallbackResponse.DONE
+                    : CallbackResponse.CONTINUE;
+              });
+      ApiFutures.addCallback(
+          done,
+          new ApiFutureCallback<Void>() {
+            @Override
+            public void onSuccess(Void unused) {
+              result.complete(rows);
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+              result.completeExceptionally(throwable);
+            }
+          },
+          MoreExecutors.directExecutor());
+    }
+    return result;
+  }
+
   private <T> List<T> resolveChildEntities(List<T> entities, Set<String> includeProperties) {
     for (Object entity : entities) {
       resolveChildEntity(entity, includeProperties);
@@ -727,6 +1436,24 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         : funcWithoutTransactionContext.get();
   }
 
+  /** Makes the template of a transaction observe its operations like this template. */
+  private void shareOperationObserver(SpannerTemplate transactionSpannerTemplate) {
+    transactionSpannerTemplate.operationObserver = this.operationObserver;
+  }
+
+  private <A> A observe(
+      String operation,
+      @Nullable String table,
+      @Nullable Statement statement,
+      Supplier<A> action,
+      @Nullable String countName,
+      @Nullable ToLongFunction<A> count) {
+    SpannerOperationObserver observer = this.operationObserver;
+    return (observer != null)
+        ? observer.observe(operation, table, statement, action, countName, count)
+        : action.get();
+  }
+
   private void maybeEmitEvent(ApplicationEvent event) {
     if (this.eventPublisher != null) {
       this.eventPublisher.publishEvent(event);
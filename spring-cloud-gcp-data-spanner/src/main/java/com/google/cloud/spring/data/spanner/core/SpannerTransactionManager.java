@@ -33,6 +33,7 @@ import com.google.cloud.spanner.ResultSet;
 import com.google.cloud.spanner.SpannerException;
 import com.google.cloud.spanner.Statement;
 import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.TimestampBound;
 import com.google.cloud.spanner.TransactionContext;
 import com.google.cloud.spanner.TransactionManager;
 import java.util.function.Supplier;
@@ -48,15 +49,56 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 /**
  * Spanner transaction manager.
  *
+ * <p>With {@link #setDmlBatchingEnabled(boolean)}, the DML statements of read-write transactions
+ * are buffered and sent to Cloud Spanner in a single batch update before the next read of the
+ * transaction, or before its commit.
+ *
  * @since 1.1
  */
 public class SpannerTransactionManager extends AbstractPlatformTransactionManager {
   private final Supplier<DatabaseClient> databaseClientProvider;
 
+  private boolean dmlBatchingEnabled;
+
+  private TimestampBound readOnlyTimestampBound;
+
   public SpannerTransactionManager(final Supplier databaseClientProvider) {
     this.databaseClientProvider = databaseClientProvider;
   }
 
+  /**
+   * Sets whether the DML statements of read-write transactions are buffered and executed in
+   * batches. A buffered statement is executed after the method that issued it has returned, so its
+   * errors are thrown by the next read or by the commit of the transaction, and the number of rows
+   * it affects is reported as {@link SpannerOperations#SUCCESS_NO_INFO}.
+   *
+   * @param dmlBatchingEnabled {@code true} to batch DML statements. Default is {@code false}.
+   */
+  public void setDmlBatchingEnabled(boolean dmlBatchingEnabled) {
+    this.dmlBatchingEnabled = dmlBatchingEnabled;
+  }
+
+  public boolean isDmlBatchingEnabled() {
+    return this.dmlBatchingEnabled;
+  }
+
+  /**
+   * Sets the timestamp bound of read-only transactions, such as the ones of {@code
+   * Transactional(readOnly = true)} methods. A stale bound lets the nearest replica serve them
+   * instead of the leader. A maximum staleness is applied as an exact staleness of the same
+   * duration, since read-only transactions do not accept bounded staleness.
+   *
+   * @param readOnlyTimestampBound the timestamp bound, or {@code null} for strong reads. Default is
+   *     {@code null}.
+   */
+  public void setReadOnlyTimestampBound(TimestampBound readOnlyTimestampBound) {
+    this.readOnlyTimestampBound = readOnlyTimestampBound;
+  }
+
+  public TimestampBound getReadOnlyTimestampBound() {
+    return this.readOnlyTimestampBound;
+  }
+
   @Override
   protected Object doGetTransaction() throws TransactionException {
     Tx tx = (Tx) TransactionSynchronizationManager.getResource(databaseClientProvider.get());
@@ -88,7 +130,12 @@ public class SpannerTransactionManager extends AbstractPlatformTransactionManage
     Tx tx = (Tx) transactionObject;
     if (transactionDefinition.isReadOnly()) {
       final ReadContext targetTransactionContext =
-          this.databaseClientProvider.get().readOnlyTransaction();
+          (this.readOnlyTimestampBound != null)
+              ? this.databaseClientProvider
+                  .get()
+                  .readOnlyTransaction(
+                      SpannerTemplate.toReadOnlyTransactionBound(this.readOnlyTimestampBound))
+              : this.databaseClientProvider.get().readOnlyTransaction();
       tx.isReadOnly = true;
       tx.transactionManager = null;
       tx.transactionContext =
@@ -215,6 +262,9 @@ public class SpannerTransactionManager extends AbstractPlatformTransactionManage
     } else {
       tx.transactionManager = tx.databaseClient.transactionManager();
       tx.transactionContext = tx.getTransactionManager().begin();
+      if (this.dmlBatchingEnabled) {
+        tx.transactionContext = new DmlBatchingTransactionContext(tx.transactionContext);
+      }
       tx.isReadOnly = false;
     }
 
@@ -228,7 +278,9 @@ public class SpannerTransactionManager extends AbstractPlatformTransactionManage
     try {
       if (tx.getTransactionManager() != null
           && tx.getTransactionManager().getState() == TransactionManager.TransactionState.STARTED) {
-
+        if (tx.getTransactionContext() instanceof DmlBatchingTransactionContext batchingContext) {
+          batchingContext.flush();
+        }
         tx.getTransactionManager().commit();
       }
       if (tx.isReadOnly()) {
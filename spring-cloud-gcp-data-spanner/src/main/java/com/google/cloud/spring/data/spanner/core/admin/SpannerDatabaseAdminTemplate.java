@@ -25,19 +25,28 @@ import com.google.cloud.spanner.ResultSet;
 import com.google.cloud.spanner.Statement;
 import com.google.cloud.spanner.Struct;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.springframework.util.Assert;
 
 /**
  * Template for performing many operations to a Spanner database including generating hierarchy
  * schemas and creating and deleting tables.
  *
+ * <p>The schema metadata is read once and cached until DDL is executed through this template, or
+ * until {@link #invalidateSchemaMetadata()} is called after the schema was changed elsewhere.
+ *
  * @since 1.1
  */
 public class SpannerDatabaseAdminTemplate {
@@ -48,6 +57,10 @@ public class SpannerDatabaseAdminTemplate {
 
   private static final String PARENT_TABLE_NAME_COL_NAME = "parent_table_name";
 
+  private static final String COLUMN_NAME_COL_NAME = "column_name";
+
+  private static final String INDEX_NAME_COL_NAME = "index_name";
+
   private static final Statement TABLE_AND_PARENT_QUERY =
       Statement.of(
           "SELECT t."
@@ -58,12 +71,52 @@ public class SpannerDatabaseAdminTemplate {
               + PARENT_TABLE_NAME_COL_NAME
               + " FROM information_schema.tables AS t");
 
+  private static final Statement COLUMN_QUERY =
+      Statement.of(
+          "SELECT c."
+              + TABLE_SCHEMA_COL_NAME
+              + ", c."
+              + TABLE_NAME_COL_NAME
+              + ", c."
+              + COLUMN_NAME_COL_NAME
+              + " FROM information_schema.columns AS c");
+
+  private static final Statement INDEX_QUERY =
+      Statement.of(
+          "SELECT i."
+              + TABLE_SCHEMA_COL_NAME
+              + ", i."
+              + INDEX_NAME_COL_NAME
+              + " FROM information_schema.indexes AS i");
+
+  private static final Pattern CREATE_TABLE_PATTERN =
+      Pattern.compile(
+          "^\\s*CREATE\\s+TABLE\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?([`\\w.]+)\\s*\\(",
+          Pattern.CASE_INSENSITIVE);
+
+  private static final Pattern CREATE_INDEX_PATTERN =
+      Pattern.compile(
+          "^\\s*CREATE\\s+(?:UNIQUE\\s+)?(?:NULL_FILTERED\\s+)?INDEX\\s+"
+              + "(?:IF\\s+NOT\\s+EXISTS\\s+)?([`\\w.]+)\\s",
+          Pattern.CASE_INSENSITIVE);
+
+  private static final Pattern TABLE_CONSTRAINT_PATTERN =
+      Pattern.compile("^(?:CONSTRAINT|FOREIGN|CHECK)\\b", Pattern.CASE_INSENSITIVE);
+
+  private static final Pattern NOT_NULL_PATTERN =
+      Pattern.compile("\\s+NOT\\s+NULL\\b", Pattern.CASE_INSENSITIVE);
+
+  private static final Pattern COLUMN_VALUE_PATTERN =
+      Pattern.compile("\\b(?:DEFAULT|AS)\\s*\\(", Pattern.CASE_INSENSITIVE);
+
   private final DatabaseAdminClient databaseAdminClient;
 
   private final Supplier<DatabaseId> databaseIdProvider;
 
   private final Supplier<DatabaseClient> databaseClientProvider;
 
+  private volatile SchemaMetadata schemaMetadata;
+
   /**
    * Constructor that takes in the database admin client used to perform operations and the {@link
    * DatabaseId} object holding the project, instance, and database IDs used for all operations.
@@ -109,6 +162,83 @@ public class SpannerDatabaseAdminTemplate {
       throw new SpannerDataException("DDL execution was interrupted", ex);
     } catch (ExecutionException ex) {
       throw new SpannerDataException("DDL could not be executed", ex);
+    } finally {
+      invalidateSchemaMetadata();
+    }
+  }
+
+  /**
+   * Executes the parts of the given DDL strings that are missing from the database, in a single
+   * batch, and creates the database if it does not exist. See {@link
+   * #getMissingDdlStrings(Iterable)} for how the DDL strings are compared with the database.
+   *
+   * @param ddlStrings the DDL strings, such as the ones generated by {@link SpannerSchemaUtils}
+   * @param createDatabase if {@code true}, then the database is created if it does not exist.
+   * @return the DDL strings that were executed.
+   */
+  public List<String> executeMissingDdlStrings(
+      Iterable<String> ddlStrings, boolean createDatabase) {
+    List<String> missingDdlStrings = getMissingDdlStrings(ddlStrings);
+    if (!missingDdlStrings.isEmpty()
+        || (createDatabase && !getSchemaMetadata().databaseExists())) {
+      executeDdlStrings(missingDdlStrings, createDatabase);
+    }
+    return missingDdlStrings;
+  }
+
+  /**
+   * Compares the given DDL strings with the schema of the database and returns the ones needed to
+   * bring it up to date. A {@code CREATE TABLE} statement is kept if the table does not exist, and
+   * is otherwise replaced with an {@code ALTER TABLE ... ADD COLUMN} statement for each of its
+   * columns that does not exist, without the {@code NOT NULL} constraint unless the column has a
+   * default value or is generated. A {@code CREATE INDEX} statement is kept if the index does not
+   * exist. Other statements are always kept. Columns and indexes that exist with different
+   * definitions are not altered.
+   *
+   * @param ddlStrings the DDL strings, such as the ones generated by {@link SpannerSchemaUtils}
+   * @return the DDL strings that are missing from the database, in the given order.
+   */
+  public List<String> getMissingDdlStrings(Iterable<String> ddlStrings) {
+    SchemaMetadata metadata = getSchemaMetadata();
+    Set<String> tables = new HashSet<>();
+    metadata.childParentTables().keySet().forEach(table -> tables.add(normalizeName(table)));
+    List<String> missingDdlStrings = new ArrayList<>();
+    for (String ddlString : ddlStrings) {
+      Matcher createTable = CREATE_TABLE_PATTERN.matcher(ddlString);
+      Matcher createIndex = CREATE_INDEX_PATTERN.matcher(ddlString);
+      if (createTable.find()) {
+        String table = normalizeName(createTable.group(1));
+        if (tables.add(table)) {
+          missingDdlStrings.add(ddlString);
+          continue;
+        }
+        Set<String> tableColumns = metadata.getColumns().getOrDefault(table, Set.of());
+        for (String columnDdlString : splitColumnDdlStrings(ddlString, createTable.end())) {
+          String column = normalizeName(columnDdlString.split("\\s+", 2)[0]);
+          if (!TABLE_CONSTRAINT_PATTERN.matcher(columnDdlString).find()
+              && !tableColumns.contains(column)) {
+            missingDdlStrings.add(
+                "ALTER TABLE "
+                    + createTable.group(1)
+                    + " ADD COLUMN "
+                    + getAddColumnDdlString(columnDdlString));
+          }
+        }
+      } else if (!createIndex.find()
+          || !metadata.getIndexes().contains(normalizeName(createIndex.group(1)))) {
+        missingDdlStrings.add(ddlString);
+      }
+    }
+    return missingDdlStrings;
+  }
+
+  /**
+   * Discards the cached schema metadata, so that it is read again when it is next needed. DDL
+   * executed through this template does so automatically.
+   */
+  public void invalidateSchemaMetadata() {
+    synchronized (this) {
+      this.schemaMetadata = null;
     }
   }
 
@@ -151,6 +281,27 @@ public class SpannerDatabaseAdminTemplate {
    * @return the map of the table names.
    */
   public Map<String, String> getChildParentTablesMap() {
+    return new HashMap<>(getSchemaMetadata().childParentTables());
+  }
+
+  private SchemaMetadata getSchemaMetadata() {
+    SchemaMetadata metadata = this.schemaMetadata;
+    if (metadata == null) {
+      synchronized (this) {
+        metadata = this.schemaMetadata;
+        if (metadata == null) {
+          metadata =
+              databaseExists()
+                  ? new SchemaMetadata(true, loadChildParentTables())
+                  : new SchemaMetadata(false, Map.of());
+          this.schemaMetadata = metadata;
+        }
+      }
+    }
+    return metadata;
+  }
+
+  private Map<String, String> loadChildParentTables() {
     Map<String, String> relationships = new HashMap<>();
     try (ResultSet results =
         this.databaseClientProvider.get().singleUse().executeQuery(TABLE_AND_PARENT_QUERY)) {
@@ -168,10 +319,90 @@ public class SpannerDatabaseAdminTemplate {
                     row.getString(TABLE_SCHEMA_COL_NAME),
                     row.getString(PARENT_TABLE_NAME_COL_NAME)));
       }
-      return relationships;
+      return Collections.unmodifiableMap(relationships);
     }
   }
-  
+
+  private Map<String, Set<String>> loadColumns() {
+    Map<String, Set<String>> columns = new HashMap<>();
+    try (ResultSet results =
+        this.databaseClientProvider.get().singleUse().executeQuery(COLUMN_QUERY)) {
+      while (results.next()) {
+        Struct row = results.getCurrentRowAsStruct();
+        columns
+            .computeIfAbsent(
+                normalizeName(
+                    getQualifiedTableName(
+                        row.getString(TABLE_SCHEMA_COL_NAME), row.getString(TABLE_NAME_COL_NAME))),
+                k -> new HashSet<>())
+            .add(normalizeName(row.getString(COLUMN_NAME_COL_NAME)));
+      }
+      return columns;
+    }
+  }
+
+  private Set<String> loadIndexes() {
+    Set<String> indexes = new HashSet<>();
+    try (ResultSet results =
+        this.databaseClientProvider.get().singleUse().executeQuery(INDEX_QUERY)) {
+      while (results.next()) {
+        Struct row = results.getCurrentRowAsStruct();
+        indexes.add(
+            normalizeName(
+                getQualifiedTableName(
+                    row.getString(TABLE_SCHEMA_COL_NAME), row.getString(INDEX_NAME_COL_NAME))));
+      }
+      return indexes;
+    }
+  }
+
+  /** Names are compared without quotes and case-insensitively, as Cloud Spanner does. */
+  private static String normalizeName(String name) {
+    return name.replace("`", "").toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Spanner only adds a {@code NOT NULL} column to an existing table if the column has a default
+   * value or is generated, so that the existing rows have a value for it. The constraint is
+   * dropped from other columns.
+   */
+  private static String getAddColumnDdlString(String columnDdlString) {
+    if (COLUMN_VALUE_PATTERN.matcher(columnDdlString).find()) {
+      return columnDdlString;
+    }
+    return NOT_NULL_PATTERN.matcher(columnDdlString).replaceAll("");
+  }
+
+  /** Splits the column definitions of a {@code CREATE TABLE} statement at its top-level commas. */
+  private static List<String> splitColumnDdlStrings(String createTableDdlString, int start) {
+    List<String> columnDdlStrings = new ArrayList<>();
+    int parenthesesDepth = 0;
+    int angleBracketsDepth = 0;
+    int columnStart = start;
+    for (int i = start; i < createTableDdlString.length(); i++) {
+      char c = createTableDdlString.charAt(i);
+      if (c == '(') {
+        parenthesesDepth++;
+      } else if (c == ')' && parenthesesDepth > 0) {
+        parenthesesDepth--;
+      } else if (parenthesesDepth == 0 && c == '<') {
+        angleBracketsDepth++;
+      } else if (parenthesesDepth == 0 && c == '>') {
+        angleBracketsDepth--;
+      } else if (parenthesesDepth == 0 && angleBracketsDepth == 0 && (c == ',' || c == ')')) {
+        String columnDdlString = createTableDdlString.substring(columnStart, i).trim();
+        if (!columnDdlString.isEmpty()) {
+          columnDdlStrings.add(columnDdlString);
+        }
+        if (c == ')') {
+          break;
+        }
+        columnStart = i + 1;
+      }
+    }
+    return columnDdlStrings;
+  }
+
   private String getQualifiedTableName(String schema, String table) {
     if (schema == null || Objects.equals(schema, getDefaultSchemaName())) {
       return table;
@@ -199,7 +430,7 @@ public class SpannerDatabaseAdminTemplate {
    */
   public boolean isInterleaved(String ancestor, String descendant) {
     Assert.notNull(ancestor, "A non-null ancestor table name is required.");
-    Set<String> directChildren = getParentChildTablesMap().get(ancestor);
+    Set<String> directChildren = getSchemaMetadata().parentChildTables().get(ancestor);
     if (ancestor.equals(descendant) || directChildren == null) {
       return false;
     }
@@ -219,14 +450,9 @@ public class SpannerDatabaseAdminTemplate {
    */
   public Map<String, Set<String>> getParentChildTablesMap() {
     Map<String, Set<String>> relationships = new HashMap<>();
-    for (Map.Entry<String, String> e : getChildParentTablesMap().entrySet()) {
-      if (e.getValue() == null) {
-        continue;
-      }
-      String parent = e.getValue();
-      Set<String> children = relationships.computeIfAbsent(parent, k -> new HashSet<>());
-      children.add(e.getKey());
-    }
+    getSchemaMetadata()
+        .parentChildTables()
+        .forEach((parent, children) -> relationships.put(parent, new HashSet<>(children)));
     return relationships;
   }
 
@@ -236,7 +462,7 @@ public class SpannerDatabaseAdminTemplate {
    * @return a set of table names.
    */
   public Set<String> getTables() {
-    return getChildParentTablesMap().keySet();
+    return new HashSet<>(getSchemaMetadata().childParentTables().keySet());
   }
 
   /**
@@ -246,6 +472,61 @@ public class SpannerDatabaseAdminTemplate {
    * @return true if the table exists, false otherwise.
    */
   public boolean tableExists(String table) {
-    return databaseExists() && getTables().contains(table);
+    SchemaMetadata metadata = getSchemaMetadata();
+    return metadata.databaseExists() && metadata.childParentTables().containsKey(table);
+  }
+
+  /**
+   * A snapshot of the schema of the database. The columns and indexes are only read when DDL is
+   * compared with the schema.
+   */
+  private final class SchemaMetadata {
+
+    private final boolean databaseExists;
+
+    private final Map<String, String> childParentTables;
+
+    private final Map<String, Set<String>> parentChildTables = new HashMap<>();
+
+    private volatile Map<String, Set<String>> columns;
+
+    private volatile Set<String> indexes;
+
+    SchemaMetadata(boolean databaseExists, Map<String, String> childParentTables) {
+      this.databaseExists = databaseExists;
+      this.childParentTables = childParentTables;
+      childParentTables.forEach(
+          (child, parent) -> {
+            if (parent != null) {
+              this.parentChildTables.computeIfAbsent(parent, k -> new HashSet<>()).add(child);
+            }
+          });
+    }
+
+    boolean databaseExists() {
+      return this.databaseExists;
+    }
+
+    Map<String, String> childParentTables() {
+      return this.childParentTables;
+    }
+
+    Map<String, Set<String>> parentChildTables() {
+      return this.parentChildTables;
+    }
+
+    Map<String, Set<String>> getColumns() {
+      if (this.columns == null) {
+        this.columns = this.databaseExists ? loadColumns() : Map.of();
+      }
+      return this.columns;
+    }
+
+    Set<String> getIndexes() {
+      if (this.indexes == null) {
+        this.indexes = this.databaseExists ? loadIndexes() : Set.of();
+      }
+      return this.indexes;
+    }
   }
 }
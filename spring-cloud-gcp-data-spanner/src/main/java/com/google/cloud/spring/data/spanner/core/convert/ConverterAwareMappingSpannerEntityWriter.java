@@ -376,16 +376,16 @@ public class ConverterAwareMappingSpannerEntityWriter implements SpannerEntityWr
     if (value == null) {
       return Value.json(null);
     }
-    String jsonString = this.spannerMappingContext.getGson().toJson(value);
-    return Value.json(jsonString);
+    return Value.json(this.spannerMappingContext.getJsonCodec().toJson(value));
   }
 
   private Iterable<String> convertIterableJsonToValue(Iterable<Object> value) {
-    List<String> result = new ArrayList<>();
     if (value == null) {
       return null;
     }
-    value.forEach(item -> result.add(this.spannerMappingContext.getGson().toJson(item)));
+    SpannerJsonCodec jsonCodec = this.spannerMappingContext.getJsonCodec();
+    List<String> result = new ArrayList<>();
+    value.forEach(item -> result.add(jsonCodec.toJson(item)));
     return result;
   }
 
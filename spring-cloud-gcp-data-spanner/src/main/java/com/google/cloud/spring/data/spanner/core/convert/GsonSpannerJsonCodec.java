@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core.convert;
+
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.Strictness;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SpannerJsonCodec} using Gson. The type adapters are resolved once per type, the values
+ * are read by streaming over the characters of the JSON columns, and each thread reuses the buffer
+ * that it writes JSON to.
+ */
+public class GsonSpannerJsonCodec implements SpannerJsonCodec {
+
+  /** The largest write buffer that is kept for reuse, so that large values do not pin memory. */
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+  private final Gson gson;
+
+  private final Map<Class<?>, TypeAdapter<?>> typeAdapters = new ConcurrentHashMap<>();
+
+  private final ThreadLocal<StringWriter> writeBuffers = ThreadLocal.withInitial(StringWriter::new);
+
+  /**
+   * Constructor.
+   *
+   * @param gson the Gson instance used to read and write JSON.
+   */
+  public GsonSpannerJsonCodec(Gson gson) {
+    Assert.notNull(gson, "A non-null gson is required.");
+    this.gson = gson;
+  }
+
+  @Override
+  public <T> T fromJson(String json, Class<T> type) {
+    if (json == null) {
+      return null;
+    }
+    try {
+      // Same leniency and full consumption check as Gson.fromJson(String, Class).
+      JsonReader jsonReader = this.gson.newJsonReader(new StringReader(json));
+      if (jsonReader.getStrictness() == Strictness.LEGACY_STRICT) {
+        jsonReader.setStrictness(Strictness.LENIENT);
+      }
+      try {
+        JsonToken ignored = jsonReader.peek();
+      } catch (EOFException ex) {
+        return null;
+      }
+      T value = getTypeAdapter(type).read(jsonReader);
+      if (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+        throw new JsonParseException("JSON document was not fully consumed.");
+      }
+      return value;
+    } catch (IOException | IllegalStateException | JsonParseException ex) {
+      throw new SpannerDataException(
+          "JSON deserialization of an object of type " + type.getName() + " failed.", ex);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public String toJson(Object value) {
+    if (value == null) {
+      return "null";
+    }
+    StringWriter buffer = this.writeBuffers.get();
+    try {
+      JsonWriter jsonWriter = this.gson.newJsonWriter(buffer);
+      if (jsonWriter.getStrictness() == Strictness.LEGACY_STRICT) {
+        jsonWriter.setStrictness(Strictness.LENIENT);
+      }
+      ((TypeAdapter<Object>) getTypeAdapter(value.getClass())).write(jsonWriter, value);
+      jsonWriter.flush();
+      return buffer.toString();
+    } catch (IOException | JsonParseException ex) {
+      throw new SpannerDataException(
+          "JSON serialization of an object of type " + value.getClass().getName() + " failed.",
+          ex);
+    } finally {
+      if (buffer.getBuffer().capacity() > MAX_RETAINED_BUFFER_SIZE) {
+        this.writeBuffers.remove();
+      } else {
+        buffer.getBuffer().setLength(0);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> TypeAdapter<T> getTypeAdapter(Class<T> type) {
+    return (TypeAdapter<T>) this.typeAdapters.computeIfAbsent(type, this.gson::getAdapter);
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core.convert;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SpannerJsonCodec} using Jackson. The readers and writers are resolved once per type, and
+ * Jackson recycles the buffers that it writes JSON to.
+ */
+public class JacksonSpannerJsonCodec implements SpannerJsonCodec {
+
+  private final ObjectMapper objectMapper;
+
+  private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+  private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param objectMapper the object mapper used to read and write JSON.
+   */
+  public JacksonSpannerJsonCodec(ObjectMapper objectMapper) {
+    Assert.notNull(objectMapper, "A valid ObjectMapper is required.");
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public <T> T fromJson(String json, Class<T> type) {
+    if (json == null) {
+      return null;
+    }
+    try {
+      return this.readers.computeIfAbsent(type, this.objectMapper::readerFor).readValue(json);
+    } catch (JsonProcessingException ex) {
+      throw new SpannerDataException(
+          "JSON deserialization of an object of type " + type.getName() + " failed.", ex);
+    }
+  }
+
+  @Override
+  public String toJson(Object value) {
+    if (value == null) {
+      return "null";
+    }
+    try {
+      return this.writers
+          .computeIfAbsent(value.getClass(), this.objectMapper::writerFor)
+          .writeValueAsString(value);
+    } catch (JsonProcessingException ex) {
+      throw new SpannerDataException(
+          "JSON serialization of an object of type " + value.getClass().getName() + " failed.",
+          ex);
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core.convert;
+
+/**
+ * Converts the properties mapped to {@code JSON} and {@code ARRAY<JSON>} columns to and from their
+ * JSON representation. The implementations are called for every JSON value that is read or
+ * written, so they are expected to be thread-safe and to cache what they resolve per type.
+ *
+ * @see GsonSpannerJsonCodec
+ * @see JacksonSpannerJsonCodec
+ */
+public interface SpannerJsonCodec {
+
+  /**
+   * Reads a JSON value.
+   *
+   * @param json the JSON representation of the value, or {@code null}.
+   * @param type the type of the value.
+   * @param <T> the type of the value.
+   * @return the value, or {@code null} if the JSON representation is {@code null}.
+   */
+  <T> T fromJson(String json, Class<T> type);
+
+  /**
+   * Writes a value as JSON.
+   *
+   * @param value the value, or {@code null}.
+   * @return the JSON representation of the value.
+   */
+  String toJson(Object value);
+}
@@ -113,7 +113,7 @@ public class StructAccessor {
 
   private Set<String> columnNamesIndex;
 
-  private Gson gson;
+  private SpannerJsonCodec jsonCodec;
 
   public StructAccessor(Struct struct) {
     this.struct = struct;
@@ -121,9 +121,13 @@ public class StructAccessor {
   }
 
   public StructAccessor(Struct struct, Gson gson) {
+    this(struct, (gson != null) ? new GsonSpannerJsonCodec(gson) : null);
+  }
+
+  public StructAccessor(Struct struct, SpannerJsonCodec jsonCodec) {
     this.struct = struct;
     this.columnNamesIndex = indexColumnNames();
-    this.gson = gson;
+    this.jsonCodec = jsonCodec;
   }
 
   Object getSingleValue(String colName) {
@@ -169,11 +173,7 @@ public class StructAccessor {
     if (this.struct.getColumnType(colName).getCode() != Code.ARRAY) {
       throw new SpannerDataException(EXCEPTION_COL_NOT_ARRAY + colName);
     }
-    List<String> jsonStringList = this.struct.getJsonList(colName);
-    List<T> result = new ArrayList<>();
-    jsonStringList.forEach(item ->
-        result.add(gson.fromJson(item, colType)));
-    return result;
+    return readJsonList(this.struct.getJsonList(colName), colType);
   }
 
   public  <T> Object getJsonValue(int colIndex, Class<T> colType) {
@@ -187,10 +187,14 @@ public class StructAccessor {
     if (this.struct.getColumnType(colIndex).getCode() != Code.ARRAY) {
       throw new SpannerDataException(EXCEPTION_COL_NOT_ARRAY + colIndex);
     }
-    List<String> jsonStringList = this.struct.getJsonList(colIndex);
-    List<T> result = new ArrayList<>();
-    jsonStringList.forEach(item ->
-        result.add(gson.fromJson(item, colType)));
+    return readJsonList(this.struct.getJsonList(colIndex), colType);
+  }
+
+  private <T> List<T> readJsonList(List<String> jsonStringList, Class<T> colType) {
+    List<T> result = new ArrayList<>(jsonStringList.size());
+    for (String item : jsonStringList) {
+      result.add(this.jsonCodec.fromJson(item, colType));
+    }
     return result;
   }
 
@@ -221,8 +225,7 @@ public class StructAccessor {
     if (this.struct.isNull(colName)) {
       return null;
     }
-    String jsonString = this.struct.getJson(colName);
-    return gson.fromJson(jsonString, colType);
+    return this.jsonCodec.fromJson(this.struct.getJson(colName), colType);
   }
 
   //TODO: change this to private in next major release
@@ -233,7 +236,6 @@ public class StructAccessor {
     if (this.struct.isNull(colIndex)) {
       return null;
     }
-    String jsonString = this.struct.getJson(colIndex);
-    return gson.fromJson(jsonString, colType);
+    return this.jsonCodec.fromJson(this.struct.getJson(colIndex), colType);
   }
 }
@@ -17,7 +17,9 @@
 package com.google.cloud.spring.data.spanner.core.mapping;
 
 import com.google.cloud.spring.data.spanner.core.convert.ConverterAwareMappingSpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.convert.GsonSpannerJsonCodec;
 import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerJsonCodec;
 import com.google.cloud.spring.data.spanner.core.mapping.typeadapter.InstantTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.TypeAdapter;
@@ -53,11 +55,14 @@ public class SpannerMappingContext
 
   private Gson gson;
 
+  private SpannerJsonCodec jsonCodec;
+
   public SpannerMappingContext() {}
 
   public SpannerMappingContext(Gson gson) {
     Assert.notNull(gson, "A non-null gson is required.");
     this.gson = addTypeAdapter(gson, new InstantTypeAdapter(), Instant.class);
+    this.jsonCodec = new GsonSpannerJsonCodec(this.gson);
   }
 
   @NonNull
@@ -65,6 +70,26 @@ public class SpannerMappingContext
     return gson;
   }
 
+  /**
+   * Set the codec used to read and write the properties mapped to JSON columns. By default, the
+   * properties are converted with the {@link Gson} instance of this mapping context.
+   *
+   * @param jsonCodec the codec for JSON properties.
+   */
+  public void setJsonCodec(SpannerJsonCodec jsonCodec) {
+    Assert.notNull(jsonCodec, "A non-null JSON codec is required.");
+    this.jsonCodec = jsonCodec;
+  }
+
+  /**
+   * Gets the codec used to read and write the properties mapped to JSON columns.
+   *
+   * @return the codec for JSON properties.
+   */
+  public SpannerJsonCodec getJsonCodec() {
+    return this.jsonCodec;
+  }
+
   /**
    * Set the field naming strategy used when creating persistent properties.
    *
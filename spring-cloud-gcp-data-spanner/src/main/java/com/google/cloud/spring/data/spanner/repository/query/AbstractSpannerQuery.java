@@ -16,8 +16,12 @@
 
 package com.google.cloud.spring.data.spanner.repository.query;
 
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.TimestampBound;
+import com.google.cloud.spring.data.spanner.core.SpannerRepositoryMethodContext;
 import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -39,6 +43,8 @@ abstract class AbstractSpannerQuery<T> implements RepositoryQuery {
 
   protected final Class<T> entityType;
 
+  private String methodTag;
+
   /**
    * Constructor.
    *
@@ -58,8 +64,51 @@ abstract class AbstractSpannerQuery<T> implements RepositoryQuery {
     this.spannerMappingContext = spannerMappingContext;
   }
 
+  /**
+   * Executes a DML statement of the query method, as Partitioned DML if the method is annotated
+   * with {@code @Query(partitioned = true)}. The statement is only buffered by DML batching if the
+   * method does not return the number of rows affected.
+   *
+   * @param statement the DML statement
+   * @return the number of rows affected, or its lower bound for Partitioned DML
+   */
+  long executeDml(Statement statement) {
+    Query queryAnnotation = this.queryMethod.getQueryAnnotation();
+    if (queryAnnotation != null && queryAnnotation.partitioned()) {
+      return this.spannerTemplate.executePartitionedDmlStatement(statement);
+    }
+    Class<?> returnedType = this.queryMethod.getReturnedObjectType();
+    return this.spannerTemplate.executeDmlStatement(
+        statement, returnedType != void.class && returnedType != Void.class);
+  }
+
   @Override
   public Object execute(Object[] parameters) {
+    String previousMethod = SpannerRepositoryMethodContext.setCurrentMethod(getMethodTag());
+    TimestampBound previousTimestampBound =
+        SpannerRepositoryMethodContext.setTimestampBound(
+            this.queryMethod.getStaleReadTimestampBound());
+    try {
+      return executeAndProcess(parameters);
+    } finally {
+      SpannerRepositoryMethodContext.setCurrentMethod(previousMethod);
+      SpannerRepositoryMethodContext.setTimestampBound(previousTimestampBound);
+    }
+  }
+
+  /** Returns the name that the operations of the query method are tagged with in metrics. */
+  private String getMethodTag() {
+    if (this.methodTag == null) {
+      Method method = this.queryMethod.getQueryMethod();
+      this.methodTag =
+          (method != null)
+              ? method.getDeclaringClass().getSimpleName() + "." + method.getName()
+              : this.queryMethod.getName();
+    }
+    return this.methodTag;
+  }
+
+  private Object executeAndProcess(Object[] parameters) {
     List results = executeRawResult(parameters);
     Class<?> simpleConvertedType = getReturnedSimpleConvertableItemType();
     if (simpleConvertedType != null) {
@@ -16,11 +16,16 @@
 
 package com.google.cloud.spring.data.spanner.repository.query;
 
+import com.google.cloud.spanner.Statement;
 import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import java.lang.reflect.Parameter;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.parser.PartTree;
@@ -29,6 +34,14 @@ import org.springframework.data.repository.query.parser.PartTree;
  * Implementation of a Spanner Query Method that handles all Part-tree / name-convention query
  * methods.
  *
+ * <p>The SQL of an invocation only depends on its sort and on whether it is paged, so it is built
+ * once for each of them and cached; invocations only bind their parameter values and page.
+ *
+ * <p>Delete query methods that do not return the deleted entities are executed as a single {@code
+ * DELETE} DML statement, so the rows are not read first. Methods that return the deleted entities,
+ * or that delete a limited number or page of entities, read the entities and delete them with
+ * mutations in a read-write transaction.
+ *
  * @param <T> the return type of the Query Method
  * @since 1.1
  */
@@ -36,6 +49,13 @@ public class PartTreeSpannerQuery<T> extends AbstractSpannerQuery<T> {
 
   private final PartTree tree;
 
+  private final QueryStatementCache<QueryShape, SqlStringAndPlaceholders> sqlCache =
+      new QueryStatementCache<>();
+
+  private volatile Map<String, Parameter> paramMetadataMap;
+
+  private volatile SqlStringAndPlaceholders deleteSql;
+
   /**
    * Constructor.
    *
@@ -58,25 +78,63 @@ public class PartTreeSpannerQuery<T> extends AbstractSpannerQuery<T> {
     ParameterAccessor paramAccessor =
         new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
     if (isCountOrExistsQuery()) {
-      return SpannerStatementQueryExecutor.executeQuery(
+      return this.spannerTemplate.query(
           struct -> isCountQuery() ? struct.getLong(0) : struct.getBoolean(0),
-          this.entityType,
-          this.tree,
-          paramAccessor,
-          getQueryMethod().getQueryMethod().getParameters(),
-          this.spannerTemplate,
-          this.spannerMappingContext);
+          buildStatement(paramAccessor, this.spannerTemplate),
+          null);
     }
     if (this.tree.isDelete()) {
-      return this.spannerTemplate.performReadWriteTransaction(getDeleteFunction(parameters));
+      if (this.queryMethod.isCollectionQuery()
+          || this.tree.isLimiting()
+          || paramAccessor.getPageable().isPaged()) {
+        return this.spannerTemplate.performReadWriteTransaction(getDeleteFunction(parameters));
+      }
+      return executeDeleteDml(paramAccessor);
+    }
+    return this.spannerTemplate.query(
+        this.entityType, buildStatement(paramAccessor, this.spannerTemplate), null);
+  }
+
+  private Statement buildStatement(ParameterAccessor paramAccessor, SpannerTemplate template) {
+    Sort sort = paramAccessor.getSort().isSorted() ? paramAccessor.getSort() : this.tree.getSort();
+    Pageable pageable = paramAccessor.getPageable();
+    SqlStringAndPlaceholders sql =
+        this.sqlCache.get(
+            QueryShape.of(sort, pageable),
+            shape ->
+                SpannerStatementQueryExecutor.buildPartTreeSqlString(
+                    this.tree, this.spannerMappingContext, this.entityType, sort, pageable));
+    return SpannerStatementQueryExecutor.buildPartTreeStatement(
+        sql, getParamMetadataMap(sql), paramAccessor, template);
+  }
+
+  private Map<String, Parameter> getParamMetadataMap(SqlStringAndPlaceholders sql) {
+    Map<String, Parameter> metadata = this.paramMetadataMap;
+    if (metadata == null) {
+      // The placeholders are the same for every shape, and for the delete DML.
+      metadata =
+          SpannerStatementQueryExecutor.preparePartTreeSqlTagParameterMap(
+              getQueryMethod().getQueryMethod().getParameters(), sql);
+      this.paramMetadataMap = metadata;
+    }
+    return metadata;
+  }
+
+  private List executeDeleteDml(ParameterAccessor paramAccessor) {
+    SqlStringAndPlaceholders sql = this.deleteSql;
+    if (sql == null) {
+      sql =
+          SpannerStatementQueryExecutor.buildPartTreeDeleteSqlString(
+              this.tree, this.spannerMappingContext, this.entityType);
+      this.deleteSql = sql;
     }
-    return SpannerStatementQueryExecutor.executeQuery(
-        this.entityType,
-        this.tree,
-        paramAccessor,
-        getQueryMethod().getQueryMethod().getParameters(),
-        this.spannerTemplate,
-        this.spannerMappingContext);
+    long deletedCount =
+        executeDml(
+            SpannerStatementQueryExecutor.buildPartTreeStatement(
+                sql, getParamMetadataMap(sql), paramAccessor, this.spannerTemplate));
+    return (this.queryMethod.getReturnedObjectType() != void.class)
+        ? Collections.singletonList(deletedCount)
+        : null;
   }
 
   private Function<SpannerTemplate, List> getDeleteFunction(Object[] parameters) {
@@ -84,13 +142,8 @@ public class PartTreeSpannerQuery<T> extends AbstractSpannerQuery<T> {
       ParameterAccessor paramAccessor =
           new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
       List<T> entitiesToDelete =
-          SpannerStatementQueryExecutor.executeQuery(
-              this.entityType,
-              this.tree,
-              paramAccessor,
-              getQueryMethod().getQueryMethod().getParameters(),
-              transactionTemplate,
-              this.spannerMappingContext);
+          transactionTemplate.query(
+              this.entityType, buildStatement(paramAccessor, transactionTemplate), null);
       transactionTemplate.deleteAll(entitiesToDelete);
 
       List result = null;
@@ -114,4 +167,12 @@ public class PartTreeSpannerQuery<T> extends AbstractSpannerQuery<T> {
   private boolean isExistsQuery() {
     return this.tree.isExistsProjection();
   }
+
+  /** The sort of an invocation and whether it is paged, which determine its SQL. */
+  private record QueryShape(Sort sort, boolean paged) {
+
+    static QueryShape of(Sort sort, Pageable pageable) {
+      return new QueryShape(sort, pageable.isPaged());
+    }
+  }
 }
@@ -53,4 +53,15 @@ public @interface Query {
    *     method is executed as a DML query.
    */
   boolean dmlStatement() default false;
+
+  /**
+   * Indicates if the DML of the annotated Query Method is executed as Partitioned DML, which is
+   * not limited by the size of a transaction but is not atomic. This applies to DML query methods
+   * and to delete query methods that are derived from the method name, on which the annotation
+   * does not need a query string.
+   *
+   * @return {@code true} if the DML is executed with {@link
+   *     com.google.cloud.spring.data.spanner.core.SpannerTemplate#executePartitionedDmlStatement}.
+   */
+  boolean partitioned() default false;
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.repository.query;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A small least-recently-used cache of the SQL strings that a query method built for the shapes of
+ * its invocations, such as the sort that was requested and whether they are paged. The same shape
+ * always yields the same SQL string, so the SQL is only built once per shape, and Cloud Spanner
+ * receives byte-identical SQL that hits its query plan cache.
+ *
+ * @param <K> the type of the shapes
+ * @param <V> the type of the cached SQL
+ */
+class QueryStatementCache<K, V> {
+
+  static final int DEFAULT_MAX_SIZE = 256;
+
+  private final Map<K, V> entries;
+
+  QueryStatementCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  QueryStatementCache(int maxSize) {
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxSize;
+          }
+        };
+  }
+
+  /**
+   * Returns the SQL of a shape, building it if it is not cached. The SQL is built outside of the
+   * lock, so concurrent misses may build it more than once.
+   */
+  V get(K shape, Function<K, V> builder) {
+    V value;
+    synchronized (this.entries) {
+      value = this.entries.get(shape);
+    }
+    if (value == null) {
+      value = builder.apply(shape);
+      synchronized (this.entries) {
+        this.entries.put(shape, value);
+      }
+    }
+    return value;
+  }
+
+  int size() {
+    synchronized (this.entries) {
+      return this.entries.size();
+    }
+  }
+}
@@ -16,13 +16,17 @@
 
 package com.google.cloud.spring.data.spanner.repository.query;
 
+import com.google.cloud.spanner.TimestampBound;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
 import java.lang.reflect.Method;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.format.datetime.standard.DurationFormatterUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
@@ -35,6 +39,8 @@ public class SpannerQueryMethod extends QueryMethod {
 
   private final Method queryMethod;
 
+  @Nullable private final TimestampBound staleReadTimestampBound;
+
   /**
    * Creates a new {@link QueryMethod} from the given parameters. Looks up the correct query to use
    * for following invocations of the method given.
@@ -47,6 +53,7 @@ public class SpannerQueryMethod extends QueryMethod {
       Method queryMethod, RepositoryMetadata metadata, ProjectionFactory factory) {
     super(queryMethod, metadata, factory);
     this.queryMethod = queryMethod;
+    this.staleReadTimestampBound = findStaleReadTimestampBound();
   }
 
   /**
@@ -85,4 +92,41 @@ public class SpannerQueryMethod extends QueryMethod {
   Query getQueryAnnotation() {
     return AnnotatedElementUtils.findMergedAnnotation(this.queryMethod, Query.class);
   }
+
+  /**
+   * Returns the timestamp bound of the {@link StaleRead} annotation that is applied to the method
+   * or {@code null} if none available.
+   *
+   * @return the timestamp bound of the reads of the method.
+   */
+  @Nullable
+  TimestampBound getStaleReadTimestampBound() {
+    return this.staleReadTimestampBound;
+  }
+
+  @Nullable
+  private TimestampBound findStaleReadTimestampBound() {
+    StaleRead staleRead =
+        AnnotatedElementUtils.findMergedAnnotation(this.queryMethod, StaleRead.class);
+    if (staleRead == null) {
+      return null;
+    }
+    boolean hasMaxStaleness = StringUtils.hasText(staleRead.maxStaleness());
+    if (hasMaxStaleness == StringUtils.hasText(staleRead.exactStaleness())) {
+      throw new SpannerDataException(
+          "Exactly one of maxStaleness and exactStaleness must be set in @StaleRead on "
+              + this.queryMethod);
+    }
+    try {
+      return hasMaxStaleness
+          ? TimestampBound.ofMaxStaleness(
+              DurationFormatterUtils.detectAndParse(staleRead.maxStaleness()).toNanos(),
+              TimeUnit.NANOSECONDS)
+          : TimestampBound.ofExactStaleness(
+              DurationFormatterUtils.detectAndParse(staleRead.exactStaleness()).toNanos(),
+              TimeUnit.NANOSECONDS);
+    } catch (IllegalArgumentException ex) {
+      throw new SpannerDataException("Invalid staleness in @StaleRead on " + this.queryMethod, ex);
+    }
+  }
 }
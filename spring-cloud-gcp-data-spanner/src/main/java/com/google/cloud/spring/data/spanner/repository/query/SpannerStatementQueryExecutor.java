@@ -60,6 +60,11 @@ public final class SpannerStatementQueryExecutor {
 
   private static final String LIMIT = " LIMIT ";
 
+  /** The placeholders of the page size and offset, which don't clash with the tags. */
+  private static final String PAGE_LIMIT_TAG = "pageLimit";
+
+  private static final String PAGE_OFFSET_TAG = "pageOffset";
+
   private static final String WHERE = " WHERE ";
 
   private static final String AND = " AND ";
@@ -91,20 +96,43 @@ public final class SpannerStatementQueryExecutor {
         buildPartTreeSqlString(tree, spannerMappingContext, type, parameterAccessor);
     Map<String, Parameter> paramMetadataMap =
         preparePartTreeSqlTagParameterMap(queryMethodParamsMetadata, sqlStringAndPlaceholders);
-    Object[] params = StreamSupport.stream(parameterAccessor.spliterator(), false).toArray();
     return spannerTemplate.query(
         type,
+        buildPartTreeStatement(
+            sqlStringAndPlaceholders, paramMetadataMap, parameterAccessor, spannerTemplate),
+        null);
+  }
+
+  /**
+   * Binds the parameters of a PartTree-based query to its SQL.
+   *
+   * @param sqlStringAndPlaceholders the SQL of the query and its placeholders
+   * @param paramMetadataMap the parameter metadata of the query method by placeholder
+   * @param parameterAccessor the parameters of this specific query
+   * @param spannerTemplate used to convert the parameters
+   * @return the statement
+   */
+  static Statement buildPartTreeStatement(
+      SqlStringAndPlaceholders sqlStringAndPlaceholders,
+      Map<String, Parameter> paramMetadataMap,
+      ParameterAccessor parameterAccessor,
+      SpannerTemplate spannerTemplate) {
+    Object[] params = StreamSupport.stream(parameterAccessor.spliterator(), false).toArray();
+    Statement statement =
         buildStatementFromSqlWithArgs(
             sqlStringAndPlaceholders.getSql(),
             sqlStringAndPlaceholders.getPlaceholders(),
             null,
             spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
             params,
-            paramMetadataMap),
-        null);
+            paramMetadataMap);
+    if (!sqlStringAndPlaceholders.isPaged()) {
+      return statement;
+    }
+    return bindPage(statement, parameterAccessor.getPageable());
   }
 
-  private static Map<String, Parameter> preparePartTreeSqlTagParameterMap(
+  static Map<String, Parameter> preparePartTreeSqlTagParameterMap(
       Parameter[] paramsMetadata, SqlStringAndPlaceholders sqlStringAndPlaceholders) {
     Map<String, Parameter> paramMetadataMap = new HashMap<>();
     int nextPlaceholderIdx = 0;
@@ -146,16 +174,10 @@ public final class SpannerStatementQueryExecutor {
         buildPartTreeSqlString(tree, spannerMappingContext, type, parameterAccessor);
     Map<String, Parameter> paramMetadataMap =
         preparePartTreeSqlTagParameterMap(queryMethodParamsMetadata, sqlStringAndPlaceholders);
-    Object[] params = StreamSupport.stream(parameterAccessor.spliterator(), false).toArray();
     return spannerTemplate.query(
         rowFunc,
-        buildStatementFromSqlWithArgs(
-            sqlStringAndPlaceholders.getSql(),
-            sqlStringAndPlaceholders.getPlaceholders(),
-            null,
-            spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
-            params,
-            paramMetadataMap),
+        buildPartTreeStatement(
+            sqlStringAndPlaceholders, paramMetadataMap, parameterAccessor, spannerTemplate),
         null);
   }
 
@@ -181,13 +203,71 @@ public final class SpannerStatementQueryExecutor {
       String sql,
       SpannerMappingContext mappingContext,
       boolean fetchInterleaved) {
+    StringBuilder paging = new StringBuilder();
+    if (options.getLimit() != null) {
+      paging.append(LIMIT).append(options.getLimit());
+    }
+    if (options.getOffset() != null) {
+      paging.append(" OFFSET ").append(options.getOffset());
+    }
+    return applySortingAndPaging(
+        entityClass, options.getSort(), paging.toString(), sql, mappingContext, fetchInterleaved);
+  }
+
+  /**
+   * Apply sorting to a query string, and page it with the {@code @pageLimit} and {@code
+   * @pageOffset} parameters bound by {@link #bindPage}, so that its SQL is the same for every page.
+   *
+   * @param entityClass the domain type whose table is being queried.
+   * @param sort the sort, or {@code null}.
+   * @param paged whether the query is paged.
+   * @param sql the sql that will be wrapped with sorting and paging.
+   * @param mappingContext a mapping context to convert between Cloud Spanner column names and
+   *     underlying property names.
+   * @param fetchInterleaved when {@code true} additional subqueries will be added to fetch
+   *     eager-Interleaved lists with a single query.
+   * @param <T> the domain type.
+   * @return the final SQL string with paging and sorting applied.
+   */
+  static <T> String applySortingAndPageParameters(
+      Class<T> entityClass,
+      Sort sort,
+      boolean paged,
+      String sql,
+      SpannerMappingContext mappingContext,
+      boolean fetchInterleaved) {
+    return applySortingAndPaging(
+        entityClass, sort, paged ? pageParameters() : "", sql, mappingContext, fetchInterleaved);
+  }
+
+  /**
+   * Binds the size and offset of a page to a statement whose SQL was paged with {@link
+   * #applySortingAndPageParameters}.
+   *
+   * @param statement the statement
+   * @param pageable the page
+   * @return the statement with the page bound to it
+   */
+  static Statement bindPage(Statement statement, Pageable pageable) {
+    return statement.toBuilder()
+        .bind(PAGE_LIMIT_TAG)
+        .to(pageable.getPageSize())
+        .bind(PAGE_OFFSET_TAG)
+        .to(pageable.getOffset())
+        .build();
+  }
+
+  private static <T> String applySortingAndPaging(
+      Class<T> entityClass,
+      Sort sort,
+      String paging,
+      String sql,
+      SpannerMappingContext mappingContext,
+      boolean fetchInterleaved) {
     // Cloud Spanner does not preserve the order of derived tables so we must not wrap the
     // derived table
     // in SELECT * FROM () if there is no overriding pageable param.
-    if ((options.getSort() == null || options.getSort().isUnsorted())
-        && options.getLimit() == null
-        && options.getOffset() == null
-        && !fetchInterleaved) {
+    if ((sort == null || sort.isUnsorted()) && paging.isEmpty() && !fetchInterleaved) {
       return sql;
     }
 
@@ -199,7 +279,7 @@ public final class SpannerStatementQueryExecutor {
     final String alias = subquery.isEmpty() ? "" : " " + persistentEntity.tableName();
     StringBuilder sb =
         applySort(
-            options.getSort(),
+            sort,
             new StringBuilder("SELECT *")
                 .append(subquery)
                 .append(" FROM (")
@@ -208,13 +288,11 @@ public final class SpannerStatementQueryExecutor {
                 .append(alias)
                 .append(buildWhere(persistentEntity)),
             persistentEntity);
-    if (options.getLimit() != null) {
-      sb.append(LIMIT).append(options.getLimit());
-    }
-    if (options.getOffset() != null) {
-      sb.append(" OFFSET ").append(options.getOffset());
-    }
-    return sb.toString();
+    return sb.append(paging).toString();
+  }
+
+  private static String pageParameters() {
+    return LIMIT + "@" + PAGE_LIMIT_TAG + " OFFSET @" + PAGE_OFFSET_TAG;
   }
 
   /**
@@ -543,6 +621,31 @@ public final class SpannerStatementQueryExecutor {
       SpannerMappingContext spannerMappingContext,
       Class type,
       ParameterAccessor params) {
+    return buildPartTreeSqlString(
+        tree,
+        spannerMappingContext,
+        type,
+        params.getSort().isSorted() ? params.getSort() : tree.getSort(),
+        params.getPageable());
+  }
+
+  /**
+   * Builds the SQL of a PartTree-based query. The SQL only depends on the sort and on whether the
+   * query is paged, not on the parameter values or the page, which are bound to the placeholders.
+   *
+   * @param tree the parsed metadata of the query
+   * @param spannerMappingContext used to get metadata about the entity type
+   * @param type the type of the underlying entity
+   * @param sort the sort of the results
+   * @param pageable the page of the results
+   * @return the SQL and its placeholders
+   */
+  static SqlStringAndPlaceholders buildPartTreeSqlString(
+      PartTree tree,
+      SpannerMappingContext spannerMappingContext,
+      Class<?> type,
+      Sort sort,
+      Pageable pageable) {
 
     SpannerPersistentEntity<?> persistentEntity =
         spannerMappingContext.getPersistentEntityOrFail(type);
@@ -552,11 +655,8 @@ public final class SpannerStatementQueryExecutor {
     buildSelect(persistentEntity, tree, stringBuilder, spannerMappingContext);
     buildFrom(persistentEntity, stringBuilder);
     buildWhere(tree, persistentEntity, tags, stringBuilder);
-    applySort(
-        params.getSort().isSorted() ? params.getSort() : tree.getSort(),
-        stringBuilder,
-        persistentEntity);
-    buildLimit(tree, stringBuilder, params.getPageable());
+    applySort(sort, stringBuilder, persistentEntity);
+    boolean paged = buildLimit(tree, stringBuilder, pageable);
 
     String selectSql = stringBuilder.toString();
 
@@ -567,7 +667,33 @@ public final class SpannerStatementQueryExecutor {
     } else if (tree.isExistsProjection()) {
       finalSql = "SELECT EXISTS(" + selectSql + ")";
     }
-    return new SqlStringAndPlaceholders(finalSql, tags);
+    return new SqlStringAndPlaceholders(finalSql, tags, paged);
+  }
+
+  /**
+   * Builds the DML of a PartTree-based delete query, which deletes the matching rows without
+   * reading them.
+   *
+   * @param tree the parsed metadata of the query
+   * @param spannerMappingContext used to get metadata about the entity type
+   * @param type the type of the underlying entity
+   * @return the DML and its placeholders
+   */
+  static SqlStringAndPlaceholders buildPartTreeDeleteSqlString(
+      PartTree tree, SpannerMappingContext spannerMappingContext, Class<?> type) {
+    SpannerPersistentEntity<?> persistentEntity =
+        spannerMappingContext.getPersistentEntityOrFail(type);
+    List<String> tags = new ArrayList<>();
+    StringBuilder stringBuilder = new StringBuilder("DELETE ");
+
+    buildFrom(persistentEntity, stringBuilder);
+    if (tree.hasPredicate()) {
+      buildWhere(tree, persistentEntity, tags, stringBuilder);
+    } else {
+      // Cloud Spanner requires a WHERE clause in DELETE statements.
+      stringBuilder.append("WHERE true");
+    }
+    return new SqlStringAndPlaceholders(stringBuilder.toString(), tags);
   }
 
   private static void buildSelect(
@@ -722,17 +848,16 @@ public final class SpannerStatementQueryExecutor {
     }
   }
 
-  private static void buildLimit(PartTree tree, StringBuilder stringBuilder, Pageable pageable) {
+  /** Appends the limit of the query, and returns whether the page has to be bound to it. */
+  private static boolean buildLimit(PartTree tree, StringBuilder stringBuilder, Pageable pageable) {
     if (tree.isExistsProjection()) {
       stringBuilder.append(" LIMIT 1");
     } else if (pageable.isPaged()) {
-      stringBuilder
-          .append(LIMIT)
-          .append(pageable.getPageSize())
-          .append(" OFFSET ")
-          .append(pageable.getOffset());
+      stringBuilder.append(pageParameters());
+      return true;
     } else if (tree.isLimiting()) {
       stringBuilder.append(LIMIT).append(tree.getMaxResults());
     }
+    return false;
   }
 }
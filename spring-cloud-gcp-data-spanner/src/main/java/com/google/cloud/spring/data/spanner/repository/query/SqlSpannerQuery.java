@@ -60,6 +60,10 @@ import org.springframework.util.StringUtils;
 /**
  * A Query Method for Spanner using SQL strings.
  *
+ * <p>The parts of the query that do not depend on the parameter values, such as the resolved entity
+ * table names, the parsed SpEL expressions and the parameter tags, are prepared on the first
+ * invocation. The SQL with sorting and paging applied is cached for each sort and page.
+ *
  * @param <T> the return type of the Query Method
  * @since 1.1
  */
@@ -87,6 +91,11 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
 
   private SpelExpressionParser expressionParser;
 
+  private volatile PreparedSql preparedSql;
+
+  private final QueryStatementCache<QueryShape, String> sortedPagedSqlCache =
+      new QueryStatementCache<>();
+
   SqlSpannerQuery(
       Class<T> type,
       SpannerQueryMethod queryMethod,
@@ -189,8 +198,31 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
         .getEvaluationContext(queryTagValue.rawParams).getEvaluationContext();
   }
 
-  private void resolveSpelTags(QueryTagValue queryTagValue) {
-    Expression[] expressions = detectExpressions(queryTagValue.sql);
+  private PreparedSql getPreparedSql() {
+    PreparedSql prepared = this.preparedSql;
+    if (prepared == null) {
+      Map<String, java.lang.reflect.Parameter> paramMetadataMap = new HashMap<>();
+      for (java.lang.reflect.Parameter param : getQueryMethod().getQueryMethod().getParameters()) {
+        Param annotation = param.getAnnotation(Param.class);
+        paramMetadataMap.put(annotation == null ? param.getName() : annotation.value(), param);
+      }
+      prepared =
+          new PreparedSql(
+              getParamTags(),
+              List.of(
+                  detectExpressions(resolveEntityClassNames(this.sql, this.spannerMappingContext))),
+              paramMetadataMap);
+      this.preparedSql = prepared;
+    }
+    return prepared;
+  }
+
+  private void resolveSpelTags(QueryTagValue queryTagValue, List<Expression> expressions) {
+    if (expressions.size() == 1 && expressions.get(0) instanceof LiteralExpression) {
+      // Without SpEL expressions, there is nothing to evaluate.
+      queryTagValue.sql = expressions.get(0).getValue(String.class);
+      return;
+    }
     StringBuilder sb = new StringBuilder();
     Map<Object, String> valueToTag = new HashMap<>();
     int tagNum = 0;
@@ -229,18 +261,15 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
         new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
     Object[] params = StreamSupport.stream(paramAccessor.spliterator(), false).toArray();
 
+    PreparedSql prepared = getPreparedSql();
     QueryTagValue queryTagValue =
-        new QueryTagValue(
-            getParamTags(),
-            parameters,
-            params,
-            resolveEntityClassNames(this.sql, this.spannerMappingContext));
+        new QueryTagValue(new ArrayList<>(prepared.paramTags), parameters, params, null);
 
-    resolveSpelTags(queryTagValue);
+    resolveSpelTags(queryTagValue, prepared.expressions);
 
     return this.isDml
         ? Collections.singletonList(
-            this.spannerTemplate.executeDmlStatement(buildStatementFromQueryAndTags(queryTagValue)))
+            executeDml(buildStatementFromQueryAndTags(queryTagValue)))
         : executeReadSql(paramAccessor.getPageable(), paramAccessor.getSort(), queryTagValue);
   }
 
@@ -252,23 +281,29 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
       spannerQueryOptions.setSort(sort);
     }
 
-    if (pageable != null && pageable.isPaged()) {
-      spannerQueryOptions.setOffset(pageable.getOffset()).setLimit(pageable.getPageSize());
-    }
+    // The page is bound as parameters, so that the SQL is the same for every page.
+    boolean paged = pageable != null && pageable.isPaged();
 
     final Class<?> returnedType = getReturnedType();
     final SpannerPersistentEntity<?> entity =
         returnedType == null ? null : this.spannerMappingContext.getPersistentEntity(returnedType);
 
     queryTagValue.sql =
-        SpannerStatementQueryExecutor.applySortingPagingQueryOptions(
-            this.entityType,
-            spannerQueryOptions,
-            queryTagValue.sql,
-            this.spannerMappingContext,
-            entity != null && entity.hasEagerlyLoadedProperties());
+        this.sortedPagedSqlCache.get(
+            new QueryShape(queryTagValue.sql, spannerQueryOptions.getSort(), paged),
+            shape ->
+                SpannerStatementQueryExecutor.applySortingAndPageParameters(
+                    this.entityType,
+                    shape.sort(),
+                    shape.paged(),
+                    shape.sql(),
+                    this.spannerMappingContext,
+                    entity != null && entity.hasEagerlyLoadedProperties()));
 
     Statement statement = buildStatementFromQueryAndTags(queryTagValue);
+    if (paged) {
+      statement = SpannerStatementQueryExecutor.bindPage(statement, pageable);
+    }
 
     if (getReturnedSimpleConvertableItemType() != null) {
       return this.spannerTemplate.query(
@@ -278,7 +313,7 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
     if (isJsonFieldType(returnedType)) {
       return this.spannerTemplate.query(
           struct -> new StructAccessor(struct,
-              this.spannerMappingContext.getGson()).getJsonValue(0, returnedType),
+              this.spannerMappingContext.getJsonCodec()).getJsonValue(0, returnedType),
           statement,
           spannerQueryOptions);
     }
@@ -297,18 +332,13 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
   }
 
   private Statement buildStatementFromQueryAndTags(QueryTagValue queryTagValue) {
-    Map<String, java.lang.reflect.Parameter> paramMetadataMap = new HashMap<>();
-    for (java.lang.reflect.Parameter param : getQueryMethod().getQueryMethod().getParameters()) {
-      Param annotation = param.getAnnotation(Param.class);
-      paramMetadataMap.put(annotation == null ? param.getName() : annotation.value(), param);
-    }
     return SpannerStatementQueryExecutor.buildStatementFromSqlWithArgs(
         queryTagValue.sql,
         queryTagValue.tags,
         this.paramStructConvertFunc,
         this.spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
         queryTagValue.params.toArray(),
-        paramMetadataMap);
+        getPreparedSql().paramMetadataMap);
   }
 
   private Expression[] detectExpressions(String sql) {
@@ -325,6 +355,15 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
     }
   }
 
+  // The parts of the query that are the same for every invocation.
+  private record PreparedSql(
+      List<String> paramTags,
+      List<Expression> expressions,
+      Map<String, java.lang.reflect.Parameter> paramMetadataMap) {}
+
+  // The SQL after SpEL evaluation, the sort that is applied to it, and whether it is paged.
+  private record QueryShape(String sql, Sort sort, boolean paged) {}
+
   // Convenience class to hold a grouping of SQL, tags, and parameter values.
   private static class QueryTagValue {
 
@@ -30,9 +30,16 @@ class SqlStringAndPlaceholders {
 
   private List<String> placeholders;
 
+  private boolean paged;
+
   SqlStringAndPlaceholders(String finalSql, List<String> placeholders) {
+    this(finalSql, placeholders, false);
+  }
+
+  SqlStringAndPlaceholders(String finalSql, List<String> placeholders, boolean paged) {
     this.sql = finalSql;
     this.placeholders = placeholders;
+    this.paged = paged;
   }
 
   String getSql() {
@@ -42,4 +49,9 @@ class SqlStringAndPlaceholders {
   List<String> getPlaceholders() {
     return placeholders;
   }
+
+  /** Whether the page size and offset are bound to the SQL, in addition to the placeholders. */
+  boolean isPaged() {
+    return paged;
+  }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation used on the Query Methods of user-defined repositories to read stale data, which the
+ * nearest replica can serve instead of the leader. It overrides the default timestamp bound of the
+ * {@link com.google.cloud.spring.data.spanner.core.SpannerTemplate}, and does not apply within
+ * transactions. Exactly one of the staleness attributes must be set, as a duration such as {@code
+ * 10s} or {@code PT10S}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface StaleRead {
+
+  /**
+   * The maximum staleness of the data, which lets Cloud Spanner pick the most recent timestamp that
+   * the nearest replica can serve without waiting.
+   *
+   * @return the maximum staleness.
+   */
+  String maxStaleness() default "";
+
+  /**
+   * The exact staleness of the data.
+   *
+   * @return the exact staleness.
+   */
+  String exactStaleness() default "";
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spring.data.spanner.core.mapping.Interleaved;
+import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.Table;
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheStats;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the entity cache. */
+class SpannerEntityCacheTests {
+
+  private static final Key KEY = Key.of("singer1");
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private SpannerEntityCache entityCache;
+
+  @BeforeEach
+  void setUp() {
+    Ticker ticker =
+        new Ticker() {
+          @Override
+          public long read() {
+            return SpannerEntityCacheTests.this.nanos.get();
+          }
+        };
+    this.entityCache =
+        new SpannerEntityCache(new SpannerMappingContext(), ticker)
+            .registerShared(Singer.class, 2, Duration.ofSeconds(10));
+  }
+
+  @Test
+  void getAfterPutTest() {
+    Singer singer = new Singer();
+    assertThat(this.entityCache.isCached(Singer.class)).isTrue();
+    assertThat(this.entityCache.isCached(Album.class)).isFalse();
+    assertThat(this.entityCache.get(Singer.class, KEY, null)).isNull();
+
+    put(KEY, singer);
+
+    assertThat(this.entityCache.get(Singer.class, KEY, null)).isSameAs(singer);
+    CacheStats stats = this.entityCache.getStats(Singer.class);
+    assertThat(stats.hitCount()).isEqualTo(1);
+    assertThat(stats.missCount()).isEqualTo(1);
+  }
+
+  @Test
+  void copiesTest() {
+    this.entityCache.register(Album.class, 2, Duration.ofSeconds(10), Album::copy);
+    Album album = new Album();
+    album.albumId = "album1";
+    this.entityCache.put(
+        Album.class, KEY, album, this.entityCache.getGeneration(Album.class), this.nanos.get());
+    album.albumId = "modified";
+
+    Album cached = this.entityCache.get(Album.class, KEY, null);
+    assertThat(cached).isNotSameAs(album);
+    assertThat(cached.albumId).isEqualTo("album1");
+    cached.albumId = "modified";
+    assertThat(this.entityCache.get(Album.class, KEY, null).albumId).isEqualTo("album1");
+  }
+
+  @Test
+  void expiryAndStalenessTest() {
+    Singer singer = new Singer();
+    put(KEY, singer);
+    this.nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+
+    assertThat(this.entityCache.get(Singer.class, KEY, Duration.ofSeconds(1))).isNull();
+    assertThat(this.entityCache.get(Singer.class, KEY, Duration.ofSeconds(6))).isSameAs(singer);
+    assertThat(this.entityCache.get(Singer.class, KEY, null)).isSameAs(singer);
+
+    this.nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+    assertThat(this.entityCache.get(Singer.class, KEY, null)).isNull();
+  }
+
+  @Test
+  void maximumSizeTest() {
+    put(Key.of("singer1"), new Singer());
+    put(Key.of("singer2"), new Singer());
+    put(Key.of("singer3"), new Singer());
+
+    assertThat(this.entityCache.getStats(Singer.class).evictionCount()).isEqualTo(1);
+  }
+
+  @Test
+  void invalidateChildTableTest() {
+    put(KEY, new Singer());
+
+    this.entityCache.invalidateTables(List.of("other_table"));
+    assertThat(this.entityCache.get(Singer.class, KEY, null)).isNotNull();
+
+    this.entityCache.invalidateTables(List.of("albums"));
+    assertThat(this.entityCache.get(Singer.class, KEY, null)).isNull();
+  }
+
+  @Test
+  void putAfterInvalidationIsIgnoredTest() {
+    long generation = this.entityCache.getGeneration(Singer.class);
+    this.entityCache.invalidateAll();
+
+    this.entityCache.put(Singer.class, KEY, new Singer(), generation, this.nanos.get());
+
+    assertThat(this.entityCache.get(Singer.class, KEY, null)).isNull();
+  }
+
+  @Test
+  void notCachedTypeTest() {
+    assertThatThrownBy(() -> this.entityCache.get(Album.class, KEY, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("The entity type is not cached");
+  }
+
+  private void put(Key key, Singer singer) {
+    this.entityCache.put(
+        Singer.class,
+        key,
+        singer,
+        this.entityCache.getGeneration(Singer.class),
+        this.nanos.get());
+  }
+
+  @Table(name = "singers")
+  private static class Singer {
+    @PrimaryKey String singerId;
+
+    @Interleaved List<Album> albums;
+  }
+
+  @Table(name = "albums")
+  private static class Album {
+    @PrimaryKey String singerId;
+
+    @PrimaryKey(keyOrder = 2)
+    String albumId;
+
+    Album copy() {
+      Album copy = new Album();
+      copy.singerId = this.singerId;
+      copy.albumId = this.albumId;
+      return copy;
+    }
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.cloud.spanner.Options;
+import com.google.cloud.spanner.Statement;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+import com.google.spanner.v1.ResultSetStats;
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the metrics of the operations of the Spanner Template. */
+class SpannerOperationMetricsTests {
+
+  private static final Statement STATEMENT = Statement.of("SELECT * FROM singers");
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final List<Observation.Context> stoppedObservations = new ArrayList<>();
+
+  private SpannerOperationMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    ObservationRegistry observationRegistry = ObservationRegistry.create();
+    observationRegistry
+        .observationConfig()
+        .observationHandler(
+            new ObservationHandler<>() {
+              @Override
+              public void onStop(Observation.Context context) {
+                SpannerOperationMetricsTests.this.stoppedObservations.add(context);
+              }
+
+              @Override
+              public boolean supportsContext(Observation.Context context) {
+                return true;
+              }
+            });
+    this.metrics = new SpannerOperationMetrics();
+    this.metrics.setObservationRegistry(observationRegistry);
+    this.metrics.setMeterRegistry(this.meterRegistry);
+  }
+
+  @Test
+  void observeRecordsCountTest() {
+    List<String> result =
+        this.metrics.observe(
+            "query",
+            "singers",
+            STATEMENT,
+            () -> List.of("a", "b"),
+            SpannerOperationObserver.ROWS,
+            List::size);
+
+    assertThat(result).containsExactly("a", "b");
+    assertThat(
+            this.meterRegistry
+                .get(SpannerOperationObserver.ROWS)
+                .tags("operation", "query", "table", "singers", "method", "none")
+                .summary()
+                .totalAmount())
+        .isEqualTo(2.0);
+  }
+
+  @Test
+  void observeTagsRepositoryMethodTest() {
+    String previousMethod =
+        SpannerRepositoryMethodContext.setCurrentMethod("SingerRepository.findByName");
+    try {
+      this.metrics.observe("read", "singers", null, () -> "singer", null, null);
+    } finally {
+      SpannerRepositoryMethodContext.setCurrentMethod(previousMethod);
+    }
+
+    assertThat(this.stoppedObservations).hasSize(1);
+    Observation.Context context = this.stoppedObservations.get(0);
+    assertThat(context.getName()).isEqualTo(SpannerOperationMetrics.OPERATION);
+    assertThat(context.getLowCardinalityKeyValues())
+        .containsExactlyInAnyOrder(
+            KeyValue.of("operation", "read"),
+            KeyValue.of("table", "singers"),
+            KeyValue.of("method", "SingerRepository.findByName"));
+    assertThat(SpannerRepositoryMethodContext.getCurrentMethod()).isNull();
+  }
+
+  @Test
+  void observeErrorTest() {
+    assertThatThrownBy(
+            () ->
+                this.metrics.observe(
+                    "dml",
+                    null,
+                    STATEMENT,
+                    () -> {
+                      throw new IllegalStateException("failed");
+                    },
+                    SpannerOperationObserver.ROWS,
+                    x -> 0L))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(this.stoppedObservations).hasSize(1);
+    Observation.Context context = this.stoppedObservations.get(0);
+    assertThat(context.getError()).isInstanceOf(IllegalStateException.class);
+    assertThat(context.getHighCardinalityKeyValue("db.statement").getValue())
+        .isEqualTo(STATEMENT.getSql());
+    assertThat(this.meterRegistry.find(SpannerOperationObserver.ROWS).summary()).isNull();
+  }
+
+  @Test
+  void shouldProfileTest() {
+    assertThat(this.metrics.shouldProfile(null)).isFalse();
+
+    this.metrics.setQueryProfiling(1.0, Duration.ZERO);
+
+    assertThat(this.metrics.shouldProfile(null)).isTrue();
+    assertThat(this.metrics.shouldProfile(new SpannerQueryOptions())).isTrue();
+    assertThat(
+            this.metrics.shouldProfile(
+                new SpannerQueryOptions().addQueryOption(Options.prefetchChunks(1))))
+        .isFalse();
+  }
+
+  @Test
+  void recordProfileOfSlowQueriesTest() {
+    this.metrics.setQueryProfiling(1.0, Duration.ofMillis(100));
+    ResultSetStats stats =
+        ResultSetStats.newBuilder()
+            .setQueryStats(
+                Struct.newBuilder()
+                    .putFields("cpu_time", Value.newBuilder().setStringValue("2.5 secs").build())
+                    .putFields("rows_scanned", Value.newBuilder().setStringValue("1000").build()))
+            .build();
+
+    this.metrics.recordProfile(stats, Duration.ofMillis(50), STATEMENT, "singers");
+    assertThat(this.meterRegistry.find(SpannerOperationMetrics.QUERY_CPU).timer()).isNull();
+
+    this.metrics.recordProfile(stats, Duration.ofMillis(150), STATEMENT, "singers");
+    assertThat(
+            this.meterRegistry
+                .get(SpannerOperationMetrics.QUERY_CPU)
+                .tags("table", "singers")
+                .timer()
+                .totalTime(TimeUnit.MILLISECONDS))
+        .isEqualTo(2500.0);
+    assertThat(
+            this.meterRegistry
+                .get(SpannerOperationMetrics.QUERY_ROWS_SCANNED)
+                .summary()
+                .totalAmount())
+        .isEqualTo(1000.0);
+  }
+
+  @Test
+  void parseDurationTest() {
+    assertThat(SpannerOperationMetrics.parseDuration("1.25 msecs"))
+        .isEqualTo(Duration.ofNanos(1_250_000));
+    assertThat(SpannerOperationMetrics.parseDuration("40 usecs"))
+        .isEqualTo(Duration.ofNanos(40_000));
+    assertThat(SpannerOperationMetrics.parseDuration("3 secs")).isEqualTo(Duration.ofSeconds(3));
+    assertThat(SpannerOperationMetrics.parseDuration("2 mins")).isEqualTo(Duration.ofMinutes(2));
+  }
+}
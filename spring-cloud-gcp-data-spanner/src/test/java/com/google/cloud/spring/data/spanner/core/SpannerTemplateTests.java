@@ -25,6 +25,7 @@ import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -32,6 +33,8 @@ import static org.mockito.Mockito.when;
 
 import com.google.cloud.ByteArray;
 import com.google.cloud.Timestamp;
+import com.google.cloud.spanner.BatchClient;
+import com.google.cloud.spanner.BatchReadOnlyTransaction;
 import com.google.cloud.spanner.DatabaseClient;
 import com.google.cloud.spanner.Key;
 import com.google.cloud.spanner.KeySet;
@@ -40,16 +43,25 @@ import com.google.cloud.spanner.Options;
 import com.google.cloud.spanner.Options.ReadOption;
 import com.google.cloud.spanner.Options.ReadQueryUpdateTransactionOption;
 import com.google.cloud.spanner.Options.RpcPriority;
+import com.google.cloud.spanner.Partition;
+import com.google.cloud.spanner.PartitionOptions;
 import com.google.cloud.spanner.ReadContext;
+import com.google.cloud.spanner.ReadContext.QueryAnalyzeMode;
 import com.google.cloud.spanner.ReadOnlyTransaction;
 import com.google.cloud.spanner.ResultSet;
+import com.google.cloud.spanner.ResultSets;
+import com.google.cloud.spanner.SpannerException;
 import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
 import com.google.cloud.spanner.TimestampBound;
 import com.google.cloud.spanner.TransactionContext;
 import com.google.cloud.spanner.TransactionRunner;
 import com.google.cloud.spanner.TransactionRunner.TransactionCallable;
+import com.google.cloud.spanner.Type;
+import com.google.cloud.spanner.Type.StructField;
 import com.google.cloud.spring.data.spanner.core.admin.CachingComposingSupplier;
 import com.google.cloud.spring.data.spanner.core.admin.SpannerSchemaUtils;
+import com.google.cloud.spring.data.spanner.core.convert.ConverterAwareMappingSpannerEntityProcessor;
 import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
 import com.google.cloud.spring.data.spanner.core.convert.SpannerWriteConverter;
 import com.google.cloud.spring.data.spanner.core.mapping.Column;
@@ -67,18 +79,35 @@ import com.google.cloud.spring.data.spanner.core.mapping.event.AfterSaveEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeDeleteEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeExecuteDmlEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeSaveEvent;
+import com.google.protobuf.Value;
+import com.google.spanner.v1.ResultSetStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.springframework.context.ApplicationEvent;
@@ -191,6 +220,171 @@ class SpannerTemplateTests {
     verify(context, times(1)).executeUpdate(DML);
   }
 
+  @Test
+  void executeDmlMetricsTest() {
+    TransactionContext context = mock(TransactionContext.class);
+    TransactionRunner transactionRunner = mock(TransactionRunner.class);
+    when(this.databaseClient.readWriteTransaction()).thenReturn(transactionRunner);
+    when(transactionRunner.run(any()))
+        .thenAnswer(
+            invocation -> {
+              TransactionCallable transactionCallable = invocation.getArgument(0);
+              return transactionCallable.run(context);
+            });
+    when(context.executeUpdate(DML)).thenReturn(333L);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    SpannerOperationMetrics metrics = new SpannerOperationMetrics();
+    metrics.setMeterRegistry(meterRegistry);
+    this.spannerTemplate.setOperationObserver(metrics);
+
+    String previousMethod = SpannerRepositoryMethodContext.setCurrentMethod("Repo.deleteAll");
+    try {
+      this.spannerTemplate.executeDmlStatement(DML);
+    } finally {
+      SpannerRepositoryMethodContext.setCurrentMethod(previousMethod);
+    }
+
+    DistributionSummary rows =
+        meterRegistry
+            .get(SpannerOperationObserver.ROWS)
+            .tags("operation", "dml", "table", "none", "method", "Repo.deleteAll")
+            .summary();
+    assertThat(rows.count()).isEqualTo(1);
+    assertThat(rows.totalAmount()).isEqualTo(333.0);
+  }
+
+  @Test
+  void queryProfilingTest() {
+    ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.next()).thenReturn(false);
+    when(resultSet.getStats())
+        .thenReturn(
+            ResultSetStats.newBuilder()
+                .setQueryStats(
+                    com.google.protobuf.Struct.newBuilder()
+                        .putFields(
+                            "cpu_time", Value.newBuilder().setStringValue("1.5 msecs").build())
+                        .putFields("rows_scanned", Value.newBuilder().setStringValue("42").build()))
+                .build());
+    when(this.readContext.analyzeQuery(DML, QueryAnalyzeMode.PROFILE)).thenReturn(resultSet);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    SpannerOperationMetrics metrics = new SpannerOperationMetrics();
+    metrics.setMeterRegistry(meterRegistry);
+    metrics.setQueryProfiling(1.0, Duration.ZERO);
+    this.spannerTemplate.setOperationObserver(metrics);
+
+    assertThat(this.spannerTemplate.query(struct -> struct, DML, null)).isEmpty();
+
+    verify(this.readContext, never()).executeQuery(any());
+    assertThat(
+            meterRegistry
+                .get(SpannerOperationMetrics.QUERY_CPU)
+                .timer()
+                .totalTime(TimeUnit.MICROSECONDS))
+        .isEqualTo(1500.0);
+    assertThat(
+            meterRegistry.get(SpannerOperationMetrics.QUERY_ROWS_SCANNED).summary().totalAmount())
+        .isEqualTo(42.0);
+  }
+
+  @Test
+  void loadsWithoutMicrometerTest() throws Exception {
+    URL[] classpath =
+        Stream.of(System.getProperty("java.class.path").split(File.pathSeparator))
+            .filter(entry -> !entry.contains("micrometer-core"))
+            .map(SpannerTemplateTests::toUrl)
+            .toArray(URL[]::new);
+    try (URLClassLoader classLoader =
+        new URLClassLoader(classpath, ClassLoader.getPlatformClassLoader())) {
+      assertThatThrownBy(
+              () -> classLoader.loadClass("io.micrometer.core.instrument.MeterRegistry"))
+          .isInstanceOf(ClassNotFoundException.class);
+
+      Class<?> mappingContextClass = classLoader.loadClass(SpannerMappingContext.class.getName());
+      Class<?> entityProcessorClass =
+          classLoader.loadClass(SpannerEntityProcessor.class.getName());
+      Class<?> schemaUtilsClass = classLoader.loadClass(SpannerSchemaUtils.class.getName());
+      Class<?> templateClass = classLoader.loadClass(SpannerTemplate.class.getName());
+      assertThat(templateClass.getDeclaredMethods()).isNotEmpty();
+
+      Object mappingContext = mappingContextClass.getConstructor().newInstance();
+      Object entityProcessor =
+          classLoader
+              .loadClass(ConverterAwareMappingSpannerEntityProcessor.class.getName())
+              .getConstructor(mappingContextClass)
+              .newInstance(mappingContext);
+      Object schemaUtils =
+          schemaUtilsClass
+              .getConstructor(mappingContextClass, entityProcessorClass, boolean.class)
+              .newInstance(mappingContext, entityProcessor, true);
+      Object mutationFactory =
+          classLoader
+              .loadClass(SpannerMutationFactoryImpl.class.getName())
+              .getConstructor(entityProcessorClass, mappingContextClass, schemaUtilsClass)
+              .newInstance(entityProcessor, mappingContext, schemaUtils);
+      Supplier<Object> databaseClientProvider = () -> null;
+      Object template =
+          templateClass
+              .getConstructor(
+                  Supplier.class,
+                  mappingContextClass,
+                  entityProcessorClass,
+                  classLoader.loadClass(SpannerMutationFactory.class.getName()),
+                  schemaUtilsClass)
+              .newInstance(
+                  databaseClientProvider,
+                  mappingContext,
+                  entityProcessor,
+                  mutationFactory,
+                  schemaUtils);
+      templateClass
+          .getMethod(
+              "setOperationObserver",
+              classLoader.loadClass(SpannerOperationObserver.class.getName()))
+          .invoke(template, (Object) null);
+    }
+  }
+
+  private static URL toUrl(String classpathEntry) {
+    try {
+      return Path.of(classpathEntry).toUri().toURL();
+    } catch (MalformedURLException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  @Test
+  void executeDmlStatementsTest() {
+    TransactionContext context = mock(TransactionContext.class);
+    TransactionRunner transactionRunner = mock(TransactionRunner.class);
+    when(this.databaseClient.readWriteTransaction()).thenReturn(transactionRunner);
+    when(transactionRunner.run(any()))
+        .thenAnswer(
+            invocation -> {
+              TransactionCallable transactionCallable = invocation.getArgument(0);
+              return transactionCallable.run(context);
+            });
+    Statement otherDml = Statement.of("delete statement");
+    List<Statement> statements = List.of(DML, otherDml);
+    when(context.batchUpdate(statements)).thenReturn(new long[] {333L, 2L});
+    ApplicationEventPublisher mockPublisher = mock(ApplicationEventPublisher.class);
+    this.spannerTemplate.setApplicationEventPublisher(mockPublisher);
+
+    assertThat(this.spannerTemplate.executeDmlStatements(statements)).containsExactly(333L, 2L);
+
+    verify(context, times(1)).batchUpdate(statements);
+    verify(context, never()).executeUpdate(any());
+    verify(transactionRunner, times(1)).run(any());
+    verify(mockPublisher).publishEvent(new AfterExecuteDmlEvent(DML, 333L));
+    verify(mockPublisher).publishEvent(new AfterExecuteDmlEvent(otherDml, 2L));
+  }
+
+  @Test
+  void executeDmlStatementsEmptyTest() {
+    assertThat(this.spannerTemplate.executeDmlStatements(List.of())).isEmpty();
+    verify(this.databaseClient, never()).readWriteTransaction();
+  }
+
   @Test
   void executePartitionedDmlTest() {
     when(this.databaseClient.executePartitionedUpdate(DML)).thenReturn(333L);
@@ -354,6 +548,34 @@ class SpannerTemplateTests {
   }
 
 
+  @Test
+  void defaultTimestampBoundTest() {
+    TimestampBound tenSeconds = TimestampBound.ofMaxStaleness(10, TimeUnit.SECONDS);
+    TimestampBound oneMinute = TimestampBound.ofExactStaleness(1, TimeUnit.MINUTES);
+    when(this.databaseClient.singleUse(any())).thenReturn(this.readContext);
+    ReadOnlyTransaction readOnlyTransaction = mock(ReadOnlyTransaction.class);
+    when(this.databaseClient.readOnlyTransaction(
+            TimestampBound.ofExactStaleness(10, TimeUnit.SECONDS)))
+        .thenReturn(readOnlyTransaction);
+    this.spannerTemplate.setDefaultTimestampBound(tenSeconds);
+
+    this.spannerTemplate.executeQuery(Statement.of("SELECT 1"), null);
+    TimestampBound previousTimestampBound =
+        SpannerRepositoryMethodContext.setTimestampBound(oneMinute);
+    try {
+      this.spannerTemplate.executeQuery(Statement.of("SELECT 2"), null);
+    } finally {
+      SpannerRepositoryMethodContext.setTimestampBound(previousTimestampBound);
+    }
+    this.spannerTemplate.performReadOnlyTransaction(
+        spannerOperations -> spannerOperations.readAll(TestEntity.class), null);
+
+    verify(this.databaseClient).singleUse(tenSeconds);
+    verify(this.databaseClient).singleUse(oneMinute);
+    verify(this.databaseClient, never()).singleUse();
+    verify(readOnlyTransaction).read(eq("custom_test_table"), any(), any());
+  }
+
   @Test
   void readOnlyTransactionDmlTest() {
 
@@ -492,6 +714,147 @@ class SpannerTemplateTests {
         x -> {});
   }
 
+  @Test
+  void queryFuncAsyncTest() {
+    Statement query = Statement.of("test");
+    when(this.readContext.executeQueryAsync(query))
+        .thenReturn(ResultSets.toAsyncResultSet(idRows("a", "b")));
+    verifyAfterEvents(
+        new AfterQueryEvent(Arrays.asList("a", "b"), query, null),
+        () ->
+            assertThat(
+                    this.spannerTemplate.queryAsync(row -> row.getString("id"), query, null).join())
+                .containsExactly("a", "b"),
+        x -> {});
+  }
+
+  @Test
+  void queryAsyncMapsRowsOnTemplateExecutorTest() {
+    Statement query = Statement.of("test");
+    when(this.readContext.executeQueryAsync(query))
+        .thenReturn(ResultSets.toAsyncResultSet(idRows("a", "b")));
+
+    List<Thread> threads =
+        this.spannerTemplate.queryAsync(row -> Thread.currentThread(), query, null).join();
+
+    // Rows are not mapped on the common pool, as the mapping may block on child reads.
+    assertThat(threads)
+        .hasSize(2)
+        .allSatisfy(
+            thread -> {
+              assertThat(thread.getName()).startsWith("spanner-async-");
+              assertThat(thread.isDaemon()).isTrue();
+            });
+  }
+
+  @Test
+  void queryAsyncFailureTest() {
+    Statement query = Statement.of("test");
+    ResultSet resultSet = mock(ResultSet.class);
+    SpannerException exception = mock(SpannerException.class);
+    when(resultSet.next()).thenThrow(exception);
+    when(this.readContext.executeQueryAsync(query))
+        .thenReturn(ResultSets.toAsyncResultSet(resultSet));
+
+    CompletableFuture<List<TestEntity>> result =
+        this.spannerTemplate.queryAsync(TestEntity.class, query, null);
+
+    assertThatThrownBy(result::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCause(exception);
+  }
+
+  @Test
+  void findSingleKeyAsyncTest() {
+    TestEntity entity = new TestEntity();
+    when(this.readContext.readAsync(
+            eq("custom_test_table"), eq(KeySet.singleKey(Key.of("a"))), any()))
+        .thenReturn(ResultSets.toAsyncResultSet(idRows("a")));
+    when(this.objectMapper.read(eq(TestEntity.class), any(), isNull(), eq(false)))
+        .thenReturn(entity);
+
+    assertThat(this.spannerTemplate.readAsync(TestEntity.class, Key.of("a")).join())
+        .isSameAs(entity);
+    verify(this.databaseClient, times(1)).singleUse();
+  }
+
+  @Test
+  void readAllPartitionedTest() {
+    BatchClient batchClient = mock(BatchClient.class);
+    BatchReadOnlyTransaction transaction = mock(BatchReadOnlyTransaction.class);
+    when(batchClient.batchReadOnlyTransaction(TimestampBound.strong())).thenReturn(transaction);
+    Partition partition1 = mock(Partition.class);
+    Partition partition2 = mock(Partition.class);
+    when(transaction.partitionQuery(any(), any(), any()))
+        .thenReturn(Arrays.asList(partition1, partition2));
+    when(transaction.execute(partition1)).thenReturn(idRows("a", "b"));
+    when(transaction.execute(partition2)).thenReturn(idRows("c"));
+    when(this.objectMapper.read(eq(TestEntity.class), any(), isNull(), eq(false)))
+        .thenAnswer(
+            invocation -> {
+              TestEntity entity = new TestEntity();
+              entity.id = invocation.<Struct>getArgument(1).getString("id");
+              return entity;
+            });
+    this.spannerTemplate.setBatchClientProvider(() -> batchClient);
+
+    ConcurrentLinkedQueue<String> ids = new ConcurrentLinkedQueue<>();
+    this.spannerTemplate.readAllPartitioned(
+        TestEntity.class, 4, true, entity -> ids.add(entity.id));
+
+    assertThat(ids).containsExactlyInAnyOrder("a", "b", "c");
+    ArgumentCaptor<PartitionOptions> partitionOptions =
+        ArgumentCaptor.forClass(PartitionOptions.class);
+    ArgumentCaptor<Statement> statement = ArgumentCaptor.forClass(Statement.class);
+    verify(transaction).partitionQuery(partitionOptions.capture(), statement.capture(), any());
+    assertThat(partitionOptions.getValue().getMaxPartitions()).isEqualTo(4);
+    assertThat(statement.getValue().getSql())
+        .startsWith("SELECT ")
+        .contains("custom_col")
+        .endsWith(" FROM custom_test_table");
+    verify(transaction).close();
+  }
+
+  @Test
+  void readAllPartitionedSharesBoundedDefaultExecutorTest() {
+    BatchClient batchClient = mock(BatchClient.class);
+    BatchReadOnlyTransaction transaction = mock(BatchReadOnlyTransaction.class);
+    when(batchClient.batchReadOnlyTransaction(TimestampBound.strong())).thenReturn(transaction);
+    List<Partition> partitions = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      Partition partition = mock(Partition.class);
+      partitions.add(partition);
+      when(transaction.execute(partition)).thenAnswer(invocation -> idRows("a"));
+    }
+    when(transaction.partitionQuery(any(), any(), any())).thenReturn(partitions);
+    when(this.objectMapper.read(eq(TestEntity.class), any(), isNull(), eq(false)))
+        .thenReturn(new TestEntity());
+    this.spannerTemplate.setBatchClientProvider(() -> batchClient);
+
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    this.spannerTemplate.readAllPartitioned(
+        TestEntity.class, 64, false, entity -> threads.add(Thread.currentThread()));
+    this.spannerTemplate.readAllPartitioned(
+        TestEntity.class, 64, false, entity -> threads.add(Thread.currentThread()));
+
+    // Both reads run on the same pool, which is not sized by the number of partitions.
+    assertThat(threads)
+        .hasSizeLessThanOrEqualTo(Math.max(2, Runtime.getRuntime().availableProcessors()))
+        .allSatisfy(
+            thread -> {
+              assertThat(thread.getName()).startsWith("spanner-partitioned-read-");
+              assertThat(thread.isDaemon()).isTrue();
+            });
+  }
+
+  @Test
+  void readAllPartitionedWithoutBatchClientTest() {
+    assertThatThrownBy(
+            () -> this.spannerTemplate.readAllPartitioned(TestEntity.class, 4, false, x -> {}))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("A batch client is required for partitioned reads.");
+  }
+
   @Test
   void findSingleKeyTest() {
     SpannerTemplate spyTemplate = spy(this.spannerTemplate);
@@ -500,6 +863,120 @@ class SpannerTemplateTests {
     verify(this.databaseClient, times(1)).singleUse();
   }
 
+  @Test
+  void readWithEntityCacheTest() {
+    TestEntity entity = new TestEntity();
+    entity.id = "key";
+    entity.id2 = 2L;
+    Key key = Key.of("key", 2L);
+    when(this.databaseClient.singleUse(any())).thenReturn(this.readContext);
+    when(this.readContext.read(any(), any(), any())).thenReturn(mock(ResultSet.class));
+    when(this.readContext.read(any(), any(), any(), any())).thenReturn(mock(ResultSet.class));
+    when(this.objectMapper.mapToList(
+            any(ResultSet.class), eq(TestEntity.class), isNull(), eq(false)))
+        .thenReturn(List.of(entity));
+    when(this.mutationFactory.insert(entity))
+        .thenReturn(List.of(Mutation.newInsertBuilder("custom_test_table").build()));
+    this.spannerTemplate.setEntityCache(
+        new SpannerEntityCache(this.mappingContext)
+            .registerShared(TestEntity.class, 100, Duration.ofMinutes(5)));
+
+    assertThat(this.spannerTemplate.read(TestEntity.class, key)).isSameAs(entity);
+    assertThat(this.spannerTemplate.read(TestEntity.class, key)).isSameAs(entity);
+    assertThat(
+            this.spannerTemplate.read(
+                TestEntity.class,
+                key,
+                new SpannerReadOptions()
+                    .setTimestampBound(TimestampBound.ofMaxStaleness(1, TimeUnit.MINUTES))))
+        .isSameAs(entity);
+    assertThat(this.spannerTemplate.existsById(TestEntity.class, key)).isTrue();
+    verify(this.databaseClient, times(1)).singleUse();
+
+    // A strong read bypasses the cache.
+    this.spannerTemplate.read(
+        TestEntity.class,
+        key,
+        new SpannerReadOptions().setTimestampBound(TimestampBound.strong()));
+    verify(this.databaseClient, times(1)).singleUse(TimestampBound.strong());
+
+    // A write evicts the entities of its table.
+    this.spannerTemplate.insert(entity);
+    assertThat(this.spannerTemplate.read(TestEntity.class, key)).isSameAs(entity);
+    verify(this.databaseClient, times(2)).singleUse();
+  }
+
+  @Test
+  void readWithEntityCacheCopiesTest() {
+    TestEntity entity = new TestEntity();
+    entity.id = "key";
+    entity.id2 = 2L;
+    entity.something = "original";
+    Key key = Key.of("key", 2L);
+    when(this.readContext.read(any(), any(), any())).thenReturn(mock(ResultSet.class));
+    when(this.objectMapper.mapToList(
+            any(ResultSet.class), eq(TestEntity.class), isNull(), eq(false)))
+        .thenReturn(List.of(entity));
+    this.spannerTemplate.setEntityCache(
+        new SpannerEntityCache(this.mappingContext)
+            .register(
+                TestEntity.class,
+                100,
+                Duration.ofMinutes(5),
+                cached -> {
+                  TestEntity copy = new TestEntity();
+                  copy.id = cached.id;
+                  copy.id2 = cached.id2;
+                  copy.something = cached.something;
+                  return copy;
+                }));
+
+    this.spannerTemplate.read(TestEntity.class, key).something = "modified";
+    TestEntity first = this.spannerTemplate.read(TestEntity.class, key);
+    TestEntity second = this.spannerTemplate.read(TestEntity.class, key);
+
+    assertThat(first).isNotSameAs(entity).isNotSameAs(second);
+    assertThat(first.something).isEqualTo("original");
+    verify(this.databaseClient, times(1)).singleUse();
+  }
+
+  @Test
+  void staleReadsDoNotPopulateEntityCacheTest() {
+    TestEntity entity = new TestEntity();
+    entity.id = "key";
+    entity.id2 = 2L;
+    Key key = Key.of("key", 2L);
+    TimestampBound maxStaleness = TimestampBound.ofMaxStaleness(1, TimeUnit.MINUTES);
+    TimestampBound exactStaleness = TimestampBound.ofExactStaleness(10, TimeUnit.SECONDS);
+    when(this.databaseClient.singleUse(any())).thenReturn(this.readContext);
+    when(this.readContext.read(any(), any(), any())).thenReturn(mock(ResultSet.class));
+    when(this.objectMapper.mapToList(
+            any(ResultSet.class), eq(TestEntity.class), isNull(), eq(false)))
+        .thenReturn(List.of(entity));
+    this.spannerTemplate.setEntityCache(
+        new SpannerEntityCache(this.mappingContext)
+            .registerShared(TestEntity.class, 100, Duration.ofMinutes(5)));
+
+    SpannerReadOptions staleOptions = new SpannerReadOptions().setTimestampBound(maxStaleness);
+    this.spannerTemplate.read(TestEntity.class, key, staleOptions);
+    this.spannerTemplate.read(TestEntity.class, key, staleOptions);
+    verify(this.databaseClient, times(2)).singleUse(maxStaleness);
+
+    // Reads at the default staleness are not cached either.
+    this.spannerTemplate.setDefaultTimestampBound(exactStaleness);
+    this.spannerTemplate.read(TestEntity.class, key);
+    this.spannerTemplate.read(TestEntity.class, key);
+    verify(this.databaseClient, times(2)).singleUse(exactStaleness);
+
+    // A strong read populates the cache, which then serves the stale reads.
+    this.spannerTemplate.setDefaultTimestampBound(null);
+    this.spannerTemplate.read(TestEntity.class, key);
+    this.spannerTemplate.read(TestEntity.class, key, staleOptions);
+    this.spannerTemplate.read(TestEntity.class, key);
+    verify(this.databaseClient, times(1)).singleUse();
+    verify(this.databaseClient, times(2)).singleUse(maxStaleness);
+  }
+
   @Test
   void findKeySetTest() {
     SpannerTemplate spyTemplate = spy(this.spannerTemplate);
@@ -1001,6 +1478,14 @@ class SpannerTemplateTests {
     verifyEvents(expectedBefore, expectedAfter, operation, verifyOperation);
   }
 
+  private static ResultSet idRows(String... ids) {
+    List<Struct> rows = new ArrayList<>();
+    for (String id : ids) {
+      rows.add(Struct.newBuilder().set("id").to(id).build());
+    }
+    return ResultSets.forRows(Type.struct(StructField.of("id", Type.string())), rows);
+  }
+
   private void verifyAfterEvents(
       ApplicationEvent expectedAfter, Runnable operation, Consumer<InOrder> verifyOperation) {
     verifyEvents(null, expectedAfter, operation, verifyOperation);
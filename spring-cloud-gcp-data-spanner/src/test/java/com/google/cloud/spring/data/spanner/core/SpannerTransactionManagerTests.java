@@ -16,6 +16,7 @@
 
 package com.google.cloud.spring.data.spanner.core;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -23,7 +24,9 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -33,13 +36,18 @@ import static org.mockito.Mockito.when;
 import com.google.cloud.spanner.AbortedException;
 import com.google.cloud.spanner.DatabaseClient;
 import com.google.cloud.spanner.ErrorCode;
+import com.google.cloud.spanner.ReadOnlyTransaction;
 import com.google.cloud.spanner.SpannerException;
 import com.google.cloud.spanner.SpannerExceptionFactory;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.TimestampBound;
 import com.google.cloud.spanner.TransactionContext;
 import com.google.cloud.spanner.TransactionManager;
 import com.google.cloud.spanner.TransactionManager.TransactionState;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -155,6 +163,22 @@ class SpannerTransactionManagerTests {
     verify(transactionManager, times(0)).getState();
   }
 
+  @Test
+  void testDoBeginReadOnlyWithTimestampBound() {
+    ReadOnlyTransaction readOnlyTransaction = mock(ReadOnlyTransaction.class);
+    when(this.databaseClient.readOnlyTransaction(TimestampBound.ofExactStaleness(10, SECONDS)))
+        .thenReturn(readOnlyTransaction);
+    DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+    definition.setReadOnly(true);
+    TransactionSynchronizationManager.unbindResource(this.databaseClient);
+    this.manager.setReadOnlyTimestampBound(TimestampBound.ofMaxStaleness(10, SECONDS));
+
+    this.manager.doBegin(this.tx, definition);
+    this.tx.getTransactionContext().executeQuery(Statement.of("SELECT 1"));
+
+    verify(readOnlyTransaction).executeQuery(Statement.of("SELECT 1"));
+  }
+
   @Test
   void testDoCommit() {
     when(transactionManager.getState()).thenReturn(TransactionState.STARTED);
@@ -169,6 +193,60 @@ class SpannerTransactionManagerTests {
     verify(transactionManager, times(1)).commit();
   }
 
+  @Test
+  void testDoBeginWithDmlBatching() {
+    when(transactionManager.begin()).thenReturn(transactionContext);
+    TransactionSynchronizationManager.unbindResource(this.databaseClient);
+    Statement dml = Statement.of("UPDATE trades SET action = 'SELL' WHERE true");
+    Statement query = Statement.of("SELECT * FROM trades");
+
+    manager.setDmlBatchingEnabled(true);
+    manager.doBegin(tx, new DefaultTransactionDefinition());
+
+    assertTrue(tx.getTransactionContext() instanceof DmlBatchingTransactionContext);
+    assertEquals(SpannerOperations.SUCCESS_NO_INFO, tx.getTransactionContext().executeUpdate(dml));
+    assertEquals(SpannerOperations.SUCCESS_NO_INFO, tx.getTransactionContext().executeUpdate(dml));
+    verify(this.transactionContext, never()).executeUpdate(dml);
+    verify(this.transactionContext, never()).batchUpdate(any());
+
+    tx.getTransactionContext().executeQuery(query);
+
+    InOrder inOrder = inOrder(this.transactionContext);
+    inOrder.verify(this.transactionContext).batchUpdate(List.of(dml, dml));
+    inOrder.verify(this.transactionContext).executeQuery(query);
+  }
+
+  @Test
+  void testExecuteUpdateNowWithDmlBatching() {
+    Statement buffered = Statement.of("UPDATE trades SET action = 'SELL' WHERE true");
+    Statement counted = Statement.of("DELETE FROM trades WHERE true");
+    when(this.transactionContext.executeUpdate(counted)).thenReturn(3L);
+    DmlBatchingTransactionContext batchingContext =
+        new DmlBatchingTransactionContext(this.transactionContext);
+
+    batchingContext.executeUpdate(buffered);
+
+    assertEquals(3L, batchingContext.executeUpdateNow(counted));
+    InOrder inOrder = inOrder(this.transactionContext);
+    inOrder.verify(this.transactionContext).batchUpdate(List.of(buffered));
+    inOrder.verify(this.transactionContext).executeUpdate(counted);
+  }
+
+  @Test
+  void testDoCommitWithDmlBatching() {
+    when(transactionManager.getState()).thenReturn(TransactionState.STARTED);
+    Statement dml = Statement.of("DELETE FROM trades WHERE true");
+    tx.transactionManager = transactionManager;
+    tx.transactionContext = new DmlBatchingTransactionContext(this.transactionContext);
+    tx.getTransactionContext().executeUpdate(dml);
+
+    manager.doCommit(status);
+
+    InOrder inOrder = inOrder(this.transactionContext, this.transactionManager);
+    inOrder.verify(this.transactionContext).batchUpdate(List.of(dml));
+    inOrder.verify(this.transactionManager).commit();
+  }
+
   @Test
   void testDoCommitNotStarted() {
     tx.transactionManager = transactionManager;
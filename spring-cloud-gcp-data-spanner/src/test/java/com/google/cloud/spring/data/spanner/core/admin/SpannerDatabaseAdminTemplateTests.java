@@ -18,6 +18,7 @@ package com.google.cloud.spring.data.spanner.core.admin;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -32,7 +33,11 @@ import com.google.cloud.spanner.DatabaseId;
 import com.google.cloud.spanner.DatabaseInfo.State;
 import com.google.cloud.spanner.ReadContext;
 import com.google.cloud.spanner.ResultSet;
+import com.google.cloud.spanner.ResultSets;
+import com.google.cloud.spanner.Statement;
 import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.Type;
+import com.google.cloud.spanner.Type.StructField;
 import com.google.cloud.spanner.Value;
 import com.google.spanner.admin.database.v1.CreateDatabaseMetadata;
 import com.google.spanner.admin.database.v1.UpdateDatabaseDdlMetadata;
@@ -274,6 +279,195 @@ class SpannerDatabaseAdminTemplateTests {
         .updateDatabaseDdl("fakeinstance", "fakedb", this.ddlList, null);
   }
 
+  @Test
+  void schemaMetadataIsCachedUntilDdlIsExecuted() throws Exception {
+    when(this.mockDatabasePage.getValues())
+        .thenReturn(
+            List.of(new Database(this.databaseId, State.READY, this.databaseAdminClient)));
+    ReadContext readContext = mock(ReadContext.class);
+    when(this.databaseClient.singleUse()).thenReturn(readContext);
+    when(readContext.executeQuery(any()))
+        .thenAnswer(
+            invocation -> tableRows(tableRow("singers", null), tableRow("albums", "singers")));
+    OperationFuture<Void, UpdateDatabaseDdlMetadata> mockFuture = mock(OperationFuture.class);
+    when(this.databaseAdminClient.updateDatabaseDdl("fakeinstance", "fakedb", this.ddlList, null))
+        .thenReturn(mockFuture);
+
+    assertThat(this.spannerDatabaseAdminTemplate.tableExists("singers")).isTrue();
+    assertThat(this.spannerDatabaseAdminTemplate.tableExists("songs")).isFalse();
+    assertThat(this.spannerDatabaseAdminTemplate.isInterleaved("singers", "albums")).isTrue();
+    assertThat(this.spannerDatabaseAdminTemplate.getTables()).hasSize(2);
+    verify(readContext, times(1)).executeQuery(any());
+    verify(this.databaseAdminClient, times(1)).listDatabases("fakeinstance");
+
+    this.spannerDatabaseAdminTemplate.executeDdlStrings(this.ddlList, false);
+
+    assertThat(this.spannerDatabaseAdminTemplate.tableExists("singers")).isTrue();
+    verify(readContext, times(2)).executeQuery(any());
+  }
+
+  @Test
+  void executeMissingDdlStrings() throws Exception {
+    when(this.mockDatabasePage.getValues())
+        .thenReturn(
+            List.of(new Database(this.databaseId, State.READY, this.databaseAdminClient)));
+    ReadContext readContext = mock(ReadContext.class);
+    when(this.databaseClient.singleUse()).thenReturn(readContext);
+    when(readContext.executeQuery(argThat(statement -> isQueryOf(statement, "tables"))))
+        .thenAnswer(invocation -> tableRows(tableRow("singers", null)));
+    when(readContext.executeQuery(argThat(statement -> isQueryOf(statement, "columns"))))
+        .thenAnswer(
+            invocation ->
+                ResultSets.forRows(
+                    Type.struct(
+                        StructField.of("table_schema", Type.string()),
+                        StructField.of("table_name", Type.string()),
+                        StructField.of("column_name", Type.string())),
+                    List.of(
+                        Struct.newBuilder()
+                            .set("table_schema")
+                            .to("")
+                            .set("table_name")
+                            .to("singers")
+                            .set("column_name")
+                            .to("SingerId")
+                            .build())));
+    when(readContext.executeQuery(argThat(statement -> isQueryOf(statement, "indexes"))))
+        .thenAnswer(
+            invocation ->
+                ResultSets.forRows(
+                    Type.struct(
+                        StructField.of("table_schema", Type.string()),
+                        StructField.of("index_name", Type.string())),
+                    List.of(
+                        Struct.newBuilder()
+                            .set("table_schema")
+                            .to("")
+                            .set("index_name")
+                            .to("SingersByName")
+                            .build())));
+    OperationFuture<Void, UpdateDatabaseDdlMetadata> mockFuture = mock(OperationFuture.class);
+    when(this.databaseAdminClient.updateDatabaseDdl(any(), any(), any(), any()))
+        .thenReturn(mockFuture);
+
+    List<String> executed =
+        this.spannerDatabaseAdminTemplate.executeMissingDdlStrings(
+            List.of(
+                "CREATE TABLE singers ( singerId STRING(MAX) NOT NULL , "
+                    + "tags ARRAY<STRING(MAX)> , name STRING(1024) ) PRIMARY KEY ( singerId )",
+                "CREATE TABLE albums ( singerId STRING(MAX) NOT NULL , albumId INT64 ) "
+                    + "PRIMARY KEY ( singerId , albumId ), INTERLEAVE IN PARENT singers "
+                    + "ON DELETE CASCADE",
+                "CREATE INDEX SingersByName ON singers(name)",
+                "CREATE UNIQUE INDEX AlbumsById ON albums(albumId)"),
+            false);
+
+    List<String> expected =
+        List.of(
+            "ALTER TABLE singers ADD COLUMN tags ARRAY<STRING(MAX)>",
+            "ALTER TABLE singers ADD COLUMN name STRING(1024)",
+            "CREATE TABLE albums ( singerId STRING(MAX) NOT NULL , albumId INT64 ) "
+                + "PRIMARY KEY ( singerId , albumId ), INTERLEAVE IN PARENT singers "
+                + "ON DELETE CASCADE",
+            "CREATE UNIQUE INDEX AlbumsById ON albums(albumId)");
+    assertThat(executed).isEqualTo(expected);
+    verify(this.databaseAdminClient, times(1))
+        .updateDatabaseDdl("fakeinstance", "fakedb", expected, null);
+  }
+
+  @Test
+  void getMissingDdlStrings_addsNotNullColumnsOnlyWithValues() {
+    when(this.mockDatabasePage.getValues())
+        .thenReturn(
+            List.of(new Database(this.databaseId, State.READY, this.databaseAdminClient)));
+    ReadContext readContext = mock(ReadContext.class);
+    when(this.databaseClient.singleUse()).thenReturn(readContext);
+    when(readContext.executeQuery(argThat(statement -> isQueryOf(statement, "tables"))))
+        .thenAnswer(invocation -> tableRows(tableRow("singers", null)));
+    when(readContext.executeQuery(argThat(statement -> isQueryOf(statement, "columns"))))
+        .thenAnswer(
+            invocation ->
+                ResultSets.forRows(
+                    Type.struct(
+                        StructField.of("table_schema", Type.string()),
+                        StructField.of("table_name", Type.string()),
+                        StructField.of("column_name", Type.string())),
+                    List.of(
+                        Struct.newBuilder()
+                            .set("table_schema")
+                            .to("")
+                            .set("table_name")
+                            .to("singers")
+                            .set("column_name")
+                            .to("singerId")
+                            .build())));
+
+    assertThat(
+            this.spannerDatabaseAdminTemplate.getMissingDdlStrings(
+                List.of(
+                    "CREATE TABLE singers ( singerId STRING(MAX) NOT NULL , "
+                        + "name STRING(1024) NOT NULL , "
+                        + "rank INT64 NOT NULL DEFAULT (0) , "
+                        + "nameLength INT64 NOT NULL AS (CHAR_LENGTH(name)) STORED , "
+                        + "updated TIMESTAMP NOT NULL OPTIONS (allow_commit_timestamp=true) ) "
+                        + "PRIMARY KEY ( singerId )")))
+        .containsExactly(
+            "ALTER TABLE singers ADD COLUMN name STRING(1024)",
+            "ALTER TABLE singers ADD COLUMN rank INT64 NOT NULL DEFAULT (0)",
+            "ALTER TABLE singers ADD COLUMN nameLength INT64 NOT NULL "
+                + "AS (CHAR_LENGTH(name)) STORED",
+            "ALTER TABLE singers ADD COLUMN updated TIMESTAMP "
+                + "OPTIONS (allow_commit_timestamp=true)");
+  }
+
+  @Test
+  void executeMissingDdlStrings_keepsOtherStatements() {
+    when(this.mockDatabasePage.getValues())
+        .thenReturn(
+            List.of(new Database(this.databaseId, State.READY, this.databaseAdminClient)));
+    ReadContext readContext = mock(ReadContext.class);
+    when(this.databaseClient.singleUse()).thenReturn(readContext);
+    when(readContext.executeQuery(any()))
+        .thenAnswer(invocation -> tableRows(tableRow("singers", null)));
+    OperationFuture<Void, UpdateDatabaseDdlMetadata> mockFuture = mock(OperationFuture.class);
+    when(this.databaseAdminClient.updateDatabaseDdl(any(), any(), any(), any()))
+        .thenReturn(mockFuture);
+
+    assertThat(
+            this.spannerDatabaseAdminTemplate.executeMissingDdlStrings(
+                List.of("DROP TABLE songs"), false))
+        .containsExactly("DROP TABLE songs");
+    this.spannerDatabaseAdminTemplate.invalidateSchemaMetadata();
+    assertThat(this.spannerDatabaseAdminTemplate.executeMissingDdlStrings(List.of(), false))
+        .isEmpty();
+    verify(this.databaseAdminClient, times(1)).updateDatabaseDdl(any(), any(), any(), any());
+  }
+
+  private static boolean isQueryOf(Statement statement, String informationSchemaTable) {
+    return statement != null
+        && statement.getSql().contains("information_schema." + informationSchemaTable + " ");
+  }
+
+  private static Struct tableRow(String table, String parent) {
+    return Struct.newBuilder()
+        .set("table_schema")
+        .to("")
+        .set("table_name")
+        .to(table)
+        .set("parent_table_name")
+        .to(parent)
+        .build();
+  }
+
+  private static ResultSet tableRows(Struct... rows) {
+    return ResultSets.forRows(
+        Type.struct(
+            StructField.of("table_schema", Type.string()),
+            StructField.of("table_name", Type.string()),
+            StructField.of("parent_table_name", Type.string())),
+        Arrays.asList(rows));
+  }
+
   private static class MockResults {
     List<Struct> structs;
 
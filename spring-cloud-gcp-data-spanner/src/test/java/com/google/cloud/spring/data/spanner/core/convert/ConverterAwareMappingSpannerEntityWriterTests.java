@@ -384,6 +384,29 @@ class ConverterAwareMappingSpannerEntityWriterTests {
     verify(valueBinder).to(Value.json("{\"instant\":\"1970-01-01T00:00:00Z\"}"));
   }
 
+  @Test
+  void writeJsonWithJsonCodecTest() {
+    SpannerJsonCodec jsonCodec = mock(SpannerJsonCodec.class);
+    SpannerMappingContext spannerMappingContext = new SpannerMappingContext(new Gson());
+    spannerMappingContext.setJsonCodec(jsonCodec);
+    SpannerEntityWriter entityWriter =
+        new ConverterAwareMappingSpannerEntityWriter(spannerMappingContext, this.writeConverter);
+    TestEntities.Params parameters = new TestEntities.Params("some value", "some other value");
+    TestEntities.TestEntityJson testEntity = new TestEntities.TestEntityJson("id1", parameters);
+    when(jsonCodec.toJson(parameters)).thenReturn("{\"p1\":\"encoded\"}");
+
+    WriteBuilder writeBuilder = mock(WriteBuilder.class);
+    ValueBinder<WriteBuilder> valueBinder = mock(ValueBinder.class);
+
+    when(writeBuilder.set("id")).thenReturn(valueBinder);
+    when(writeBuilder.set("params")).thenReturn(valueBinder);
+
+    entityWriter.write(testEntity, writeBuilder::set);
+
+    verify(valueBinder).to(testEntity.id);
+    verify(valueBinder).to(Value.json("{\"p1\":\"encoded\"}"));
+  }
+
   @Test
   void writeNullJsonTest() {
     TestEntities.TestEntityJson testEntity = new TestEntities.TestEntityJson("id1", null);
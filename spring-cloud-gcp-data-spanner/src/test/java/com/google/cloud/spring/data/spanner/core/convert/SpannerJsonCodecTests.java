@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.gson.Gson;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the JSON codecs. */
+class SpannerJsonCodecTests {
+
+  private final SpannerJsonCodec gsonCodec = new SpannerMappingContext(new Gson()).getJsonCodec();
+
+  private final SpannerJsonCodec jacksonCodec = new JacksonSpannerJsonCodec(new ObjectMapper());
+
+  @Test
+  void gsonCodecIsDefaultTest() {
+    assertThat(this.gsonCodec).isInstanceOf(GsonSpannerJsonCodec.class);
+    assertThat(new SpannerMappingContext().getJsonCodec()).isNull();
+  }
+
+  @Test
+  void gsonReadWriteTest() {
+    assertReadWrite(this.gsonCodec);
+  }
+
+  @Test
+  void jacksonReadWriteTest() {
+    assertReadWrite(this.jacksonCodec);
+  }
+
+  @Test
+  void gsonReusesBufferTest() {
+    Document large = new Document();
+    large.name = "x".repeat(2 * 1024 * 1024);
+
+    assertThat(this.gsonCodec.toJson(large).length()).isEqualTo(large.name.length() + 20);
+    assertThat(this.gsonCodec.toJson(document())).isEqualTo("{\"name\":\"doc\",\"size\":5}");
+    assertThat(this.gsonCodec.toJson(document())).isEqualTo("{\"name\":\"doc\",\"size\":5}");
+  }
+
+  @Test
+  void gsonInstantTest() {
+    assertThat(this.gsonCodec.toJson(Instant.ofEpochSecond(0)))
+        .isEqualTo("\"1970-01-01T00:00:00Z\"");
+    assertThat(this.gsonCodec.fromJson("\"1970-01-01T00:00:00Z\"", Instant.class))
+        .isEqualTo(Instant.ofEpochSecond(0));
+  }
+
+  @Test
+  void gsonEmptyDocumentTest() {
+    assertThat(this.gsonCodec.fromJson("", Document.class)).isNull();
+  }
+
+  @Test
+  void gsonMalformedJsonTest() {
+    assertThatThrownBy(() -> this.gsonCodec.fromJson("{\"name\":\"doc\"} {}", Document.class))
+        .isInstanceOf(SpannerDataException.class)
+        .hasMessage(
+            "JSON deserialization of an object of type "
+                + Document.class.getName()
+                + " failed.");
+  }
+
+  @Test
+  void jacksonMalformedJsonTest() {
+    assertThatThrownBy(() -> this.jacksonCodec.fromJson("{\"name\":", Document.class))
+        .isInstanceOf(SpannerDataException.class)
+        .hasMessage(
+            "JSON deserialization of an object of type "
+                + Document.class.getName()
+                + " failed.");
+  }
+
+  private static void assertReadWrite(SpannerJsonCodec codec) {
+    String json = codec.toJson(document());
+
+    assertThat(json).isEqualTo("{\"name\":\"doc\",\"size\":5}");
+    Document document = codec.fromJson(json, Document.class);
+    assertThat(document.name).isEqualTo("doc");
+    assertThat(document.size).isEqualTo(5);
+    assertThat(codec.fromJson("null", Document.class)).isNull();
+    assertThat(codec.fromJson(null, Document.class)).isNull();
+    assertThat(codec.toJson(null)).isEqualTo("null");
+  }
+
+  private static Document document() {
+    Document document = new Document();
+    document.name = "doc";
+    document.size = 5;
+    return document;
+  }
+
+  /** A JSON document. */
+  public static class Document {
+    public String name;
+
+    public int size;
+  }
+}
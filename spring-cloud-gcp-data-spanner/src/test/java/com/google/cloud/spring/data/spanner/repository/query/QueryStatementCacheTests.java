@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link QueryStatementCache}. */
+class QueryStatementCacheTests {
+
+  @Test
+  void buildsEachShapeOnceTest() {
+    QueryStatementCache<Integer, String> cache = new QueryStatementCache<>();
+    AtomicInteger builds = new AtomicInteger();
+
+    String first = cache.get(1, shape -> "SELECT " + shape + builds.incrementAndGet());
+    String second = cache.get(1, shape -> "SELECT " + shape + builds.incrementAndGet());
+
+    assertThat(second).isSameAs(first);
+    assertThat(builds).hasValue(1);
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedShapeTest() {
+    QueryStatementCache<Integer, String> cache = new QueryStatementCache<>(2);
+    cache.get(1, String::valueOf);
+    cache.get(2, String::valueOf);
+    cache.get(1, String::valueOf);
+    cache.get(3, String::valueOf);
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get(1, shape -> "rebuilt")).isEqualTo("1");
+    assertThat(cache.get(2, shape -> "rebuilt")).isEqualTo("rebuilt");
+  }
+}
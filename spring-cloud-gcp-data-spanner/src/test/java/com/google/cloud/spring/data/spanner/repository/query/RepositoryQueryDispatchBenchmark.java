@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.repository.query;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerWriteConverter;
+import com.google.cloud.spring.data.spanner.core.mapping.Column;
+import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.Table;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.data.repository.query.ParametersSource;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * Measures the time that repository query methods spend building their statements, with a mocked
+ * {@link SpannerTemplate} so that no time is spent on Cloud Spanner.
+ *
+ * <p>The benchmarks are only generated with the {@code jmh} profile: {@code mvn test-compile
+ * -Pjmh}, then run the {@link #main(String[])} method with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryQueryDispatchBenchmark {
+
+  private PartTreeSpannerQuery<Trade> partTreeQuery;
+
+  private SqlSpannerQuery<Trade> sqlQuery;
+
+  private final Object[] parameters =
+      new Object[] {"BUY", 100.0, PageRequest.of(2, 20, Sort.by("price"))};
+
+  @Setup
+  public void setUp() throws NoSuchMethodException {
+    SpannerTemplate spannerTemplate = mock(SpannerTemplate.class);
+    SpannerEntityProcessor spannerEntityProcessor = mock(SpannerEntityProcessor.class);
+    when(spannerTemplate.getSpannerEntityProcessor()).thenReturn(spannerEntityProcessor);
+    when(spannerEntityProcessor.getWriteConverter()).thenReturn(new SpannerWriteConverter());
+    when(spannerTemplate.query((Class<Object>) any(), any(), any())).thenReturn(List.of());
+    SpannerMappingContext spannerMappingContext = new SpannerMappingContext();
+
+    Method method =
+        QueryHolder.class.getMethod(
+            "findByActionAndPriceLessThan", String.class, Double.class, Pageable.class);
+    this.partTreeQuery =
+        new PartTreeSpannerQuery<>(
+            Trade.class,
+            queryMethod(method, "findByActionAndPriceLessThan"),
+            spannerTemplate,
+            spannerMappingContext);
+
+    QueryMethodEvaluationContextProvider evaluationContextProvider =
+        mock(QueryMethodEvaluationContextProvider.class);
+    when(evaluationContextProvider.getEvaluationContext(any(), any()))
+        .thenReturn(new StandardEvaluationContext());
+    this.sqlQuery =
+        new SqlSpannerQuery<>(
+            Trade.class,
+            queryMethod(method, "findTrades"),
+            spannerTemplate,
+            "SELECT * FROM :" + Trade.class.getName() + ": WHERE action = @action"
+                + " AND price < @price",
+            evaluationContextProvider,
+            new SpelExpressionParser(),
+            spannerMappingContext,
+            false);
+  }
+
+  @Benchmark
+  public List partTreeQuery() {
+    return this.partTreeQuery.executeRawResult(this.parameters);
+  }
+
+  @Benchmark
+  public List sqlQuery() {
+    return this.sqlQuery.executeRawResult(this.parameters);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(RepositoryQueryDispatchBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  private static SpannerQueryMethod queryMethod(Method method, String name) {
+    SpannerQueryMethod queryMethod = mock(SpannerQueryMethod.class);
+    when(queryMethod.getQueryMethod()).thenReturn(method);
+    when(queryMethod.getName()).thenReturn(name);
+    when(queryMethod.getReturnedObjectType()).thenReturn((Class) Trade.class);
+    doReturn(new DefaultParameters(ParametersSource.of(method)))
+        .when(queryMethod)
+        .getParameters();
+    return queryMethod;
+  }
+
+  @Table(name = "trades")
+  private static class Trade {
+    @PrimaryKey String id;
+
+    String action;
+
+    Double price;
+
+    @Column(name = "trader_id")
+    String traderId;
+  }
+
+  // The methods in this class are used to emulate repository methods
+  private static class QueryHolder {
+    public List<Trade> findByActionAndPriceLessThan(
+        String action, Double price, Pageable pageable) {
+      return null;
+    }
+  }
+}
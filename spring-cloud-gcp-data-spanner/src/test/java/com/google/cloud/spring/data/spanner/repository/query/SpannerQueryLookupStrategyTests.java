@@ -98,6 +98,11 @@ class SpannerQueryLookupStrategyTests {
               public boolean dmlStatement() {
                 return false;
               }
+
+              @Override
+              public boolean partitioned() {
+                return false;
+              }
             });
   }
 
@@ -17,12 +17,16 @@
 package com.google.cloud.spring.data.spanner.repository.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
+import com.google.cloud.spanner.TimestampBound;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
 import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.projection.ProjectionFactory;
@@ -76,7 +80,51 @@ class SpannerQueryMethodTests {
     assertThat(query.value()).isEqualTo("select something");
   }
 
+  @Test
+  void getStaleReadTimestampBound() throws NoSuchMethodException {
+    assertThat(
+            new SpannerQueryMethod(
+                    Example.class.getMethod("staleMethod"), mockMetadata, mockProjectionFactory)
+                .getStaleReadTimestampBound())
+        .isEqualTo(TimestampBound.ofMaxStaleness(10, TimeUnit.SECONDS));
+    assertThat(
+            new SpannerQueryMethod(
+                    Example.class.getMethod("exactlyStaleMethod"),
+                    mockMetadata,
+                    mockProjectionFactory)
+                .getStaleReadTimestampBound())
+        .isEqualTo(TimestampBound.ofExactStaleness(1500, TimeUnit.MILLISECONDS));
+    assertThat(
+            new SpannerQueryMethod(
+                    Example.class.getMethod("plainMethod"), mockMetadata, mockProjectionFactory)
+                .getStaleReadTimestampBound())
+        .isNull();
+  }
+
+  @Test
+  void invalidStaleReadThrowsException() throws NoSuchMethodException {
+    Method method = Example.class.getMethod("invalidStaleMethod");
+    assertThatThrownBy(() -> new SpannerQueryMethod(method, mockMetadata, mockProjectionFactory))
+        .isInstanceOf(SpannerDataException.class)
+        .hasMessageContaining("Exactly one of maxStaleness and exactStaleness must be set");
+  }
+
   static class Example {
+    @StaleRead(maxStaleness = "10s")
+    public String staleMethod() {
+      return "I'm stale";
+    }
+
+    @StaleRead(exactStaleness = "PT1.5S")
+    public String exactlyStaleMethod() {
+      return "I'm exactly stale";
+    }
+
+    @StaleRead
+    public String invalidStaleMethod() {
+      return "I'm invalid";
+    }
+
     @Query("select something")
     public String someAnnotatedMethod() {
       return "I'm annotated";
@@ -19,6 +19,7 @@ package com.google.cloud.spring.data.spanner.repository.query;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -38,6 +39,7 @@ import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.cloud.spring.data.spanner.core.mapping.Table;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -262,6 +264,49 @@ class SpannerStatementQueryTests {
     verify(this.spannerTemplate, times(1)).query((Function<Struct, Object>) any(), any(), any());
   }
 
+  @Test
+  void deleteDmlTest() throws NoSuchMethodException {
+    Method method = QueryHolder.class.getMethod("deleteMethod", String.class, Double.class);
+    Statement statement = runDeleteDmlTest(method);
+
+    // The method returns the deleted count, so the statement is not buffered by DML batching.
+    verify(this.spannerTemplate).executeDmlStatement(statement, true);
+    verify(this.spannerTemplate, times(0)).performReadWriteTransaction(any());
+  }
+
+  @Test
+  void partitionedDeleteDmlTest() throws NoSuchMethodException {
+    Method method =
+        QueryHolder.class.getMethod("partitionedDeleteMethod", String.class, Double.class);
+    when(this.queryMethod.getQueryAnnotation()).thenReturn(method.getAnnotation(Query.class));
+    Statement statement = runDeleteDmlTest(method);
+
+    verify(this.spannerTemplate).executePartitionedDmlStatement(statement);
+    verify(this.spannerTemplate, times(0)).executeDmlStatement(any(), anyBoolean());
+  }
+
+  private Statement runDeleteDmlTest(Method method) {
+    when(this.queryMethod.getName()).thenReturn("deleteByTraderIdAndPrice");
+    when(this.queryMethod.getReturnedObjectType()).thenReturn((Class) method.getReturnType());
+    doReturn(new DefaultParameters(ParametersSource.of(method)))
+        .when(this.queryMethod)
+        .getParameters();
+    this.partTreeSpannerQuery = spy(createQuery());
+    doReturn(null).when(this.partTreeSpannerQuery).getReturnedSimpleConvertableItemType();
+
+    this.partTreeSpannerQuery.executeRawResult(new Object[] {"trader1", 1.5});
+
+    Statement statement =
+        Statement.newBuilder("DELETE FROM trades WHERE ( trader_id=@tag0 AND price=@tag1 )")
+            .bind("tag0")
+            .to("trader1")
+            .bind("tag1")
+            .to(1.5)
+            .build();
+    verify(this.spannerTemplate, times(0)).query((Class) any(), any(), any());
+    return statement;
+  }
+
   @Test
   void pageableTest() throws NoSuchMethodException {
     Object[] params = new Object[] {8.88, PageRequest.of(1, 10, Sort.by("traderId"))};
@@ -269,7 +314,7 @@ class SpannerStatementQueryTests {
     String expectedSql =
         "SELECT shares, trader_id, ticker, price, action, id, value "
             + "FROM trades WHERE ( price<@tag0 ) "
-            + "ORDER BY trader_id ASC LIMIT 10 OFFSET 10";
+            + "ORDER BY trader_id ASC LIMIT @pageLimit OFFSET @pageOffset";
 
     runPageableOrSortTest(params, method, expectedSql);
   }
@@ -308,7 +353,13 @@ class SpannerStatementQueryTests {
               Map<String, Value> paramMap = statement.getParameters();
 
               assertThat(paramMap.get("tag0").getFloat64()).isEqualTo(params[0]);
-              assertThat(paramMap).hasSize(1);
+              if (params[1] instanceof Pageable pageable) {
+                assertThat(paramMap.get("pageLimit").getInt64()).isEqualTo(pageable.getPageSize());
+                assertThat(paramMap.get("pageOffset").getInt64()).isEqualTo(pageable.getOffset());
+                assertThat(paramMap).hasSize(3);
+              } else {
+                assertThat(paramMap).hasSize(1);
+              }
 
               return null;
             });
@@ -320,6 +371,42 @@ class SpannerStatementQueryTests {
     verify(this.spannerTemplate, times(1)).query((Class) any(), any(), any());
   }
 
+  @Test
+  void sqlIsCachedPerSortTest() throws NoSuchMethodException {
+    Method method = QueryHolder.class.getMethod("repositoryMethod5", Double.class, Pageable.class);
+    when(this.queryMethod.getName()).thenReturn("findByPriceLessThan");
+    doReturn(new DefaultParameters(ParametersSource.of(method)))
+        .when(this.queryMethod)
+        .getParameters();
+    this.partTreeSpannerQuery = spy(createQuery());
+    doReturn(Object.class).when(this.partTreeSpannerQuery).getReturnedSimpleConvertableItemType();
+    doReturn(null).when(this.partTreeSpannerQuery).convertToSimpleReturnType(any(), any());
+    List<Statement> statements = new ArrayList<>();
+    when(this.spannerTemplate.query((Class) any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              statements.add(invocation.getArgument(1));
+              return null;
+            });
+
+    this.partTreeSpannerQuery.execute(new Object[] {1.0, PageRequest.of(0, 10)});
+    this.partTreeSpannerQuery.execute(new Object[] {2.0, PageRequest.of(0, 10)});
+    this.partTreeSpannerQuery.execute(new Object[] {3.0, PageRequest.of(1, 10)});
+
+    // The cached SQL is reused for every page; only the parameter values and the page differ.
+    assertThat(statements.get(1).getSql()).isEqualTo(statements.get(0).getSql());
+    assertThat(statements.get(2).getSql())
+        .isEqualTo(statements.get(0).getSql())
+        .isEqualTo(
+            "SELECT shares, trader_id, ticker, price, action, id, value "
+                + "FROM trades WHERE ( price<@tag0 ) LIMIT @pageLimit OFFSET @pageOffset");
+    assertThat(statements.get(0).getParameters().get("tag0").getFloat64()).isEqualTo(1.0);
+    assertThat(statements.get(1).getParameters().get("tag0").getFloat64()).isEqualTo(2.0);
+    assertThat(statements.get(0).getParameters().get("pageOffset").getInt64()).isZero();
+    assertThat(statements.get(2).getParameters().get("pageLimit").getInt64()).isEqualTo(10);
+    assertThat(statements.get(2).getParameters().get("pageOffset").getInt64()).isEqualTo(10);
+  }
+
   @Test
   void pageableNotLastParameterTest() throws NoSuchMethodException {
     // Test that preparePartTreeSqlTagParameterMap() can process cases
@@ -332,7 +419,7 @@ class SpannerStatementQueryTests {
         "SELECT shares, trader_id, ticker, price, action, id, value "
             + "FROM trades "
             + "WHERE ( action=@tag0 AND ticker=@tag1 ) "
-            + "ORDER BY trader_id ASC LIMIT 10 OFFSET 10";
+            + "ORDER BY trader_id ASC LIMIT @pageLimit OFFSET @pageOffset";
 
 
     when(this.queryMethod.getName()).thenReturn("findByActionAndSymbol");
@@ -356,7 +443,8 @@ class SpannerStatementQueryTests {
               // Correctly skips Pageable parameter because it doesn't need to be bound to
               // the tags in the query.
               assertThat(paramMap.get("tag1").getString()).isEqualTo(params[2]);
-              assertThat(paramMap).hasSize(2);
+              assertThat(paramMap.get("pageOffset").getInt64()).isEqualTo(10);
+              assertThat(paramMap).hasSize(4);
 
               return null;
             });
@@ -517,5 +605,12 @@ class SpannerStatementQueryTests {
     public long repositoryMethod7(String tag0, Pageable tag1, String tag2) {
       return 0;
     }
+
+    public long deleteMethod(String tag0, Double tag1) {
+      return 0;
+    }
+
+    @Query(partitioned = true)
+    public void partitionedDeleteMethod(String tag0, Double tag1) {}
   }
 }
@@ -18,6 +18,7 @@ package com.google.cloud.spring.data.spanner.repository.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
@@ -53,6 +54,7 @@ import com.google.common.base.Objects;
 import com.google.gson.Gson;
 import com.google.spanner.v1.TypeCode;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -233,7 +235,7 @@ class SqlSpannerQueryTests {
             + " documents WHERE (documents.id = children.id AND documents.childId ="
             + " children.childId) AND (canceled = false)) AS documents FROM (SELECT * FROM children"
             + " WHERE id = @id AND trader_id = @trader_id) children WHERE disabled = false ORDER BY"
-            + " trader_id ASC LIMIT 10 OFFSET 30";
+            + " trader_id ASC LIMIT @pageLimit OFFSET @pageOffset";
     // @formatter:on
 
     Object[] params =
@@ -265,6 +267,8 @@ class SqlSpannerQueryTests {
               assertThat(paramMap.get("id").getString()).isEqualTo(params[0]);
               assertThat(paramMap.get("traderId").getString()).isEqualTo(params[1]);
               assertThat(paramMap.get("ignoredPageable")).isNull();
+              assertThat(paramMap.get("pageLimit").getInt64()).isEqualTo(10);
+              assertThat(paramMap.get("pageOffset").getInt64()).isEqualTo(30);
 
               return null;
             })
@@ -284,6 +288,60 @@ class SqlSpannerQueryTests {
     verify(this.spannerTemplate, times(1)).executeQuery(any(), any());
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void sqlIsCachedAcrossPagesTest(boolean useValueExpressionDelegate)
+      throws NoSuchMethodException {
+
+    String sql =
+        "SELECT * FROM"
+            + " :com.google.cloud.spring.data.spanner.repository.query.SqlSpannerQueryTests$Child:"
+            + " WHERE id = @id AND trader_id = @trader_id";
+    String[] paramNames = new String[] {"id", "trader_id", "ignoredPageable"};
+    Object[] firstPage = new Object[] {"ID", "TRADER_ID", PageRequest.of(0, 10)};
+    Object[] secondPage = new Object[] {"ID", "TRADER_ID", PageRequest.of(1, 10)};
+
+    when(queryMethod.isCollectionQuery()).thenReturn(false);
+    when(queryMethod.getReturnedObjectType()).thenReturn((Class) Child.class);
+
+    EvaluationContext evaluationContext = new StandardEvaluationContext();
+    for (int i = 0; i < paramNames.length; i++) {
+      evaluationContext.setVariable(paramNames[i], firstPage[i]);
+    }
+    when(this.evaluationContextProvider.getEvaluationContext(any(), any()))
+        .thenReturn(evaluationContext);
+
+    SqlSpannerQuery sqlSpannerQuery = createQuery(sql, Child.class, false, useValueExpressionDelegate);
+
+    List<Statement> statements = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              statements.add(invocation.getArgument(0));
+              return null;
+            })
+        .when(this.spannerTemplate)
+        .executeQuery(any(), any());
+
+    Method method =
+        QueryHolder.class.getMethod("dummyMethod4", String.class, String.class, Pageable.class);
+    when(this.queryMethod.getQueryMethod()).thenReturn(method);
+    Mockito.<Parameters>when(this.queryMethod.getParameters())
+        .thenReturn(new DefaultParameters(ParametersSource.of(method)));
+
+    sqlSpannerQuery.execute(firstPage);
+    sqlSpannerQuery.execute(secondPage);
+
+    // Both pages reuse the same SQL; only the bound page parameters differ.
+    assertThat(statements).hasSize(2);
+    assertThat(statements.get(1).getSql())
+        .isEqualTo(statements.get(0).getSql())
+        .endsWith("LIMIT @pageLimit OFFSET @pageOffset");
+    assertThat(statements.get(0).getParameters().get("pageLimit").getInt64()).isEqualTo(10);
+    assertThat(statements.get(0).getParameters().get("pageOffset").getInt64()).isZero();
+    assertThat(statements.get(1).getParameters().get("pageLimit").getInt64()).isEqualTo(10);
+    assertThat(statements.get(1).getParameters().get("pageOffset").getInt64()).isEqualTo(10);
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void sortParamQueryTest(boolean useValueExpressionDelegate) throws NoSuchMethodException {
@@ -362,7 +420,7 @@ class SqlSpannerQueryTests {
             + " documents WHERE (documents.id = children.id AND documents.childId ="
             + " children.childId) AND (canceled = false)) AS documents FROM (SELECT * FROM children"
             + " WHERE id = @id AND trader_id = @trader_id) children WHERE disabled = false ORDER BY"
-            + " trader_id ASC LIMIT 2 OFFSET 2";
+            + " trader_id ASC LIMIT @pageLimit OFFSET @pageOffset";
     // @formatter:on
 
     Object[] params =
@@ -395,6 +453,8 @@ class SqlSpannerQueryTests {
               assertThat(paramMap.get("traderId").getString()).isEqualTo(params[1]);
               assertThat(paramMap.get("ignoredSort")).isNull();
               assertThat(paramMap.get("pageable")).isNull();
+              assertThat(paramMap.get("pageLimit").getInt64()).isEqualTo(2);
+              assertThat(paramMap.get("pageOffset").getInt64()).isEqualTo(2);
 
               return null;
             })
@@ -441,7 +501,7 @@ class SqlSpannerQueryTests {
             + " id IS NOT NULL AND trader_id=NULL AND trader_id LIKE %@tag5 AND price=TRUE AND"
             + " price=FALSE AND struct_val = @tag8 AND struct_val = @tag9 price>@tag6 AND"
             + " price<=@tag7 and price in unnest(@tag10)) ORDER BY id DESC LIMIT 3) trades ORDER BY"
-            + " COLA ASC , COLB DESC LIMIT 10 OFFSET 30";
+            + " COLA ASC , COLB DESC LIMIT @pageLimit OFFSET @pageOffset";
     // @formatter:on
 
     Object[] params =
@@ -511,6 +571,8 @@ class SqlSpannerQueryTests {
               assertThat(paramMap.get("tag7").getFloat64()).isEqualTo(params[8]);
               assertThat(paramMap.get("tag8").getStruct()).isEqualTo(params[9]);
               assertThat(paramMap.get("tag10").getStringArray()).isEqualTo(params[11]);
+              assertThat(paramMap.get("pageLimit").getInt64()).isEqualTo(10);
+              assertThat(paramMap.get("pageOffset").getInt64()).isEqualTo(30);
               verify(this.spannerEntityProcessor, times(1)).write(same(params[10]), any());
 
               assertThat(paramMap.get("SpELtag1").getFloat64()).isEqualTo(-8.88, DELTA);
@@ -576,7 +638,7 @@ class SqlSpannerQueryTests {
 
     sqlSpannerQuery.execute(new Object[] {});
 
-    verify(this.spannerTemplate, times(1)).executeDmlStatement(any());
+    verify(this.spannerTemplate, times(1)).executeDmlStatement(any(), anyBoolean());
   }
 
   @ParameterizedTest
@@ -18,18 +18,36 @@ package com.google.cloud.spring.data.spanner.repository.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.google.cloud.spanner.DatabaseClient;
 import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.TransactionContext;
+import com.google.cloud.spanner.TransactionManager;
+import com.google.cloud.spanner.TransactionManager.TransactionState;
+import com.google.cloud.spring.data.spanner.core.SpannerMutationFactory;
 import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
+import com.google.cloud.spring.data.spanner.core.SpannerTransactionManager;
+import com.google.cloud.spring.data.spanner.core.admin.SpannerSchemaUtils;
+import com.google.cloud.spring.data.spanner.core.convert.ConverterAwareMappingSpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
 import com.google.cloud.spring.data.spanner.core.mapping.Column;
 import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.cloud.spring.data.spanner.core.mapping.Table;
+import com.google.cloud.spring.data.spanner.repository.SpannerRepository;
 import com.google.cloud.spring.data.spanner.repository.query.SpannerQueryLookupStrategy;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.repository.core.EntityInformation;
@@ -37,6 +55,7 @@ import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /** Tests for the Spanner repository factory. */
 class SpannerRepositoryFactoryTests {
@@ -109,6 +128,67 @@ class SpannerRepositoryFactoryTests {
     assertThat(qls.get()).isInstanceOf(SpannerQueryLookupStrategy.class);
   }
 
+  @Test
+  void derivedDeletesWithDmlBatchingTest() {
+    DatabaseClient databaseClient = mock(DatabaseClient.class);
+    TransactionManager transactionManager = mock(TransactionManager.class);
+    TransactionContext transactionContext = mock(TransactionContext.class);
+    when(databaseClient.transactionManager()).thenReturn(transactionManager);
+    when(transactionManager.begin()).thenReturn(transactionContext);
+    when(transactionManager.getState()).thenReturn(TransactionState.STARTED);
+    when(transactionContext.executeUpdate(any())).thenReturn(3L);
+    SpannerMappingContext mappingContext = new SpannerMappingContext();
+    SpannerEntityProcessor entityProcessor =
+        new ConverterAwareMappingSpannerEntityProcessor(mappingContext);
+    SpannerTemplate template =
+        new SpannerTemplate(
+            () -> databaseClient,
+            mappingContext,
+            entityProcessor,
+            mock(SpannerMutationFactory.class),
+            new SpannerSchemaUtils(mappingContext, entityProcessor, true));
+    TestEntityRepository repository =
+        new SpannerRepositoryFactory(mappingContext, template)
+            .getRepository(TestEntityRepository.class);
+    SpannerTransactionManager spannerTransactionManager =
+        new SpannerTransactionManager(() -> databaseClient);
+    spannerTransactionManager.setDmlBatchingEnabled(true);
+
+    Long deleted =
+        new TransactionTemplate(spannerTransactionManager)
+            .execute(
+                status -> {
+                  repository.deleteBySomething("a");
+                  return repository.deleteByIdAndSomething("b", "c");
+                });
+
+    // The void delete is buffered, while the counted delete is executed right away after it.
+    assertThat(deleted).isEqualTo(3L);
+    InOrder inOrder = inOrder(transactionContext, transactionManager);
+    inOrder
+        .verify(transactionContext)
+        .batchUpdate(
+            argThat(
+                (Iterable<Statement> statements) ->
+                    statements.iterator().next().getSql().contains("custom_col=@tag0")));
+    inOrder
+        .verify(transactionContext)
+        .executeUpdate(
+            argThat(
+                (Statement statement) ->
+                    statement.getSql().startsWith("DELETE FROM custom_test_table WHERE")));
+    inOrder.verify(transactionManager).commit();
+    verify(transactionContext, times(1)).batchUpdate(any());
+  }
+
+  /** A repository with derived delete methods. */
+  interface TestEntityRepository extends SpannerRepository<TestEntity, Key> {
+
+    void deleteBySomething(String something);
+
+    long deleteByIdAndSomething(String id, String something);
+  }
+
   @Table(name = "custom_test_table")
   private static class TestEntity {
     @PrimaryKey(keyOrder = 1)
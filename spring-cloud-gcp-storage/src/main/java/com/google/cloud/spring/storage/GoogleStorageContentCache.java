@@ -0,0 +1,362 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage;
+
+import com.google.cloud.storage.BlobId;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+
+/**
+ * A size-bounded cache of object contents on the local disk, shared by {@link
+ * GoogleStorageResource} instances, so that objects that are read repeatedly (e.g., templates or
+ * reference data) are downloaded only once.
+ *
+ * <p>Entries are keyed by bucket, object name and generation. A resource looks up the cache with
+ * the generation from its metadata, so a replaced object is never served from the cache; combined
+ * with the {@link GoogleStorageMetadataCache}, a cached object is read without any request to
+ * Google Cloud Storage until the metadata expires.
+ *
+ * <p>The least recently read entries are deleted once the total size of the cached files exceeds
+ * the maximum size. Hits are read through memory-mapped files. Concurrent misses for the same
+ * object share a single download. Files in the cache directory are reused after a restart.
+ */
+public class GoogleStorageContentCache {
+
+  private static final Log LOGGER = LogFactory.getLog(GoogleStorageContentCache.class);
+
+  private static final String TEMPORARY_FILE_SUFFIX = ".download";
+
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+  private final Path directory;
+
+  private final long maximumBytes;
+
+  /** The cached files by name, in least recently used order. */
+  private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  private final Map<String, CompletableFuture<Path>> downloads = new ConcurrentHashMap<>();
+
+  private long totalBytes;
+
+  /**
+   * Creates a cache that keeps object contents in a directory.
+   *
+   * @param directory the directory of the cached files; it is created if it does not exist, and
+   *     should not be used for anything else
+   * @param maximumBytes the maximum total size of the cached files
+   * @throws UncheckedIOException if the directory cannot be created or read
+   */
+  public GoogleStorageContentCache(Path directory, long maximumBytes) {
+    Assert.notNull(directory, "The directory can't be null.");
+    Assert.isTrue(maximumBytes > 0, "The maximum size must be positive.");
+    this.directory = directory;
+    this.maximumBytes = maximumBytes;
+    try {
+      Files.createDirectories(directory);
+      loadEntries();
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to open the cache directory " + directory, ex);
+    }
+  }
+
+  /** Reads the content of an object that is not cached yet. */
+  @FunctionalInterface
+  public interface ContentLoader {
+
+    /**
+     * Opens a channel to the content of the object.
+     *
+     * @return the channel
+     * @throws IOException if the content cannot be read
+     */
+    ReadableByteChannel open() throws IOException;
+  }
+
+  /**
+   * Returns whether objects of the given size are cached. Objects larger than the maximum size of
+   * the cache are not.
+   *
+   * @param size the size of an object in bytes
+   * @return true if objects of that size are cached
+   */
+  public boolean isCacheable(long size) {
+    return size <= this.maximumBytes;
+  }
+
+  /**
+   * Opens a stream to the cached content of an object, downloading the object first if it is not
+   * cached.
+   *
+   * @param blobId the object, including its generation
+   * @param loader reads the content of the object on a miss
+   * @return a stream of the object content
+   * @throws IOException if the object cannot be downloaded or the cached file cannot be read
+   */
+  public InputStream getInputStream(BlobId blobId, ContentLoader loader) throws IOException {
+    Assert.notNull(blobId.getGeneration(), "Only objects with a generation can be cached.");
+    String fileName = fileName(blobId);
+    Path file = this.directory.resolve(fileName);
+    boolean cached;
+    synchronized (this.entries) {
+      cached = this.entries.get(fileName) != null;
+    }
+    if (cached) {
+      try {
+        return open(file);
+      } catch (NoSuchFileException ex) {
+        // Evicted in the meantime, or deleted from outside; download it again.
+        remove(fileName);
+      }
+    }
+    return open(download(fileName, loader));
+  }
+
+  /** Deletes all cached files. */
+  public void invalidateAll() {
+    synchronized (this.entries) {
+      for (Iterator<String> names = this.entries.keySet().iterator(); names.hasNext(); ) {
+        delete(this.directory.resolve(names.next()));
+        names.remove();
+      }
+      this.totalBytes = 0;
+    }
+  }
+
+  /**
+   * Returns the total size of the cached files.
+   *
+   * @return the size in bytes
+   */
+  public long size() {
+    synchronized (this.entries) {
+      return this.totalBytes;
+    }
+  }
+
+  private Path download(String fileName, ContentLoader loader) throws IOException {
+    CompletableFuture<Path> download = new CompletableFuture<>();
+    CompletableFuture<Path> existing = this.downloads.putIfAbsent(fileName, download);
+    if (existing != null) {
+      return await(existing);
+    }
+    try {
+      Path file = this.directory.resolve(fileName);
+      boolean cached;
+      synchronized (this.entries) {
+        // Another download may have completed since the caller looked the file up.
+        cached = this.entries.containsKey(fileName);
+      }
+      if (!cached) {
+        copyToFile(loader, file);
+        add(fileName, Files.size(file));
+      }
+      download.complete(file);
+      return file;
+    } catch (IOException | RuntimeException ex) {
+      download.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      this.downloads.remove(fileName);
+    }
+  }
+
+  private void copyToFile(ContentLoader loader, Path file) throws IOException {
+    Path temporaryFile =
+        Files.createTempFile(this.directory, file.getFileName().toString(), TEMPORARY_FILE_SUFFIX);
+    try {
+      try (ReadableByteChannel source = loader.open();
+          FileChannel target = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+        ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+        while (source.read(buffer) >= 0) {
+          buffer.flip();
+          while (buffer.hasRemaining()) {
+            target.write(buffer);
+          }
+          buffer.clear();
+        }
+      }
+      // Readers only ever see complete files.
+      Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temporaryFile);
+    }
+  }
+
+  private void add(String fileName, long size) {
+    synchronized (this.entries) {
+      Long previous = this.entries.put(fileName, size);
+      this.totalBytes += size - (previous != null ? previous : 0);
+      Iterator<Map.Entry<String, Long>> eldest = this.entries.entrySet().iterator();
+      while (this.totalBytes > this.maximumBytes && eldest.hasNext()) {
+        Map.Entry<String, Long> entry = eldest.next();
+        if (entry.getKey().equals(fileName)) {
+          continue;
+        }
+        // Readers that mapped the file keep reading it after it was deleted.
+        delete(this.directory.resolve(entry.getKey()));
+        this.totalBytes -= entry.getValue();
+        eldest.remove();
+      }
+    }
+  }
+
+  private void remove(String fileName) {
+    synchronized (this.entries) {
+      Long size = this.entries.remove(fileName);
+      if (size != null) {
+        this.totalBytes -= size;
+      }
+    }
+  }
+
+  private void loadEntries() throws IOException {
+    try (Stream<Path> files = Files.list(this.directory)) {
+      files
+          .filter(Files::isRegularFile)
+          .sorted(Comparator.comparing(GoogleStorageContentCache::lastModified))
+          .forEach(
+              file -> {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(TEMPORARY_FILE_SUFFIX)) {
+                  delete(file);
+                } else {
+                  add(fileName, file.toFile().length());
+                }
+              });
+    }
+  }
+
+  private static InputStream open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        return Channels.newInputStream(FileChannel.open(file, StandardOpenOption.READ));
+      }
+      // The mapping stays valid after the channel is closed.
+      return new MappedInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+    }
+  }
+
+  private static Path await(CompletableFuture<Path> download) throws IOException {
+    try {
+      return download.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a download.");
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof IOException ioException) {
+        throw new IOException(ioException.getMessage(), ioException);
+      }
+      throw new IOException("Failed to download the object.", ex.getCause());
+    }
+  }
+
+  private static String fileName(BlobId blobId) {
+    String key = blobId.getBucket() + "/" + blobId.getName() + "#" + blobId.getGeneration();
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static FileTime lastModified(Path file) {
+    try {
+      return Files.getLastModifiedTime(file);
+    } catch (IOException ex) {
+      return FileTime.fromMillis(0);
+    }
+  }
+
+  private static void delete(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException ex) {
+      LOGGER.warn("Failed to delete cached file " + file, ex);
+    }
+  }
+
+  /** Reads a memory-mapped file. */
+  private static final class MappedInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    MappedInputStream(MappedByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return this.buffer.hasRemaining() ? this.buffer.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      if (!this.buffer.hasRemaining()) {
+        return -1;
+      }
+      int count = Math.min(length, this.buffer.remaining());
+      this.buffer.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public long skip(long count) {
+      int skipped = (int) Math.max(0, Math.min(count, this.buffer.remaining()));
+      this.buffer.position(this.buffer.position() + skipped);
+      return skipped;
+    }
+
+    @Override
+    public int available() {
+      return this.buffer.remaining();
+    }
+  }
+}
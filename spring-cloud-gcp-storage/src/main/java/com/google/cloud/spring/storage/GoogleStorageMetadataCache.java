@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage;
+
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.springframework.util.Assert;
+
+/**
+ * A bounded cache of {@link Blob} metadata that is shared by {@link GoogleStorageResource}
+ * instances, so that resources resolved repeatedly for the same object (e.g., static assets served
+ * over HTTP) do not fetch the object metadata every time.
+ *
+ * <p>Entries expire after a fixed time-to-live; the least recently used entries are evicted once
+ * the maximum size is reached. Missing objects are cached as well. Since the cache cannot observe
+ * changes made by other clients, metadata may be stale for up to the time-to-live.
+ */
+public class GoogleStorageMetadataCache {
+
+  private final long ttlNanos;
+
+  private final int maximumSize;
+
+  private final LongSupplier nanoClock;
+
+  private final Map<BlobId, Entry> entries;
+
+  /**
+   * Creates a metadata cache.
+   *
+   * @param ttl how long fetched metadata is served from the cache
+   * @param maximumSize the maximum number of cached objects
+   */
+  public GoogleStorageMetadataCache(Duration ttl, int maximumSize) {
+    this(ttl, maximumSize, System::nanoTime);
+  }
+
+  GoogleStorageMetadataCache(Duration ttl, int maximumSize, LongSupplier nanoClock) {
+    Assert.isTrue(ttl != null && !ttl.isNegative(), "The time-to-live must not be negative");
+    Assert.isTrue(maximumSize > 0, "The maximum size must be positive");
+    this.ttlNanos = ttl.toNanos();
+    this.maximumSize = maximumSize;
+    this.nanoClock = nanoClock;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<BlobId, Entry> eldest) {
+            return size() > GoogleStorageMetadataCache.this.maximumSize;
+          }
+        };
+  }
+
+  /**
+   * Returns the cached metadata of an object, fetching it if it is not cached or has expired.
+   *
+   * @param blobId the ID of the object, without generation
+   * @param loader fetches the metadata; may return null if the object does not exist
+   * @return the metadata of the object, or null if it does not exist
+   */
+  public Blob get(BlobId blobId, Function<BlobId, Blob> loader) {
+    long now = this.nanoClock.getAsLong();
+    synchronized (this.entries) {
+      Entry entry = this.entries.get(blobId);
+      if (entry != null && now - entry.loadedAtNanos < this.ttlNanos) {
+        return entry.blob;
+      }
+    }
+    // Fetch outside the lock, so that slow requests do not block lookups of other objects.
+    Blob blob = loader.apply(blobId);
+    synchronized (this.entries) {
+      this.entries.put(blobId, new Entry(blob, now));
+    }
+    return blob;
+  }
+
+  /**
+   * Removes the metadata of an object from the cache.
+   *
+   * @param blobId the ID of the object, without generation
+   */
+  public void invalidate(BlobId blobId) {
+    synchronized (this.entries) {
+      this.entries.remove(blobId);
+    }
+  }
+
+  /** Removes all entries from the cache. */
+  public void invalidateAll() {
+    synchronized (this.entries) {
+      this.entries.clear();
+    }
+  }
+
+  /**
+   * Returns the number of cached objects, including expired entries that were not evicted yet.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    synchronized (this.entries) {
+      return this.entries.size();
+    }
+  }
+
+  private record Entry(Blob blob, long loadedAtNanos) {}
+}
@@ -17,6 +17,7 @@
 package com.google.cloud.spring.storage;
 
 import com.google.cloud.storage.Storage;
+import java.nio.file.Path;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.BeansException;
@@ -44,6 +45,10 @@ public class GoogleStorageProtocolResolver
 
   private GoogleStorageProtocolResolverSettings googleStorageProtocolResolverSettings;
 
+  private volatile GoogleStorageMetadataCache metadataCache;
+
+  private volatile GoogleStorageContentCache contentCache;
+
   GoogleStorageProtocolResolver() {}
 
   @Override
@@ -87,11 +92,68 @@ public class GoogleStorageProtocolResolver
     }
   }
 
+  /**
+   * Returns the metadata cache shared by the resolved resources, creating it on first use.
+   *
+   * @return the cache, or null if it is disabled in the settings
+   */
+  GoogleStorageMetadataCache getMetadataCache() {
+    GoogleStorageProtocolResolverSettings settings = getSettings();
+    if (settings.getMetadataCacheTtl() == null || settings.getMetadataCacheTtl().isZero()) {
+      return null;
+    }
+    if (this.metadataCache == null) {
+      synchronized (this) {
+        if (this.metadataCache == null) {
+          this.metadataCache =
+              new GoogleStorageMetadataCache(
+                  settings.getMetadataCacheTtl(), settings.getMetadataCacheMaxSize());
+        }
+      }
+    }
+    return this.metadataCache;
+  }
+
+  /**
+   * Returns the local disk cache shared by the resolved resources, creating it on first use.
+   *
+   * @return the cache, or null if it is disabled in the settings
+   */
+  GoogleStorageContentCache getContentCache() {
+    GoogleStorageProtocolResolverSettings settings = getSettings();
+    if (settings.getContentCacheDirectory() == null) {
+      return null;
+    }
+    if (this.contentCache == null) {
+      synchronized (this) {
+        if (this.contentCache == null) {
+          this.contentCache =
+              new GoogleStorageContentCache(
+                  Path.of(settings.getContentCacheDirectory()),
+                  settings.getContentCacheMaxSize().toBytes());
+        }
+      }
+    }
+    return this.contentCache;
+  }
+
   @Override
   public Resource resolve(String location, ResourceLoader resourceLoader) {
     if (!location.startsWith(PROTOCOL)) {
       return null;
     }
-    return new GoogleStorageResource(getStorage(), location, getSettings().isAutoCreateFiles());
+    GoogleStorageProtocolResolverSettings settings = getSettings();
+    GoogleStorageResource resource =
+        new GoogleStorageResource(
+            getStorage(),
+            new GoogleStorageLocation(location),
+            settings.isAutoCreateFiles(),
+            getMetadataCache());
+    resource.setParallelRead(
+        Math.toIntExact(settings.getParallelReadChunkSize().toBytes()),
+        settings.getParallelReadAheadDepth(),
+        settings.getParallelReadExecutor());
+    resource.setContentCache(getContentCache());
+    return resource;
   }
 }
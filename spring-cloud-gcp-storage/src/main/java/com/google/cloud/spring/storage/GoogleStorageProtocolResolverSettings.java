@@ -16,6 +16,11 @@
 
 package com.google.cloud.spring.storage;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+
 /** Holds settings for use with the {@link GoogleStorageResource}. These settings are optional. */
 public class GoogleStorageProtocolResolverSettings {
 
@@ -27,6 +32,39 @@ public class GoogleStorageProtocolResolverSettings {
   /** Determines if blobs should be auto-created when the library attempts to write to them. */
   private boolean autoCreateFiles = true;
 
+  /**
+   * How long object metadata is shared between resources resolved for the same object. Zero
+   * disables the shared metadata cache.
+   */
+  private Duration metadataCacheTtl = Duration.ZERO;
+
+  /** Maximum number of objects whose metadata is kept in the shared metadata cache. */
+  private int metadataCacheMaxSize = 10_000;
+
+  /**
+   * Number of byte ranges of an object that are downloaded concurrently when reading a resource.
+   * Zero reads objects sequentially.
+   */
+  private int parallelReadAheadDepth = 0;
+
+  /** Size of the byte ranges downloaded concurrently when parallel reads are enabled. */
+  private DataSize parallelReadChunkSize = DataSize.ofMegabytes(16);
+
+  /**
+   * Executor that downloads the byte ranges of parallel reads. Unset uses an executor with a
+   * bounded number of daemon threads that is shared by all resources.
+   */
+  private Executor parallelReadExecutor;
+
+  /**
+   * Directory of a local disk cache for the contents of read objects. Objects are downloaded again
+   * only when their generation changes. Unset disables the cache.
+   */
+  private String contentCacheDirectory;
+
+  /** Maximum total size of the objects kept in the local disk cache. */
+  private DataSize contentCacheMaxSize = DataSize.ofGigabytes(1);
+
   public boolean isAutoCreateFiles() {
     return this.autoCreateFiles;
   }
@@ -34,4 +72,67 @@ public class GoogleStorageProtocolResolverSettings {
   public void setAutoCreateFiles(boolean autoCreateFiles) {
     this.autoCreateFiles = autoCreateFiles;
   }
+
+  public Duration getMetadataCacheTtl() {
+    return this.metadataCacheTtl;
+  }
+
+  public void setMetadataCacheTtl(Duration metadataCacheTtl) {
+    this.metadataCacheTtl = metadataCacheTtl;
+  }
+
+  public int getMetadataCacheMaxSize() {
+    return this.metadataCacheMaxSize;
+  }
+
+  public void setMetadataCacheMaxSize(int metadataCacheMaxSize) {
+    this.metadataCacheMaxSize = metadataCacheMaxSize;
+  }
+
+  public int getParallelReadAheadDepth() {
+    return this.parallelReadAheadDepth;
+  }
+
+  public void setParallelReadAheadDepth(int parallelReadAheadDepth) {
+    this.parallelReadAheadDepth = parallelReadAheadDepth;
+  }
+
+  public DataSize getParallelReadChunkSize() {
+    return this.parallelReadChunkSize;
+  }
+
+  public void setParallelReadChunkSize(DataSize parallelReadChunkSize) {
+    Assert.isTrue(
+        parallelReadChunkSize != null
+            && parallelReadChunkSize.toBytes() > 0
+            && parallelReadChunkSize.toBytes() <= Integer.MAX_VALUE,
+        "The parallel read chunk size must be positive and at most "
+            + Integer.MAX_VALUE
+            + " bytes");
+    this.parallelReadChunkSize = parallelReadChunkSize;
+  }
+
+  public Executor getParallelReadExecutor() {
+    return this.parallelReadExecutor;
+  }
+
+  public void setParallelReadExecutor(Executor parallelReadExecutor) {
+    this.parallelReadExecutor = parallelReadExecutor;
+  }
+
+  public String getContentCacheDirectory() {
+    return this.contentCacheDirectory;
+  }
+
+  public void setContentCacheDirectory(String contentCacheDirectory) {
+    this.contentCacheDirectory = contentCacheDirectory;
+  }
+
+  public DataSize getContentCacheMaxSize() {
+    return this.contentCacheMaxSize;
+  }
+
+  public void setContentCacheMaxSize(DataSize contentCacheMaxSize) {
+    this.contentCacheMaxSize = contentCacheMaxSize;
+  }
 }
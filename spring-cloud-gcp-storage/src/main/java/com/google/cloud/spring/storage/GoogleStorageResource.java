@@ -31,6 +31,8 @@ import java.io.OutputStream;
 import java.net.URI;
 import java.net.URL;
 import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -41,6 +43,16 @@ import org.springframework.util.Assert;
 /**
  * Implements {@link WritableResource} for reading and writing objects in Google Cloud Storage
  * (GCS). An instance of this class represents a handle to a bucket or a blob.
+ *
+ * <p>The metadata of a blob is fetched once and then reused by all methods of the resource, and
+ * input streams only read the generation of the object that the metadata describes. Call {@link
+ * #refresh()} to fetch the metadata again, for example when the object may have been replaced.
+ *
+ * <p>Large objects can be downloaded as concurrent byte ranges with {@link
+ * #getParallelReadChannel(int, int)}. Resources resolved through {@link
+ * GoogleStorageProtocolResolver} do so in {@link #getInputStream()} when parallel reads are enabled
+ * in the {@link GoogleStorageProtocolResolverSettings}. Resolved resources can also read objects
+ * through a {@link GoogleStorageContentCache} on the local disk.
  */
 public class GoogleStorageResource implements WritableResource {
 
@@ -52,6 +64,18 @@ public class GoogleStorageResource implements WritableResource {
 
   private final boolean autoCreateFiles;
 
+  private final GoogleStorageMetadataCache metadataCache;
+
+  private volatile FetchedBlob fetchedBlob;
+
+  private int parallelReadChunkSize;
+
+  private int parallelReadAheadDepth;
+
+  private Executor parallelReadExecutor;
+
+  private GoogleStorageContentCache contentCache;
+
   /**
    * Constructs the resource representation of a bucket or a blob (file) in Google Cloud Storage.
    *
@@ -91,10 +115,32 @@ public class GoogleStorageResource implements WritableResource {
    */
   public GoogleStorageResource(
       Storage storage, GoogleStorageLocation googleStorageLocation, boolean autoCreateFiles) {
+    this(storage, googleStorageLocation, autoCreateFiles, null);
+  }
+
+  /**
+   * Constructs the resource representation of a bucket or a blob (file) in Google Cloud Storage
+   * that looks up blob metadata in a cache shared with other resources.
+   *
+   * @param storage the Google Cloud Storage client
+   * @param googleStorageLocation the {@link GoogleStorageLocation} of the resource.
+   * @param autoCreateFiles determines the auto-creation of the file in Google Cloud Storage if an
+   *     operation that depends on its existence is triggered (e.g., getting the output stream of a
+   *     file)
+   * @param metadataCache the shared metadata cache, or null to always fetch metadata from Google
+   *     Cloud Storage
+   * @throws IllegalArgumentException if the location is an invalid Google Storage location
+   */
+  public GoogleStorageResource(
+      Storage storage,
+      GoogleStorageLocation googleStorageLocation,
+      boolean autoCreateFiles,
+      GoogleStorageMetadataCache metadataCache) {
     Assert.notNull(storage, "Storage object can not be null");
     this.storage = storage;
     this.location = googleStorageLocation;
     this.autoCreateFiles = autoCreateFiles;
+    this.metadataCache = metadataCache;
   }
 
   public boolean isAutoCreateFiles() {
@@ -135,7 +181,7 @@ public class GoogleStorageResource implements WritableResource {
     } else {
       Blob b = getBlob();
       Assert.notNull(b, "The object at " + this.getURI() + " does not exist.");
-      url = getBlob().getSelfLink();
+      url = b.getSelfLink();
     }
     return new URL(url);
   }
@@ -147,14 +193,36 @@ public class GoogleStorageResource implements WritableResource {
   }
 
   /**
-   * Gets the underlying storage object in Google Cloud Storage.
+   * Gets the underlying storage object in Google Cloud Storage. The metadata is fetched on the
+   * first call and reused until {@link #refresh()} is called.
    *
    * @return the storage object, will be null if it does not exist in Google Cloud Storage.
    * @throws StorageException if an issue occurs getting the Blob
    * @throws IllegalStateException if the resource reference is to a bucket, and not a blob.
    */
   public Blob getBlob() {
-    return this.storage.get(getBlobId());
+    FetchedBlob fetched = this.fetchedBlob;
+    if (fetched == null) {
+      BlobId blobId = getBlobId();
+      Blob blob =
+          this.metadataCache != null
+              ? this.metadataCache.get(blobId, this.storage::get)
+              : this.storage.get(blobId);
+      fetched = new FetchedBlob(blob);
+      this.fetchedBlob = fetched;
+    }
+    return fetched.blob();
+  }
+
+  /**
+   * Discards the cached blob metadata, so that the next operation fetches it again from Google
+   * Cloud Storage. Also removes the blob from the shared metadata cache, if there is one.
+   */
+  public void refresh() {
+    this.fetchedBlob = null;
+    if (this.metadataCache != null && !isBucket()) {
+      this.metadataCache.invalidate(getBlobId());
+    }
   }
 
   /**
@@ -187,7 +255,7 @@ public class GoogleStorageResource implements WritableResource {
    * @throws IllegalStateException if the resource reference is to a bucket, and not a blob.
    */
   public Blob createBlob() {
-    return this.storage.create(BlobInfo.newBuilder(getBlobId()).build());
+    return updateFetchedBlob(this.storage.create(BlobInfo.newBuilder(getBlobId()).build()));
   }
 
   /**
@@ -202,7 +270,8 @@ public class GoogleStorageResource implements WritableResource {
    * @since 1.2.2
    */
   public Blob createBlob(byte[] contents) {
-    return this.storage.create(BlobInfo.newBuilder(getBlobId()).build(), contents);
+    return updateFetchedBlob(
+        this.storage.create(BlobInfo.newBuilder(getBlobId()).build(), contents));
   }
 
   /**
@@ -234,6 +303,14 @@ public class GoogleStorageResource implements WritableResource {
     return getBucket() != null;
   }
 
+  private Blob updateFetchedBlob(Blob blob) {
+    refresh();
+    if (blob != null) {
+      this.fetchedBlob = new FetchedBlob(blob);
+    }
+    return blob;
+  }
+
   private Blob throwExceptionForNullBlob(Blob blob) throws IOException {
     if (blob == null) {
       throw new FileNotFoundException("The blob was not found: " + getURI());
@@ -274,8 +351,16 @@ public class GoogleStorageResource implements WritableResource {
   @Override
   @NonNull
   public GoogleStorageResource createRelative(@NonNull String relativePath) {
-    return new GoogleStorageResource(
-        this.storage, getURI().resolve(relativePath).toString(), this.autoCreateFiles);
+    GoogleStorageResource relative =
+        new GoogleStorageResource(
+            this.storage,
+            new GoogleStorageLocation(getURI().resolve(relativePath).toString()),
+            this.autoCreateFiles,
+            this.metadataCache);
+    relative.setParallelRead(
+        this.parallelReadChunkSize, this.parallelReadAheadDepth, this.parallelReadExecutor);
+    relative.setContentCache(this.contentCache);
+    return relative;
   }
 
   @Override
@@ -295,9 +380,90 @@ public class GoogleStorageResource implements WritableResource {
     if (isBucket()) {
       throw new IllegalStateException(
           "Cannot open an input stream to a bucket: '" + getURI() + "'");
-    } else {
-      return Channels.newInputStream(throwExceptionForNullBlob(getBlob()).reader());
     }
+    if (this.contentCache != null) {
+      Blob blob = throwExceptionForNullBlob(getBlob());
+      if (blob.getGeneration() != null
+          && blob.getSize() != null
+          && this.contentCache.isCacheable(blob.getSize())) {
+        return this.contentCache.getInputStream(
+            BlobId.of(getBucketName(), getBlobName(), blob.getGeneration()), this::openReadChannel);
+      }
+    }
+    return Channels.newInputStream(openReadChannel());
+  }
+
+  private ReadableByteChannel openReadChannel() throws IOException {
+    if (this.parallelReadAheadDepth > 0) {
+      return getParallelReadChannel(this.parallelReadChunkSize, this.parallelReadAheadDepth);
+    }
+    Blob blob = throwExceptionForNullBlob(getBlob());
+    // Pin the read to the generation the metadata describes, so that the content matches the
+    // length and modification time reported by this resource.
+    return blob.getGeneration() != null
+        ? blob.reader(Blob.BlobSourceOption.generationMatch())
+        : blob.reader();
+  }
+
+  /**
+   * Opens a channel that downloads the object as consecutive byte ranges of {@code chunkSize}
+   * bytes, with up to {@code readAheadDepth} ranges in flight, and returns them in order. This
+   * uses several connections to saturate the network when reading large objects, at the cost of
+   * buffering up to {@code (readAheadDepth + 1) * chunkSize} bytes. Objects that fit in a single
+   * chunk are read sequentially.
+   *
+   * <p>All ranges are read from the generation described by the cached blob metadata. They are
+   * downloaded on the executor of the {@link GoogleStorageProtocolResolverSettings} that resolved
+   * this resource, or otherwise on an executor shared by all resources, with a bounded number of
+   * threads.
+   *
+   * @param chunkSize the size of the downloaded ranges in bytes
+   * @param readAheadDepth the maximum number of ranges downloaded concurrently
+   * @return a channel that reads the object contents
+   * @throws IOException if the blob does not exist
+   * @throws IllegalStateException if the resource reference is to a bucket, and not a blob.
+   */
+  public ReadableByteChannel getParallelReadChannel(int chunkSize, int readAheadDepth)
+      throws IOException {
+    Blob blob = throwExceptionForNullBlob(getBlob());
+    Long size = blob.getSize();
+    if (size == null || blob.getGeneration() == null || size <= chunkSize) {
+      return blob.getGeneration() != null
+          ? blob.reader(Blob.BlobSourceOption.generationMatch())
+          : blob.reader();
+    }
+    return new ParallelRangeReadChannel(
+        this.storage,
+        BlobId.of(getBucketName(), getBlobName(), blob.getGeneration()),
+        size,
+        chunkSize,
+        readAheadDepth,
+        this.parallelReadExecutor != null
+            ? this.parallelReadExecutor
+            : ParallelRangeReadChannel.defaultExecutor());
+  }
+
+  /**
+   * Makes {@link #getInputStream()} download the object in parallel byte ranges.
+   *
+   * @param chunkSize the size of the downloaded ranges in bytes
+   * @param readAheadDepth the maximum number of ranges downloaded concurrently; 0 to read
+   *     sequentially
+   * @param executor the executor that downloads the ranges; null to use the shared one
+   */
+  void setParallelRead(int chunkSize, int readAheadDepth, Executor executor) {
+    this.parallelReadChunkSize = chunkSize;
+    this.parallelReadAheadDepth = readAheadDepth;
+    this.parallelReadExecutor = executor;
+  }
+
+  /**
+   * Makes {@link #getInputStream()} read the object through a cache on the local disk.
+   *
+   * @param contentCache the cache, or null to always download the object
+   */
+  void setContentCache(GoogleStorageContentCache contentCache) {
+    this.contentCache = contentCache;
   }
 
   @Override
@@ -326,6 +492,8 @@ public class GoogleStorageResource implements WritableResource {
       throw new FileNotFoundException("The blob was not found: " + getURI());
     }
 
+    // The write replaces the object, so its metadata has to be fetched again afterwards.
+    refresh();
     return Channels.newOutputStream(this.storage.writer(BlobInfo.newBuilder(getBlobId()).build()));
   }
 
@@ -367,4 +535,7 @@ public class GoogleStorageResource implements WritableResource {
     }
     return BlobId.of(getBucketName(), getBlobName());
   }
+
+  /** Holds fetched metadata, which is null if the blob does not exist. */
+  private record FetchedBlob(Blob blob) {}
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Storage;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.util.Assert;
+
+/**
+ * Reads an object by downloading consecutive byte ranges concurrently and returning them in order.
+ *
+ * <p>At most {@code readAheadDepth} ranges are downloaded at the same time, so the channel buffers
+ * at most {@code readAheadDepth + 1} chunks. Every range is read from the same object generation,
+ * which makes the download fail rather than mix the contents of different generations.
+ *
+ * <p>The ranges are downloaded on an executor shared with other channels, so that opening many
+ * channels does not create threads of its own.
+ */
+final class ParallelRangeReadChannel implements ReadableByteChannel {
+
+  /** Number of threads of the executor shared by channels that are not given one. */
+  static final int DEFAULT_EXECUTOR_THREADS = 16;
+
+  private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+  private final Storage storage;
+
+  private final BlobId blobId;
+
+  private final long size;
+
+  private final int chunkSize;
+
+  private final int chunkCount;
+
+  private final Executor executor;
+
+  private final Deque<Future<ByteBuffer>> inFlight = new ArrayDeque<>();
+
+  private int nextChunk;
+
+  private ByteBuffer current;
+
+  private boolean open = true;
+
+  /**
+   * Starts downloading the first chunks of an object.
+   *
+   * @param storage the Google Cloud Storage client
+   * @param blobId the object to read, including its generation
+   * @param size the size of the object in bytes
+   * @param chunkSize the size of the downloaded ranges in bytes
+   * @param readAheadDepth the number of ranges downloaded concurrently
+   * @param executor the executor that downloads the ranges
+   */
+  ParallelRangeReadChannel(
+      Storage storage,
+      BlobId blobId,
+      long size,
+      int chunkSize,
+      int readAheadDepth,
+      Executor executor) {
+    Assert.isTrue(chunkSize > 0, "The chunk size must be positive");
+    Assert.isTrue(readAheadDepth > 0, "The read-ahead depth must be positive");
+    long chunks = (size + chunkSize - 1) / chunkSize;
+    Assert.isTrue(chunks <= Integer.MAX_VALUE, "The chunk size is too small for " + blobId);
+    this.storage = storage;
+    this.blobId = blobId;
+    this.size = size;
+    this.chunkSize = chunkSize;
+    this.chunkCount = (int) chunks;
+    this.executor = executor;
+    for (int i = 0; i < readAheadDepth && this.nextChunk < this.chunkCount; i++) {
+      submitNextChunk();
+    }
+  }
+
+  @Override
+  public synchronized int read(ByteBuffer dst) throws IOException {
+    if (!this.open) {
+      throw new ClosedChannelException();
+    }
+    while (this.current == null || !this.current.hasRemaining()) {
+      Future<ByteBuffer> next = this.inFlight.poll();
+      if (next == null) {
+        return -1;
+      }
+      this.current = await(next);
+      if (this.nextChunk < this.chunkCount) {
+        submitNextChunk();
+      }
+    }
+    int count = Math.min(dst.remaining(), this.current.remaining());
+    ByteBuffer slice = this.current.slice();
+    slice.limit(count);
+    dst.put(slice);
+    this.current.position(this.current.position() + count);
+    return count;
+  }
+
+  @Override
+  public synchronized boolean isOpen() {
+    return this.open;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (this.open) {
+      this.open = false;
+      this.inFlight.forEach(future -> future.cancel(true));
+      this.inFlight.clear();
+      this.current = null;
+    }
+  }
+
+  /**
+   * Returns the executor shared by the channels that are not given one, creating it on first use.
+   * It has {@value #DEFAULT_EXECUTOR_THREADS} daemon threads, which stop when they are idle.
+   *
+   * @return the shared executor
+   */
+  static Executor defaultExecutor() {
+    return DefaultExecutorHolder.EXECUTOR;
+  }
+
+  private void submitNextChunk() {
+    long start = (long) this.nextChunk * this.chunkSize;
+    long end = Math.min(this.size, start + this.chunkSize);
+    FutureTask<ByteBuffer> task = new FutureTask<>(() -> readRange(start, end));
+    this.executor.execute(task);
+    this.inFlight.add(task);
+    this.nextChunk++;
+  }
+
+  private ByteBuffer readRange(long start, long end) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+    try (ReadChannel reader = this.storage.reader(this.blobId)) {
+      reader.seek(start);
+      reader.limit(end);
+      while (buffer.hasRemaining()) {
+        if (reader.read(buffer) < 0) {
+          throw new EOFException(
+              "Unexpected end of " + this.blobId + " at byte " + (start + buffer.position()));
+        }
+      }
+    }
+    return buffer.flip();
+  }
+
+  private ByteBuffer await(Future<ByteBuffer> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new InterruptedIOException("Interrupted while reading " + this.blobId);
+    } catch (ExecutionException ex) {
+      close();
+      if (ex.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      throw new IOException("Failed to read " + this.blobId, ex.getCause());
+    }
+  }
+
+  private static final class DefaultExecutorHolder {
+
+    private static final Executor EXECUTOR = createExecutor();
+
+    private static Executor createExecutor() {
+      ThreadPoolExecutor executor =
+          new ThreadPoolExecutor(
+              DEFAULT_EXECUTOR_THREADS,
+              DEFAULT_EXECUTOR_THREADS,
+              60L,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              runnable -> {
+                Thread thread =
+                    new Thread(runnable, "gcs-range-reader-" + THREAD_COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              });
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+  }
+}
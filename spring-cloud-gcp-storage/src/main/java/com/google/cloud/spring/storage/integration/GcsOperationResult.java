@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage.integration;
+
+/**
+ * The outcome of a bulk operation of {@link GcsSession} for a single object.
+ *
+ * @param path the path of the object, in the form {@code bucket/name}
+ * @param done whether the object was removed or moved; false if it did not exist or failed
+ * @param failure the error of the operation, or null if it did not fail
+ */
+public record GcsOperationResult(String path, boolean done, RuntimeException failure) {
+
+  /**
+   * Returns whether the operation completed without error.
+   *
+   * @return true if there is no failure
+   */
+  public boolean isSuccessful() {
+    return this.failure == null;
+  }
+}
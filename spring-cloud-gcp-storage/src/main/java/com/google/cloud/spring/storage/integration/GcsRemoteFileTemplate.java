@@ -17,9 +17,13 @@
 package com.google.cloud.spring.storage.integration;
 
 import com.google.cloud.storage.BlobInfo;
+import java.util.List;
+import java.util.Map;
 import org.springframework.integration.file.remote.ClientCallback;
 import org.springframework.integration.file.remote.RemoteFileTemplate;
+import org.springframework.integration.file.remote.session.Session;
 import org.springframework.integration.file.remote.session.SessionFactory;
+import org.springframework.util.Assert;
 
 /** A remote file template for Google Cloud Storage. */
 public class GcsRemoteFileTemplate extends RemoteFileTemplate<BlobInfo> {
@@ -33,6 +37,33 @@ public class GcsRemoteFileTemplate extends RemoteFileTemplate<BlobInfo> {
     super(sessionFactory);
   }
 
+  /**
+   * Deletes objects with batch requests.
+   *
+   * @param paths the paths of the objects, in the form bucket/name
+   * @return the result for each path, in the same order
+   * @see GcsSession#removeAll(List)
+   */
+  public List<GcsOperationResult> removeAll(List<String> paths) {
+    return execute(session -> asGcsSession(session).removeAll(paths));
+  }
+
+  /**
+   * Moves objects with server-side copies and batched deletions.
+   *
+   * @param moves the paths of the sources mapped to the paths of their targets
+   * @return the result for each source, in the iteration order of the map
+   * @see GcsSession#moveAll(Map)
+   */
+  public List<GcsOperationResult> moveAll(Map<String, String> moves) {
+    return execute(session -> asGcsSession(session).moveAll(moves));
+  }
+
+  private static GcsSession asGcsSession(Session<BlobInfo> session) {
+    Assert.isInstanceOf(GcsSession.class, session, "Bulk operations require a GcsSession.");
+    return (GcsSession) session;
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public <T, C> T executeWithClient(ClientCallback<C, T> callback) {
@@ -21,7 +21,10 @@ import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.BucketInfo;
+import com.google.cloud.storage.CopyWriter;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageBatch;
+import com.google.cloud.storage.StorageBatchResult;
 import com.google.cloud.storage.StorageException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -29,10 +32,15 @@ import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.integration.file.remote.session.Session;
@@ -48,11 +56,76 @@ public class GcsSession implements Session<BlobInfo> {
 
   private static final String SEPARATOR = "/";
 
+  /** The maximum number of requests the JSON API accepts in a batch. */
+  private static final int MAX_BATCH_SIZE = 100;
+
+  private String prefix;
+
+  private String matchGlob;
+
+  private Supplier<String> startOffsetSupplier;
+
+  private long pageSize;
+
+  private Executor executor = Runnable::run;
+
   public GcsSession(Storage gcs) {
     Assert.notNull(gcs, "The GCS client can't be null.");
     this.gcs = gcs;
   }
 
+  /**
+   * Restricts listings to objects whose names start with the given prefix.
+   *
+   * @param prefix the object name prefix, or null to list all objects
+   */
+  public void setPrefix(String prefix) {
+    this.prefix = prefix;
+  }
+
+  /**
+   * Restricts listings to objects whose names match a glob pattern, which Cloud Storage evaluates
+   * on the server.
+   *
+   * @param matchGlob the glob pattern, e.g. {@code *.csv}, or null to list all objects
+   */
+  public void setMatchGlob(String matchGlob) {
+    this.matchGlob = matchGlob;
+  }
+
+  /**
+   * Makes listings start at the object name returned by the supplier, so that objects that sort
+   * before it are not listed at all. The supplier is called for every listing, which lets it track
+   * a high-water mark such as {@link
+   * com.google.cloud.spring.storage.integration.filters.GcsHighWaterMarkFileListFilter#getStartOffset()}.
+   *
+   * @param startOffsetSupplier supplies the inclusive name to start at, or null to list from the
+   *     start
+   */
+  public void setStartOffsetSupplier(Supplier<String> startOffsetSupplier) {
+    this.startOffsetSupplier = startOffsetSupplier;
+  }
+
+  /**
+   * Sets the maximum number of objects fetched per listing request.
+   *
+   * @param pageSize the page size, or 0 to use the Cloud Storage default
+   */
+  public void setPageSize(long pageSize) {
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Sets the executor that runs the requests of {@link #removeAll(List)} and {@link #moveAll(Map)}
+   * concurrently. By default, they run one after the other on the calling thread.
+   *
+   * @param executor the executor
+   */
+  public void setExecutor(Executor executor) {
+    Assert.notNull(executor, "The executor can't be null.");
+    this.executor = executor;
+  }
+
   @Override
   public boolean remove(String path) throws IOException {
     String[] tokens = getBucketAndObjectFromPath(path);
@@ -74,13 +147,37 @@ public class GcsSession implements Session<BlobInfo> {
    */
   @Override
   public BlobInfo[] list(String bucket) throws IOException {
-    Collection<BlobInfo> blobs = new ArrayList<>();
+    return stream(bucket).toArray(BlobInfo[]::new);
+  }
 
-    for (Blob blob : this.gcs.list(bucket).iterateAll()) {
-      blobs.add(blob);
-    }
+  /**
+   * Lists the objects of a bucket lazily, fetching further pages only as the stream is consumed.
+   * Applies the prefix, glob and start offset of this session.
+   *
+   * @param bucket The name of the bucket.
+   * @return a stream of the objects in the bucket
+   */
+  public Stream<BlobInfo> stream(String bucket) {
+    Iterable<Blob> blobs = this.gcs.list(bucket, getListOptions()).iterateAll();
+    return StreamSupport.stream(blobs.spliterator(), false).map(BlobInfo.class::cast);
+  }
 
-    return blobs.toArray(new BlobInfo[blobs.size()]);
+  private Storage.BlobListOption[] getListOptions() {
+    List<Storage.BlobListOption> options = new ArrayList<>();
+    if (this.prefix != null) {
+      options.add(Storage.BlobListOption.prefix(this.prefix));
+    }
+    if (this.matchGlob != null) {
+      options.add(Storage.BlobListOption.matchGlob(this.matchGlob));
+    }
+    String startOffset = this.startOffsetSupplier != null ? this.startOffsetSupplier.get() : null;
+    if (startOffset != null) {
+      options.add(Storage.BlobListOption.startOffset(startOffset));
+    }
+    if (this.pageSize > 0) {
+      options.add(Storage.BlobListOption.pageSize(this.pageSize));
+    }
+    return options.toArray(new Storage.BlobListOption[0]);
   }
 
   @Override
@@ -142,6 +239,114 @@ public class GcsSession implements Session<BlobInfo> {
     this.gcs.delete(source);
   }
 
+  /**
+   * Deletes objects with batch requests of up to 100 deletions each.
+   *
+   * @param paths the paths of the objects, in the form bucket/name
+   * @return the result for each path, in the same order
+   */
+  public List<GcsOperationResult> removeAll(List<String> paths) {
+    List<BlobId> blobIds = paths.stream().map(this::getBlobIdFromPath).toList();
+    List<CompletableFuture<List<GcsOperationResult>>> batches = new ArrayList<>();
+    for (int start = 0; start < paths.size(); start += MAX_BATCH_SIZE) {
+      int end = Math.min(paths.size(), start + MAX_BATCH_SIZE);
+      List<String> batchPaths = paths.subList(start, end);
+      List<BlobId> batchBlobIds = blobIds.subList(start, end);
+      batches.add(
+          CompletableFuture.supplyAsync(
+              () -> deleteBatch(batchPaths, batchBlobIds), this.executor));
+    }
+    return batches.stream().flatMap(batch -> batch.join().stream()).toList();
+  }
+
+  /**
+   * Moves objects by copying them on the server and then deleting the sources with batch
+   * requests. Sources that could not be copied are not deleted. A source that no longer exists
+   * when it is deleted after being copied counts as moved.
+   *
+   * @param moves the paths of the sources mapped to the paths of their targets, in the form
+   *     bucket/name
+   * @return the result for each source, in the iteration order of the map
+   */
+  public List<GcsOperationResult> moveAll(Map<String, String> moves) {
+    List<String> sources = new ArrayList<>(moves.keySet());
+    List<CompletableFuture<RuntimeException>> copies =
+        sources.stream()
+            .map(
+                source ->
+                    CompletableFuture.supplyAsync(
+                        () -> copy(source, moves.get(source)), this.executor))
+            .toList();
+    List<String> copiedSources = new ArrayList<>();
+    List<GcsOperationResult> results = new ArrayList<>();
+    for (int i = 0; i < sources.size(); i++) {
+      RuntimeException failure = copies.get(i).join();
+      if (failure == null) {
+        copiedSources.add(sources.get(i));
+      }
+      results.add(new GcsOperationResult(sources.get(i), false, failure));
+    }
+    Map<String, GcsOperationResult> deletions = new HashMap<>();
+    for (GcsOperationResult deletion : removeAll(copiedSources)) {
+      deletions.put(deletion.path(), deletion);
+    }
+    return results.stream()
+        .map(
+            copy -> {
+              GcsOperationResult deletion = deletions.get(copy.path());
+              if (deletion == null) {
+                return copy;
+              }
+              // A source that was deleted by someone else after it was copied, which the batch
+              // reports as not done without a failure, was still moved.
+              return new GcsOperationResult(
+                  copy.path(), deletion.isSuccessful(), deletion.failure());
+            })
+        .toList();
+  }
+
+  private List<GcsOperationResult> deleteBatch(List<String> paths, List<BlobId> blobIds) {
+    StorageBatch batch = this.gcs.batch();
+    List<StorageBatchResult<Boolean>> deletions = blobIds.stream().map(batch::delete).toList();
+    try {
+      batch.submit();
+    } catch (RuntimeException ex) {
+      return paths.stream().map(path -> new GcsOperationResult(path, false, ex)).toList();
+    }
+    List<GcsOperationResult> results = new ArrayList<>(paths.size());
+    for (int i = 0; i < paths.size(); i++) {
+      try {
+        boolean deleted = Boolean.TRUE.equals(deletions.get(i).get());
+        results.add(new GcsOperationResult(paths.get(i), deleted, null));
+      } catch (StorageException ex) {
+        results.add(new GcsOperationResult(paths.get(i), false, ex));
+      }
+    }
+    return results;
+  }
+
+  private RuntimeException copy(String source, String target) {
+    try {
+      CopyWriter copyWriter =
+          this.gcs.copy(
+              Storage.CopyRequest.of(getBlobIdFromPath(source), getBlobIdFromPath(target)));
+      // Large objects, or copies across locations or storage classes, take several rewrite
+      // requests; each one continues from the rewrite token returned by the previous one.
+      while (!copyWriter.isDone()) {
+        copyWriter.copyChunk();
+      }
+      return null;
+    } catch (RuntimeException ex) {
+      return ex;
+    }
+  }
+
+  private BlobId getBlobIdFromPath(String path) {
+    String[] tokens = getBucketAndObjectFromPath(path);
+    Assert.state(tokens.length == 2, "Path must be in the form of [bucket]/[blob name]: " + path);
+    return BlobId.of(tokens[0], tokens[1]);
+  }
+
   @Override
   public void close() {
     // GCS session doesn't need to be closed.
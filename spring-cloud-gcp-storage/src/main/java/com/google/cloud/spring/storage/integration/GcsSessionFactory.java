@@ -18,6 +18,8 @@ package com.google.cloud.spring.storage.integration;
 
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import org.springframework.integration.file.remote.session.Session;
 import org.springframework.integration.file.remote.session.SessionFactory;
 import org.springframework.integration.file.remote.session.SharedSessionCapable;
@@ -28,14 +30,81 @@ public class GcsSessionFactory implements SessionFactory<BlobInfo>, SharedSessio
 
   private Storage gcs;
 
+  private String prefix;
+
+  private String matchGlob;
+
+  private Supplier<String> startOffsetSupplier;
+
+  private long pageSize;
+
+  private Executor executor;
+
   public GcsSessionFactory(Storage gcs) {
     Assert.notNull(gcs, "The GCS client can't be null.");
     this.gcs = gcs;
   }
 
+  /**
+   * Restricts the listings of created sessions to objects whose names start with a prefix.
+   *
+   * @param prefix the object name prefix, or null to list all objects
+   * @see GcsSession#setPrefix(String)
+   */
+  public void setPrefix(String prefix) {
+    this.prefix = prefix;
+  }
+
+  /**
+   * Restricts the listings of created sessions to objects whose names match a glob pattern.
+   *
+   * @param matchGlob the glob pattern, or null to list all objects
+   * @see GcsSession#setMatchGlob(String)
+   */
+  public void setMatchGlob(String matchGlob) {
+    this.matchGlob = matchGlob;
+  }
+
+  /**
+   * Makes the listings of created sessions start at the object name returned by the supplier.
+   *
+   * @param startOffsetSupplier supplies the inclusive name to start at
+   * @see GcsSession#setStartOffsetSupplier(Supplier)
+   */
+  public void setStartOffsetSupplier(Supplier<String> startOffsetSupplier) {
+    this.startOffsetSupplier = startOffsetSupplier;
+  }
+
+  /**
+   * Sets the maximum number of objects fetched per listing request by created sessions.
+   *
+   * @param pageSize the page size, or 0 to use the Cloud Storage default
+   */
+  public void setPageSize(long pageSize) {
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Sets the executor that created sessions use to run bulk operations concurrently.
+   *
+   * @param executor the executor, or null to run them on the calling thread
+   * @see GcsSession#setExecutor(Executor)
+   */
+  public void setExecutor(Executor executor) {
+    this.executor = executor;
+  }
+
   @Override
   public Session<BlobInfo> getSession() {
-    return new GcsSession(this.gcs);
+    GcsSession session = new GcsSession(this.gcs);
+    session.setPrefix(this.prefix);
+    session.setMatchGlob(this.matchGlob);
+    session.setStartOffsetSupplier(this.startOffsetSupplier);
+    session.setPageSize(this.pageSize);
+    if (this.executor != null) {
+      session.setExecutor(this.executor);
+    }
+    return session;
   }
 
   @Override
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage.integration;
+
+import com.google.cloud.BaseServiceException;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Transfers many objects between Google Cloud Storage and local files concurrently.
+ *
+ * <p>Transfers run on a fixed number of worker threads. Downloads of objects larger than the chunk
+ * size are split into byte ranges that are downloaded in parallel and written to their position in
+ * the target file. A range that fails with a transient error is retried from the last byte that was
+ * written, rather than from its start. Uploads use resumable uploads that send one chunk at a time,
+ * and are retried as a whole.
+ *
+ * <p>Objects are downloaded at the generation of the given {@link BlobInfo}, if it has one, so that
+ * the ranges of an object that is overwritten during the download are not mixed.
+ */
+public class GcsTransferManager implements Closeable {
+
+  private static final Log LOGGER = LogFactory.getLog(GcsTransferManager.class);
+
+  private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+  private static final int DEFAULT_PARALLELISM = 16;
+
+  private static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+  private static final int MIN_UPLOAD_BUFFER_SIZE = 256 * 1024;
+
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+  private static final int HTTP_PRECONDITION_FAILED = 412;
+
+  private final Storage storage;
+
+  private final ExecutorService executor;
+
+  private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+  private int maxAttempts = 3;
+
+  /**
+   * Creates a transfer manager with 16 worker threads.
+   *
+   * @param storage the Google Cloud Storage client
+   */
+  public GcsTransferManager(Storage storage) {
+    this(storage, DEFAULT_PARALLELISM);
+  }
+
+  /**
+   * Creates a transfer manager.
+   *
+   * @param storage the Google Cloud Storage client
+   * @param parallelism the number of transfers, or ranges of a transfer, that run concurrently
+   */
+  public GcsTransferManager(Storage storage, int parallelism) {
+    Assert.notNull(storage, "The GCS client can't be null.");
+    Assert.isTrue(parallelism > 0, "The parallelism must be positive.");
+    this.storage = storage;
+    this.executor =
+        Executors.newFixedThreadPool(
+            parallelism,
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "gcs-transfer-" + THREAD_COUNTER.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Sets the size of the byte ranges that downloads are split into, which is also the size of the
+   * chunks that uploads send per request. Defaults to 8 MiB.
+   *
+   * @param chunkSize the chunk size in bytes
+   */
+  public void setChunkSize(int chunkSize) {
+    Assert.isTrue(chunkSize > 0, "The chunk size must be positive.");
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Sets how often a range or an upload is attempted before it fails. Defaults to 3.
+   *
+   * @param maxAttempts the maximum number of attempts
+   */
+  public void setMaxAttempts(int maxAttempts) {
+    Assert.isTrue(maxAttempts > 0, "The number of attempts must be positive.");
+    this.maxAttempts = maxAttempts;
+  }
+
+  /**
+   * Downloads objects concurrently and waits for all of them. If a download fails, the others are
+   * still completed.
+   *
+   * @param transfers the objects to download, mapped to their target files
+   * @throws IOException the failure of the first failed download, with the others suppressed
+   */
+  public void downloadAll(Map<? extends BlobInfo, Path> transfers) throws IOException {
+    List<CompletableFuture<Void>> downloads = new ArrayList<>(transfers.size());
+    transfers.forEach((blob, target) -> downloads.add(downloadAsync(blob, target)));
+    awaitAll(downloads);
+  }
+
+  /**
+   * Starts downloading an object. The target file is created, or truncated, before this method
+   * returns.
+   *
+   * @param blob the object to download
+   * @param target the file to write the object contents to
+   * @return a future that completes when the object was downloaded
+   */
+  public CompletableFuture<Void> downloadAsync(BlobInfo blob, Path target) {
+    BlobId blobId = BlobId.of(blob.getBucket(), blob.getName(), blob.getGeneration());
+    Long size = blob.getSize();
+    try (RandomAccessFile file = new RandomAccessFile(target.toFile(), "rw")) {
+      file.setLength(size != null ? size : 0);
+    } catch (IOException ex) {
+      return CompletableFuture.failedFuture(ex);
+    }
+    if (size == null) {
+      return CompletableFuture.runAsync(() -> downloadRange(blobId, target, 0, -1), this.executor);
+    }
+    List<CompletableFuture<Void>> ranges = new ArrayList<>();
+    for (long start = 0; start < size; start += this.chunkSize) {
+      long rangeStart = start;
+      long rangeEnd = Math.min(size, start + this.chunkSize);
+      ranges.add(
+          CompletableFuture.runAsync(
+              () -> downloadRange(blobId, target, rangeStart, rangeEnd), this.executor));
+    }
+    return CompletableFuture.allOf(ranges.toArray(new CompletableFuture<?>[0]));
+  }
+
+  /**
+   * Uploads files concurrently and waits for all of them. If an upload fails, the others are still
+   * completed.
+   *
+   * @param transfers the files to upload, mapped to the objects to create
+   * @throws IOException the failure of the first failed upload, with the others suppressed
+   */
+  public void uploadAll(Map<Path, ? extends BlobInfo> transfers) throws IOException {
+    List<CompletableFuture<Void>> uploads = new ArrayList<>(transfers.size());
+    transfers.forEach(
+        (source, blob) ->
+            uploads.add(CompletableFuture.runAsync(() -> upload(source, blob), this.executor)));
+    awaitAll(uploads);
+  }
+
+  /**
+   * Uploads files concurrently, each only if its object does not exist yet, and waits for all of
+   * them. The existence check is a precondition of the upload request, so an object created by
+   * another writer in the meantime is not overwritten. If an upload fails, the others are still
+   * completed.
+   *
+   * @param transfers the files to upload, mapped to the objects to create
+   * @return the objects that already existed and were not uploaded, in the order of the transfers
+   * @throws IOException the failure of the first failed upload, with the others suppressed
+   */
+  public List<BlobInfo> uploadAllIfAbsent(Map<Path, ? extends BlobInfo> transfers)
+      throws IOException {
+    Set<Path> existing = ConcurrentHashMap.newKeySet();
+    List<CompletableFuture<Void>> uploads = new ArrayList<>(transfers.size());
+    transfers.forEach(
+        (source, blob) ->
+            uploads.add(
+                CompletableFuture.runAsync(
+                    () -> {
+                      if (!upload(source, blob, Storage.BlobWriteOption.doesNotExist())) {
+                        existing.add(source);
+                      }
+                    },
+                    this.executor)));
+    awaitAll(uploads);
+    List<BlobInfo> skipped = new ArrayList<>(existing.size());
+    transfers.forEach(
+        (source, blob) -> {
+          if (existing.contains(source)) {
+            skipped.add(blob);
+          }
+        });
+    return skipped;
+  }
+
+  /** Stops the worker threads, interrupting running transfers. */
+  @Override
+  public void close() {
+    this.executor.shutdownNow();
+  }
+
+  /**
+   * Waits for a transfer started by this manager.
+   *
+   * @param transfer the future of the transfer
+   * @throws IOException if the transfer failed, or the thread was interrupted
+   */
+  public static void await(CompletableFuture<?> transfer) throws IOException {
+    try {
+      transfer.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a transfer.");
+    } catch (ExecutionException ex) {
+      throw asIoException(ex.getCause());
+    }
+  }
+
+  private void downloadRange(BlobId blobId, Path target, long start, long end) {
+    long position = start;
+    ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+    try (FileChannel file = FileChannel.open(target, StandardOpenOption.WRITE)) {
+      for (int attempt = 1; ; attempt++) {
+        try (ReadChannel reader = this.storage.reader(blobId)) {
+          reader.seek(position);
+          if (end >= 0) {
+            reader.limit(end);
+          }
+          while (end < 0 || position < end) {
+            buffer.clear();
+            if (reader.read(buffer) < 0) {
+              if (end >= 0) {
+                throw new EOFException("Unexpected end of " + blobId + " at byte " + position);
+              }
+              return;
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+              position += file.write(buffer, position);
+            }
+          }
+          return;
+        } catch (IOException | BaseServiceException ex) {
+          if (attempt >= this.maxAttempts || !isRetryable(ex)) {
+            throw ex;
+          }
+          LOGGER.debug("Resuming download of " + blobId + " at byte " + position, ex);
+        }
+      }
+    } catch (IOException ex) {
+      throw new CompletionException(ex);
+    }
+  }
+
+  /**
+   * Uploads a file, retrying transient failures.
+   *
+   * @return false if the upload was skipped because a precondition on the object failed
+   */
+  private boolean upload(Path source, BlobInfo blob, Storage.BlobWriteOption... options) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        long size = source.toFile().length();
+        // Small files do not need a buffer of the full chunk size.
+        int bufferSize = (int) Math.max(MIN_UPLOAD_BUFFER_SIZE, Math.min(this.chunkSize, size));
+        this.storage.createFrom(blob, source, bufferSize, options);
+        return true;
+      } catch (IOException | BaseServiceException ex) {
+        if (options.length > 0
+            && ex instanceof StorageException storageException
+            && storageException.getCode() == HTTP_PRECONDITION_FAILED) {
+          return false;
+        }
+        if (attempt >= this.maxAttempts || !isRetryable(ex)) {
+          throw new CompletionException(ex);
+        }
+        LOGGER.debug("Retrying upload of " + source + " to " + blob.getBlobId(), ex);
+      }
+    }
+  }
+
+  private static boolean isRetryable(Exception ex) {
+    if (ex instanceof BaseServiceException serviceException) {
+      return serviceException.isRetryable();
+    }
+    return !(ex instanceof EOFException);
+  }
+
+  private static void awaitAll(List<CompletableFuture<Void>> transfers) throws IOException {
+    IOException failure = null;
+    for (CompletableFuture<Void> transfer : transfers) {
+      try {
+        await(transfer);
+      } catch (InterruptedIOException ex) {
+        transfers.forEach(future -> future.cancel(true));
+        throw ex;
+      } catch (IOException ex) {
+        if (failure == null) {
+          failure = ex;
+        } else {
+          failure.addSuppressed(ex);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private static IOException asIoException(Throwable ex) {
+    Throwable cause =
+        ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    return cause instanceof IOException ioException
+        ? ioException
+        : new IOException("Transfer failed.", cause);
+  }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage.integration.filters;
+
+import com.google.cloud.storage.BlobInfo;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import org.springframework.integration.file.filters.ResettableFileListFilter;
+import org.springframework.integration.file.filters.ReversibleFileListFilter;
+import org.springframework.integration.metadata.ConcurrentMetadataStore;
+import org.springframework.util.Assert;
+
+/**
+ * An accept-once filter that remembers objects by (bucket, name, generation) in a table of fixed
+ * size, so that its memory use does not grow with the number of objects in a bucket.
+ *
+ * <p>Each object takes 16 bytes: a 64-bit fingerprint and the time it was accepted. Lookups scan a
+ * single group of 8 entries. Once a group is full, its oldest entry is evicted, and entries expire
+ * after {@link #setTimeToLive(Duration)}; evicted or expired objects are accepted again if they are
+ * still listed. Since fingerprints are hashes, two objects may collide, in which case one of them
+ * is rejected; with 64-bit fingerprints, this is very unlikely.
+ *
+ * <p>The table can be kept in a memory-mapped file, which keeps it off the heap and preserves it
+ * across restarts. With {@link #setMetadataStore(ConcurrentMetadataStore, String)}, the table acts
+ * as a local pre-check in front of a shared store: only objects that are not in the table are
+ * looked up in the store, which then decides whether they are accepted.
+ */
+public class GcsCompactAcceptOnceFileListFilter
+    implements ReversibleFileListFilter<BlobInfo>, ResettableFileListFilter<BlobInfo> {
+
+  private static final int GROUP_SIZE = 8;
+
+  private static final int ENTRY_BYTES = 16;
+
+  private static final int HEADER_BYTES = 16;
+
+  private static final long MAGIC = 0x4743534143434550L;
+
+  private final ByteBuffer table;
+
+  private final int groupCount;
+
+  private final LongSupplier clock;
+
+  private final Object monitor = new Object();
+
+  private long ttlMillis = Long.MAX_VALUE;
+
+  private ConcurrentMetadataStore store;
+
+  private String storePrefix;
+
+  /**
+   * Creates a filter whose table is kept on the heap.
+   *
+   * @param maximumSize the number of objects the filter remembers at least
+   */
+  public GcsCompactAcceptOnceFileListFilter(int maximumSize) {
+    this(ByteBuffer.allocate(tableBytes(groupCount(maximumSize))), System::currentTimeMillis);
+  }
+
+  /**
+   * Creates a filter whose table is kept in a memory-mapped file. If the file exists, the objects
+   * it remembers are accepted only once more after their time-to-live.
+   *
+   * @param maximumSize the number of objects the filter remembers at least
+   * @param file the file of the table; it is created if it does not exist
+   */
+  public GcsCompactAcceptOnceFileListFilter(int maximumSize, Path file) {
+    this(mapFile(file, tableBytes(groupCount(maximumSize))), System::currentTimeMillis);
+  }
+
+  GcsCompactAcceptOnceFileListFilter(ByteBuffer table, LongSupplier clock) {
+    this.table = table;
+    this.groupCount = (table.capacity() - HEADER_BYTES) / (GROUP_SIZE * ENTRY_BYTES);
+    this.clock = clock;
+    if (table.getLong(0) == 0) {
+      table.putLong(0, MAGIC);
+      table.putLong(8, this.groupCount);
+    } else {
+      Assert.state(
+          table.getLong(0) == MAGIC && table.getLong(8) == this.groupCount,
+          "The file was created for a filter of a different size.");
+    }
+  }
+
+  /**
+   * Sets how long accepted objects are remembered. By default, they are remembered until they are
+   * evicted to make room for others.
+   *
+   * @param timeToLive how long objects are remembered
+   */
+  public void setTimeToLive(Duration timeToLive) {
+    Assert.isTrue(
+        timeToLive != null && !timeToLive.isNegative() && !timeToLive.isZero(),
+        "The time-to-live must be positive.");
+    this.ttlMillis = timeToLive.toMillis();
+  }
+
+  /**
+   * Sets a store that is consulted for objects that are not in the local table, e.g. to share the
+   * accepted objects with other instances. The store keeps the last accepted generation of each
+   * object and is authoritative, so its entries are neither evicted nor expired by this filter.
+   *
+   * @param store the shared store
+   * @param prefix the prefix of the keys in the store
+   */
+  public void setMetadataStore(ConcurrentMetadataStore store, String prefix) {
+    Assert.notNull(store, "The metadata store can't be null.");
+    Assert.notNull(prefix, "The prefix can't be null.");
+    this.store = store;
+    this.storePrefix = prefix;
+  }
+
+  @Override
+  public List<BlobInfo> filterFiles(BlobInfo[] files) {
+    List<BlobInfo> accepted = new ArrayList<>();
+    for (BlobInfo file : files) {
+      if (file != null && accept(file)) {
+        accepted.add(file);
+      }
+    }
+    return accepted;
+  }
+
+  @Override
+  public boolean accept(BlobInfo file) {
+    if (file.isDirectory()) {
+      return false;
+    }
+    long fingerprint = fingerprint(file);
+    synchronized (this.monitor) {
+      long now = this.clock.getAsLong();
+      if (find(fingerprint, now) >= 0) {
+        return false;
+      }
+      if (this.store == null) {
+        insert(fingerprint, now);
+        return true;
+      }
+    }
+    // The store may be remote, so it is not called while holding the lock; it decides atomically
+    // which of concurrent callers accepts the object.
+    boolean accepted = acceptInStore(file);
+    synchronized (this.monitor) {
+      insert(fingerprint, this.clock.getAsLong());
+    }
+    return accepted;
+  }
+
+  @Override
+  public boolean supportsSingleFileFiltering() {
+    return true;
+  }
+
+  @Override
+  public void rollback(BlobInfo file, List<BlobInfo> files) {
+    boolean rollingBack = false;
+    for (BlobInfo candidate : files) {
+      rollingBack |= candidate.equals(file);
+      if (rollingBack) {
+        remove(candidate);
+      }
+    }
+  }
+
+  @Override
+  public boolean remove(BlobInfo file) {
+    boolean removed;
+    synchronized (this.monitor) {
+      int entry = find(fingerprint(file), this.clock.getAsLong());
+      removed = entry >= 0;
+      if (removed) {
+        this.table.putLong(entry, 0);
+        this.table.putLong(entry + 8, 0);
+      }
+    }
+    if (this.store != null) {
+      removed |= this.store.remove(storeKey(file)) != null;
+    }
+    return removed;
+  }
+
+  /**
+   * Writes the table to its file, if it is memory-mapped. Otherwise, the operating system writes it
+   * eventually.
+   */
+  public void flush() {
+    if (this.table instanceof MappedByteBuffer mappedTable) {
+      synchronized (this.monitor) {
+        mappedTable.force();
+      }
+    }
+  }
+
+  private boolean acceptInStore(BlobInfo file) {
+    String key = storeKey(file);
+    String generation = String.valueOf(file.getGeneration());
+    String previous = this.store.putIfAbsent(key, generation);
+    return previous == null
+        || (!previous.equals(generation) && this.store.replace(key, previous, generation));
+  }
+
+  private String storeKey(BlobInfo file) {
+    return this.storePrefix + file.getBucket() + "/" + file.getName();
+  }
+
+  /** Returns the offset of the unexpired entry with the fingerprint, or -1 if there is none. */
+  private int find(long fingerprint, long now) {
+    int group = groupOffset(fingerprint);
+    for (int entry = group; entry < group + GROUP_SIZE * ENTRY_BYTES; entry += ENTRY_BYTES) {
+      if (this.table.getLong(entry) == fingerprint && !isExpired(entry, now)) {
+        return entry;
+      }
+    }
+    return -1;
+  }
+
+  private void insert(long fingerprint, long now) {
+    int group = groupOffset(fingerprint);
+    int target = -1;
+    long oldest = Long.MAX_VALUE;
+    for (int entry = group; entry < group + GROUP_SIZE * ENTRY_BYTES; entry += ENTRY_BYTES) {
+      long existing = this.table.getLong(entry);
+      if (existing == fingerprint || existing == 0 || isExpired(entry, now)) {
+        target = entry;
+        break;
+      }
+      long acceptedAt = this.table.getLong(entry + 8);
+      if (acceptedAt < oldest) {
+        oldest = acceptedAt;
+        target = entry;
+      }
+    }
+    this.table.putLong(target, fingerprint);
+    this.table.putLong(target + 8, now);
+  }
+
+  private boolean isExpired(int entry, long now) {
+    return now - this.table.getLong(entry + 8) >= this.ttlMillis;
+  }
+
+  private int groupOffset(long fingerprint) {
+    int group = (int) Long.remainderUnsigned(fingerprint, this.groupCount);
+    return HEADER_BYTES + group * GROUP_SIZE * ENTRY_BYTES;
+  }
+
+  static long fingerprint(BlobInfo file) {
+    // 64-bit FNV-1a over the object ID, finished with the MurmurHash3 mixer to spread the bits.
+    long hash = 0xcbf29ce484222325L;
+    hash = hash(hash, file.getBucket());
+    hash = hash(hash, "/");
+    hash = hash(hash, file.getName());
+    long generation = file.getGeneration() != null ? file.getGeneration() : -1;
+    hash = (hash ^ generation) * 0x100000001b3L;
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    // Zero marks empty entries.
+    return hash != 0 ? hash : 1;
+  }
+
+  private static long hash(long hash, String value) {
+    long result = hash;
+    for (int i = 0; i < value.length(); i++) {
+      result = (result ^ value.charAt(i)) * 0x100000001b3L;
+    }
+    return result;
+  }
+
+  private static int groupCount(int maximumSize) {
+    Assert.isTrue(maximumSize > 0, "The maximum size must be positive.");
+    return (maximumSize + GROUP_SIZE - 1) / GROUP_SIZE;
+  }
+
+  private static int tableBytes(int groupCount) {
+    long bytes = HEADER_BYTES + (long) groupCount * GROUP_SIZE * ENTRY_BYTES;
+    Assert.isTrue(bytes <= Integer.MAX_VALUE, "The maximum size is too large.");
+    return (int) bytes;
+  }
+
+  private static MappedByteBuffer mapFile(Path file, int size) {
+    Assert.notNull(file, "The file can't be null.");
+    try (FileChannel channel =
+        FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+      long existingSize = channel.size();
+      Assert.state(
+          existingSize == 0 || existingSize == size,
+          "The file was created for a filter of a different size.");
+      // The mapping stays valid after the channel is closed.
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to map " + file, ex);
+    }
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage.integration.filters;
+
+import com.google.cloud.storage.BlobInfo;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import org.springframework.integration.file.filters.ResettableFileListFilter;
+import org.springframework.integration.file.filters.ReversibleFileListFilter;
+import org.springframework.integration.metadata.MetadataStore;
+import org.springframework.util.Assert;
+
+/**
+ * A filter that only accepts objects that sort after a persisted high-water mark, and then moves
+ * the mark past them. Unlike an accept-once filter, it keeps a single entry in the {@link
+ * MetadataStore}, no matter how many objects were processed.
+ *
+ * <p>With {@link Ordering#NAME}, objects are expected to be created in lexicographic name order,
+ * e.g. with time-stamped names. The mark can then also be passed to {@link
+ * com.google.cloud.spring.storage.integration.GcsSessionFactory#setStartOffsetSupplier} via {@link
+ * #getStartOffset()}, so that listings skip already processed objects on the server. With {@link
+ * Ordering#UPDATE_TIME}, objects are accepted when they were updated after the last accepted one;
+ * Cloud Storage still lists all objects, but only new ones reach the filters that follow.
+ *
+ * <p>When processing of an accepted object fails, {@link #rollback(BlobInfo, List)} moves the mark
+ * back so that the object is accepted again by the next poll.
+ */
+public class GcsHighWaterMarkFileListFilter
+    implements ReversibleFileListFilter<BlobInfo>, ResettableFileListFilter<BlobInfo> {
+
+  /** How objects are ordered relative to the high-water mark. */
+  public enum Ordering {
+    /** Orders objects by name. */
+    NAME,
+
+    /** Orders objects by update time, then by name. */
+    UPDATE_TIME
+  }
+
+  private final MetadataStore store;
+
+  private final String key;
+
+  private final Ordering ordering;
+
+  private final Object monitor = new Object();
+
+  /** The marks of the objects accepted since the last listing, to roll back to. */
+  private final TreeSet<String> acceptedMarks = new TreeSet<>();
+
+  private String markBeforeListing;
+
+  /**
+   * Creates a filter that stores its high-water mark under the given key.
+   *
+   * @param store the store for the high-water mark
+   * @param key the key of the high-water mark in the store
+   * @param ordering how objects are ordered relative to the mark
+   */
+  public GcsHighWaterMarkFileListFilter(MetadataStore store, String key, Ordering ordering) {
+    Assert.notNull(store, "The metadata store can't be null.");
+    Assert.hasText(key, "The key can't be empty.");
+    Assert.notNull(ordering, "The ordering can't be null.");
+    this.store = store;
+    this.key = key;
+    this.ordering = ordering;
+  }
+
+  @Override
+  public List<BlobInfo> filterFiles(BlobInfo[] files) {
+    synchronized (this.monitor) {
+      this.markBeforeListing = getHighWaterMark();
+      this.acceptedMarks.clear();
+      List<BlobInfo> accepted = new ArrayList<>();
+      for (BlobInfo file : files) {
+        if (file == null || file.isDirectory()) {
+          continue;
+        }
+        String mark = markOf(file);
+        if (this.markBeforeListing == null || mark.compareTo(this.markBeforeListing) > 0) {
+          accepted.add(file);
+          this.acceptedMarks.add(mark);
+        }
+      }
+      if (!this.acceptedMarks.isEmpty()) {
+        this.store.put(this.key, this.acceptedMarks.last());
+      }
+      return accepted;
+    }
+  }
+
+  /**
+   * Moves the high-water mark back so that the given objects are accepted again. Objects that were
+   * accepted after the mark and sort before the first of them are not.
+   */
+  @Override
+  public void rollback(BlobInfo file, List<BlobInfo> files) {
+    synchronized (this.monitor) {
+      String lowest = markOf(file);
+      for (BlobInfo rolledBack : files) {
+        String mark = markOf(rolledBack);
+        if (mark.compareTo(lowest) < 0) {
+          lowest = mark;
+        }
+      }
+      String newMark = this.acceptedMarks.lower(lowest);
+      if (newMark == null) {
+        newMark = this.markBeforeListing;
+      }
+      this.acceptedMarks.tailSet(lowest, true).clear();
+      String highWaterMark = getHighWaterMark();
+      if (highWaterMark != null && highWaterMark.compareTo(lowest) >= 0) {
+        if (newMark == null) {
+          this.store.remove(this.key);
+        } else {
+          this.store.put(this.key, newMark);
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean remove(BlobInfo file) {
+    synchronized (this.monitor) {
+      String before = getHighWaterMark();
+      rollback(file, List.of(file));
+      String after = getHighWaterMark();
+      return before != null && !before.equals(after);
+    }
+  }
+
+  /**
+   * Returns the current high-water mark.
+   *
+   * @return the mark of the last accepted object, or null if no object was accepted yet
+   */
+  public String getHighWaterMark() {
+    return this.store.get(this.key);
+  }
+
+  /**
+   * Returns the object name to start listing at. The start offset is inclusive, so the object at
+   * the mark is listed again and rejected by this filter.
+   *
+   * @return the high-water mark with {@link Ordering#NAME}, null otherwise
+   */
+  public String getStartOffset() {
+    return this.ordering == Ordering.NAME ? getHighWaterMark() : null;
+  }
+
+  private String markOf(BlobInfo file) {
+    if (this.ordering == Ordering.NAME) {
+      return file.getName();
+    }
+    long updateTime =
+        file.getUpdateTimeOffsetDateTime() != null
+            ? file.getUpdateTimeOffsetDateTime().toInstant().toEpochMilli()
+            : 0;
+    // Zero-padding makes the string order of the marks match the order of the update times.
+    return String.format("%020d/%s", updateTime, file.getName());
+  }
+}
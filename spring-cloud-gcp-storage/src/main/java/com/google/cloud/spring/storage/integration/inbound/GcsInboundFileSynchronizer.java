@@ -16,23 +16,119 @@
 
 package com.google.cloud.spring.storage.integration.inbound;
 
+import com.google.cloud.spring.storage.integration.GcsSession;
 import com.google.cloud.spring.storage.integration.GcsSessionFactory;
+import com.google.cloud.spring.storage.integration.GcsTransferManager;
 import com.google.cloud.spring.storage.integration.aot.StorageIntegrationRuntimeHint;
 import com.google.cloud.spring.storage.integration.filters.GcsPersistentAcceptOnceFileListFilter;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.integration.file.filters.FileListFilter;
+import org.springframework.integration.file.filters.ResettableFileListFilter;
+import org.springframework.integration.file.filters.ReversibleFileListFilter;
+import org.springframework.integration.file.remote.session.Session;
 import org.springframework.integration.file.remote.synchronizer.AbstractInboundFileSynchronizer;
 import org.springframework.integration.metadata.SimpleMetadataStore;
+import org.springframework.util.Assert;
 
-/** An inbound file synchronizer for Google Cloud Storage. */
+/**
+ * An inbound file synchronizer for Google Cloud Storage.
+ *
+ * <p>With {@link #setTransferManager(GcsTransferManager)}, all files accepted by a synchronization
+ * are downloaded concurrently as soon as the first of them is copied, instead of one after the
+ * other.
+ */
 @ImportRuntimeHints(StorageIntegrationRuntimeHint.class)
 public class GcsInboundFileSynchronizer extends AbstractInboundFileSynchronizer<BlobInfo> {
 
+  /** The files accepted by the filter that were not prefetched yet. */
+  private final List<BlobInfo> acceptedFiles = new ArrayList<>();
+
+  /** The prefetched files of the current synchronization by bucket and object name. */
+  private final Map<String, Prefetch> prefetches = new HashMap<>();
+
+  private GcsTransferManager transferManager;
+
   public GcsInboundFileSynchronizer(Storage gcs) {
-    super(new GcsSessionFactory(gcs));
+    this(new GcsSessionFactory(gcs));
+  }
+
+  /**
+   * Creates a synchronizer that lists and reads objects through the given session factory, e.g.
+   * one that restricts listings with a prefix, glob pattern or start offset.
+   *
+   * @param sessionFactory the session factory
+   */
+  public GcsInboundFileSynchronizer(GcsSessionFactory sessionFactory) {
+    super(sessionFactory);
     doSetFilter(
-        new GcsPersistentAcceptOnceFileListFilter(new SimpleMetadataStore(), "gcsMessageSource"));
+        new PrefetchingFileListFilter(
+            new GcsPersistentAcceptOnceFileListFilter(
+                new SimpleMetadataStore(), "gcsMessageSource")));
+  }
+
+  /**
+   * Sets the transfer manager that downloads the accepted files of a synchronization
+   * concurrently. The files are first downloaded to temporary files in the local directory.
+   *
+   * @param transferManager the transfer manager, or null to download files one at a time
+   */
+  public void setTransferManager(GcsTransferManager transferManager) {
+    this.transferManager = transferManager;
+  }
+
+  @Override
+  public void setFilter(FileListFilter<BlobInfo> filter) {
+    super.setFilter(filter != null ? new PrefetchingFileListFilter(filter) : null);
+  }
+
+  @Override
+  public void synchronizeToLocalDirectory(File localDirectory, int maxFetchSize) {
+    try {
+      super.synchronizeToLocalDirectory(localDirectory, maxFetchSize);
+    } finally {
+      synchronized (this.acceptedFiles) {
+        this.acceptedFiles.clear();
+        // Files that were not copied, e.g. because of a failure, are discarded.
+        this.prefetches.values().forEach(Prefetch::discard);
+        this.prefetches.clear();
+      }
+    }
+  }
+
+  @Override
+  protected boolean copyFileToLocalDirectory(
+      String remoteDirectoryPath,
+      EvaluationContext localFileEvaluationContext,
+      BlobInfo remoteFile,
+      File localDirectory,
+      Session<BlobInfo> session)
+      throws IOException {
+    if (this.transferManager == null || !(session instanceof GcsSession)) {
+      return super.copyFileToLocalDirectory(
+          remoteDirectoryPath, localFileEvaluationContext, remoteFile, localDirectory, session);
+    }
+    prefetchAcceptedFiles(localDirectory);
+    return super.copyFileToLocalDirectory(
+        remoteDirectoryPath,
+        localFileEvaluationContext,
+        remoteFile,
+        localDirectory,
+        new PrefetchedGcsSession((Storage) session.getClientInstance()));
   }
 
   @Override
@@ -54,4 +150,137 @@ public class GcsInboundFileSynchronizer extends AbstractInboundFileSynchronizer<
   protected String protocol() {
     return "gs";
   }
+
+  private void prefetchAcceptedFiles(File localDirectory) throws IOException {
+    synchronized (this.acceptedFiles) {
+      for (BlobInfo file : this.acceptedFiles) {
+        // The temporary file suffix keeps the local directory scanner from picking the file up.
+        Path target =
+            Files.createTempFile(localDirectory.toPath(), "gcs-", getTemporaryFileSuffix());
+        this.prefetches.put(
+            file.getBucket() + "/" + file.getName(),
+            new Prefetch(target, this.transferManager.downloadAsync(file, target)));
+      }
+      this.acceptedFiles.clear();
+    }
+  }
+
+  private Prefetch takePrefetch(String path) {
+    synchronized (this.acceptedFiles) {
+      return this.prefetches.remove(path);
+    }
+  }
+
+  private record Prefetch(Path file, CompletableFuture<Void> download) {
+
+    void discard() {
+      this.download.cancel(true);
+      try {
+        Files.deleteIfExists(this.file);
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+  }
+
+  /** Serves reads of prefetched files from their temporary copy. */
+  private final class PrefetchedGcsSession extends GcsSession {
+
+    PrefetchedGcsSession(Storage gcs) {
+      super(gcs);
+    }
+
+    @Override
+    public void read(String source, OutputStream outputStream) throws IOException {
+      Prefetch prefetch = takePrefetch(source);
+      if (prefetch == null) {
+        super.read(source, outputStream);
+        return;
+      }
+      try (OutputStream os = outputStream) {
+        GcsTransferManager.await(prefetch.download());
+        Files.copy(prefetch.file(), os);
+      } finally {
+        Files.deleteIfExists(prefetch.file());
+      }
+    }
+  }
+
+  /**
+   * Records the files accepted by the filter, so that they can be prefetched. Closing it closes the
+   * filter, e.g. to flush a persistent metadata store when the synchronizer is closed.
+   */
+  private final class PrefetchingFileListFilter
+      implements ReversibleFileListFilter<BlobInfo>, ResettableFileListFilter<BlobInfo>, Closeable {
+
+    private final FileListFilter<BlobInfo> delegate;
+
+    PrefetchingFileListFilter(FileListFilter<BlobInfo> delegate) {
+      Assert.notNull(delegate, "The filter can't be null.");
+      this.delegate = delegate;
+    }
+
+    @Override
+    public List<BlobInfo> filterFiles(BlobInfo[] files) {
+      return record(this.delegate.filterFiles(files));
+    }
+
+    @Override
+    public boolean accept(BlobInfo file) {
+      boolean accepted = this.delegate.accept(file);
+      if (accepted) {
+        record(List.of(file));
+      }
+      return accepted;
+    }
+
+    @Override
+    public boolean supportsSingleFileFiltering() {
+      // Filtering one file at a time interleaves accepting and copying, so that only a single
+      // file would be prefetched at once; the whole listing is filtered first instead.
+      return GcsInboundFileSynchronizer.this.transferManager == null
+          && this.delegate.supportsSingleFileFiltering();
+    }
+
+    @Override
+    public boolean isForRecursion() {
+      return this.delegate.isForRecursion();
+    }
+
+    @Override
+    public void rollback(BlobInfo file, List<BlobInfo> files) {
+      if (this.delegate instanceof ReversibleFileListFilter<BlobInfo> reversibleFilter) {
+        reversibleFilter.rollback(file, files);
+      }
+      synchronized (GcsInboundFileSynchronizer.this.acceptedFiles) {
+        int index = files.indexOf(file);
+        if (index >= 0) {
+          GcsInboundFileSynchronizer.this.acceptedFiles.removeAll(
+              files.subList(index, files.size()));
+        }
+      }
+    }
+
+    @Override
+    public boolean remove(BlobInfo file) {
+      return this.delegate instanceof ResettableFileListFilter<BlobInfo> resettableFilter
+          && resettableFilter.remove(file);
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (this.delegate instanceof Closeable closeableFilter) {
+        closeableFilter.close();
+      }
+    }
+
+    private List<BlobInfo> record(List<BlobInfo> accepted) {
+      if (GcsInboundFileSynchronizer.this.transferManager != null) {
+        synchronized (GcsInboundFileSynchronizer.this.acceptedFiles) {
+          GcsInboundFileSynchronizer.this.acceptedFiles.addAll(accepted);
+        }
+      }
+      return accepted;
+    }
+  }
 }
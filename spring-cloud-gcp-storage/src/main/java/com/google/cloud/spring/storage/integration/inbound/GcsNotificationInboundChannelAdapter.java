@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage.integration.inbound;
+
+import com.google.cloud.pubsub.v1.Subscriber;
+import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberOperations;
+import com.google.cloud.spring.pubsub.support.BasicAcknowledgeablePubsubMessage;
+import com.google.cloud.spring.storage.integration.GcsFileInfo;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.integration.endpoint.MessageProducerSupport;
+import org.springframework.integration.file.FileHeaders;
+import org.springframework.integration.file.filters.AbstractPersistentAcceptOnceFileListFilter;
+import org.springframework.integration.file.filters.FileListFilter;
+import org.springframework.integration.file.filters.ResettableFileListFilter;
+import org.springframework.integration.metadata.ConcurrentMetadataStore;
+import org.springframework.integration.metadata.SimpleMetadataStore;
+import org.springframework.integration.support.AbstractIntegrationMessageBuilder;
+import org.springframework.util.Assert;
+
+/**
+ * An event-driven inbound channel adapter that emits a message for every object created in a
+ * Google Cloud Storage bucket, as announced by {@code OBJECT_FINALIZE} notifications published to
+ * Pub/Sub.
+ *
+ * <p>The {@link BlobInfo} of a new object is built from the notification attributes, without
+ * fetching the object metadata. With {@link #setStreamContent(boolean)}, the payload is instead an
+ * {@link InputStream} that reads the notified generation of the object. The notification is only
+ * acknowledged once the message was sent, so a failure in a synchronous downstream flow makes
+ * Pub/Sub redeliver it.
+ *
+ * <p>Since notifications can be lost or disabled, the adapter can also list the bucket
+ * periodically with {@link #setReconciliationInterval(Duration)}. Objects are passed through a
+ * filter that is shared by both paths, which by default accepts every generation of an object
+ * once.
+ */
+public class GcsNotificationInboundChannelAdapter extends MessageProducerSupport {
+
+  /** The Pub/Sub attribute with the type of a Cloud Storage notification. */
+  public static final String EVENT_TYPE_ATTRIBUTE = "eventType";
+
+  /** The Pub/Sub attribute with the bucket of the notified object. */
+  public static final String BUCKET_ID_ATTRIBUTE = "bucketId";
+
+  /** The Pub/Sub attribute with the name of the notified object. */
+  public static final String OBJECT_ID_ATTRIBUTE = "objectId";
+
+  /** The Pub/Sub attribute with the generation of the notified object. */
+  public static final String OBJECT_GENERATION_ATTRIBUTE = "objectGeneration";
+
+  /** The notification event type of a newly created object. */
+  public static final String OBJECT_FINALIZE_EVENT = "OBJECT_FINALIZE";
+
+  private static final Log LOGGER = LogFactory.getLog(GcsNotificationInboundChannelAdapter.class);
+
+  private final PubSubSubscriberOperations subscriberOperations;
+
+  private final String subscription;
+
+  private final Storage storage;
+
+  private FileListFilter<BlobInfo> filter =
+      new GenerationAcceptOnceFileListFilter(
+          new SimpleMetadataStore(), "gcsNotificationInboundChannelAdapter");
+
+  private boolean streamContent;
+
+  private String reconciliationBucket;
+
+  private String reconciliationPrefix;
+
+  private Duration reconciliationInterval;
+
+  private Subscriber subscriber;
+
+  private ScheduledFuture<?> reconciliationTask;
+
+  /**
+   * Creates an adapter that consumes the object notifications of a Pub/Sub subscription.
+   *
+   * @param subscriberOperations the Pub/Sub subscriber operations
+   * @param subscription the subscription that receives the Cloud Storage notifications
+   * @param storage the Cloud Storage client used to read object contents and reconcile listings
+   */
+  public GcsNotificationInboundChannelAdapter(
+      PubSubSubscriberOperations subscriberOperations, String subscription, Storage storage) {
+    Assert.notNull(subscriberOperations, "Pub/Sub subscriber operations can't be null.");
+    Assert.hasText(subscription, "Pub/Sub subscription name can't be empty.");
+    Assert.notNull(storage, "The GCS client can't be null.");
+    this.subscriberOperations = subscriberOperations;
+    this.subscription = subscription;
+    this.storage = storage;
+  }
+
+  /**
+   * Sets the filter that decides which objects are emitted. It should be idempotent, since Pub/Sub
+   * may redeliver notifications and reconciliation lists objects again.
+   *
+   * @param filter the filter; if it is a {@link ResettableFileListFilter}, objects are removed from
+   *     it when their message cannot be sent
+   */
+  public void setFilter(FileListFilter<BlobInfo> filter) {
+    Assert.notNull(filter, "The filter can't be null.");
+    Assert.isTrue(filter.supportsSingleFileFiltering(), "The filter must accept single files.");
+    this.filter = filter;
+  }
+
+  /**
+   * Sets whether messages carry the object contents as an {@link InputStream} instead of its
+   * {@link BlobInfo}. The stream is closed when the message was sent, so it has to be consumed
+   * synchronously.
+   *
+   * @param streamContent true to emit the object contents
+   */
+  public void setStreamContent(boolean streamContent) {
+    this.streamContent = streamContent;
+  }
+
+  /**
+   * Sets the bucket that is listed to find objects whose notification was missed.
+   *
+   * @param reconciliationBucket the bucket
+   */
+  public void setReconciliationBucket(String reconciliationBucket) {
+    this.reconciliationBucket = reconciliationBucket;
+  }
+
+  /**
+   * Restricts reconciliation listings to objects whose names start with the prefix.
+   *
+   * @param reconciliationPrefix the object name prefix
+   */
+  public void setReconciliationPrefix(String reconciliationPrefix) {
+    this.reconciliationPrefix = reconciliationPrefix;
+  }
+
+  /**
+   * Sets how often the reconciliation bucket is listed.
+   *
+   * @param reconciliationInterval the delay between listings, or null to only rely on
+   *     notifications
+   */
+  public void setReconciliationInterval(Duration reconciliationInterval) {
+    this.reconciliationInterval = reconciliationInterval;
+  }
+
+  @Override
+  public String getComponentType() {
+    return "gcp:gcs-inbound-notification-channel-adapter";
+  }
+
+  @Override
+  protected void onInit() {
+    super.onInit();
+    Assert.state(
+        this.reconciliationInterval == null || this.reconciliationBucket != null,
+        "A reconciliation bucket is required when a reconciliation interval is set.");
+  }
+
+  @Override
+  protected void doStart() {
+    super.doStart();
+    this.subscriber = this.subscriberOperations.subscribe(this.subscription, this::consume);
+    if (this.reconciliationInterval != null) {
+      this.reconciliationTask =
+          getTaskScheduler().scheduleWithFixedDelay(this::reconcile, this.reconciliationInterval);
+    }
+  }
+
+  @Override
+  protected void doStop() {
+    if (this.reconciliationTask != null) {
+      this.reconciliationTask.cancel(false);
+      this.reconciliationTask = null;
+    }
+    if (this.subscriber != null) {
+      this.subscriber.stopAsync();
+      this.subscriber = null;
+    }
+    super.doStop();
+  }
+
+  void consume(BasicAcknowledgeablePubsubMessage message) {
+    Map<String, String> attributes = message.getPubsubMessage().getAttributesMap();
+    if (!OBJECT_FINALIZE_EVENT.equals(attributes.get(EVENT_TYPE_ATTRIBUTE))) {
+      message.ack();
+      return;
+    }
+    BlobInfo blobInfo = toBlobInfo(attributes);
+    try {
+      if (this.filter.accept(blobInfo)) {
+        emit(blobInfo);
+      }
+      message.ack();
+    } catch (RuntimeException | IOException ex) {
+      LOGGER.warn("Failed to process new object " + blobInfo.getBlobId() + "; nacking.", ex);
+      message.nack();
+    }
+  }
+
+  void reconcile() {
+    Storage.BlobListOption[] options =
+        this.reconciliationPrefix != null
+            ? new Storage.BlobListOption[] {
+              Storage.BlobListOption.prefix(this.reconciliationPrefix)
+            }
+            : new Storage.BlobListOption[0];
+    try {
+      for (Blob blob : this.storage.list(this.reconciliationBucket, options).iterateAll()) {
+        if (!blob.isDirectory() && this.filter.accept(blob)) {
+          emit(blob);
+        }
+      }
+    } catch (RuntimeException | IOException ex) {
+      LOGGER.warn("Failed to reconcile objects of bucket " + this.reconciliationBucket, ex);
+    }
+  }
+
+  private void emit(BlobInfo blobInfo) throws IOException {
+    try (InputStream content = this.streamContent ? openContent(blobInfo) : null) {
+      AbstractIntegrationMessageBuilder<?> builder =
+          getMessageBuilderFactory()
+              .withPayload(content != null ? content : blobInfo)
+              .setHeader(FileHeaders.REMOTE_DIRECTORY, blobInfo.getBucket())
+              .setHeader(FileHeaders.REMOTE_FILE, blobInfo.getName());
+      if (blobInfo.getUpdateTimeOffsetDateTime() != null && blobInfo.getSize() != null) {
+        builder.setHeader(FileHeaders.REMOTE_FILE_INFO, new GcsFileInfo(blobInfo));
+      }
+      sendMessage(builder.build());
+    } catch (RuntimeException | IOException ex) {
+      if (this.filter instanceof ResettableFileListFilter<BlobInfo> resettableFilter) {
+        resettableFilter.remove(blobInfo);
+      }
+      throw ex;
+    }
+  }
+
+  private InputStream openContent(BlobInfo blobInfo) {
+    BlobId blobId = blobInfo.getBlobId();
+    return Channels.newInputStream(
+        this.storage.reader(
+            BlobId.of(blobId.getBucket(), blobId.getName(), blobInfo.getGeneration())));
+  }
+
+  private static BlobInfo toBlobInfo(Map<String, String> attributes) {
+    String generation = attributes.get(OBJECT_GENERATION_ATTRIBUTE);
+    return BlobInfo.newBuilder(
+            BlobId.of(
+                attributes.get(BUCKET_ID_ATTRIBUTE),
+                attributes.get(OBJECT_ID_ATTRIBUTE),
+                generation != null ? Long.valueOf(generation) : null))
+        .build();
+  }
+
+  /** Accepts every generation of an object once. */
+  private static final class GenerationAcceptOnceFileListFilter
+      extends AbstractPersistentAcceptOnceFileListFilter<BlobInfo> {
+
+    GenerationAcceptOnceFileListFilter(ConcurrentMetadataStore store, String prefix) {
+      super(store, prefix);
+    }
+
+    @Override
+    protected long modified(BlobInfo blobInfo) {
+      return blobInfo.getGeneration() != null ? blobInfo.getGeneration() : -1;
+    }
+
+    @Override
+    protected String fileName(BlobInfo blobInfo) {
+      return blobInfo.getBucket() + "/" + blobInfo.getName();
+    }
+
+    @Override
+    protected boolean isDirectory(BlobInfo blobInfo) {
+      return blobInfo.isDirectory();
+    }
+  }
+}
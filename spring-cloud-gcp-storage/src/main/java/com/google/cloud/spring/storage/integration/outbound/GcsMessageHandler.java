@@ -16,25 +16,85 @@
 
 package com.google.cloud.spring.storage.integration.outbound;
 
+import com.google.cloud.spring.storage.integration.GcsTransferManager;
 import com.google.cloud.storage.BlobInfo;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.integration.file.FileNameGenerator;
 import org.springframework.integration.file.remote.RemoteFileTemplate;
 import org.springframework.integration.file.remote.handler.FileTransferringMessageHandler;
 import org.springframework.integration.file.remote.session.SessionFactory;
 import org.springframework.integration.file.support.FileExistsMode;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandlingException;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.Assert;
 
-/** A file message handler for Google Cloud Storage. */
+/**
+ * A file message handler for Google Cloud Storage.
+ *
+ * <p>With {@link #setTransferManager(GcsTransferManager)}, the handler also accepts a directory or
+ * a collection of files as payload, and uploads all of them concurrently. Files of a collection
+ * are uploaded under their names; files of a directory under their path relative to it. The file
+ * name generator, if set, names each file from a message with the file as payload and the headers
+ * of the original message. The files are written directly to their final names, without temporary
+ * names, and only the {@code REPLACE}, {@code IGNORE} and {@code FAIL} file exists modes are
+ * supported. With {@code IGNORE} and {@code FAIL}, each file is uploaded on the condition that its
+ * object does not exist, so that objects created concurrently by other writers are not replaced;
+ * {@code FAIL} fails the message after the other files were uploaded.
+ */
 public class GcsMessageHandler extends FileTransferringMessageHandler<BlobInfo> {
 
+  private static final Set<FileExistsMode> BULK_FILE_EXISTS_MODES =
+      EnumSet.of(FileExistsMode.REPLACE, FileExistsMode.IGNORE, FileExistsMode.FAIL);
+
+  private final FileExistsMode mode;
+
+  private FileNameGenerator fileNameGenerator;
+
+  private GcsTransferManager transferManager;
+
   public GcsMessageHandler(SessionFactory<BlobInfo> sessionFactory) {
     super(sessionFactory);
+    this.mode = FileExistsMode.REPLACE;
   }
 
   public GcsMessageHandler(RemoteFileTemplate<BlobInfo> remoteFileTemplate) {
     super(remoteFileTemplate);
+    this.mode = FileExistsMode.REPLACE;
   }
 
   public GcsMessageHandler(RemoteFileTemplate<BlobInfo> remoteFileTemplate, FileExistsMode mode) {
     super(remoteFileTemplate, mode);
+    this.mode = mode;
+  }
+
+  /**
+   * Sets the transfer manager that uploads directories and collections of files concurrently.
+   *
+   * @param transferManager the transfer manager, or null to only upload single files
+   */
+  public void setTransferManager(GcsTransferManager transferManager) {
+    Assert.isTrue(
+        transferManager == null || BULK_FILE_EXISTS_MODES.contains(this.mode),
+        () -> "Bulk uploads don't support the " + this.mode + " file exists mode.");
+    this.transferManager = transferManager;
+  }
+
+  @Override
+  public void setFileNameGenerator(FileNameGenerator fileNameGenerator) {
+    super.setFileNameGenerator(fileNameGenerator);
+    this.fileNameGenerator = fileNameGenerator;
   }
 
   @Override
@@ -42,4 +102,72 @@ public class GcsMessageHandler extends FileTransferringMessageHandler<BlobInfo>
     throw new UnsupportedOperationException(
         "Google Cloud Storage doesn't support separators other than '/'.");
   }
+
+  @Override
+  protected void handleMessageInternal(Message<?> message) {
+    Object payload = message.getPayload();
+    boolean bulk =
+        payload instanceof Collection<?> || (payload instanceof File file && file.isDirectory());
+    if (this.transferManager == null || !bulk) {
+      super.handleMessageInternal(message);
+      return;
+    }
+    String remoteDirectory =
+        this.remoteFileTemplate.getDirectoryExpressionProcessor().processMessage(message);
+    Assert.hasText(remoteDirectory, "The remote directory can't be empty.");
+    String[] tokens = remoteDirectory.split("/", 2);
+    String prefix = tokens.length == 2 && !tokens[1].isEmpty() ? tokens[1] + "/" : "";
+    try {
+      Map<Path, String> names = new LinkedHashMap<>();
+      if (payload instanceof Collection<?> files) {
+        for (Object file : files) {
+          Assert.isInstanceOf(File.class, file, "Only collections of files can be uploaded.");
+          names.put(((File) file).toPath(), prefix + fileName(message, (File) file));
+        }
+      } else {
+        Path directory = ((File) payload).toPath();
+        try (Stream<Path> files = Files.walk(directory)) {
+          files
+              .filter(Files::isRegularFile)
+              .forEach(
+                  path -> {
+                    Path parent = directory.relativize(path).getParent();
+                    String name = fileName(message, path.toFile());
+                    if (parent != null) {
+                      name = parent.toString().replace(File.separator, "/") + "/" + name;
+                    }
+                    names.put(path, prefix + name);
+                  });
+        }
+      }
+      Map<Path, BlobInfo> transfers = new LinkedHashMap<>();
+      names.forEach(
+          (path, name) -> transfers.put(path, BlobInfo.newBuilder(tokens[0], name).build()));
+      if (this.mode == FileExistsMode.REPLACE) {
+        this.transferManager.uploadAll(transfers);
+        return;
+      }
+      List<BlobInfo> existing = this.transferManager.uploadAllIfAbsent(transfers);
+      if (this.mode == FileExistsMode.FAIL && !existing.isEmpty()) {
+        throw new MessageHandlingException(
+            message,
+            "The destination file already exists at '"
+                + existing.stream()
+                    .map(blob -> blob.getBucket() + "/" + blob.getName())
+                    .collect(Collectors.joining("', '"))
+                + "'.");
+      }
+    } catch (IOException ex) {
+      throw new MessageHandlingException(
+          message, "Failed to upload files to " + remoteDirectory, ex);
+    }
+  }
+
+  private String fileName(Message<?> message, File file) {
+    if (this.fileNameGenerator == null) {
+      return file.getName();
+    }
+    return this.fileNameGenerator.generateFileName(
+        MessageBuilder.withPayload(file).copyHeaders(message.getHeaders()).build());
+  }
 }
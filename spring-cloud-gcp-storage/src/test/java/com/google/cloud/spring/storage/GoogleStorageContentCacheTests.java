@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.cloud.storage.BlobId;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for GoogleStorageContentCache. */
+class GoogleStorageContentCacheTests {
+
+  @TempDir private Path directory;
+
+  private final AtomicInteger downloads = new AtomicInteger();
+
+  @Test
+  void hitsAreServedWithoutDownload() throws IOException {
+    GoogleStorageContentCache cache = new GoogleStorageContentCache(this.directory, 1000);
+    BlobId blobId = BlobId.of("bucket", "object", 1L);
+
+    assertThat(read(cache, blobId, "content")).isEqualTo("content");
+    assertThat(read(cache, blobId, "ignored")).isEqualTo("content");
+
+    assertThat(this.downloads).hasValue(1);
+    assertThat(cache.size()).isEqualTo(7);
+  }
+
+  @Test
+  void newGenerationIsDownloadedAgain() throws IOException {
+    GoogleStorageContentCache cache = new GoogleStorageContentCache(this.directory, 1000);
+
+    assertThat(read(cache, BlobId.of("bucket", "object", 1L), "first")).isEqualTo("first");
+    assertThat(read(cache, BlobId.of("bucket", "object", 2L), "second")).isEqualTo("second");
+
+    assertThat(this.downloads).hasValue(2);
+  }
+
+  @Test
+  void leastRecentlyReadObjectsAreEvicted() throws IOException {
+    GoogleStorageContentCache cache = new GoogleStorageContentCache(this.directory, 10);
+    BlobId a = BlobId.of("bucket", "a", 1L);
+    BlobId b = BlobId.of("bucket", "b", 1L);
+    read(cache, a, "aaaa");
+    read(cache, b, "bbbb");
+    read(cache, a, "aaaa");
+
+    read(cache, BlobId.of("bucket", "c", 1L), "cccc");
+
+    assertThat(cache.size()).isEqualTo(8);
+    read(cache, a, "aaaa");
+    assertThat(this.downloads).hasValue(3);
+    read(cache, b, "bbbb");
+    assertThat(this.downloads).hasValue(4);
+    assertThat(cache.isCacheable(11)).isFalse();
+  }
+
+  @Test
+  void concurrentMissesShareOneDownload() throws Exception {
+    GoogleStorageContentCache cache = new GoogleStorageContentCache(this.directory, 1000);
+    BlobId blobId = BlobId.of("bucket", "object", 1L);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    GoogleStorageContentCache.ContentLoader slowLoader =
+        () -> {
+          this.downloads.incrementAndGet();
+          started.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+          }
+          return Channels.newChannel(new ByteArrayInputStream("content".getBytes()));
+        };
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Future<String> first =
+          executor.submit(() -> readAll(cache.getInputStream(blobId, slowLoader)));
+      assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+      Future<String> second =
+          executor.submit(() -> readAll(cache.getInputStream(blobId, slowLoader)));
+      Thread.sleep(100);
+      release.countDown();
+
+      assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("content");
+      assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("content");
+      assertThat(this.downloads).hasValue(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void failedDownloadIsNotCached() throws IOException {
+    GoogleStorageContentCache cache = new GoogleStorageContentCache(this.directory, 1000);
+    BlobId blobId = BlobId.of("bucket", "object", 1L);
+
+    assertThatThrownBy(
+            () ->
+                cache.getInputStream(
+                    blobId,
+                    () -> {
+                      throw new IOException("Unavailable");
+                    }))
+        .isInstanceOf(IOException.class);
+
+    assertThat(cache.size()).isZero();
+    try (Stream<Path> files = Files.list(this.directory)) {
+      assertThat(files).isEmpty();
+    }
+    assertThat(read(cache, blobId, "content")).isEqualTo("content");
+  }
+
+  @Test
+  void cachedFilesAreReusedAfterRestart() throws IOException {
+    BlobId blobId = BlobId.of("bucket", "object", 1L);
+    read(new GoogleStorageContentCache(this.directory, 1000), blobId, "content");
+
+    GoogleStorageContentCache restarted = new GoogleStorageContentCache(this.directory, 1000);
+
+    assertThat(restarted.size()).isEqualTo(7);
+    assertThat(read(restarted, blobId, "ignored")).isEqualTo("content");
+    assertThat(this.downloads).hasValue(1);
+
+    restarted.invalidateAll();
+    assertThat(restarted.size()).isZero();
+  }
+
+  private String read(GoogleStorageContentCache cache, BlobId blobId, String content)
+      throws IOException {
+    return readAll(
+        cache.getInputStream(
+            blobId,
+            () -> {
+              this.downloads.incrementAndGet();
+              return Channels.newChannel(new ByteArrayInputStream(content.getBytes()));
+            }));
+  }
+
+  private static String readAll(InputStream inputStream) throws IOException {
+    try (InputStream is = inputStream) {
+      return new String(is.readAllBytes());
+    }
+  }
+}
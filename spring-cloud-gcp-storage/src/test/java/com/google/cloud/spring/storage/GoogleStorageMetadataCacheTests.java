@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link GoogleStorageMetadataCache}. */
+class GoogleStorageMetadataCacheTests {
+
+  private static final BlobId BLOB_ID = BlobId.of("my-bucket", "my-object");
+
+  private final AtomicLong clock = new AtomicLong();
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private final Blob blob = mock(Blob.class);
+
+  private final Function<BlobId, Blob> loader =
+      blobId -> {
+        this.loads.incrementAndGet();
+        return this.blob;
+      };
+
+  @Test
+  void entriesExpireAfterTtl() {
+    GoogleStorageMetadataCache cache =
+        new GoogleStorageMetadataCache(Duration.ofSeconds(10), 10, this.clock::get);
+
+    assertThat(cache.get(BLOB_ID, this.loader)).isSameAs(this.blob);
+    this.clock.set(Duration.ofSeconds(9).toNanos());
+    assertThat(cache.get(BLOB_ID, this.loader)).isSameAs(this.blob);
+    assertThat(this.loads).hasValue(1);
+
+    this.clock.set(Duration.ofSeconds(10).toNanos());
+    assertThat(cache.get(BLOB_ID, this.loader)).isSameAs(this.blob);
+    assertThat(this.loads).hasValue(2);
+  }
+
+  @Test
+  void missingObjectsAreCached() {
+    GoogleStorageMetadataCache cache =
+        new GoogleStorageMetadataCache(Duration.ofSeconds(10), 10, this.clock::get);
+    Function<BlobId, Blob> missingLoader =
+        blobId -> {
+          this.loads.incrementAndGet();
+          return null;
+        };
+
+    assertThat(cache.get(BLOB_ID, missingLoader)).isNull();
+    assertThat(cache.get(BLOB_ID, missingLoader)).isNull();
+    assertThat(this.loads).hasValue(1);
+  }
+
+  @Test
+  void leastRecentlyUsedEntriesAreEvicted() {
+    GoogleStorageMetadataCache cache =
+        new GoogleStorageMetadataCache(Duration.ofSeconds(10), 2, this.clock::get);
+    BlobId other = BlobId.of("my-bucket", "other");
+    BlobId third = BlobId.of("my-bucket", "third");
+
+    cache.get(BLOB_ID, this.loader);
+    cache.get(other, this.loader);
+    cache.get(BLOB_ID, this.loader);
+    cache.get(third, this.loader);
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(this.loads).hasValue(3);
+
+    cache.get(BLOB_ID, this.loader);
+    assertThat(this.loads).hasValue(3);
+    cache.get(other, this.loader);
+    assertThat(this.loads).hasValue(4);
+  }
+
+  @Test
+  void invalidateRemovesEntries() {
+    GoogleStorageMetadataCache cache =
+        new GoogleStorageMetadataCache(Duration.ofSeconds(10), 10, this.clock::get);
+
+    cache.get(BLOB_ID, this.loader);
+    cache.invalidate(BLOB_ID);
+    cache.get(BLOB_ID, this.loader);
+    assertThat(this.loads).hasValue(2);
+
+    cache.invalidateAll();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void invalidSettingsAreRejected() {
+    assertThatThrownBy(() -> new GoogleStorageMetadataCache(Duration.ofSeconds(-1), 10))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new GoogleStorageMetadataCache(Duration.ofSeconds(1), 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -20,17 +20,26 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Bucket;
 import com.google.cloud.storage.Storage;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class GoogleStorageResourceTest {
 
@@ -106,4 +115,91 @@ class GoogleStorageResourceTest {
     GoogleStorageResource gsr = new GoogleStorageResource(mockStorage, "gs://my-bucket/my-object");
     assertThat(gsr.getGoogleStorageLocation().uriString()).isEqualTo("gs://my-bucket/my-object");
   }
+
+  @Test
+  void metadataIsFetchedOnceUntilRefresh() throws IOException {
+    OffsetDateTime now = OffsetDateTime.now();
+    BlobId blobId = BlobId.of("my-bucket", "my-object");
+    when(mockStorage.get(blobId)).thenReturn(mockBlob);
+    when(mockBlob.getSize()).thenReturn(42L);
+    when(mockBlob.getUpdateTimeOffsetDateTime()).thenReturn(now);
+
+    GoogleStorageResource gsr = new GoogleStorageResource(mockStorage, "gs://my-bucket/my-object");
+    assertThat(gsr.exists()).isTrue();
+    assertThat(gsr.contentLength()).isEqualTo(42L);
+    assertThat(gsr.lastModified()).isEqualTo(now.toInstant().toEpochMilli());
+    verify(mockStorage, times(1)).get(blobId);
+
+    gsr.refresh();
+    assertThat(gsr.exists()).isTrue();
+    verify(mockStorage, times(2)).get(blobId);
+  }
+
+  @Test
+  void inputStreamReadsCachedGeneration() throws IOException {
+    ReadChannel readChannel = mock(ReadChannel.class);
+    when(mockStorage.get(any(BlobId.class))).thenReturn(mockBlob);
+    when(mockBlob.getGeneration()).thenReturn(5L);
+    when(mockBlob.reader(any(Blob.BlobSourceOption[].class))).thenReturn(readChannel);
+
+    GoogleStorageResource gsr = new GoogleStorageResource(mockStorage, "gs://my-bucket/my-object");
+    assertThat(gsr.getInputStream()).isNotNull();
+    verify(mockBlob).reader(Blob.BlobSourceOption.generationMatch());
+  }
+
+  @Test
+  void sharedMetadataCacheIsUsedByResourcesAndRelativeResources() {
+    BlobId blobId = BlobId.of("my-bucket", "my-object");
+    when(mockStorage.get(blobId)).thenReturn(mockBlob);
+    GoogleStorageMetadataCache cache = new GoogleStorageMetadataCache(Duration.ofMinutes(1), 10);
+    GoogleStorageLocation location = new GoogleStorageLocation("gs://my-bucket/my-object");
+
+    assertThat(new GoogleStorageResource(mockStorage, location, false, cache).exists()).isTrue();
+    GoogleStorageResource other = new GoogleStorageResource(mockStorage, location, false, cache);
+    assertThat(other.exists()).isTrue();
+    assertThat(other.createRelative("my-object").getBlob()).isSameAs(mockBlob);
+    verify(mockStorage, times(1)).get(blobId);
+
+    other.refresh();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void createBlobUpdatesCachedMetadata() {
+    when(mockStorage.get(any(BlobId.class))).thenReturn(null);
+    when(mockStorage.create(any(BlobInfo.class))).thenReturn(mockBlob);
+
+    GoogleStorageResource gsr = new GoogleStorageResource(mockStorage, "gs://my-bucket/my-object");
+    assertThat(gsr.exists()).isFalse();
+    gsr.createBlob();
+    assertThat(gsr.exists()).isTrue();
+  }
+
+  @Test
+  void contentCacheServesRepeatedReads(@TempDir Path directory) throws IOException {
+    when(mockStorage.get(any(BlobId.class))).thenReturn(mockBlob);
+    when(mockBlob.getGeneration()).thenReturn(5L);
+    when(mockBlob.getSize()).thenReturn(7L);
+    when(mockBlob.reader(any(Blob.BlobSourceOption[].class)))
+        .thenAnswer(invocation -> readChannel("content"));
+    GoogleStorageContentCache cache = new GoogleStorageContentCache(directory, 1000);
+
+    for (int i = 0; i < 3; i++) {
+      GoogleStorageResource gsr =
+          new GoogleStorageResource(mockStorage, "gs://my-bucket/my-object");
+      gsr.setContentCache(cache);
+      try (InputStream inputStream = gsr.getInputStream()) {
+        assertThat(inputStream.readAllBytes()).isEqualTo("content".getBytes());
+      }
+    }
+
+    verify(mockBlob, times(1)).reader(Blob.BlobSourceOption.generationMatch());
+  }
+
+  private static ReadChannel readChannel(String content) throws IOException {
+    ReadChannel channel = mock(ReadChannel.class);
+    ReadableByteChannel source = Channels.newChannel(new ByteArrayInputStream(content.getBytes()));
+    when(channel.read(any())).thenAnswer(invocation -> source.read(invocation.getArgument(0)));
+    return channel;
+  }
 }
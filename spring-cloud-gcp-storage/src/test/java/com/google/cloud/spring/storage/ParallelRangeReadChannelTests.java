@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+/** Tests for {@link ParallelRangeReadChannel}. */
+class ParallelRangeReadChannelTests {
+
+  private static final BlobId BLOB_ID = BlobId.of("my-bucket", "my-object", 7L);
+
+  private static final Executor EXECUTOR = ParallelRangeReadChannel.defaultExecutor();
+
+  private final Storage storage = mock(Storage.class);
+
+  private final AtomicInteger readers = new AtomicInteger();
+
+  @Test
+  void readsRangesInOrder() throws IOException {
+    byte[] content = randomContent(10_000);
+    when(this.storage.reader(BLOB_ID)).thenAnswer(invocation -> newReader(content));
+
+    try (InputStream in =
+        Channels.newInputStream(
+            new ParallelRangeReadChannel(
+                this.storage, BLOB_ID, content.length, 1024, 3, EXECUTOR))) {
+      assertThat(in.readAllBytes()).isEqualTo(content);
+    }
+    assertThat(this.readers).hasValue(10);
+  }
+
+  @Test
+  void failedRangeFailsRead() {
+    when(this.storage.reader(BLOB_ID)).thenThrow(new StorageException(412, "Precondition"));
+
+    ParallelRangeReadChannel channel =
+        new ParallelRangeReadChannel(this.storage, BLOB_ID, 4096, 1024, 2, EXECUTOR);
+
+    assertThatThrownBy(() -> channel.read(ByteBuffer.allocate(10)))
+        .isInstanceOf(IOException.class)
+        .hasCauseInstanceOf(StorageException.class);
+    assertThat(channel.isOpen()).isFalse();
+  }
+
+  @Test
+  void truncatedRangeFailsRead() {
+    byte[] content = randomContent(2000);
+    when(this.storage.reader(BLOB_ID)).thenAnswer(invocation -> newReader(content));
+
+    ParallelRangeReadChannel channel =
+        new ParallelRangeReadChannel(this.storage, BLOB_ID, 4096, 1024, 2, EXECUTOR);
+    InputStream in = Channels.newInputStream(channel);
+
+    assertThatThrownBy(in::readAllBytes).hasMessageContaining("Unexpected end of");
+  }
+
+  @Test
+  void closedChannelCannotBeRead() {
+    byte[] content = randomContent(100);
+    when(this.storage.reader(BLOB_ID)).thenAnswer(invocation -> newReader(content));
+
+    ParallelRangeReadChannel channel =
+        new ParallelRangeReadChannel(this.storage, BLOB_ID, content.length, 10, 2, EXECUTOR);
+    channel.close();
+
+    assertThatThrownBy(() -> channel.read(ByteBuffer.allocate(10)))
+        .isInstanceOf(ClosedChannelException.class);
+  }
+
+  @Test
+  void resourceDownloadsLargeObjectsInParallel() throws IOException {
+    byte[] content = randomContent(5000);
+    Blob blob = mock(Blob.class);
+    when(blob.getSize()).thenReturn((long) content.length);
+    when(blob.getGeneration()).thenReturn(7L);
+    when(this.storage.get(any(BlobId.class))).thenReturn(blob);
+    when(this.storage.reader(BLOB_ID)).thenAnswer(invocation -> newReader(content));
+
+    GoogleStorageResource resource =
+        new GoogleStorageResource(this.storage, "gs://my-bucket/my-object");
+    resource.setParallelRead(1000, 4, null);
+    try (InputStream in = resource.getInputStream()) {
+      assertThat(in.readAllBytes()).isEqualTo(content);
+    }
+    assertThat(this.readers).hasValue(5);
+  }
+
+  @Test
+  void channelsShareTheGivenExecutor() throws IOException {
+    byte[] content = randomContent(4000);
+    when(this.storage.reader(BLOB_ID)).thenAnswer(invocation -> newReader(content));
+    AtomicInteger tasks = new AtomicInteger();
+    Executor executor =
+        runnable -> {
+          tasks.incrementAndGet();
+          EXECUTOR.execute(runnable);
+        };
+
+    for (int i = 0; i < 2; i++) {
+      try (InputStream in =
+          Channels.newInputStream(
+              new ParallelRangeReadChannel(
+                  this.storage, BLOB_ID, content.length, 1000, 2, executor))) {
+        assertThat(in.readAllBytes()).isEqualTo(content);
+      }
+    }
+    assertThat(tasks).hasValue(8);
+  }
+
+  @Test
+  void defaultExecutorIsCreatedOnce() {
+    assertThat(ParallelRangeReadChannel.defaultExecutor())
+        .isSameAs(ParallelRangeReadChannel.defaultExecutor())
+        .isInstanceOfSatisfying(
+            ThreadPoolExecutor.class,
+            executor ->
+                assertThat(executor.getMaximumPoolSize())
+                    .isEqualTo(ParallelRangeReadChannel.DEFAULT_EXECUTOR_THREADS));
+  }
+
+  @Test
+  void settingsRejectChunkSizesThatDoNotFitInAnArray() {
+    GoogleStorageProtocolResolverSettings settings = new GoogleStorageProtocolResolverSettings();
+
+    assertThatThrownBy(() -> settings.setParallelReadChunkSize(DataSize.ofGigabytes(2)))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> settings.setParallelReadChunkSize(DataSize.ofBytes(0)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static byte[] randomContent(int size) {
+    byte[] content = new byte[size];
+    new Random(42).nextBytes(content);
+    return content;
+  }
+
+  private ReadChannel newReader(byte[] content) {
+    this.readers.incrementAndGet();
+    return new ByteArrayReadChannel(content);
+  }
+
+  /** Serves a byte array like a ranged object read. */
+  private static final class ByteArrayReadChannel implements ReadChannel {
+
+    private final byte[] content;
+
+    private long position;
+
+    private long limit = Long.MAX_VALUE;
+
+    private boolean open = true;
+
+    ByteArrayReadChannel(byte[] content) {
+      this.content = content;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) {
+      long end = Math.min(this.limit, this.content.length);
+      if (this.position >= end) {
+        return -1;
+      }
+      // Return short reads to exercise the read loop.
+      int count = (int) Math.min(Math.min(dst.remaining(), 100), end - this.position);
+      dst.put(this.content, (int) this.position, count);
+      this.position += count;
+      return count;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return this.open;
+    }
+
+    @Override
+    public void close() {
+      this.open = false;
+    }
+
+    @Override
+    public void seek(long position) {
+      this.position = position;
+    }
+
+    @Override
+    public ReadChannel limit(long limit) {
+      this.limit = limit;
+      return this;
+    }
+
+    @Override
+    public long limit() {
+      return this.limit;
+    }
+
+    @Override
+    public void setChunkSize(int chunkSize) {
+      // Not used by the tests.
+    }
+
+    @Override
+    public RestorableState<ReadChannel> capture() {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
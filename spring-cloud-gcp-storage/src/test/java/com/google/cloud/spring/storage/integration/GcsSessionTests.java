@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.gax.paging.Page;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.CopyWriter;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobListOption;
+import com.google.cloud.storage.StorageBatch;
+import com.google.cloud.storage.StorageBatchResult;
+import com.google.cloud.storage.StorageException;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link GcsSession}. */
+class GcsSessionTests {
+
+  private final Storage gcs = mock(Storage.class);
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void listAppliesListOptions() throws IOException {
+    Page<Blob> page = mock(Page.class);
+    Blob blob = mock(Blob.class);
+    when(page.iterateAll()).thenReturn(List.of(blob));
+    when(this.gcs.list(eq("bucket"), any(BlobListOption[].class))).thenReturn(page);
+
+    GcsSessionFactory sessionFactory = new GcsSessionFactory(this.gcs);
+    sessionFactory.setPrefix("incoming/");
+    sessionFactory.setMatchGlob("**.csv");
+    sessionFactory.setStartOffsetSupplier(() -> "incoming/b.csv");
+    sessionFactory.setPageSize(100);
+
+    BlobInfo[] blobs = sessionFactory.getSession().list("bucket");
+
+    assertThat(blobs).containsExactly(blob);
+    verify(this.gcs)
+        .list(
+            "bucket",
+            BlobListOption.prefix("incoming/"),
+            BlobListOption.matchGlob("**.csv"),
+            BlobListOption.startOffset("incoming/b.csv"),
+            BlobListOption.pageSize(100));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void listWithoutOptionsListsWholeBucket() throws IOException {
+    Page<Blob> page = mock(Page.class);
+    when(page.iterateAll()).thenReturn(List.of());
+    when(this.gcs.list("bucket")).thenReturn(page);
+
+    GcsSession session = new GcsSession(this.gcs);
+    session.setStartOffsetSupplier(() -> null);
+
+    assertThat(session.list("bucket")).isEmpty();
+    verify(this.gcs).list("bucket");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void removeAllDeletesInBatchesOfHundred() {
+    StorageBatch batch = mock(StorageBatch.class);
+    when(this.gcs.batch()).thenReturn(batch);
+    StorageBatchResult<Boolean> deleted = batchResult(true);
+    StorageBatchResult<Boolean> missing = batchResult(false);
+    StorageBatchResult<Boolean> failed = mock(StorageBatchResult.class);
+    when(failed.get()).thenThrow(new StorageException(403, "Forbidden"));
+    when(batch.delete(any(BlobId.class))).thenReturn(deleted);
+    when(batch.delete(BlobId.of("bucket", "object-1"))).thenReturn(missing);
+    when(batch.delete(BlobId.of("bucket", "object-100"))).thenReturn(failed);
+    List<String> paths = IntStream.range(0, 101).mapToObj(i -> "bucket/object-" + i).toList();
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    GcsSession session = new GcsSession(this.gcs);
+    session.setExecutor(executor);
+    List<GcsOperationResult> results = session.removeAll(paths);
+    executor.shutdown();
+
+    assertThat(results).hasSize(101).extracting(GcsOperationResult::path).isEqualTo(paths);
+    assertThat(results.get(0)).isEqualTo(new GcsOperationResult("bucket/object-0", true, null));
+    assertThat(results.get(1).done()).isFalse();
+    assertThat(results.get(1).isSuccessful()).isTrue();
+    assertThat(results.get(100).failure()).isInstanceOf(StorageException.class);
+    verify(this.gcs, times(2)).batch();
+    verify(batch, times(101)).delete(any(BlobId.class));
+    verify(batch, times(2)).submit();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void moveAllCopiesWithRewriteTokensAndDeletesCopiedSources() {
+    CopyWriter largeCopy = mock(CopyWriter.class);
+    when(largeCopy.isDone()).thenReturn(false, false, true);
+    CopyWriter smallCopy = mock(CopyWriter.class);
+    when(smallCopy.isDone()).thenReturn(true);
+    when(this.gcs.copy(any(Storage.CopyRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              Storage.CopyRequest request = invocation.getArgument(0);
+              switch (request.getSource().getName()) {
+                case "large":
+                  return largeCopy;
+                case "small":
+                  return smallCopy;
+                default:
+                  throw new StorageException(404, "Not Found");
+              }
+            });
+    StorageBatch batch = mock(StorageBatch.class);
+    when(this.gcs.batch()).thenReturn(batch);
+    StorageBatchResult<Boolean> deleted = batchResult(true);
+    when(batch.delete(any(BlobId.class))).thenReturn(deleted);
+    Map<String, String> moves = new LinkedHashMap<>();
+    moves.put("bucket/large", "bucket/archive/large");
+    moves.put("bucket/missing", "bucket/archive/missing");
+    moves.put("bucket/small", "bucket/archive/small");
+
+    List<GcsOperationResult> results = new GcsSession(this.gcs).moveAll(moves);
+
+    assertThat(results)
+        .extracting(GcsOperationResult::path, GcsOperationResult::done)
+        .containsExactly(
+            tuple("bucket/large", true),
+            tuple("bucket/missing", false),
+            tuple("bucket/small", true));
+    assertThat(results.get(1).failure()).isInstanceOf(StorageException.class);
+    verify(largeCopy, times(2)).copyChunk();
+    verify(batch).delete(BlobId.of("bucket", "large"));
+    verify(batch).delete(BlobId.of("bucket", "small"));
+    verify(batch, never()).delete(BlobId.of("bucket", "missing"));
+  }
+
+  @Test
+  void moveAllCountsSourcesDeletedConcurrentlyAsMoved() {
+    CopyWriter copy = mock(CopyWriter.class);
+    when(copy.isDone()).thenReturn(true);
+    when(this.gcs.copy(any(Storage.CopyRequest.class))).thenReturn(copy);
+    StorageBatch batch = mock(StorageBatch.class);
+    when(this.gcs.batch()).thenReturn(batch);
+    StorageBatchResult<Boolean> missing = batchResult(false);
+    when(batch.delete(any(BlobId.class))).thenReturn(missing);
+
+    List<GcsOperationResult> results =
+        new GcsSession(this.gcs).moveAll(Map.of("bucket/object", "bucket/archive/object"));
+
+    assertThat(results).containsExactly(new GcsOperationResult("bucket/object", true, null));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static StorageBatchResult<Boolean> batchResult(boolean value) {
+    StorageBatchResult<Boolean> result = mock(StorageBatchResult.class);
+    when(result.get()).thenReturn(value);
+    return result;
+  }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for GcsTransferManager. */
+class GcsTransferManagerTests {
+
+  private final Storage storage = mock(Storage.class);
+
+  private final GcsTransferManager transferManager = new GcsTransferManager(this.storage, 4);
+
+  @TempDir private Path directory;
+
+  @AfterEach
+  void close() {
+    this.transferManager.close();
+  }
+
+  @Test
+  void downloadsRangesOfLargeObjectsConcurrently() throws IOException {
+    byte[] content = content(1000);
+    BlobId blobId = BlobId.of("bucket", "large", 3L);
+    when(this.storage.reader(blobId)).thenAnswer(invocation -> new ByteArrayReadChannel(content));
+    this.transferManager.setChunkSize(128);
+    Path target = this.directory.resolve("large");
+
+    this.transferManager.downloadAll(Map.of(blob("large", 3L, content.length), target));
+
+    assertThat(Files.readAllBytes(target)).isEqualTo(content);
+    verify(this.storage, times(8)).reader(blobId);
+  }
+
+  @Test
+  void downloadsManySmallObjects() throws IOException {
+    Map<BlobInfo, Path> transfers = new LinkedHashMap<>();
+    for (int i = 0; i < 50; i++) {
+      byte[] content = ("content " + i).getBytes();
+      BlobInfo blob = blob("file-" + i, 1L, content.length);
+      when(this.storage.reader(blob.getBlobId()))
+          .thenAnswer(invocation -> new ByteArrayReadChannel(content));
+      transfers.put(blob, this.directory.resolve("file-" + i));
+    }
+
+    this.transferManager.downloadAll(transfers);
+
+    assertThat(Files.readString(this.directory.resolve("file-42"))).isEqualTo("content 42");
+  }
+
+  @Test
+  void failedRangeResumesAtLastWrittenByte() throws IOException {
+    byte[] content = content(1000);
+    BlobId blobId = BlobId.of("bucket", "flaky", 1L);
+    AtomicInteger readers = new AtomicInteger();
+    when(this.storage.reader(blobId))
+        .thenAnswer(
+            invocation ->
+                readers.getAndIncrement() == 0
+                    ? new ByteArrayReadChannel(content, 300)
+                    : new ByteArrayReadChannel(content));
+    Path target = this.directory.resolve("flaky");
+
+    this.transferManager.downloadAll(Map.of(blob("flaky", 1L, content.length), target));
+
+    assertThat(Files.readAllBytes(target)).isEqualTo(content);
+    assertThat(readers).hasValue(2);
+  }
+
+  @Test
+  void truncatedObjectFailsWithoutRetry() {
+    BlobId blobId = BlobId.of("bucket", "truncated", 1L);
+    when(this.storage.reader(blobId))
+        .thenAnswer(invocation -> new ByteArrayReadChannel(content(10)));
+
+    assertThatThrownBy(
+            () ->
+                this.transferManager.downloadAll(
+                    Map.of(blob("truncated", 1L, 20), this.directory.resolve("truncated"))))
+        .isInstanceOf(EOFException.class);
+    verify(this.storage, times(1)).reader(blobId);
+  }
+
+  @Test
+  void uploadsFilesAndRetriesTransientFailures() throws IOException {
+    Path first = Files.writeString(this.directory.resolve("first"), "first");
+    Path second = Files.writeString(this.directory.resolve("second"), "second");
+    BlobInfo firstBlob = BlobInfo.newBuilder("bucket", "first").build();
+    BlobInfo secondBlob = BlobInfo.newBuilder("bucket", "second").build();
+    when(this.storage.createFrom(eq(secondBlob), eq(second), anyInt()))
+        .thenThrow(new StorageException(503, "Unavailable"))
+        .thenReturn(null);
+
+    this.transferManager.uploadAll(Map.of(first, firstBlob, second, secondBlob));
+
+    verify(this.storage).createFrom(eq(firstBlob), eq(first), anyInt());
+    verify(this.storage, times(2)).createFrom(eq(secondBlob), eq(second), anyInt());
+  }
+
+  @Test
+  void permanentUploadFailureIsReported() throws IOException {
+    Path file = Files.writeString(this.directory.resolve("file"), "file");
+    when(this.storage.createFrom(any(BlobInfo.class), eq(file), anyInt()))
+        .thenThrow(new StorageException(403, "Forbidden"));
+
+    assertThatThrownBy(
+            () ->
+                this.transferManager.uploadAll(
+                    Map.of(file, BlobInfo.newBuilder("bucket", "file").build())))
+        .isInstanceOf(IOException.class)
+        .hasCauseInstanceOf(StorageException.class);
+    verify(this.storage, times(1)).createFrom(any(BlobInfo.class), eq(file), anyInt());
+  }
+
+  @Test
+  void uploadsFilesIfAbsentAndReportsExistingObjects() throws IOException {
+    Path first = Files.writeString(this.directory.resolve("first"), "first");
+    Path second = Files.writeString(this.directory.resolve("second"), "second");
+    BlobInfo firstBlob = BlobInfo.newBuilder("bucket", "first").build();
+    BlobInfo secondBlob = BlobInfo.newBuilder("bucket", "second").build();
+    when(this.storage.createFrom(
+            eq(firstBlob), eq(first), anyInt(), eq(Storage.BlobWriteOption.doesNotExist())))
+        .thenThrow(new StorageException(412, "Precondition Failed"));
+
+    assertThat(this.transferManager.uploadAllIfAbsent(Map.of(first, firstBlob, second, secondBlob)))
+        .containsExactly(firstBlob);
+
+    verify(this.storage, times(1))
+        .createFrom(
+            eq(firstBlob), eq(first), anyInt(), eq(Storage.BlobWriteOption.doesNotExist()));
+    verify(this.storage)
+        .createFrom(
+            eq(secondBlob), eq(second), anyInt(), eq(Storage.BlobWriteOption.doesNotExist()));
+  }
+
+  private static BlobInfo blob(String name, long generation, long size) {
+    BlobInfo blob = mock(BlobInfo.class);
+    when(blob.getBucket()).thenReturn("bucket");
+    when(blob.getName()).thenReturn(name);
+    when(blob.getGeneration()).thenReturn(generation);
+    when(blob.getSize()).thenReturn(size);
+    when(blob.getBlobId()).thenReturn(BlobId.of("bucket", name, generation));
+    return blob;
+  }
+
+  private static byte[] content(int size) {
+    byte[] content = new byte[size];
+    for (int i = 0; i < size; i++) {
+      content[i] = (byte) i;
+    }
+    return content;
+  }
+
+  private static final class ByteArrayReadChannel implements ReadChannel {
+
+    private final byte[] content;
+
+    private final long failAt;
+
+    private long position;
+
+    private long limit = Long.MAX_VALUE;
+
+    private boolean open = true;
+
+    ByteArrayReadChannel(byte[] content) {
+      this(content, Long.MAX_VALUE);
+    }
+
+    ByteArrayReadChannel(byte[] content, long failAt) {
+      this.content = content;
+      this.failAt = failAt;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+      if (this.position >= this.failAt) {
+        throw new IOException("Connection reset");
+      }
+      long end = Math.min(this.limit, this.content.length);
+      if (this.position >= end) {
+        return -1;
+      }
+      int count = (int) Math.min(Math.min(dst.remaining(), 100), end - this.position);
+      dst.put(this.content, (int) this.position, count);
+      this.position += count;
+      return count;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return this.open;
+    }
+
+    @Override
+    public void close() {
+      this.open = false;
+    }
+
+    @Override
+    public void seek(long position) {
+      this.position = position;
+    }
+
+    @Override
+    public ReadChannel limit(long limit) {
+      this.limit = limit;
+      return this;
+    }
+
+    @Override
+    public long limit() {
+      return this.limit;
+    }
+
+    @Override
+    public void setChunkSize(int chunkSize) {
+      // Not used by the tests.
+    }
+
+    @Override
+    public RestorableState<ReadChannel> capture() {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
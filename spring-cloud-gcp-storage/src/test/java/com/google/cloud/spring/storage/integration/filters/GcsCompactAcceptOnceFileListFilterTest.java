@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage.integration.filters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.cloud.storage.BlobInfo;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.integration.metadata.SimpleMetadataStore;
+
+/** Tests for GcsCompactAcceptOnceFileListFilter. */
+class GcsCompactAcceptOnceFileListFilterTest {
+
+  private final AtomicLong clock = new AtomicLong(1000);
+
+  @Test
+  void acceptsEachGenerationOnce() {
+    GcsCompactAcceptOnceFileListFilter filter = heapFilter(64);
+
+    assertThat(filter.filterFiles(new BlobInfo[] {blob("a", 1), blob("b", 1)})).hasSize(2);
+    assertThat(filter.filterFiles(new BlobInfo[] {blob("a", 1), blob("b", 1)})).isEmpty();
+    assertThat(filter.filterFiles(new BlobInfo[] {blob("a", 2), blob("b", 1)}))
+        .containsExactly(blob("a", 2));
+  }
+
+  @Test
+  void memoryIsBoundedByMaximumSize() {
+    GcsCompactAcceptOnceFileListFilter filter = heapFilter(8);
+    for (int i = 0; i < 100; i++) {
+      assertThat(filter.accept(blob("file-" + i, 1))).isTrue();
+      this.clock.incrementAndGet();
+    }
+
+    // Only the most recently accepted objects are remembered.
+    assertThat(filter.accept(blob("file-99", 1))).isFalse();
+    assertThat(filter.accept(blob("file-0", 1))).isTrue();
+  }
+
+  @Test
+  void objectsExpireAfterTimeToLive() {
+    GcsCompactAcceptOnceFileListFilter filter = heapFilter(64);
+    filter.setTimeToLive(Duration.ofSeconds(10));
+
+    assertThat(filter.accept(blob("a", 1))).isTrue();
+    this.clock.addAndGet(9_999);
+    assertThat(filter.accept(blob("a", 1))).isFalse();
+    this.clock.addAndGet(10_000);
+    assertThat(filter.accept(blob("a", 1))).isTrue();
+  }
+
+  @Test
+  void concurrentCallersAcceptEachObjectOnce() throws Exception {
+    GcsCompactAcceptOnceFileListFilter filter = heapFilter(32768);
+    int threads = 4;
+    AtomicInteger accepted = new AtomicInteger();
+    CyclicBarrier barrier = new CyclicBarrier(threads);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < 20000; i++) {
+                    barrier.await();
+                    if (filter.accept(blob("file-" + i, 1))) {
+                      accepted.incrementAndGet();
+                    }
+                  }
+                  return null;
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(accepted.get()).isEqualTo(20000);
+  }
+
+  @Test
+  void rollbackAcceptsFilesAgain() {
+    GcsCompactAcceptOnceFileListFilter filter = heapFilter(64);
+    BlobInfo a = blob("a", 1);
+    BlobInfo b = blob("b", 1);
+    BlobInfo c = blob("c", 1);
+    List<BlobInfo> accepted = filter.filterFiles(new BlobInfo[] {a, b, c});
+
+    filter.rollback(b, accepted);
+
+    assertThat(filter.filterFiles(new BlobInfo[] {a, b, c})).containsExactly(b, c);
+  }
+
+  @Test
+  void storeIsConsultedOnlyForUnknownObjects() {
+    SimpleMetadataStore store = new SimpleMetadataStore();
+    store.put("gcs:bucket/a", "1");
+    GcsCompactAcceptOnceFileListFilter filter = heapFilter(64);
+    filter.setMetadataStore(store, "gcs:");
+
+    assertThat(filter.filterFiles(new BlobInfo[] {blob("a", 1), blob("b", 1)}))
+        .containsExactly(blob("b", 1));
+    assertThat(store.get("gcs:bucket/b")).isEqualTo("1");
+
+    // Known objects are rejected locally, even if the store forgot them.
+    store.remove("gcs:bucket/b");
+    assertThat(filter.accept(blob("b", 1))).isFalse();
+
+    assertThat(filter.accept(blob("a", 2))).isTrue();
+    assertThat(store.get("gcs:bucket/a")).isEqualTo("2");
+
+    assertThat(filter.remove(blob("a", 2))).isTrue();
+    assertThat(store.get("gcs:bucket/a")).isNull();
+  }
+
+  @Test
+  void mappedTableSurvivesRestart(@TempDir Path directory) {
+    Path file = directory.resolve("accepted.bin");
+    GcsCompactAcceptOnceFileListFilter filter = new GcsCompactAcceptOnceFileListFilter(64, file);
+    assertThat(filter.accept(blob("a", 1))).isTrue();
+    filter.flush();
+
+    GcsCompactAcceptOnceFileListFilter restarted =
+        new GcsCompactAcceptOnceFileListFilter(64, file);
+
+    assertThat(restarted.accept(blob("a", 1))).isFalse();
+    assertThat(restarted.accept(blob("b", 1))).isTrue();
+    assertThatThrownBy(() -> new GcsCompactAcceptOnceFileListFilter(1024, file))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private GcsCompactAcceptOnceFileListFilter heapFilter(int maximumSize) {
+    int groups = (maximumSize + 7) / 8;
+    return new GcsCompactAcceptOnceFileListFilter(
+        ByteBuffer.allocate(16 + groups * 8 * 16), this.clock::get);
+  }
+
+  private static BlobInfo blob(String name, long generation) {
+    return BlobInfo.newBuilder("bucket", name, generation).build();
+  }
+}
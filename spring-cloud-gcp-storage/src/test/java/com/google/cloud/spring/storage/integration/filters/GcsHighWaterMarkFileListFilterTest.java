@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage.integration.filters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.spring.storage.integration.filters.GcsHighWaterMarkFileListFilter.Ordering;
+import com.google.cloud.storage.BlobInfo;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.integration.metadata.SimpleMetadataStore;
+
+/** Tests for GcsHighWaterMarkFileListFilter. */
+class GcsHighWaterMarkFileListFilterTest {
+
+  private final SimpleMetadataStore store = new SimpleMetadataStore();
+
+  @Test
+  void acceptsOnlyNamesAfterHighWaterMark() {
+    GcsHighWaterMarkFileListFilter filter =
+        new GcsHighWaterMarkFileListFilter(this.store, "hwm", Ordering.NAME);
+
+    assertThat(filter.filterFiles(new BlobInfo[] {blob("a", 0), blob("b", 0)}))
+        .extracting(BlobInfo::getName)
+        .containsExactly("a", "b");
+    assertThat(filter.getStartOffset()).isEqualTo("b");
+    assertThat(this.store.get("hwm")).isEqualTo("b");
+
+    assertThat(filter.filterFiles(new BlobInfo[] {blob("b", 0), blob("c", 0)}))
+        .extracting(BlobInfo::getName)
+        .containsExactly("c");
+    assertThat(filter.getHighWaterMark()).isEqualTo("c");
+  }
+
+  @Test
+  void markIsRestoredFromStore() {
+    this.store.put("hwm", "b");
+    GcsHighWaterMarkFileListFilter filter =
+        new GcsHighWaterMarkFileListFilter(this.store, "hwm", Ordering.NAME);
+
+    assertThat(filter.filterFiles(new BlobInfo[] {blob("a", 0), blob("b", 0), blob("c", 0)}))
+        .extracting(BlobInfo::getName)
+        .containsExactly("c");
+  }
+
+  @Test
+  void updateTimeOrderingAcceptsUnsortedListings() {
+    GcsHighWaterMarkFileListFilter filter =
+        new GcsHighWaterMarkFileListFilter(this.store, "hwm", Ordering.UPDATE_TIME);
+    this.store.put("hwm", String.format("%020d/%s", 10, "z"));
+
+    assertThat(
+            filter.filterFiles(
+                new BlobInfo[] {blob("a", 30), blob("b", 20), blob("c", 10), blob("y", 5)}))
+        .extracting(BlobInfo::getName)
+        .containsExactly("a", "b");
+    assertThat(filter.getStartOffset()).isNull();
+    assertThat(filter.getHighWaterMark()).endsWith("/a");
+  }
+
+  @Test
+  void rollbackMovesMarkBeforeFailedFiles() {
+    GcsHighWaterMarkFileListFilter filter =
+        new GcsHighWaterMarkFileListFilter(this.store, "hwm", Ordering.NAME);
+    this.store.put("hwm", "a");
+    BlobInfo c = blob("c", 0);
+    BlobInfo d = blob("d", 0);
+    filter.filterFiles(new BlobInfo[] {blob("b", 0), c, d});
+
+    filter.rollback(c, List.of(c, d));
+    assertThat(filter.getHighWaterMark()).isEqualTo("b");
+    assertThat(filter.filterFiles(new BlobInfo[] {blob("b", 0), c, d}))
+        .containsExactly(c, d);
+  }
+
+  @Test
+  void removeOfFirstFileRestoresPreviousMark() {
+    GcsHighWaterMarkFileListFilter filter =
+        new GcsHighWaterMarkFileListFilter(this.store, "hwm", Ordering.NAME);
+    BlobInfo a = blob("a", 0);
+    filter.filterFiles(new BlobInfo[] {a});
+
+    assertThat(filter.remove(a)).isTrue();
+    assertThat(filter.getHighWaterMark()).isNull();
+  }
+
+  private static BlobInfo blob(String name, long updateTimeMillis) {
+    BlobInfo blobInfo = mock(BlobInfo.class);
+    when(blobInfo.getName()).thenReturn(name);
+    when(blobInfo.getUpdateTimeOffsetDateTime())
+        .thenReturn(
+            OffsetDateTime.ofInstant(Instant.ofEpochMilli(updateTimeMillis), ZoneOffset.UTC));
+    return blobInfo;
+  }
+}
@@ -17,20 +17,36 @@
 package com.google.cloud.spring.storage.integration.inbound;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 import com.google.cloud.PageImpl;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.spring.storage.integration.GcsTransferManager;
 import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.logging.Log;
@@ -45,6 +61,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.config.EnableIntegration;
 import org.springframework.integration.file.filters.AcceptOnceFileListFilter;
+import org.springframework.integration.file.filters.FileListFilter;
 import org.springframework.messaging.Message;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.aot.DisabledInAotMode;
@@ -113,6 +130,110 @@ class GcsInboundFileSynchronizerTests {
     assertThat(message).isNull();
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void testCloseClosesFilter() throws Exception {
+    FileListFilter<BlobInfo> filter =
+        mock(FileListFilter.class, withSettings().extraInterfaces(Closeable.class));
+    GcsInboundFileSynchronizer synchronizer = new GcsInboundFileSynchronizer(this.gcs);
+    synchronizer.setFilter(filter);
+
+    synchronizer.close();
+
+    verify((Closeable) filter).close();
+  }
+
+  @Test
+  void testCopyFilesWithTransferManager() throws Exception {
+    Storage storage = mock(Storage.class);
+    Blob blob1 = blob("legend of heroes", 7);
+    Blob blob2 = blob("trails in the sky", 6);
+    when(storage.list("test-bucket"))
+        .thenReturn(new PageImpl<>(null, null, List.of(blob1, blob2)));
+    when(storage.reader(BlobId.of("test-bucket", "legend of heroes", 1L)))
+        .thenAnswer(invocation -> readChannel("estelle"));
+    when(storage.reader(BlobId.of("test-bucket", "trails in the sky", 1L)))
+        .thenAnswer(invocation -> readChannel("joshua"));
+
+    try (GcsTransferManager transferManager = new GcsTransferManager(storage, 2)) {
+      GcsInboundFileSynchronizer synchronizer = new GcsInboundFileSynchronizer(storage);
+      synchronizer.setRemoteDirectory("test-bucket");
+      synchronizer.setTransferManager(transferManager);
+      synchronizer.setBeanFactory(mock(BeanFactory.class));
+      synchronizer.afterPropertiesSet();
+
+      File localDirectory = Files.createDirectories(Paths.get("test")).toFile();
+      synchronizer.synchronizeToLocalDirectory(localDirectory);
+
+      assertThat(localDirectory.list())
+          .containsExactlyInAnyOrder("legend of heroes", "trails in the sky");
+      assertThat(Files.readString(localDirectory.toPath().resolve("trails in the sky")))
+          .isEqualTo("joshua");
+      verify(storage, never()).readAllBytes(any(), any());
+    }
+  }
+
+  @Test
+  void testTransferManagerDownloadsFilesConcurrently() throws Exception {
+    Storage storage = mock(Storage.class);
+    Blob blob1 = blob("legend of heroes", 7);
+    Blob blob2 = blob("trails in the sky", 6);
+    when(storage.list("test-bucket"))
+        .thenReturn(new PageImpl<>(null, null, List.of(blob1, blob2)));
+    // Each download waits until both of them are in flight.
+    CountDownLatch inFlight = new CountDownLatch(2);
+    AtomicInteger overlapping = new AtomicInteger();
+    when(storage.reader(BlobId.of("test-bucket", "legend of heroes", 1L)))
+        .thenAnswer(invocation -> awaitAndReadChannel(inFlight, overlapping, "estelle"));
+    when(storage.reader(BlobId.of("test-bucket", "trails in the sky", 1L)))
+        .thenAnswer(invocation -> awaitAndReadChannel(inFlight, overlapping, "joshua"));
+
+    try (GcsTransferManager transferManager = new GcsTransferManager(storage, 2)) {
+      GcsInboundFileSynchronizer synchronizer = new GcsInboundFileSynchronizer(storage);
+      synchronizer.setRemoteDirectory("test-bucket");
+      synchronizer.setTransferManager(transferManager);
+      synchronizer.setBeanFactory(mock(BeanFactory.class));
+      synchronizer.afterPropertiesSet();
+
+      File localDirectory = Files.createDirectories(Paths.get("test")).toFile();
+      synchronizer.synchronizeToLocalDirectory(localDirectory);
+
+      assertThat(overlapping).hasValue(2);
+      assertThat(Files.readString(localDirectory.toPath().resolve("legend of heroes")))
+          .isEqualTo("estelle");
+      assertThat(Files.readString(localDirectory.toPath().resolve("trails in the sky")))
+          .isEqualTo("joshua");
+    }
+  }
+
+  private static Blob blob(String name, int size) {
+    Blob blob = mock(Blob.class);
+    when(blob.getBucket()).thenReturn("test-bucket");
+    when(blob.getName()).thenReturn(name);
+    when(blob.getGeneration()).thenReturn(1L);
+    when(blob.getSize()).thenReturn((long) size);
+    when(blob.getUpdateTimeOffsetDateTime()).thenReturn(OffsetDateTime.now());
+    return blob;
+  }
+
+  private static ReadChannel readChannel(String content) throws IOException {
+    ReadChannel channel = mock(ReadChannel.class);
+    ReadableByteChannel source =
+        Channels.newChannel(new ByteArrayInputStream(content.getBytes()));
+    when(channel.read(any())).thenAnswer(invocation -> source.read(invocation.getArgument(0)));
+    return channel;
+  }
+
+  private static ReadChannel awaitAndReadChannel(
+      CountDownLatch inFlight, AtomicInteger overlapping, String content)
+      throws IOException, InterruptedException {
+    inFlight.countDown();
+    if (inFlight.await(5, TimeUnit.SECONDS)) {
+      overlapping.incrementAndGet();
+    }
+    return readChannel(content);
+  }
+
   /** Spring config for the tests. */
   @Configuration
   @EnableIntegration
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage.integration.inbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberOperations;
+import com.google.cloud.spring.pubsub.support.BasicAcknowledgeablePubsubMessage;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.pubsub.v1.PubsubMessage;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.file.FileHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+
+/** Tests for the notification-driven inbound channel adapter. */
+class GcsNotificationInboundChannelAdapterTests {
+
+  private final Storage storage = mock(Storage.class);
+
+  private final QueueChannel outputChannel = new QueueChannel();
+
+  private GcsNotificationInboundChannelAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    this.adapter =
+        new GcsNotificationInboundChannelAdapter(
+            mock(PubSubSubscriberOperations.class), "notifications", this.storage);
+    this.adapter.setOutputChannel(this.outputChannel);
+    this.adapter.setBeanFactory(mock(BeanFactory.class));
+    this.adapter.afterPropertiesSet();
+  }
+
+  @Test
+  void emitsBlobInfoOfFinalizedObjectAndAcks() {
+    BasicAcknowledgeablePubsubMessage notification = notification("OBJECT_FINALIZE", "a.txt", 5);
+
+    this.adapter.consume(notification);
+
+    Message<?> message = this.outputChannel.receive(0);
+    assertThat(message.getPayload()).isEqualTo(BlobInfo.newBuilder("bucket", "a.txt", 5L).build());
+    assertThat(message.getHeaders())
+        .containsEntry(FileHeaders.REMOTE_DIRECTORY, "bucket")
+        .containsEntry(FileHeaders.REMOTE_FILE, "a.txt");
+    verify(notification).ack();
+  }
+
+  @Test
+  void redeliveredNotificationIsAckedWithoutMessage() {
+    this.adapter.consume(notification("OBJECT_FINALIZE", "a.txt", 5));
+    BasicAcknowledgeablePubsubMessage redelivered = notification("OBJECT_FINALIZE", "a.txt", 5);
+
+    this.adapter.consume(redelivered);
+    this.adapter.consume(notification("OBJECT_FINALIZE", "a.txt", 6));
+
+    assertThat(this.outputChannel.getQueueSize()).isEqualTo(2);
+    verify(redelivered).ack();
+  }
+
+  @Test
+  void otherEventsAreIgnored() {
+    BasicAcknowledgeablePubsubMessage notification = notification("OBJECT_DELETE", "a.txt", 5);
+
+    this.adapter.consume(notification);
+
+    assertThat(this.outputChannel.receive(0)).isNull();
+    verify(notification).ack();
+  }
+
+  @Test
+  void failedDownstreamNacksAndAcceptsRedelivery() {
+    AtomicBoolean failed = new AtomicBoolean();
+    MessageChannel failingChannel =
+        (message, timeout) -> {
+          if (failed.compareAndSet(false, true)) {
+            throw new MessageDeliveryException(message, "downstream failure");
+          }
+          return this.outputChannel.send(message);
+        };
+    this.adapter.setOutputChannel(failingChannel);
+    BasicAcknowledgeablePubsubMessage notification = notification("OBJECT_FINALIZE", "a.txt", 5);
+    BasicAcknowledgeablePubsubMessage redelivered = notification("OBJECT_FINALIZE", "a.txt", 5);
+
+    this.adapter.consume(notification);
+    this.adapter.consume(redelivered);
+
+    verify(notification).nack();
+    verify(notification, never()).ack();
+    verify(redelivered).ack();
+    assertThat(this.outputChannel.getQueueSize()).isEqualTo(1);
+  }
+
+  @Test
+  void streamsContentOfNotifiedGeneration() {
+    this.adapter.setStreamContent(true);
+    when(this.storage.reader(BlobId.of("bucket", "a.txt", 5L))).thenReturn(mock(ReadChannel.class));
+
+    this.adapter.consume(notification("OBJECT_FINALIZE", "a.txt", 5));
+
+    assertThat(this.outputChannel.receive(0).getPayload()).isInstanceOf(InputStream.class);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void reconciliationEmitsObjectsWithoutNotification() {
+    this.adapter.setReconciliationBucket("bucket");
+    this.adapter.setReconciliationPrefix("in/");
+    this.adapter.consume(notification("OBJECT_FINALIZE", "in/a.txt", 5));
+    this.outputChannel.clear();
+
+    Page<Blob> page = mock(Page.class);
+    Blob notified = blob("in/a.txt", 5);
+    Blob missed = blob("in/b.txt", 7);
+    when(page.iterateAll()).thenReturn(List.of(notified, missed));
+    when(this.storage.list(eq("bucket"), any(Storage.BlobListOption[].class))).thenReturn(page);
+
+    this.adapter.reconcile();
+
+    assertThat(this.outputChannel.getQueueSize()).isEqualTo(1);
+    assertThat(this.outputChannel.receive(0).getPayload()).isSameAs(missed);
+    verify(this.storage).list("bucket", Storage.BlobListOption.prefix("in/"));
+  }
+
+  private static BasicAcknowledgeablePubsubMessage notification(
+      String eventType, String name, long generation) {
+    BasicAcknowledgeablePubsubMessage message = mock(BasicAcknowledgeablePubsubMessage.class);
+    when(message.getPubsubMessage())
+        .thenReturn(
+            PubsubMessage.newBuilder()
+                .putAllAttributes(
+                    Map.of(
+                        "eventType", eventType,
+                        "bucketId", "bucket",
+                        "objectId", name,
+                        "objectGeneration", Long.toString(generation)))
+                .build());
+    return message;
+  }
+
+  private static Blob blob(String name, long generation) {
+    Blob blob = mock(Blob.class);
+    when(blob.getBucket()).thenReturn("bucket");
+    when(blob.getName()).thenReturn(name);
+    when(blob.getGeneration()).thenReturn(generation);
+    return blob;
+  }
+}
@@ -17,26 +17,38 @@
 package com.google.cloud.spring.storage.integration.outbound;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.google.cloud.WriteChannel;
 import com.google.cloud.spring.storage.integration.GcsSessionFactory;
+import com.google.cloud.spring.storage.integration.GcsTransferManager;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.CopyWriter;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
@@ -45,9 +57,13 @@ import org.springframework.integration.annotation.ServiceActivator;
 import org.springframework.integration.channel.DirectChannel;
 import org.springframework.integration.config.EnableIntegration;
 import org.springframework.integration.expression.ValueExpression;
+import org.springframework.integration.file.remote.RemoteFileTemplate;
+import org.springframework.integration.file.support.FileExistsMode;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHandlingException;
 import org.springframework.messaging.support.GenericMessage;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.aot.DisabledInAotMode;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -99,6 +115,155 @@ class GcsMessageHandlerTests {
             .isEqualTo(BlobId.of("testGcsBucket", "benfica"));
   }
 
+  @Test
+  void testBulkUpload(@TempDir Path tempDir) throws IOException {
+    Path directory = Files.createDirectories(tempDir.resolve("reports"));
+    Files.writeString(directory.resolve("a.csv"), "a");
+    Files.writeString(Files.createDirectories(directory.resolve("2026")).resolve("b.csv"), "b");
+    Storage storage = mock(Storage.class);
+
+    try (GcsTransferManager transferManager = new GcsTransferManager(storage, 2)) {
+      GcsMessageHandler handler = new GcsMessageHandler(new GcsSessionFactory(storage));
+      handler.setRemoteDirectoryExpression(new ValueExpression<>("testGcsBucket/uploads"));
+      handler.setTransferManager(transferManager);
+      handler.setBeanFactory(mock(BeanFactory.class));
+      handler.afterPropertiesSet();
+
+      handler.handleMessage(new GenericMessage<>(directory.toFile()));
+      handler.handleMessage(new GenericMessage<>(List.of(directory.resolve("a.csv").toFile())));
+    }
+
+    verify(storage, times(2))
+        .createFrom(
+            eq(BlobInfo.newBuilder("testGcsBucket", "uploads/a.csv").build()),
+            eq(directory.resolve("a.csv")),
+            anyInt());
+    verify(storage)
+        .createFrom(
+            eq(BlobInfo.newBuilder("testGcsBucket", "uploads/2026/b.csv").build()),
+            eq(directory.resolve("2026").resolve("b.csv")),
+            anyInt());
+    verify(storage, never()).writer(any(BlobInfo.class));
+  }
+
+  @Test
+  void testBulkUploadAppliesFileNameGenerator(@TempDir Path tempDir) throws IOException {
+    Path directory = Files.createDirectories(tempDir.resolve("reports"));
+    Files.writeString(directory.resolve("a.csv"), "a");
+    Files.writeString(Files.createDirectories(directory.resolve("2026")).resolve("b.csv"), "b");
+    Storage storage = mock(Storage.class);
+
+    try (GcsTransferManager transferManager = new GcsTransferManager(storage, 2)) {
+      GcsMessageHandler handler = new GcsMessageHandler(new GcsSessionFactory(storage));
+      handler.setRemoteDirectoryExpression(new ValueExpression<>("testGcsBucket"));
+      handler.setFileNameGenerator(
+          message ->
+              message.getHeaders().get("run") + "-" + ((File) message.getPayload()).getName());
+      handler.setTransferManager(transferManager);
+      handler.setBeanFactory(mock(BeanFactory.class));
+      handler.afterPropertiesSet();
+
+      handler.handleMessage(
+          MessageBuilder.withPayload(directory.toFile()).setHeader("run", "7").build());
+    }
+
+    verify(storage)
+        .createFrom(
+            eq(BlobInfo.newBuilder("testGcsBucket", "7-a.csv").build()),
+            eq(directory.resolve("a.csv")),
+            anyInt());
+    verify(storage)
+        .createFrom(
+            eq(BlobInfo.newBuilder("testGcsBucket", "2026/7-b.csv").build()),
+            eq(directory.resolve("2026").resolve("b.csv")),
+            anyInt());
+  }
+
+  @Test
+  void testBulkUploadIgnoresExistingFiles(@TempDir Path tempDir) throws IOException {
+    Path a = Files.writeString(tempDir.resolve("a.csv"), "a");
+    Path b = Files.writeString(tempDir.resolve("b.csv"), "b");
+    Storage storage = mock(Storage.class);
+    when(storage.createFrom(
+            eq(BlobInfo.newBuilder("testGcsBucket", "a.csv").build()),
+            eq(a),
+            anyInt(),
+            eq(Storage.BlobWriteOption.doesNotExist())))
+        .thenThrow(new StorageException(412, "Precondition Failed"));
+
+    try (GcsTransferManager transferManager = new GcsTransferManager(storage, 2)) {
+      GcsMessageHandler handler = bulkHandler(storage, transferManager, FileExistsMode.IGNORE);
+
+      handler.handleMessage(new GenericMessage<>(List.of(a.toFile(), b.toFile())));
+    }
+
+    verify(storage)
+        .createFrom(
+            eq(BlobInfo.newBuilder("testGcsBucket", "b.csv").build()),
+            eq(b),
+            anyInt(),
+            eq(Storage.BlobWriteOption.doesNotExist()));
+    verify(storage, never()).get(anyString(), anyString());
+  }
+
+  @Test
+  void testBulkUploadFailsOnExistingFiles(@TempDir Path tempDir) throws IOException {
+    Path a = Files.writeString(tempDir.resolve("a.csv"), "a");
+    Path b = Files.writeString(tempDir.resolve("b.csv"), "b");
+    Storage storage = mock(Storage.class);
+    when(storage.createFrom(
+            eq(BlobInfo.newBuilder("testGcsBucket", "b.csv").build()),
+            eq(b),
+            anyInt(),
+            eq(Storage.BlobWriteOption.doesNotExist())))
+        .thenThrow(new StorageException(412, "Precondition Failed"));
+
+    try (GcsTransferManager transferManager = new GcsTransferManager(storage, 2)) {
+      GcsMessageHandler handler = bulkHandler(storage, transferManager, FileExistsMode.FAIL);
+
+      assertThatThrownBy(
+              () -> handler.handleMessage(new GenericMessage<>(List.of(a.toFile(), b.toFile()))))
+          .isInstanceOf(MessageHandlingException.class)
+          .hasMessageContaining("The destination file already exists at 'testGcsBucket/b.csv'.");
+    }
+
+    verify(storage)
+        .createFrom(
+            eq(BlobInfo.newBuilder("testGcsBucket", "a.csv").build()),
+            eq(a),
+            anyInt(),
+            eq(Storage.BlobWriteOption.doesNotExist()));
+    verify(storage, never()).get(anyString(), anyString());
+  }
+
+  @Test
+  void testBulkUploadRejectsAppend() {
+    Storage storage = mock(Storage.class);
+    GcsMessageHandler handler =
+        new GcsMessageHandler(
+            new RemoteFileTemplate<>(new GcsSessionFactory(storage)), FileExistsMode.APPEND);
+
+    try (GcsTransferManager transferManager = new GcsTransferManager(storage, 2)) {
+      assertThatThrownBy(() -> handler.setTransferManager(transferManager))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Bulk uploads don't support the APPEND file exists mode.");
+    }
+  }
+
+  private static GcsMessageHandler bulkHandler(
+      Storage storage, GcsTransferManager transferManager, FileExistsMode mode) {
+    RemoteFileTemplate<BlobInfo> template =
+        new RemoteFileTemplate<>(new GcsSessionFactory(storage));
+    template.setRemoteDirectoryExpression(new ValueExpression<>("testGcsBucket"));
+    template.setBeanFactory(mock(BeanFactory.class));
+    template.afterPropertiesSet();
+    GcsMessageHandler handler = new GcsMessageHandler(template, mode);
+    handler.setTransferManager(transferManager);
+    handler.setBeanFactory(mock(BeanFactory.class));
+    handler.afterPropertiesSet();
+    return handler;
+  }
+
   /** Spring config for the tests. */
   @Configuration
   @EnableIntegration